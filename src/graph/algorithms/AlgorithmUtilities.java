@@ -3,13 +3,15 @@ package graph.algorithms;
 import graph.elements.Edge;
 import graph.elements.Node;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.Set;
 
 /**
  * This class contains a set of utility methods that can be used
  * to simplify common tasks performed by graph algorithms.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 20, 2014
  *
  */
@@ -22,6 +24,12 @@ public final class AlgorithmUtilities {
     private AlgorithmUtilities() {
     }
     
+    /**
+     * Largest number of edges printed by the toString() method of the graphs,
+     * so that logging a large graph does not build a huge String
+     */
+    public static final int MAX_EDGES_IN_STRING = 1000;
+
     /**
      * Creates a String that prints out each edge on a specific line. The String starts with a
      * container name, followed by "[" to indicate the start of the container. The String ends
@@ -34,24 +42,64 @@ public final class AlgorithmUtilities {
      * @return a formated String of the edges in the container
      */
     public static <E extends Edge<? extends Node>> String printEdgeSetToString(String containerName, Set<E> edgeSet) {
+        return printEdgeSetToString(containerName, edgeSet, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a String formatted like printEdgeSetToString(String, Set) that contains
+     * at most the specified number of edges. When edges are left out, the last line
+     * indicates how many.
+     * 
+     * @param containerName name of the container that encompasses the edges
+     * @param edgeSet set of edges found in the container
+     * @param maxEdges largest number of edges to be printed
+     * @return a formated String of the edges in the container
+     */
+    public static <E extends Edge<? extends Node>> String printEdgeSetToString(String containerName, Set<E> edgeSet, long maxEdges) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            printEdgeSet(sb, containerName, edgeSet, maxEdges);
+        } catch(IOException e) {
+            // A StringBuilder never throws an IOException
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes the edges to an Appendable, formatted like printEdgeSetToString(String, Set),
+     * one edge at a time. Unlike printEdgeSetToString(), the edges are never built
+     * into a single String, so this method can be used on graphs of any size.
+     * 
+     * @param out Appendable to which the edges are written, such as a Writer
+     * @param containerName name of the container that encompasses the edges
+     * @param edges found in the container
+     * @param maxEdges largest number of edges to be written. When edges are left
+     *        out, the last line indicates how many.
+     * @throws IOException if the edges cannot be written to the Appendable.
+     */
+    public static <E extends Edge<? extends Node>> void printEdgeSet(Appendable out, String containerName, Collection<E> edges, long maxEdges) throws IOException {
         String newLine = System.getProperty("line.separator");
         String indent = getEmptyStringOfLength(containerName.length() + 1);
 
-        StringBuilder sb = new StringBuilder();
-        sb.append(containerName);
-        sb.append("[");
-        boolean firstEdge = true;
-        for(E edge : edgeSet){
-            if(!firstEdge){
-                sb.append(indent);
+        out.append(containerName);
+        out.append("[");
+        long printedEdges = 0;
+        for(E edge : edges){
+            if(printedEdges == maxEdges){
+                out.append(indent);
+                out.append("... ").append(String.valueOf(edges.size() - printedEdges)).append(" more edges");
+                out.append(newLine);
+                break;
             }
-            sb.append(edge.toString());
-            sb.append(newLine);
-            firstEdge = false;
+            if(printedEdges > 0){
+                out.append(indent);
+            }
+            out.append(edge.toString());
+            out.append(newLine);
+            printedEdges++;
         }
-        sb.append("]");
-
-        return sb.toString();
+        out.append("]");
     }
 
     /**
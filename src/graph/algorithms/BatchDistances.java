@@ -0,0 +1,357 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class computes the distances between many pairs of nodes at once.
+ * The pairs are grouped by source node, and a single Dijkstra search is run
+ * from each source until all its targets are settled. When the pairs have
+ * fewer distinct targets than sources, the searches are run backwards from
+ * the targets instead. The searches are run in parallel.
+ *
+ * <p>
+ * The graph is copied into a CompactGraph and its weights into an array
+ * when the object is created, so the batches are answered on the graph as
+ * it was at that time. The distances are returned in dense arrays, with
+ * NO_PATH for the pairs that are not connected.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class BatchDistances<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Distance returned for the pairs of nodes that are not connected
+     */
+    public static final long NO_PATH = Long.MAX_VALUE;
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "BatchDistances";
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Creates an object computing the distances along the edges in both
+     * directions, like ShortestPathsToNode, using the weights of the edges.
+     *
+     * @param graph whose distances are computed
+     *
+     * @throws IllegalArgumentException if the graph is null or has a negative weight.
+     */
+    public BatchDistances(Graph<N, E> graph) {
+        this(graph, WeightFunction.EDGE_WEIGHT, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Creates an object computing the distances along the edges in both
+     * directions, using the specified weights.
+     *
+     * @param graph whose distances are computed
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, or
+     *         if a weight is negative.
+     */
+    public BatchDistances(Graph<N, E> graph, WeightFunction<? super E> weights) {
+        this(graph, weights, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Creates an object computing the distances with the specified weights
+     * and direction.
+     *
+     * @param graph whose distances are computed
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed from the source nodes
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, or if a weight is negative.
+     */
+    public BatchDistances(Graph<N, E> graph, WeightFunction<? super E> weights, TraversalDirection direction) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+
+        this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+        this.direction = direction;
+        this.weights = new long[this.graph.getEdgeCount()];
+        for(int i = 0; i < this.weights.length; i++){
+            this.weights[i] = weights.weightOf(this.graph.getEdge(i));
+            if(this.weights[i] < 0){
+                throw new IllegalArgumentException("The weights cannot be negative: " + this.graph.getEdge(i));
+            }
+        }
+    }
+
+    /**
+     * Sets the number of threads running the searches. The default is the
+     * number of available processors.
+     *
+     * @param threadCount is the number of threads, at least 1
+     *
+     * @throws IllegalArgumentException if threadCount is smaller than 1.
+     */
+    public void setThreadCount(int threadCount) {
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Computes the distance of each pair of nodes: the distance from
+     * sourceNodes.get(i) to targetNodes.get(i) is returned at position i.
+     *
+     * @param sourceNodes first node of each pair
+     * @param targetNodes second node of each pair
+     *
+     * @return the distance of each pair, or NO_PATH if its nodes are not connected.
+     *
+     * @throws IllegalArgumentException if a list is null, if the lists do not
+     *         have the same size, or if a node is not part of the graph.
+     */
+    public long[] getDistances(List<? extends N> sourceNodes, List<? extends N> targetNodes) {
+        if(sourceNodes == null || targetNodes == null){
+            throw new IllegalArgumentException("The node lists cannot be null");
+        }
+        if(sourceNodes.size() != targetNodes.size()){
+            throw new IllegalArgumentException("There are " + sourceNodes.size() + " source nodes but " + targetNodes.size() + " target nodes");
+        }
+
+        int[] sources = indexesOf(sourceNodes);
+        int[] targets = indexesOf(targetNodes);
+        return compute(sources, targets, sources.length);
+    }
+
+    /**
+     * Computes the distance from every source node to every target node. The
+     * distance from sourceNodes.get(i) to targetNodes.get(j) is returned at
+     * position i * targetNodes.size() + j.
+     *
+     * @param sourceNodes nodes from which the distances are computed
+     * @param targetNodes nodes to which the distances are computed
+     *
+     * @return the distances, row by row, or NO_PATH for the nodes that are not connected.
+     *
+     * @throws IllegalArgumentException if a list is null, if a node is not part
+     *         of the graph, or if the matrix has more than Integer.MAX_VALUE cells.
+     */
+    public long[] getDistanceMatrix(List<? extends N> sourceNodes, List<? extends N> targetNodes) {
+        if(sourceNodes == null || targetNodes == null){
+            throw new IllegalArgumentException("The node lists cannot be null");
+        }
+        long cellCount = (long) sourceNodes.size() * targetNodes.size();
+        if(cellCount > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("The matrix cannot have more than " + Integer.MAX_VALUE + " cells");
+        }
+
+        int[] rowNodes = indexesOf(sourceNodes);
+        int[] columnNodes = indexesOf(targetNodes);
+        int[] sources = new int[(int) cellCount];
+        int[] targets = new int[(int) cellCount];
+        for(int row = 0; row < rowNodes.length; row++){
+            for(int column = 0; column < columnNodes.length; column++){
+                sources[row * columnNodes.length + column] = rowNodes[row];
+                targets[row * columnNodes.length + column] = columnNodes[column];
+            }
+        }
+        return compute(sources, targets, (int) cellCount);
+    }
+
+    private int[] indexesOf(List<? extends N> nodes) {
+        int[] indexes = new int[nodes.size()];
+        int i = 0;
+        for(N node : nodes){
+            indexes[i] = node == null ? -1 : graph.getNodeIndex(node);
+            if(indexes[i] < 0){
+                throw new IllegalArgumentException("The node is not part of the graph: " + node);
+            }
+            i++;
+        }
+        return indexes;
+    }
+
+    /**
+     * Groups the pairs by the node from which they are searched, and runs
+     * one search per group.
+     */
+    private long[] compute(int[] sources, int[] targets, int pairCount) {
+        final long[] distances = new long[pairCount];
+        if(pairCount == 0){
+            return distances;
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            // Search from the side of the pairs with the fewest distinct nodes
+            boolean backwards = countDistinct(targets) < countDistinct(sources);
+            final int[] roots = backwards ? targets : sources;
+            final int[] others = backwards ? sources : targets;
+            final TraversalDirection searchDirection = backwards ? direction.reverse() : direction;
+
+            // Sort the pairs by root with a counting sort over the distinct roots
+            Map<Integer, Integer> groupOfRoot = new HashMap<Integer, Integer>();
+            int[] pairGroups = new int[pairCount];
+            List<Integer> groupRoots = new ArrayList<Integer>();
+            for(int i = 0; i < pairCount; i++){
+                Integer group = groupOfRoot.get(roots[i]);
+                if(group == null){
+                    group = groupRoots.size();
+                    groupOfRoot.put(roots[i], group);
+                    groupRoots.add(roots[i]);
+                }
+                pairGroups[i] = group;
+            }
+            final int groupCount = groupRoots.size();
+            final int[] groupStarts = new int[groupCount + 1];
+            for(int i = 0; i < pairCount; i++){
+                groupStarts[pairGroups[i] + 1]++;
+            }
+            for(int group = 0; group < groupCount; group++){
+                groupStarts[group + 1] += groupStarts[group];
+            }
+            final int[] groupPairs = new int[pairCount];
+            final int[] groupTargets = new int[pairCount];
+            int[] positions = groupStarts.clone();
+            for(int i = 0; i < pairCount; i++){
+                int position = positions[pairGroups[i]]++;
+                groupPairs[position] = i;
+                groupTargets[position] = others[i];
+            }
+            final int[] rootOfGroup = new int[groupCount];
+            for(int group = 0; group < groupCount; group++){
+                rootOfGroup[group] = groupRoots.get(group);
+            }
+
+            // Each task takes the next group until there are none left
+            final AtomicInteger nextGroup = new AtomicInteger();
+            int taskCount = Math.min(threadCount, groupCount);
+            List<Callable<long[]>> tasks = new ArrayList<Callable<long[]>>();
+            for(int t = 0; t < taskCount; t++){
+                tasks.add(new Callable<long[]>() {
+                    @Override
+                    public long[] call() {
+                        DistanceSearch search = new DistanceSearch(graph, weights, searchDirection);
+                        for(int group = nextGroup.getAndIncrement(); group < groupCount; group = nextGroup.getAndIncrement()){
+                            search.search(rootOfGroup[group], groupTargets, groupStarts[group], groupStarts[group + 1]);
+                            for(int i = groupStarts[group]; i < groupStarts[group + 1]; i++){
+                                distances[groupPairs[i]] = search.getDistance(groupTargets[i]);
+                            }
+                        }
+                        return new long[] {search.getNodesSettled(), search.getEdgesScanned(), search.getEdgesRelaxed()};
+                    }
+                });
+            }
+
+            long[] counts = runAll(tasks);
+            if(run != null){
+                run.completed(counts[0], counts[1], counts[2]);
+            }
+            return distances;
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Runs the tasks, in parallel if there are several, and adds up the
+     * counts they return.
+     */
+    private static long[] runAll(List<Callable<long[]>> tasks) {
+        long[] counts = new long[3];
+        if(tasks.size() == 1){
+            try {
+                add(counts, tasks.get(0).call());
+            } catch(RuntimeException e) {
+                throw e;
+            } catch(Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return counts;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        try {
+            for(Future<long[]> future : executor.invokeAll(tasks)){
+                add(counts, future.get());
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The searches were interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return counts;
+    }
+
+    private static void add(long[] counts, long[] taskCounts) {
+        for(int i = 0; i < counts.length; i++){
+            counts[i] += taskCounts[i];
+        }
+    }
+
+    private int countDistinct(int[] nodes) {
+        boolean[] seen = new boolean[graph.getNodeCount()];
+        int count = 0;
+        for(int node : nodes){
+            if(!seen[node]){
+                seen[node] = true;
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,534 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class finds the shortest paths from a source node in a graph whose
+ * weights can be negative, using the queue-based variant of the
+ * Bellman-Ford algorithm (SPFA). If a cycle of negative weight can be reached
+ * from the source node, the shortest paths are not defined: the cycle is
+ * found and reported instead.
+ *
+ * <p>
+ * With several threads, the distances are instead improved in rounds: in
+ * each round, the nodes are split between the threads, and each thread
+ * computes the new distance of its nodes from the distances of the previous
+ * round. The rounds stop when no distance changes, and a change after as
+ * many rounds as there are nodes shows a negative cycle.
+ * </p>
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the paths are found on the graph as it was at that time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class BellmanFord<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "BellmanFord";
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+
+    /**
+     * Node from which the paths start, or -1 if they start from every node at once
+     */
+    private final int sourceNode;
+
+    /**
+     * Distance of each node from the source node, or Long.MAX_VALUE if the
+     * node cannot be reached from it
+     */
+    private long[] distances;
+    private int[] parentEdges;
+    private int[] parentNodes;
+
+    /**
+     * Nodes of the negative cycle found, or null if there is none
+     */
+    private int[] cycleNodes;
+
+    /**
+     * Marks of the nodes visited while looking for a cycle, valid while equal to cycleSearch
+     */
+    private int[] cycleMarks;
+    private int cycleSearch;
+
+    private long nodesSettled;
+    private long edgesScanned;
+    private long edgesRelaxed;
+
+    /**
+     * Finds the shortest paths from a source node, following the direction
+     * of the edges and using their weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     *
+     * @throws IllegalArgumentException if the graph is null, or if the source
+     *         node is null or not part of the graph.
+     */
+    public BellmanFord(Graph<N, E> graph, N sourceNode) {
+        this(graph, sourceNode, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, 1);
+    }
+
+    /**
+     * Finds the shortest paths from a source node, following the direction
+     * of the edges and using the specified weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, or if
+     *         the source node is null or not part of the graph.
+     */
+    public BellmanFord(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights) {
+        this(graph, sourceNode, weights, TraversalDirection.OUTGOING, 1);
+    }
+
+    /**
+     * Finds the shortest paths from a source node, following the edges in
+     * the specified direction and using the specified weights. An edge of
+     * negative weight is a negative cycle when the edges are followed in
+     * both directions.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     * @param threadCount number of threads, 1 for the queue-based algorithm
+     *        and more for the rounds split between the threads
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if the source node is null or not part of the graph, or
+     *         if threadCount is smaller than 1.
+     */
+    public BellmanFord(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights, TraversalDirection direction, int threadCount) {
+        this(toCompactGraph(graph), checkSource(sourceNode), weights, direction, threadCount);
+    }
+
+    private BellmanFord(CompactGraph<N, E> graph, N sourceNode, WeightFunction<? super E> weights, TraversalDirection direction, int threadCount) {
+        this(graph, sourceNode, copyWeights(graph, weights), direction, threadCount);
+    }
+
+    private static <N extends Node> N checkSource(N sourceNode) {
+        if(sourceNode == null){
+            throw new IllegalArgumentException("The source node cannot be null");
+        }
+        return sourceNode;
+    }
+
+    /**
+     * Finds the shortest paths in a compact graph whose weights are stored in
+     * an array. If the source node is null, the paths start from every node
+     * at once, as if a virtual node had an edge of weight 0 to every node.
+     */
+    BellmanFord(CompactGraph<N, E> graph, N sourceNode, long[] weights, TraversalDirection direction, int threadCount) {
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.graph = graph;
+        this.weights = weights;
+        this.direction = direction;
+        this.sourceNode = sourceNode == null ? -1 : graph.getNodeIndex(sourceNode);
+        if(sourceNode != null && this.sourceNode < 0){
+            throw new IllegalArgumentException("The source node must be a node in the graph");
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            if(run != null){
+                run.copyCompleted();
+            }
+            if(threadCount == 1 || !runRounds(threadCount)){
+                runQueue();
+            }
+            if(run != null){
+                run.completed(nodesSettled, edgesScanned, edgesRelaxed);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    private static <N extends Node, E extends WeightedEdge<? extends N>> CompactGraph<N, E> toCompactGraph(Graph<N, E> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        return graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+    }
+
+    /**
+     * Copies the weights of the edges, by edge index in the compact graph.
+     */
+    static <N extends Node, E extends WeightedEdge<? extends N>> long[] copyWeights(CompactGraph<N, E> graph, WeightFunction<? super E> weights) {
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        long[] edgeWeights = new long[graph.getEdgeCount()];
+        for(int i = 0; i < edgeWeights.length; i++){
+            edgeWeights[i] = weights.weightOf(graph.getEdge(i));
+        }
+        return edgeWeights;
+    }
+
+    /**
+     * @return boolean indicating if a cycle of negative weight can be reached
+     *         from the source node.
+     */
+    public boolean hasNegativeCycle() {
+        return cycleNodes != null;
+    }
+
+    /**
+     * @return the negative cycle found, as a path that starts and ends at the
+     *         same node, or null if there is none.
+     */
+    public WeightedPath<N, E> getNegativeCycle() {
+        if(cycleNodes == null){
+            return null;
+        }
+
+        List<N> nodes = new ArrayList<N>(cycleNodes.length + 1);
+        List<E> edges = new ArrayList<E>(cycleNodes.length);
+        long weight = 0;
+        nodes.add(graph.getNode(cycleNodes[0]));
+        for(int i = 1; i <= cycleNodes.length; i++){
+            int node = cycleNodes[i % cycleNodes.length];
+            nodes.add(graph.getNode(node));
+            edges.add(graph.getEdge(parentEdges[node]));
+            weight += weights[parentEdges[node]];
+        }
+        return new WeightedPath<N, E>(nodes, edges, weight);
+    }
+
+    /**
+     * Returns the shortest path weight between the source node and the target node.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the weight of the shortest path, or Long.MAX_VALUE if the target
+     *         node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     * @throws IllegalStateException if the graph has a negative cycle.
+     */
+    public long getShortestPathToTarget(N targetNode) {
+        return distances[indexOf(targetNode)];
+    }
+
+    /**
+     * Returns the shortest path between the source node and the target node.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the shortest path, or null if the target node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     * @throws IllegalStateException if the graph has a negative cycle.
+     */
+    public WeightedPath<N, E> getShortestPath(N targetNode) {
+        int target = indexOf(targetNode);
+        if(distances[target] == Long.MAX_VALUE){
+            return null;
+        }
+
+        List<N> nodes = new ArrayList<N>();
+        List<E> edges = new ArrayList<E>();
+        int node = target;
+        for(; parentEdges[node] >= 0; node = parentNodes[node]){
+            nodes.add(graph.getNode(node));
+            edges.add(graph.getEdge(parentEdges[node]));
+        }
+        nodes.add(graph.getNode(node));
+        Collections.reverse(nodes);
+        Collections.reverse(edges);
+        return new WeightedPath<N, E>(nodes, edges, distances[target]);
+    }
+
+    /**
+     * @return a map of the shortest path weight of every node that can be
+     *         reached from the source node.
+     *
+     * @throws IllegalStateException if the graph has a negative cycle.
+     */
+    public Map<N, Long> getShortestPaths() {
+        checkNoNegativeCycle();
+        Map<N, Long> paths = new LinkedHashMap<N, Long>();
+        for(int node = 0; node < distances.length; node++){
+            if(distances[node] != Long.MAX_VALUE){
+                paths.put(graph.getNode(node), distances[node]);
+            }
+        }
+        return Collections.unmodifiableMap(paths);
+    }
+
+    /**
+     * @return the distance of each node, by node index.
+     *
+     * @throws IllegalStateException if the graph has a negative cycle.
+     */
+    long[] getDistances() {
+        checkNoNegativeCycle();
+        return distances;
+    }
+
+    private int indexOf(N node) {
+        checkNoNegativeCycle();
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The target node must be a node in the graph");
+        }
+        return index;
+    }
+
+    private void checkNoNegativeCycle() {
+        if(cycleNodes != null){
+            throw new IllegalStateException("The shortest paths are not defined: the graph has a negative cycle " + getNegativeCycle());
+        }
+    }
+
+    private void initialize() {
+        int nodeCount = graph.getNodeCount();
+        distances = new long[nodeCount];
+        Arrays.fill(distances, sourceNode < 0 ? 0 : Long.MAX_VALUE);
+        parentEdges = new int[nodeCount];
+        Arrays.fill(parentEdges, -1);
+        parentNodes = new int[nodeCount];
+        Arrays.fill(parentNodes, -1);
+        if(sourceNode >= 0){
+            distances[sourceNode] = 0;
+        }
+    }
+
+    /**
+     * Runs the queue-based algorithm: only the nodes whose distance changed
+     * are put back in the queue. A node whose path has as many edges as there
+     * are nodes shows a negative cycle, which is then looked for by following
+     * the parents from the node.
+     */
+    private void runQueue() {
+        initialize();
+        int nodeCount = distances.length;
+        int[] pathLengths = new int[nodeCount];
+        boolean[] queued = new boolean[nodeCount];
+        int[] queue = new int[nodeCount + 1];
+        int head = 0;
+        int tail = 0;
+        for(int node = 0; node < nodeCount; node++){
+            if(distances[node] != Long.MAX_VALUE){
+                queue[tail++] = node;
+                queued[node] = true;
+            }
+        }
+
+        while(head != tail){
+            int node = queue[head];
+            head = (head + 1) % queue.length;
+            queued[node] = false;
+            nodesSettled++;
+            long distance = distances[node];
+
+            int outDegree = direction.followsOutgoingEdges() ? graph.getOutDegree(node) : 0;
+            int inDegree = direction.followsIncomingEdges() ? graph.getInDegree(node) : 0;
+            for(int j = 0; j < outDegree + inDegree; j++){
+                int edge = j < outDegree ? graph.getOutEdge(node, j) : graph.getInEdge(node, j - outDegree);
+                int next = j < outDegree ? graph.getEdgeTarget(edge) : graph.getEdgeSource(edge);
+                edgesScanned++;
+                long nextDistance = distance + weights[edge];
+                if(nextDistance >= distances[next]){
+                    continue;
+                }
+                edgesRelaxed++;
+                distances[next] = nextDistance;
+                parentEdges[next] = edge;
+                parentNodes[next] = node;
+                pathLengths[next] = pathLengths[node] + 1;
+                if(pathLengths[next] >= nodeCount && findCycle(next)){
+                    return;
+                }
+                if(!queued[next]){
+                    queued[next] = true;
+                    queue[tail] = next;
+                    tail = (tail + 1) % queue.length;
+                }
+            }
+        }
+    }
+
+    /**
+     * Follows the parents from a node, looking for a cycle.
+     *
+     * @return boolean indicating if a cycle was found.
+     */
+    private boolean findCycle(int start) {
+        if(cycleMarks == null){
+            cycleMarks = new int[distances.length];
+        }
+        cycleSearch++;
+        int node = start;
+        while(node >= 0 && cycleMarks[node] != cycleSearch){
+            cycleMarks[node] = cycleSearch;
+            node = parentNodes[node];
+        }
+        if(node < 0){
+            return false;
+        }
+
+        // The parents go backwards along the cycle
+        List<Integer> cycle = new ArrayList<Integer>();
+        int cycleNode = node;
+        do {
+            cycle.add(cycleNode);
+            cycleNode = parentNodes[cycleNode];
+        } while(cycleNode != node);
+        Collections.reverse(cycle);
+        cycleNodes = new int[cycle.size()];
+        for(int i = 0; i < cycleNodes.length; i++){
+            cycleNodes[i] = cycle.get(i);
+        }
+        return true;
+    }
+
+    /**
+     * Improves the distances in rounds split between the threads.
+     *
+     * @return boolean indicating if the distances were found, false if a
+     *         negative cycle was detected, which the queue-based algorithm
+     *         then finds.
+     */
+    private boolean runRounds(int threadCount) {
+        initialize();
+        final int nodeCount = distances.length;
+        final long[][] roundDistances = {distances, distances.clone()};
+        final boolean[][] roundChanges = {new boolean[nodeCount], new boolean[nodeCount]};
+        Arrays.fill(roundChanges[0], true);
+
+        int taskCount = Math.max(1, Math.min(threadCount, nodeCount));
+        ExecutorService executor = Executors.newFixedThreadPool(taskCount);
+        try {
+            for(int round = 0; round < nodeCount; round++){
+                final long[] previous = roundDistances[round % 2];
+                final long[] current = roundDistances[(round + 1) % 2];
+                final boolean[] previousChanges = roundChanges[round % 2];
+                final boolean[] currentChanges = roundChanges[(round + 1) % 2];
+
+                List<Callable<long[]>> tasks = new ArrayList<Callable<long[]>>(taskCount);
+                for(int t = 0; t < taskCount; t++){
+                    final int from = (int) ((long) nodeCount * t / taskCount);
+                    final int to = (int) ((long) nodeCount * (t + 1) / taskCount);
+                    tasks.add(new Callable<long[]>() {
+                        @Override
+                        public long[] call() {
+                            return relaxRound(previous, current, previousChanges, currentChanges, from, to);
+                        }
+                    });
+                }
+
+                boolean changed = false;
+                for(Future<long[]> result : executor.invokeAll(tasks)){
+                    long[] counts = result.get();
+                    edgesScanned += counts[0];
+                    edgesRelaxed += counts[1];
+                    changed |= counts[1] > 0;
+                }
+                nodesSettled += nodeCount;
+                if(!changed){
+                    distances = previous;
+                    return true;
+                }
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The search was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+        return false;
+    }
+
+    /**
+     * Computes the distances of a range of nodes for a round. Every edge that
+     * leads to a node of the range is scanned, but only the ones from nodes
+     * whose distance changed in the previous round can improve its distance.
+     *
+     * @return the number of edges scanned and the number of distances improved.
+     */
+    private long[] relaxRound(long[] previous, long[] current, boolean[] previousChanges, boolean[] currentChanges, int from, int to) {
+        long scanned = 0;
+        long improved = 0;
+        for(int node = from; node < to; node++){
+            long best = previous[node];
+            int outDegree = direction.followsIncomingEdges() ? graph.getOutDegree(node) : 0;
+            int inDegree = direction.followsOutgoingEdges() ? graph.getInDegree(node) : 0;
+            for(int j = 0; j < outDegree + inDegree; j++){
+                int edge = j < outDegree ? graph.getOutEdge(node, j) : graph.getInEdge(node, j - outDegree);
+                int parent = j < outDegree ? graph.getEdgeTarget(edge) : graph.getEdgeSource(edge);
+                scanned++;
+                if(!previousChanges[parent] || previous[parent] == Long.MAX_VALUE){
+                    continue;
+                }
+                long distance = previous[parent] + weights[edge];
+                if(distance < best){
+                    best = distance;
+                    parentEdges[node] = edge;
+                    parentNodes[node] = parent;
+                }
+            }
+            current[node] = best;
+            currentChanges[node] = best < previous[node];
+            if(currentChanges[node]){
+                improved++;
+            }
+        }
+        return new long[] {scanned, improved};
+    }
+}
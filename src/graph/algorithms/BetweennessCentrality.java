@@ -0,0 +1,602 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class computes the betweenness centrality of the nodes and edges of a
+ * graph with Brandes' algorithm: the betweenness of a node or an edge is the
+ * sum, over all the pairs of nodes, of the fraction of the shortest paths
+ * between them that go through it.
+ *
+ * <p>
+ * A shortest path search is run from every source node, with a breadth-first
+ * search when all the edges have the same positive weight and with Dijkstra's
+ * algorithm otherwise, and the dependencies of the nodes on the source are
+ * accumulated in the reverse order in which they were settled. The sources can
+ * be spread over several threads, each with its own arrays, which are added
+ * together at the end.
+ * </p>
+ *
+ * <p>
+ * When the exact computation is too expensive, the searches can be run from
+ * a random sample of pivot nodes only. The scores are then scaled by the
+ * number of nodes divided by the number of pivots, which gives an unbiased
+ * estimate. getErrorBound() gives a worst-case guarantee on its error, which
+ * is much larger than the error usually observed.
+ * </p>
+ *
+ * <p>
+ * With UNDIRECTED, each pair of nodes is counted once. The scores are not
+ * normalized.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class BetweennessCentrality<N extends Node, E extends Edge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "BetweennessCentrality";
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+
+    /**
+     * Boolean indicating if all the edges have the same positive weight, in
+     * which case the searches are breadth-first searches
+     */
+    private final boolean unitWeights;
+
+    private final int pivotCount;
+    private final double[] nodeScores;
+    private final double[] edgeScores;
+
+    private long nodesSettled;
+    private long edgesScanned;
+    private long edgesRelaxed;
+
+    /**
+     * Computes the exact betweenness of an unweighted graph, following the
+     * direction of the edges.
+     *
+     * @param graph whose betweenness is computed
+     *
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public BetweennessCentrality(Graph<N, E> graph) {
+        this(graph, WeightFunction.UNIT_WEIGHT, TraversalDirection.OUTGOING, 1);
+    }
+
+    /**
+     * Computes the exact betweenness of a weighted graph, following the
+     * direction of the edges.
+     *
+     * @param graph whose betweenness is computed
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, or if
+     *         a weight is negative.
+     */
+    public BetweennessCentrality(Graph<N, E> graph, WeightFunction<? super E> weights) {
+        this(graph, weights, TraversalDirection.OUTGOING, 1);
+    }
+
+    /**
+     * Computes the exact betweenness of a weighted graph with the specified
+     * number of threads.
+     *
+     * @param graph whose betweenness is computed
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     * @param threadCount number of threads running the searches, at least 1
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if a weight is negative, or if threadCount is smaller than 1.
+     */
+    public BetweennessCentrality(Graph<N, E> graph, WeightFunction<? super E> weights, TraversalDirection direction, int threadCount) {
+        this(graph, weights, direction, threadCount, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Estimates the betweenness of a weighted graph from the searches of a
+     * random sample of pivot nodes. If there are no more nodes than pivots,
+     * the exact betweenness is computed.
+     *
+     * @param graph whose betweenness is computed
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     * @param threadCount number of threads running the searches, at least 1
+     * @param pivotCount number of source nodes sampled, at least 1
+     * @param random generator with which the pivots are chosen
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if a weight is negative, if threadCount or pivotCount is
+     *         smaller than 1, or if random is null while pivots are sampled.
+     */
+    public BetweennessCentrality(Graph<N, E> graph, WeightFunction<? super E> weights, TraversalDirection direction,
+                                 int threadCount, int pivotCount, Random random) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        if(pivotCount < 1){
+            throw new IllegalArgumentException("The pivot count must be at least 1");
+        }
+        if(random == null && pivotCount < graph.getAllNodes().size()){
+            throw new IllegalArgumentException("The random generator cannot be null when pivots are sampled");
+        }
+        for(E edge : graph.getAllEdges()){
+            if(weights.weightOf(edge) < 0){
+                throw new IllegalArgumentException("The weights cannot be negative: " + edge);
+            }
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+            this.direction = direction;
+            int nodeCount = this.graph.getNodeCount();
+            this.weights = new long[this.graph.getEdgeCount()];
+            boolean sameWeights = true;
+            for(int edge = 0; edge < this.weights.length; edge++){
+                this.weights[edge] = weights.weightOf(this.graph.getEdge(edge));
+                sameWeights &= this.weights[edge] == this.weights[0];
+            }
+            unitWeights = sameWeights && (this.weights.length == 0 || this.weights[0] > 0);
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            int[] sources = new int[nodeCount];
+            for(int node = 0; node < nodeCount; node++){
+                sources[node] = node;
+            }
+            if(pivotCount < nodeCount){
+                for(int i = 0; i < pivotCount; i++){
+                    int j = i + random.nextInt(nodeCount - i);
+                    int pivot = sources[j];
+                    sources[j] = sources[i];
+                    sources[i] = pivot;
+                }
+                sources = Arrays.copyOf(sources, pivotCount);
+            }
+            this.pivotCount = sources.length;
+
+            nodeScores = new double[nodeCount];
+            edgeScores = new double[this.weights.length];
+            AtomicInteger nextSource = new AtomicInteger();
+            if(threadCount == 1 || sources.length < 2){
+                Workspace workspace = new Workspace(nodeScores, edgeScores);
+                workspace.searchAll(sources, nextSource);
+                addCounts(workspace);
+            } else {
+                searchInParallel(sources, nextSource, Math.min(threadCount, sources.length));
+            }
+
+            double scale = direction == TraversalDirection.UNDIRECTED ? 0.5 : 1;
+            if(this.pivotCount < nodeCount){
+                scale *= (double) nodeCount / this.pivotCount;
+            }
+            if(scale != 1){
+                for(int node = 0; node < nodeCount; node++){
+                    nodeScores[node] *= scale;
+                }
+                for(int edge = 0; edge < edgeScores.length; edge++){
+                    edgeScores[edge] *= scale;
+                }
+            }
+
+            if(run != null){
+                run.completed(nodesSettled, edgesScanned, edgesRelaxed);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the betweenness of the node.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public double getNodeScore(N node) {
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return nodeScores[index];
+    }
+
+    /**
+     * @param edge of the graph
+     *
+     * @return the betweenness of the edge.
+     *
+     * @throws IllegalArgumentException if the edge is not part of the graph.
+     */
+    public double getEdgeScore(E edge) {
+        int index = edge == null ? -1 : graph.getEdgeIndex(edge);
+        if(index < 0){
+            throw new IllegalArgumentException("The edge is not part of the graph: " + edge);
+        }
+        return edgeScores[index];
+    }
+
+    /**
+     * @return a map of the betweenness of every node. The map cannot be modified.
+     */
+    public Map<N, Double> getNodeScores() {
+        Map<N, Double> scores = new LinkedHashMap<N, Double>();
+        for(int node = 0; node < nodeScores.length; node++){
+            scores.put(graph.getNode(node), nodeScores[node]);
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * @return a map of the betweenness of every edge. The map cannot be modified.
+     */
+    public Map<E, Double> getEdgeScores() {
+        Map<E, Double> scores = new LinkedHashMap<E, Double>();
+        for(int edge = 0; edge < edgeScores.length; edge++){
+            scores.put(graph.getEdge(edge), edgeScores[edge]);
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * @param count maximum number of nodes returned
+     *
+     * @return the nodes with the highest betweenness, highest first.
+     *
+     * @throws IllegalArgumentException if count is negative.
+     */
+    public List<N> getMostCentralNodes(int count) {
+        if(count < 0){
+            throw new IllegalArgumentException("The count cannot be negative");
+        }
+        Integer[] order = new Integer[nodeScores.length];
+        for(int node = 0; node < order.length; node++){
+            order[node] = node;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return Double.compare(nodeScores[second], nodeScores[first]);
+            }
+        });
+
+        List<N> nodes = new ArrayList<N>(Math.min(count, order.length));
+        for(int i = 0; i < order.length && i < count; i++){
+            nodes.add(graph.getNode(order[i]));
+        }
+        return nodes;
+    }
+
+    /**
+     * @return boolean indicating if the scores are estimated from a sample of
+     *         pivot nodes rather than computed from all the nodes.
+     */
+    public boolean isSampled() {
+        return pivotCount < nodeScores.length;
+    }
+
+    /**
+     * @return the number of source nodes from which searches were run.
+     */
+    public int getPivotCount() {
+        return pivotCount;
+    }
+
+    /**
+     * Returns a bound on the error of the estimated node scores: by
+     * Hoeffding's inequality, the estimated score of any given node differs
+     * from its exact score by more than the bound with a probability of at
+     * most failureProbability.
+     *
+     * <p>
+     * The bound only assumes that a pivot adds between 0 and n - 2 to the
+     * dependency of a node, so it is proportional to n * (n - 2), the
+     * largest possible score, and not to the scores of the graph. Divided by
+     * n * (n - 2), it bounds the error of the scores normalized to [0, 1].
+     * In sparse graphs, where most scores are far below n * (n - 2), it can
+     * exceed every score: it is then only useful to choose a pivot count
+     * for a target error on the normalized scores.
+     * </p>
+     *
+     * @param failureProbability probability that the error exceeds the bound,
+     *        between 0 and 1 (exclusive)
+     *
+     * @return the error bound, or 0 if the scores are exact.
+     *
+     * @throws IllegalArgumentException if failureProbability is not between
+     *         0 and 1 (exclusive).
+     */
+    public double getErrorBound(double failureProbability) {
+        if(!(failureProbability > 0 && failureProbability < 1)){
+            throw new IllegalArgumentException("The failure probability must be between 0 and 1");
+        }
+        if(!isSampled()){
+            return 0;
+        }
+        // Each pivot contributes between 0 and n - 2 to a node's dependency, scaled by n
+        double nodeCount = nodeScores.length;
+        double bound = nodeCount * (nodeCount - 2) * Math.sqrt(Math.log(2 / failureProbability) / (2.0 * pivotCount));
+        return direction == TraversalDirection.UNDIRECTED ? bound / 2 : bound;
+    }
+
+    private void addCounts(Workspace workspace) {
+        nodesSettled += workspace.nodesSettled;
+        edgesScanned += workspace.edgesScanned;
+        edgesRelaxed += workspace.edgesRelaxed;
+    }
+
+    private void searchInParallel(final int[] sources, final AtomicInteger nextSource, int threadCount) {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Callable<Workspace>> tasks = new ArrayList<Callable<Workspace>>(threadCount);
+            for(int t = 0; t < threadCount; t++){
+                tasks.add(new Callable<Workspace>() {
+                    @Override
+                    public Workspace call() {
+                        Workspace workspace = new Workspace(new double[nodeScores.length], new double[edgeScores.length]);
+                        workspace.searchAll(sources, nextSource);
+                        return workspace;
+                    }
+                });
+            }
+
+            for(Future<Workspace> result : executor.invokeAll(tasks)){
+                Workspace workspace = result.get();
+                for(int node = 0; node < nodeScores.length; node++){
+                    nodeScores[node] += workspace.nodeScores[node];
+                }
+                for(int edge = 0; edge < edgeScores.length; edge++){
+                    edgeScores[edge] += workspace.edgeScores[edge];
+                }
+                addCounts(workspace);
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The computation was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Arrays used by one thread to run the searches and accumulate the
+     * dependencies of its source nodes.
+     */
+    private final class Workspace {
+        private final double[] nodeScores;
+        private final double[] edgeScores;
+
+        private final long[] distances;
+        private final double[] pathCounts;
+        private final double[] dependencies;
+
+        /**
+         * Nodes in the order in which they were settled, and the position of
+         * each node in that order, or -1 if it is not settled
+         */
+        private final int[] order;
+        private final int[] positions;
+
+        private final NodeHeap heap = new NodeHeap();
+
+        private long nodesSettled;
+        private long edgesScanned;
+        private long edgesRelaxed;
+
+        private Workspace(double[] nodeScores, double[] edgeScores) {
+            this.nodeScores = nodeScores;
+            this.edgeScores = edgeScores;
+            int nodeCount = nodeScores.length;
+            distances = new long[nodeCount];
+            Arrays.fill(distances, Long.MAX_VALUE);
+            pathCounts = new double[nodeCount];
+            dependencies = new double[nodeCount];
+            order = new int[nodeCount];
+            positions = new int[nodeCount];
+            Arrays.fill(positions, -1);
+        }
+
+        /**
+         * Runs the searches of the sources taken from the shared counter
+         * until none is left.
+         */
+        private void searchAll(int[] sources, AtomicInteger nextSource) {
+            int i;
+            while((i = nextSource.getAndIncrement()) < sources.length){
+                int settledCount = search(sources[i]);
+                accumulate(settledCount);
+                nodesSettled += settledCount;
+
+                for(int j = 0; j < settledCount; j++){
+                    int node = order[j];
+                    distances[node] = Long.MAX_VALUE;
+                    pathCounts[node] = 0;
+                    dependencies[node] = 0;
+                    positions[node] = -1;
+                }
+            }
+        }
+
+        /**
+         * Finds the distances and the number of shortest paths from the
+         * source to every node it reaches.
+         *
+         * @return the number of nodes settled.
+         */
+        private int search(int source) {
+            int settledCount = 0;
+            distances[source] = 0;
+            pathCounts[source] = 1;
+
+            if(unitWeights){
+                positions[source] = settledCount;
+                order[settledCount++] = source;
+                for(int i = 0; i < settledCount; i++){
+                    int node = order[i];
+                    settledCount = scan(node, settledCount);
+                }
+                return settledCount;
+            }
+
+            heap.clear();
+            heap.push(source, 0);
+            while(!heap.isEmpty()){
+                int node = heap.pop();
+                if(positions[node] >= 0){
+                    continue;
+                }
+                positions[node] = settledCount;
+                order[settledCount++] = node;
+                scan(node, settledCount);
+            }
+            return settledCount;
+        }
+
+        /**
+         * Scans the edges leaving a settled node. In a breadth-first search,
+         * the nodes reached for the first time are added to the order.
+         *
+         * @return the new number of nodes in the order.
+         */
+        private int scan(int node, int settledCount) {
+            if(direction.followsOutgoingEdges()){
+                for(int i = 0; i < graph.getOutDegree(node); i++){
+                    int edge = graph.getOutEdge(node, i);
+                    settledCount = relax(node, graph.getEdgeTarget(edge), edge, settledCount);
+                }
+            }
+            if(direction.followsIncomingEdges()){
+                for(int i = 0; i < graph.getInDegree(node); i++){
+                    int edge = graph.getInEdge(node, i);
+                    settledCount = relax(node, graph.getEdgeSource(edge), edge, settledCount);
+                }
+            }
+            return settledCount;
+        }
+
+        private int relax(int node, int next, int edge, int settledCount) {
+            edgesScanned++;
+            if(unitWeights){
+                if(distances[next] == Long.MAX_VALUE){
+                    distances[next] = distances[node] + 1;
+                    positions[next] = settledCount;
+                    order[settledCount++] = next;
+                }
+                if(distances[next] == distances[node] + 1){
+                    pathCounts[next] += pathCounts[node];
+                    edgesRelaxed++;
+                }
+                return settledCount;
+            }
+
+            // The settled nodes are skipped so that zero-weight edges cannot form cycles of shortest paths
+            if(positions[next] >= 0){
+                return settledCount;
+            }
+            long distance = distances[node] + weights[edge];
+            if(distance < distances[next]){
+                distances[next] = distance;
+                pathCounts[next] = pathCounts[node];
+                heap.push(next, distance);
+                edgesRelaxed++;
+            } else if(distance == distances[next]){
+                pathCounts[next] += pathCounts[node];
+            }
+            return settledCount;
+        }
+
+        /**
+         * Accumulates the dependencies of the settled nodes on the source, in
+         * the reverse order in which they were settled.
+         */
+        private void accumulate(int settledCount) {
+            for(int i = settledCount - 1; i > 0; i--){
+                int node = order[i];
+                double coefficient = (1 + dependencies[node]) / pathCounts[node];
+                if(direction.followsOutgoingEdges()){
+                    for(int j = 0; j < graph.getInDegree(node); j++){
+                        int edge = graph.getInEdge(node, j);
+                        addDependency(graph.getEdgeSource(edge), node, edge, coefficient);
+                    }
+                }
+                if(direction.followsIncomingEdges()){
+                    for(int j = 0; j < graph.getOutDegree(node); j++){
+                        int edge = graph.getOutEdge(node, j);
+                        addDependency(graph.getEdgeTarget(edge), node, edge, coefficient);
+                    }
+                }
+                nodeScores[node] += dependencies[node];
+            }
+        }
+
+        private void addDependency(int previous, int node, int edge, double coefficient) {
+            int position = positions[previous];
+            long weight = unitWeights ? 1 : weights[edge];
+            if(position >= 0 && position < positions[node] && distances[previous] + weight == distances[node]){
+                double dependency = pathCounts[previous] * coefficient;
+                dependencies[previous] += dependency;
+                edgeScores[edge] += dependency;
+            }
+        }
+    }
+}
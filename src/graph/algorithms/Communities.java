@@ -0,0 +1,119 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Node;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class contains the result of the community detection of a graph by
+ * the CommunityDetector: the community to which each node was assigned and
+ * the modularity of the communities found after each level.
+ *
+ * <p>
+ * The nodes can be looked up directly, or by their number in the
+ * CompactGraph returned by getGraph().
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node that was assigned to communities.
+ */
+public final class Communities<N extends Node> {
+
+    private final CompactGraph<N, ?> graph;
+    private final int[] communities;
+    private final int communityCount;
+    private final double[] levelModularities;
+
+    Communities(CompactGraph<N, ?> graph, int[] communities, int communityCount, double[] levelModularities) {
+        this.graph = graph;
+        this.communities = communities;
+        this.communityCount = communityCount;
+        this.levelModularities = levelModularities;
+    }
+
+    /**
+     * @return the compact graph whose node numbers are used by getCommunity(int).
+     */
+    public CompactGraph<N, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the number of communities.
+     */
+    public int getCommunityCount() {
+        return communityCount;
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the community of the node, between 0 and getCommunityCount() - 1.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public int getCommunity(N node) {
+        int index = graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return communities[index];
+    }
+
+    /**
+     * @param nodeIndex number of the node in the compact graph
+     *
+     * @return the community of the node, between 0 and getCommunityCount() - 1.
+     */
+    public int getCommunity(int nodeIndex) {
+        return communities[nodeIndex];
+    }
+
+    /**
+     * @param community between 0 and getCommunityCount() - 1
+     *
+     * @return the nodes of the community, in the order of the graph's nodes.
+     */
+    public Set<N> getNodesOfCommunity(int community) {
+        Set<N> nodes = new LinkedHashSet<N>();
+        for(int i = 0; i < communities.length; i++){
+            if(communities[i] == community){
+                nodes.add(graph.getNode(i));
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * @return the modularity of the communities.
+     */
+    public double getModularity() {
+        return levelModularities.length == 0 ? 0 : levelModularities[levelModularities.length - 1];
+    }
+
+    /**
+     * @return the number of levels on which the communities changed, at
+     *         least 1.
+     */
+    public int getLevelCount() {
+        return levelModularities.length;
+    }
+
+    /**
+     * @param level between 0 and getLevelCount() - 1
+     *
+     * @return the modularity of the communities found after the level.
+     */
+    public double getModularity(int level) {
+        return levelModularities[level];
+    }
+
+    @Override
+    public String toString() {
+        return "Communities[Communities: " + communityCount + ", Levels: " + levelModularities.length + ", Modularity: " + getModularity() + "]";
+    }
+}
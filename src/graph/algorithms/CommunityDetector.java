@@ -0,0 +1,704 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class groups the nodes of a graph into communities of densely
+ * connected nodes by maximizing their modularity with the Louvain method:
+ *
+ * <ol>
+ * <li>The nodes are moved to the neighbouring community that increases the
+ * modularity the most, until no move increases it. The best move of each
+ * node is computed in parallel; the moves are then applied one at a time,
+ * in a random order, if they still increase the modularity, so that the
+ * result does not depend on the number of threads.</li>
+ * <li>With the Leiden refinement, each community is split into
+ * sub-communities by merging its nodes, starting from single nodes, only
+ * with well-connected sub-communities of the same community. This
+ * guarantees that the communities stay connected.</li>
+ * <li>The graph is aggregated: each community (or sub-community with the
+ * refinement) becomes a node of the next level, and the process is repeated
+ * until the communities no longer change.</li>
+ * </ol>
+ *
+ * <p>
+ * The direction of the edges is ignored and loops are not counted. By
+ * default, the affinity of two nodes is the weight of the edges between
+ * them if they are WeightedEdges, or 1 otherwise; negative affinities are
+ * counted as 0. The detector is deterministic for a given seed.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class CommunityDetector {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "CommunityDetector";
+
+    /**
+     * Largest number of local moving passes on each level
+     */
+    private static final int MAX_MOVING_PASSES = 32;
+
+    /**
+     * Number of nodes below which the moves are computed in a single thread
+     */
+    private static final int PARALLEL_NODE_COUNT = 1000;
+
+    /**
+     * Smallest increase of the modularity, relative to the total weight,
+     * for which a node is moved
+     */
+    private static final double MIN_GAIN = 1e-12;
+
+    private double resolution = 1;
+    private boolean refinement;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private long seed = 0x5DEECE66DL;
+
+    /**
+     * Sets the resolution of the modularity. Higher resolutions give more,
+     * smaller communities. The default resolution is 1.
+     *
+     * @param resolution is the resolution, greater than 0
+     *
+     * @throws IllegalArgumentException if resolution is not greater than 0.
+     */
+    public void setResolution(double resolution) {
+        if(!(resolution > 0) || Double.isInfinite(resolution)){
+            throw new IllegalArgumentException("The resolution must be greater than 0");
+        }
+        this.resolution = resolution;
+    }
+
+    /**
+     * Sets if the communities are refined between the levels as in the
+     * Leiden algorithm. The refinement is disabled by default.
+     *
+     * @param refinement boolean indicating if the Leiden refinement is used
+     */
+    public void setRefinement(boolean refinement) {
+        this.refinement = refinement;
+    }
+
+    /**
+     * Sets the number of threads computing the moves of the nodes. The
+     * default is the number of available processors.
+     *
+     * @param threadCount is the number of threads, at least 1
+     *
+     * @throws IllegalArgumentException if threadCount is smaller than 1.
+     */
+    public void setThreadCount(int threadCount) {
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Sets the seed of the random order in which the nodes are moved.
+     *
+     * @param seed of the random number generator
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Finds the communities of a graph, using the weights of the weighted
+     * edges as affinities.
+     *
+     * @param graph whose communities are found
+     *
+     * @return the communities of the graph's nodes.
+     *
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public <N extends Node, E extends Edge<? extends N>> Communities<N> detect(Graph<N, E> graph) {
+        return detect(graph, new WeightFunction<E>() {
+            @Override
+            public long weightOf(E edge) {
+                return edge instanceof WeightedEdge ? ((WeightedEdge<?>) edge).getWeight() : 1;
+            }
+        });
+    }
+
+    /**
+     * Finds the communities of a graph, using the specified affinities.
+     *
+     * @param graph whose communities are found
+     * @param affinities function giving the affinity of the nodes of each edge
+     *
+     * @return the communities of the graph's nodes.
+     *
+     * @throws IllegalArgumentException if the graph or affinities is null.
+     */
+    public <N extends Node, E extends Edge<? extends N>> Communities<N> detect(Graph<N, E> graph, WeightFunction<? super E> affinities) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(affinities == null){
+            throw new IllegalArgumentException("The affinity function cannot be null");
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            CompactGraph<N, E> compactGraph;
+            if(graph instanceof CompactGraph){
+                compactGraph = (CompactGraph<N, E>) graph;
+            } else {
+                compactGraph = new CompactGraph<N, E>(graph);
+            }
+            Level level = Level.of(compactGraph, affinities);
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            Random random = new Random(seed);
+            int[] levelNodes = new int[level.nodeCount];
+            for(int v = 0; v < level.nodeCount; v++){
+                levelNodes[v] = v;
+            }
+            int[] communities = levelNodes.clone();
+            List<Double> modularities = new ArrayList<Double>();
+            long edgesScanned = 0;
+
+            ExecutorService executor = threadCount > 1 ? Executors.newFixedThreadPool(threadCount) : null;
+            try {
+                while(true){
+                    long[] counts = moveNodes(level, communities, random, executor);
+                    long moved = counts[0];
+                    edgesScanned += counts[1];
+                    if(moved > 0 || modularities.isEmpty()){
+                        modularities.add(level.modularity(communities, resolution));
+                    }
+
+                    int communityCount = renumber(communities);
+                    if(communityCount == level.nodeCount){
+                        break;
+                    }
+
+                    // Aggregate the sub-communities, or the communities if the refinement merged nothing
+                    int[] groups = communities;
+                    int groupCount = communityCount;
+                    if(refinement){
+                        int[] subCommunities = refine(level, communities, communityCount, random);
+                        int subCommunityCount = renumber(subCommunities);
+                        if(subCommunityCount < level.nodeCount){
+                            groups = subCommunities;
+                            groupCount = subCommunityCount;
+                        }
+                    }
+
+                    int[] coarseCommunities = new int[groupCount];
+                    for(int v = 0; v < level.nodeCount; v++){
+                        coarseCommunities[groups[v]] = communities[v];
+                    }
+                    for(int i = 0; i < levelNodes.length; i++){
+                        levelNodes[i] = groups[levelNodes[i]];
+                    }
+                    level = level.aggregate(groups, groupCount);
+                    communities = coarseCommunities;
+                }
+            } finally {
+                if(executor != null){
+                    executor.shutdownNow();
+                }
+            }
+
+            int[] nodeCommunities = new int[levelNodes.length];
+            for(int i = 0; i < levelNodes.length; i++){
+                nodeCommunities[i] = communities[levelNodes[i]];
+            }
+            double[] levelModularities = new double[modularities.size()];
+            for(int i = 0; i < levelModularities.length; i++){
+                levelModularities[i] = modularities.get(i);
+            }
+
+            if(run != null){
+                // The edges that join the result are the ones inside a community
+                long internalEdges = 0;
+                for(int edge = 0; edge < compactGraph.getEdgeCount(); edge++){
+                    if(nodeCommunities[compactGraph.getEdgeSource(edge)] == nodeCommunities[compactGraph.getEdgeTarget(edge)]){
+                        internalEdges++;
+                    }
+                }
+                run.completed(compactGraph.getNodeCount(), edgesScanned, internalEdges);
+            }
+            return new Communities<N>(compactGraph, nodeCommunities, renumber(nodeCommunities), levelModularities);
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Renumbers the communities from 0, in the order in which they first
+     * appear.
+     *
+     * @return the number of communities.
+     */
+    private static int renumber(int[] communities) {
+        int[] numbers = new int[communities.length];
+        Arrays.fill(numbers, -1);
+        int count = 0;
+        for(int v = 0; v < communities.length; v++){
+            if(numbers[communities[v]] < 0){
+                numbers[communities[v]] = count++;
+            }
+            communities[v] = numbers[communities[v]];
+        }
+        return count;
+    }
+
+    /**
+     * Moves the nodes of a level between communities until no move
+     * increases the modularity.
+     *
+     * @return the number of moves applied and the number of adjacency
+     *         entries scanned over all the passes.
+     */
+    private long[] moveNodes(final Level level, final int[] communities, Random random, ExecutorService executor) {
+        if(level.totalWeight == 0){
+            return new long[] {0, 0};
+        }
+        final double[] totals = new double[level.nodeCount];
+        for(int v = 0; v < level.nodeCount; v++){
+            totals[communities[v]] += level.strengths[v];
+        }
+        int[] order = shuffledNodes(level.nodeCount, random);
+        final int[] moves = new int[level.nodeCount];
+        long totalMoved = 0;
+        long scanned = 0;
+
+        // One range per task, each with its own workspace, reused by every pass
+        boolean parallel = executor != null && level.nodeCount >= PARALLEL_NODE_COUNT;
+        int rangeSize = parallel ? (level.nodeCount + threadCount - 1) / threadCount : level.nodeCount;
+        int rangeCount = (level.nodeCount + rangeSize - 1) / rangeSize;
+        final double[][] connections = new double[rangeCount][level.nodeCount];
+        final int[][] touched = new int[rangeCount][level.nodeCount];
+
+        for(int pass = 0; pass < MAX_MOVING_PASSES; pass++){
+            // Compute the best move of every node from the current communities
+            if(!parallel){
+                level.findMoves(communities, totals, moves, 0, level.nodeCount, resolution, connections[0], touched[0]);
+            } else {
+                List<Future<?>> futures = new ArrayList<Future<?>>();
+                for(int range = 0; range < rangeCount; range++){
+                    final int rangeIndex = range;
+                    final int rangeStart = range * rangeSize;
+                    final int rangeEnd = Math.min(level.nodeCount, rangeStart + rangeSize);
+                    futures.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            level.findMoves(communities, totals, moves, rangeStart, rangeEnd, resolution,
+                                    connections[rangeIndex], touched[rangeIndex]);
+                            return null;
+                        }
+                    }));
+                }
+                waitFor(futures);
+            }
+            scanned += level.adjacentNodes.length;
+
+            // Apply the moves that still increase the modularity
+            int moved = 0;
+            for(int v : order){
+                int target = moves[v];
+                if(target < 0 || target == communities[v]){
+                    continue;
+                }
+                if(level.gain(v, target, communities, totals, resolution) > MIN_GAIN * level.totalWeight){
+                    totals[communities[v]] -= level.strengths[v];
+                    totals[target] += level.strengths[v];
+                    communities[v] = target;
+                    moved++;
+                }
+            }
+            totalMoved += moved;
+            if(moved == 0){
+                break;
+            }
+        }
+        return new long[] {totalMoved, scanned};
+    }
+
+    /**
+     * Splits each community into sub-communities by merging its single nodes
+     * into the well-connected sub-communities of the same community.
+     *
+     * @return the sub-community of each node, numbered by one of its nodes.
+     */
+    private int[] refine(Level level, int[] communities, int communityCount, Random random) {
+        int n = level.nodeCount;
+        int[] subCommunities = new int[n];
+        for(int v = 0; v < n; v++){
+            subCommunities[v] = v;
+        }
+        if(level.totalWeight == 0){
+            return subCommunities;
+        }
+        double[] communityTotals = new double[communityCount];
+        for(int v = 0; v < n; v++){
+            communityTotals[communities[v]] += level.strengths[v];
+        }
+
+        // Weight from each sub-community to the rest of its community
+        int[] sizes = new int[n];
+        double[] totals = new double[n];
+        double[] externals = new double[n];
+        for(int v = 0; v < n; v++){
+            sizes[v] = 1;
+            totals[v] = level.strengths[v];
+            for(int i = level.offsets[v]; i < level.offsets[v + 1]; i++){
+                if(communities[level.adjacentNodes[i]] == communities[v]){
+                    externals[v] += level.adjacentWeights[i];
+                }
+            }
+        }
+
+        double[] connections = new double[n];
+        int[] touched = new int[n];
+        double scale = resolution / level.totalWeight;
+        for(int v : shuffledNodes(n, random)){
+            if(sizes[subCommunities[v]] > 1){
+                continue;
+            }
+            double communityTotal = communityTotals[communities[v]];
+            if(externals[v] < scale * totals[v] * (communityTotal - totals[v])){
+                continue;
+            }
+
+            int touchedCount = 0;
+            for(int i = level.offsets[v]; i < level.offsets[v + 1]; i++){
+                int u = level.adjacentNodes[i];
+                if(communities[u] != communities[v]){
+                    continue;
+                }
+                int subCommunity = subCommunities[u];
+                if(connections[subCommunity] == 0){
+                    touched[touchedCount++] = subCommunity;
+                }
+                connections[subCommunity] += level.adjacentWeights[i];
+            }
+
+            int best = -1;
+            double bestGain = 0;
+            for(int i = 0; i < touchedCount; i++){
+                int subCommunity = touched[i];
+                double total = totals[subCommunity];
+                if(subCommunity != v && externals[subCommunity] >= scale * total * (communityTotal - total)){
+                    double gain = connections[subCommunity] - scale * level.strengths[v] * total;
+                    if(gain > bestGain){
+                        best = subCommunity;
+                        bestGain = gain;
+                    }
+                }
+            }
+            if(best >= 0){
+                subCommunities[v] = best;
+                sizes[best]++;
+                sizes[v]--;
+                totals[best] += level.strengths[v];
+                externals[best] += externals[v] - 2 * connections[best];
+            }
+
+            for(int i = 0; i < touchedCount; i++){
+                connections[touched[i]] = 0;
+            }
+        }
+        return subCommunities;
+    }
+
+    private static int[] shuffledNodes(int nodeCount, Random random) {
+        int[] order = new int[nodeCount];
+        for(int v = 0; v < nodeCount; v++){
+            order[v] = v;
+        }
+        for(int i = nodeCount - 1; i > 0; i--){
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+
+    private static void waitFor(List<Future<?>> futures) {
+        try {
+            for(Future<?> future : futures){
+                future.get();
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The community detection was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Undirected graph of one level, stored as adjacency arrays: the
+     * neighbours of node v are adjacentNodes[offsets[v]] to
+     * adjacentNodes[offsets[v + 1] - 1], and the weights of the edges to them
+     * are found at the same positions of adjacentWeights. The weight of the
+     * nodes merged into a node of a coarser level, counted in both
+     * directions, is kept in loopWeights.
+     */
+    private static final class Level {
+        private final int nodeCount;
+        private final int[] offsets;
+        private final int[] adjacentNodes;
+        private final long[] adjacentWeights;
+        private final long[] loopWeights;
+
+        /**
+         * Sum of the weights of the edges of each node, loops included
+         */
+        private final double[] strengths;
+
+        /**
+         * Sum of the strengths of all the nodes (twice the total edge weight)
+         */
+        private final double totalWeight;
+
+        private Level(int nodeCount, int[] offsets, int[] adjacentNodes, long[] adjacentWeights, long[] loopWeights) {
+            this.nodeCount = nodeCount;
+            this.offsets = offsets;
+            this.adjacentNodes = adjacentNodes;
+            this.adjacentWeights = adjacentWeights;
+            this.loopWeights = loopWeights;
+            strengths = new double[nodeCount];
+            double total = 0;
+            for(int v = 0; v < nodeCount; v++){
+                double strength = loopWeights[v];
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    strength += adjacentWeights[i];
+                }
+                strengths[v] = strength;
+                total += strength;
+            }
+            totalWeight = total;
+        }
+
+        /**
+         * Creates the level of the original graph. The edges between two
+         * nodes, in both directions, are merged into one.
+         */
+        private static <N extends Node, E extends Edge<? extends N>> Level of(CompactGraph<N, E> graph, WeightFunction<? super E> affinities) {
+            int n = graph.getNodeCount();
+            int[] offsets = new int[n + 1];
+            int[] adjacentNodes = new int[2 * graph.getEdgeCount()];
+            long[] adjacentWeights = new long[2 * graph.getEdgeCount()];
+            int[] positions = new int[n];
+            Arrays.fill(positions, -1);
+
+            int size = 0;
+            for(int v = 0; v < n; v++){
+                int start = size;
+                for(int i = 0; i < graph.getOutDegree(v) + graph.getInDegree(v); i++){
+                    int edge;
+                    int u;
+                    if(i < graph.getOutDegree(v)){
+                        edge = graph.getOutEdge(v, i);
+                        u = graph.getEdgeTarget(edge);
+                    } else {
+                        edge = graph.getInEdge(v, i - graph.getOutDegree(v));
+                        u = graph.getEdgeSource(edge);
+                    }
+                    if(u == v){
+                        continue;
+                    }
+                    long weight = Math.max(0, affinities.weightOf(graph.getEdge(edge)));
+                    if(positions[u] < start){
+                        positions[u] = size;
+                        adjacentNodes[size] = u;
+                        adjacentWeights[size] = weight;
+                        size++;
+                    } else {
+                        adjacentWeights[positions[u]] += weight;
+                    }
+                }
+                offsets[v + 1] = size;
+            }
+
+            return new Level(n, offsets, Arrays.copyOf(adjacentNodes, size), Arrays.copyOf(adjacentWeights, size), new long[n]);
+        }
+
+        /**
+         * Creates the next coarser level, in which each group of nodes is
+         * merged into a single node.
+         */
+        private Level aggregate(int[] groups, int groupCount) {
+            // Sort the nodes by group
+            int[] memberOffsets = new int[groupCount + 1];
+            for(int v = 0; v < nodeCount; v++){
+                memberOffsets[groups[v] + 1]++;
+            }
+            for(int g = 0; g < groupCount; g++){
+                memberOffsets[g + 1] += memberOffsets[g];
+            }
+            int[] members = new int[nodeCount];
+            int[] next = Arrays.copyOf(memberOffsets, groupCount);
+            for(int v = 0; v < nodeCount; v++){
+                members[next[groups[v]]++] = v;
+            }
+
+            int[] coarseOffsets = new int[groupCount + 1];
+            int[] coarseAdjacentNodes = new int[adjacentNodes.length];
+            long[] coarseAdjacentWeights = new long[adjacentNodes.length];
+            long[] coarseLoopWeights = new long[groupCount];
+            int[] positions = new int[groupCount];
+            Arrays.fill(positions, -1);
+            int size = 0;
+            for(int g = 0; g < groupCount; g++){
+                int start = size;
+                for(int m = memberOffsets[g]; m < memberOffsets[g + 1]; m++){
+                    int v = members[m];
+                    coarseLoopWeights[g] += loopWeights[v];
+                    for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                        int u = groups[adjacentNodes[i]];
+                        if(u == g){
+                            coarseLoopWeights[g] += adjacentWeights[i];
+                            continue;
+                        }
+                        if(positions[u] < start){
+                            positions[u] = size;
+                            coarseAdjacentNodes[size] = u;
+                            coarseAdjacentWeights[size] = adjacentWeights[i];
+                            size++;
+                        } else {
+                            coarseAdjacentWeights[positions[u]] += adjacentWeights[i];
+                        }
+                    }
+                }
+                coarseOffsets[g + 1] = size;
+            }
+
+            return new Level(groupCount, coarseOffsets, Arrays.copyOf(coarseAdjacentNodes, size),
+                    Arrays.copyOf(coarseAdjacentWeights, size), coarseLoopWeights);
+        }
+
+        /**
+         * Finds, for the nodes in the range, the neighbouring community to
+         * which moving the node would increase the modularity the most, or
+         * -1 if no move increases it.
+         */
+        private void findMoves(int[] communities, double[] totals, int[] moves, int start, int end, double resolution,
+                               double[] connections, int[] touched) {
+            double scale = resolution / totalWeight;
+            for(int v = start; v < end; v++){
+                int ownCommunity = communities[v];
+                int touchedCount = 0;
+                touched[touchedCount++] = ownCommunity;
+                connections[ownCommunity] = 0;
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    int community = communities[adjacentNodes[i]];
+                    if(connections[community] == 0 && community != ownCommunity){
+                        touched[touchedCount++] = community;
+                    }
+                    connections[community] += adjacentWeights[i];
+                }
+
+                double strength = strengths[v];
+                int bestCommunity = -1;
+                double bestGain = connections[ownCommunity] - scale * strength * (totals[ownCommunity] - strength) + MIN_GAIN * totalWeight;
+                for(int i = 1; i < touchedCount; i++){
+                    int community = touched[i];
+                    double gain = connections[community] - scale * strength * totals[community];
+                    if(gain > bestGain){
+                        bestCommunity = community;
+                        bestGain = gain;
+                    }
+                }
+                moves[v] = bestCommunity;
+
+                for(int i = 0; i < touchedCount; i++){
+                    connections[touched[i]] = 0;
+                }
+            }
+        }
+
+        /**
+         * Returns the change of the modularity, multiplied by half the total
+         * weight, if a node is moved to another community.
+         */
+        private double gain(int v, int target, int[] communities, double[] totals, double resolution) {
+            int ownCommunity = communities[v];
+            double ownConnection = 0;
+            double targetConnection = 0;
+            for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                int community = communities[adjacentNodes[i]];
+                if(community == ownCommunity){
+                    ownConnection += adjacentWeights[i];
+                } else if(community == target){
+                    targetConnection += adjacentWeights[i];
+                }
+            }
+            double scale = resolution / totalWeight;
+            double strength = strengths[v];
+            return targetConnection - scale * strength * totals[target]
+                   - (ownConnection - scale * strength * (totals[ownCommunity] - strength));
+        }
+
+        /**
+         * @return the modularity of the communities of the level's nodes.
+         */
+        private double modularity(int[] communities, double resolution) {
+            if(totalWeight == 0){
+                return 0;
+            }
+            double[] totals = new double[nodeCount];
+            double internal = 0;
+            for(int v = 0; v < nodeCount; v++){
+                totals[communities[v]] += strengths[v];
+                internal += loopWeights[v];
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    if(communities[adjacentNodes[i]] == communities[v]){
+                        internal += adjacentWeights[i];
+                    }
+                }
+            }
+            double expected = 0;
+            for(double total : totals){
+                expected += total * total;
+            }
+            return internal / totalWeight - resolution * expected / (totalWeight * totalWeight);
+        }
+    }
+}
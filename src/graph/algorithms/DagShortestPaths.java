@@ -0,0 +1,273 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class finds the shortest or the longest paths from a source node in a
+ * directed acyclic graph. The edges are relaxed in the topological order of
+ * their source node, which takes a single pass over the graph and, unlike
+ * Dijkstra's algorithm, also works with negative weights.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class DagShortestPaths<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "DagShortestPaths";
+
+    private final CompactGraph<N, E> graph;
+    private final int sourceNode;
+    private final boolean longestPaths;
+
+    /**
+     * Weight of the path found to each node, or unreachedWeight if the node
+     * cannot be reached from the source node
+     */
+    private final long[] pathWeights;
+    private final long unreachedWeight;
+    private final int[] parentEdges;
+    private final int[] parentNodes;
+
+    /**
+     * Finds the shortest paths from a source node, following the direction
+     * of the edges and using their weights.
+     *
+     * @param graph directed acyclic graph in which the paths are found
+     * @param sourceNode from which the paths start
+     *
+     * @throws IllegalArgumentException if the graph is null or is not acyclic,
+     *         or if the source node is null or not part of the graph.
+     */
+    public DagShortestPaths(Graph<N, E> graph, N sourceNode) {
+        this(graph, sourceNode, WeightFunction.EDGE_WEIGHT, false);
+    }
+
+    /**
+     * Finds the shortest paths from a source node, following the direction
+     * of the edges and using the specified weights.
+     *
+     * @param graph directed acyclic graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if
+     *         the graph is not acyclic, or if the source node is null or not
+     *         part of the graph.
+     */
+    public DagShortestPaths(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights) {
+        this(graph, sourceNode, weights, false);
+    }
+
+    /**
+     * Finds the shortest or the longest paths from a source node, following
+     * the direction of the edges and using the specified weights. The longest
+     * paths are the critical paths of a graph of tasks whose weights are
+     * their durations.
+     *
+     * @param graph directed acyclic graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     * @param longestPaths boolean indicating if the longest paths are found
+     *        instead of the shortest ones
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if
+     *         the graph is not acyclic, or if the source node is null or not
+     *         part of the graph.
+     */
+    public DagShortestPaths(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights, boolean longestPaths) {
+        this(toCompactGraph(graph), null, sourceNode, weights, TraversalDirection.OUTGOING, longestPaths);
+    }
+
+    /**
+     * Finds the paths in a compact graph, following the edges in the
+     * specified direction, which cannot be UNDIRECTED.
+     *
+     * @param sort of the graph in the same direction, or null if the graph
+     *        has not been sorted yet
+     */
+    DagShortestPaths(CompactGraph<N, E> graph, TopologicalSort<N, E> sort, N sourceNode, WeightFunction<? super E> weights,
+            TraversalDirection direction, boolean longestPaths) {
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        if(sourceNode == null){
+            throw new IllegalArgumentException("The source node cannot be null");
+        }
+        this.graph = graph;
+        this.sourceNode = graph.getNodeIndex(sourceNode);
+        if(this.sourceNode < 0){
+            throw new IllegalArgumentException("The source node must be a node in the graph");
+        }
+        this.longestPaths = longestPaths;
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            long[] edgeWeights = new long[graph.getEdgeCount()];
+            for(int i = 0; i < edgeWeights.length; i++){
+                edgeWeights[i] = weights.weightOf(graph.getEdge(i));
+            }
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            int[] order = (sort == null ? new TopologicalSort<N, E>(graph, direction, 1) : sort).getOrder();
+            if(order == null){
+                throw new IllegalArgumentException("The graph is not acyclic");
+            }
+
+            int nodeCount = graph.getNodeCount();
+            unreachedWeight = longestPaths ? Long.MIN_VALUE : Long.MAX_VALUE;
+            pathWeights = new long[nodeCount];
+            Arrays.fill(pathWeights, unreachedWeight);
+            parentEdges = new int[nodeCount];
+            parentNodes = new int[nodeCount];
+            pathWeights[this.sourceNode] = 0;
+            parentEdges[this.sourceNode] = -1;
+            parentNodes[this.sourceNode] = -1;
+
+            // The nodes before the source node in the order cannot be reached from it
+            int start = 0;
+            while(order[start] != this.sourceNode){
+                start++;
+            }
+            long nodesSettled = 0;
+            long edgesScanned = 0;
+            long edgesRelaxed = 0;
+            for(int i = start; i < nodeCount; i++){
+                int node = order[i];
+                long weight = pathWeights[node];
+                if(weight == unreachedWeight){
+                    continue;
+                }
+                nodesSettled++;
+
+                int outDegree = direction.followsOutgoingEdges() ? graph.getOutDegree(node) : 0;
+                int inDegree = direction.followsIncomingEdges() ? graph.getInDegree(node) : 0;
+                for(int j = 0; j < outDegree + inDegree; j++){
+                    int edge = j < outDegree ? graph.getOutEdge(node, j) : graph.getInEdge(node, j - outDegree);
+                    int next = j < outDegree ? graph.getEdgeTarget(edge) : graph.getEdgeSource(edge);
+                    long nextWeight = weight + edgeWeights[edge];
+                    edgesScanned++;
+                    if(pathWeights[next] == unreachedWeight || (longestPaths ? nextWeight > pathWeights[next] : nextWeight < pathWeights[next])){
+                        edgesRelaxed++;
+                        pathWeights[next] = nextWeight;
+                        parentEdges[next] = edge;
+                        parentNodes[next] = node;
+                    }
+                }
+            }
+            if(run != null){
+                run.completed(nodesSettled, edgesScanned, edgesRelaxed);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    private static <N extends Node, E extends WeightedEdge<? extends N>> CompactGraph<N, E> toCompactGraph(Graph<N, E> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        return graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+    }
+
+    /**
+     * @return boolean indicating if the longest paths were found instead of
+     *         the shortest ones.
+     */
+    public boolean isLongestPaths() {
+        return longestPaths;
+    }
+
+    /**
+     * Returns the weight of the path found between the source node and the
+     * target node.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the weight of the path, or Long.MAX_VALUE for the shortest paths
+     *         and Long.MIN_VALUE for the longest paths if the target node
+     *         cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     */
+    public long getPathWeight(N targetNode) {
+        return pathWeights[indexOf(targetNode)];
+    }
+
+    /**
+     * Returns the path found between the source node and the target node.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the path, or null if the target node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     */
+    public WeightedPath<N, E> getPath(N targetNode) {
+        int target = indexOf(targetNode);
+        if(pathWeights[target] == unreachedWeight){
+            return null;
+        }
+
+        List<N> nodes = new ArrayList<N>();
+        List<E> edges = new ArrayList<E>();
+        for(int node = target; node != sourceNode; node = parentNodes[node]){
+            nodes.add(graph.getNode(node));
+            edges.add(graph.getEdge(parentEdges[node]));
+        }
+        nodes.add(graph.getNode(sourceNode));
+        Collections.reverse(nodes);
+        Collections.reverse(edges);
+        return new WeightedPath<N, E>(nodes, edges, pathWeights[target]);
+    }
+
+    /**
+     * @return a map of the weight of the path found to every node that can be
+     *         reached from the source node.
+     */
+    public Map<N, Long> getPathWeights() {
+        Map<N, Long> weights = new LinkedHashMap<N, Long>();
+        for(int node = 0; node < pathWeights.length; node++){
+            if(pathWeights[node] != unreachedWeight){
+                weights.put(graph.getNode(node), pathWeights[node]);
+            }
+        }
+        return Collections.unmodifiableMap(weights);
+    }
+
+    private int indexOf(N node) {
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The target node must be a node in the graph");
+        }
+        return index;
+    }
+}
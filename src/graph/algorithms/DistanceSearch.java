@@ -0,0 +1,179 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+
+import java.util.Arrays;
+
+/**
+ * This class runs Dijkstra searches on a CompactGraph whose edge weights are
+ * stored in an array. A search stops as soon as all its target nodes are
+ * settled, and only the entries it touched are reset before the next
+ * search, so that the searches that stop early do not pay for the size of
+ * the whole graph.
+ *
+ * <p>
+ * NOTE: A search object is not thread safe. Each thread must use its own.
+ * The arrays it allocates are the size of the graph, so a thread running
+ * many searches should keep its search object, like GraphSnapshot does.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class DistanceSearch {
+
+    private final CompactGraph<?, ?> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+
+    private final long[] distances;
+    private final boolean[] settled;
+    private final int[] touched;
+    private int touchedCount;
+
+    /**
+     * Search number with which the targets of the current search are marked
+     */
+    private final int[] targetMarks;
+    private int currentMark;
+
+    private final NodeHeap heap = new NodeHeap();
+
+    private long nodesSettled;
+    private long edgesScanned;
+    private long edgesRelaxed;
+
+    /**
+     * @param graph to be searched
+     * @param weights of the edges, by edge index, which cannot be negative
+     * @param direction in which the edges are followed
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if there is not one weight per edge, or if a weight is
+     *         negative.
+     */
+    public DistanceSearch(CompactGraph<?, ?> graph, long[] weights, TraversalDirection direction) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(weights == null || weights.length != graph.getEdgeCount()){
+            throw new IllegalArgumentException("There must be one weight per edge");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        for(int edge = 0; edge < weights.length; edge++){
+            if(weights[edge] < 0){
+                throw new IllegalArgumentException("The weights cannot be negative: " + graph.getEdge(edge));
+            }
+        }
+        this.graph = graph;
+        this.weights = weights;
+        this.direction = direction;
+
+        int nodeCount = graph.getNodeCount();
+        distances = new long[nodeCount];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        settled = new boolean[nodeCount];
+        touched = new int[nodeCount];
+        targetMarks = new int[nodeCount];
+    }
+
+    /**
+     * Searches from a node until the target nodes are settled. The distances
+     * of the targets can then be read with getDistance(), until the next
+     * search. A path whose weight does not fit in a long is ignored.
+     *
+     * @param source node from which the search starts
+     * @param targets array containing the target nodes
+     * @param from position of the first target in the array
+     * @param to position after the last target in the array
+     */
+    public void search(int source, int[] targets, int from, int to) {
+        reset();
+
+        currentMark++;
+        int remainingTargets = 0;
+        for(int i = from; i < to; i++){
+            if(targetMarks[targets[i]] != currentMark){
+                targetMarks[targets[i]] = currentMark;
+                remainingTargets++;
+            }
+        }
+        if(remainingTargets == 0){
+            return;
+        }
+
+        relax(source, 0);
+        while(!heap.isEmpty()){
+            long distance = heap.peekKey();
+            int node = heap.pop();
+            if(settled[node]){
+                continue;
+            }
+            settled[node] = true;
+            nodesSettled++;
+            if(targetMarks[node] == currentMark && --remainingTargets == 0){
+                return;
+            }
+
+            if(direction.followsOutgoingEdges()){
+                for(int i = 0; i < graph.getOutDegree(node); i++){
+                    int edge = graph.getOutEdge(node, i);
+                    relax(graph.getEdgeTarget(edge), distance + weights[edge]);
+                }
+            }
+            if(direction.followsIncomingEdges()){
+                for(int i = 0; i < graph.getInDegree(node); i++){
+                    int edge = graph.getInEdge(node, i);
+                    relax(graph.getEdgeSource(edge), distance + weights[edge]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the distance of the node found by the last search, or
+     *         Long.MAX_VALUE if the node was not reached.
+     */
+    public long getDistance(int node) {
+        return settled[node] ? distances[node] : Long.MAX_VALUE;
+    }
+
+    long getNodesSettled() {
+        return nodesSettled;
+    }
+
+    long getEdgesScanned() {
+        return edgesScanned;
+    }
+
+    long getEdgesRelaxed() {
+        return edgesRelaxed;
+    }
+
+    private void reset() {
+        for(int i = 0; i < touchedCount; i++){
+            distances[touched[i]] = Long.MAX_VALUE;
+            settled[touched[i]] = false;
+        }
+        touchedCount = 0;
+        heap.clear();
+    }
+
+    private void relax(int node, long distance) {
+        edgesScanned++;
+        // The weights are not negative, so a negative distance is a sum that overflowed
+        if(distance < 0 || distance >= distances[node]){
+            return;
+        }
+        edgesRelaxed++;
+        if(distances[node] == Long.MAX_VALUE){
+            touched[touchedCount++] = node;
+        }
+        distances[node] = distance;
+        heap.push(node, distance);
+    }
+}
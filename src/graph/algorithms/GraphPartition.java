@@ -0,0 +1,133 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Node;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class contains the result of the partitioning of a graph by the
+ * GraphPartitioner: the part to which each node was assigned, the cut size
+ * and the imbalance of the parts.
+ *
+ * <p>
+ * The nodes can be looked up directly, or by their number in the
+ * CompactGraph returned by getGraph().
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node that was partitioned.
+ */
+public final class GraphPartition<N extends Node> {
+
+    private final CompactGraph<N, ?> graph;
+    private final int[] parts;
+    private final int partCount;
+    private final long cutSize;
+    private final long[] partWeights;
+
+    GraphPartition(CompactGraph<N, ?> graph, int[] parts, int partCount, long cutSize, long[] partWeights) {
+        this.graph = graph;
+        this.parts = parts;
+        this.partCount = partCount;
+        this.cutSize = cutSize;
+        this.partWeights = partWeights;
+    }
+
+    /**
+     * @return the compact graph whose node numbers are used by getPart(int).
+     */
+    public CompactGraph<N, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the number of parts.
+     */
+    public int getPartCount() {
+        return partCount;
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the part to which the node was assigned, between 0 and getPartCount() - 1.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public int getPart(N node) {
+        int index = graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return parts[index];
+    }
+
+    /**
+     * @param nodeIndex number of the node in the compact graph
+     *
+     * @return the part to which the node was assigned, between 0 and getPartCount() - 1.
+     */
+    public int getPart(int nodeIndex) {
+        return parts[nodeIndex];
+    }
+
+    /**
+     * @param part between 0 and getPartCount() - 1
+     *
+     * @return the nodes assigned to the part, in the order of the graph's nodes.
+     */
+    public Set<N> getNodesOfPart(int part) {
+        Set<N> nodes = new LinkedHashSet<N>();
+        for(int i = 0; i < parts.length; i++){
+            if(parts[i] == part){
+                nodes.add(graph.getNode(i));
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * @param part between 0 and getPartCount() - 1
+     *
+     * @return the number of nodes assigned to the part.
+     */
+    public long getPartSize(int part) {
+        return partWeights[part];
+    }
+
+    /**
+     * @return the sum of the costs of the edges whose nodes are in different parts.
+     */
+    public long getCutSize() {
+        return cutSize;
+    }
+
+    /**
+     * Returns the imbalance of the parts: the size of the largest part
+     * divided by the average size of the parts, minus 1. A perfectly
+     * balanced partition has an imbalance of 0.
+     *
+     * @return the imbalance of the parts.
+     */
+    public double getImbalance() {
+        long total = 0;
+        long largest = 0;
+        for(long weight : partWeights){
+            total += weight;
+            largest = Math.max(largest, weight);
+        }
+        if(total == 0){
+            return 0;
+        }
+        return (double) largest * partCount / total - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphPartition[Parts: " + partCount + ", Cut size: " + cutSize + ", Imbalance: " + getImbalance() + "]";
+    }
+}
@@ -0,0 +1,596 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class splits the nodes of a graph into a number of parts of about
+ * the same size, while keeping the total cost of the edges between parts
+ * (the cut size) low. It is a multilevel partitioner:
+ *
+ * <ol>
+ * <li>The graph is coarsened by repeatedly merging the nodes connected by
+ * the heaviest edges (heavy-edge matching), until it is small.</li>
+ * <li>The smallest graph is partitioned by growing each part from a seed
+ * node, breadth first.</li>
+ * <li>The partition is projected back onto each larger graph and refined
+ * by moving the nodes to the neighbouring part to which they are the most
+ * connected (label propagation), as long as the parts stay balanced. The
+ * best move of each node is computed in parallel; the moves are then
+ * applied one at a time, so that the result does not depend on the number
+ * of threads.</li>
+ * </ol>
+ *
+ * <p>
+ * The direction of the edges is ignored and loops are not counted. By
+ * default, the cost of cutting an edge is its weight if it is a
+ * WeightedEdge, or 1 otherwise; negative costs are counted as 0. The
+ * partitioner is deterministic for a given seed.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class GraphPartitioner {
+
+    /**
+     * Number of nodes per part below which the graph is no longer coarsened
+     */
+    private static final int COARSEST_NODES_PER_PART = 20;
+
+    /**
+     * Largest number of refinement passes on each level
+     */
+    private static final int MAX_REFINEMENT_PASSES = 8;
+
+    private final int partCount;
+    private double imbalanceTolerance = 0.03;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private long seed = 0x5DEECE66DL;
+
+    /**
+     * Creates a partitioner that splits graphs into the specified number of parts.
+     *
+     * @param partCount number of parts, at least 1
+     *
+     * @throws IllegalArgumentException if partCount is smaller than 1.
+     */
+    public GraphPartitioner(int partCount) {
+        if(partCount < 1){
+            throw new IllegalArgumentException("The number of parts must be at least 1");
+        }
+        this.partCount = partCount;
+    }
+
+    /**
+     * Sets how much larger than the average part a part is allowed to be.
+     * The default tolerance is 0.03, which allows parts to be 3% larger than
+     * the average.
+     *
+     * @param imbalanceTolerance is the allowed imbalance, at least 0
+     *
+     * @throws IllegalArgumentException if imbalanceTolerance is negative.
+     */
+    public void setImbalanceTolerance(double imbalanceTolerance) {
+        if(!(imbalanceTolerance >= 0)){
+            throw new IllegalArgumentException("The imbalance tolerance cannot be negative");
+        }
+        this.imbalanceTolerance = imbalanceTolerance;
+    }
+
+    /**
+     * Sets the number of threads computing the refinement moves. The default
+     * is the number of available processors.
+     *
+     * @param threadCount is the number of threads, at least 1
+     *
+     * @throws IllegalArgumentException if threadCount is smaller than 1.
+     */
+    public void setThreadCount(int threadCount) {
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Sets the seed of the random order in which the nodes are matched.
+     *
+     * @param seed of the random number generator
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Partitions a graph, using the weights of the weighted edges as cut costs.
+     *
+     * @param graph to be partitioned
+     *
+     * @return the partition of the graph's nodes.
+     *
+     * @throws IllegalArgumentException if the graph is null or empty.
+     */
+    public <N extends Node, E extends Edge<? extends N>> GraphPartition<N> partition(Graph<N, E> graph) {
+        return partition(graph, new WeightFunction<E>() {
+            @Override
+            public long weightOf(E edge) {
+                return edge instanceof WeightedEdge ? ((WeightedEdge<?>) edge).getWeight() : 1;
+            }
+        });
+    }
+
+    /**
+     * Partitions a graph, using the specified cut costs.
+     *
+     * @param graph to be partitioned
+     * @param costs function giving the cost of cutting each edge
+     *
+     * @return the partition of the graph's nodes.
+     *
+     * @throws IllegalArgumentException if the graph is null or empty, or if costs is null.
+     */
+    public <N extends Node, E extends Edge<? extends N>> GraphPartition<N> partition(Graph<N, E> graph, WeightFunction<? super E> costs) {
+        if(graph == null || graph.isEmpty()){
+            throw new IllegalArgumentException("The graph cannot be null or empty");
+        }
+        if(costs == null){
+            throw new IllegalArgumentException("The cost function cannot be null");
+        }
+
+        CompactGraph<N, E> compactGraph;
+        if(graph instanceof CompactGraph){
+            compactGraph = (CompactGraph<N, E>) graph;
+        } else {
+            compactGraph = new CompactGraph<N, E>(graph);
+        }
+
+        // Build the levels, from the original graph to the coarsest one
+        Random random = new Random(seed);
+        List<Level> levels = new ArrayList<Level>();
+        Level level = Level.of(compactGraph, costs);
+        levels.add(level);
+        int coarsestSize = Math.max(COARSEST_NODES_PER_PART * partCount, 2);
+        while(level.nodeCount > coarsestSize){
+            Level coarseLevel = level.coarsen(random, maxNodeWeight(level.totalNodeWeight, coarsestSize));
+            if(coarseLevel.nodeCount > level.nodeCount * 0.95){
+                break;
+            }
+            levels.add(coarseLevel);
+            level = coarseLevel;
+        }
+
+        ExecutorService executor = threadCount > 1 ? Executors.newFixedThreadPool(threadCount) : null;
+        try {
+            int[] parts = level.growParts(partCount, random);
+            long maxPartWeight = maxPartWeight(level.totalNodeWeight);
+            refine(level, parts, maxPartWeight, executor);
+            for(int i = levels.size() - 2; i >= 0; i--){
+                Level fineLevel = levels.get(i);
+                int[] fineParts = new int[fineLevel.nodeCount];
+                for(int v = 0; v < fineLevel.nodeCount; v++){
+                    fineParts[v] = parts[fineLevel.coarseNodes[v]];
+                }
+                parts = fineParts;
+                refine(fineLevel, parts, maxPartWeight, executor);
+            }
+
+            Level original = levels.get(0);
+            return new GraphPartition<N>(compactGraph, parts, partCount, original.cutSize(parts), original.partWeights(parts, partCount));
+        } finally {
+            if(executor != null){
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private long maxPartWeight(long totalNodeWeight) {
+        long averageWeight = (totalNodeWeight + partCount - 1) / partCount;
+        return Math.max(averageWeight, (long) Math.floor(averageWeight * (1 + imbalanceTolerance)));
+    }
+
+    private static long maxNodeWeight(long totalNodeWeight, int coarsestSize) {
+        return Math.max(1, (long) (1.5 * totalNodeWeight / coarsestSize));
+    }
+
+    /**
+     * Improves the partition of a level by moving nodes between parts.
+     */
+    private void refine(final Level level, final int[] parts, long maxPartWeight, ExecutorService executor) {
+        long[] partWeights = level.partWeights(parts, partCount);
+        level.rebalance(parts, partWeights, maxPartWeight, partCount);
+
+        final int[] moves = new int[level.nodeCount];
+        for(int pass = 0; pass < MAX_REFINEMENT_PASSES; pass++){
+            // Compute the best move of every node from the current partition
+            if(executor == null || level.nodeCount < 1000){
+                level.findMoves(parts, moves, 0, level.nodeCount, new long[partCount]);
+            } else {
+                List<Future<?>> futures = new ArrayList<Future<?>>();
+                int rangeSize = (level.nodeCount + threadCount - 1) / threadCount;
+                for(int start = 0; start < level.nodeCount; start += rangeSize){
+                    final int rangeStart = start;
+                    final int rangeEnd = Math.min(level.nodeCount, start + rangeSize);
+                    futures.add(executor.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            level.findMoves(parts, moves, rangeStart, rangeEnd, new long[partCount]);
+                            return null;
+                        }
+                    }));
+                }
+                waitFor(futures);
+            }
+
+            // Apply the moves that still improve the cut and keep the parts balanced
+            int moved = 0;
+            for(int v = 0; v < level.nodeCount; v++){
+                int target = moves[v];
+                if(target < 0 || partWeights[target] + level.nodeWeights[v] > maxPartWeight){
+                    continue;
+                }
+                if(level.gain(v, target, parts) > 0){
+                    partWeights[parts[v]] -= level.nodeWeights[v];
+                    partWeights[target] += level.nodeWeights[v];
+                    parts[v] = target;
+                    moved++;
+                }
+            }
+            if(moved == 0){
+                break;
+            }
+        }
+    }
+
+    private static void waitFor(List<Future<?>> futures) {
+        try {
+            for(Future<?> future : futures){
+                future.get();
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The partitioning was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Undirected graph of one level, stored as adjacency arrays: the
+     * neighbours of node v are adjacentNodes[offsets[v]] to
+     * adjacentNodes[offsets[v + 1] - 1], and the costs of the edges to them
+     * are found at the same positions of adjacentCosts.
+     */
+    private static final class Level {
+        private final int nodeCount;
+        private final int[] offsets;
+        private final int[] adjacentNodes;
+        private final long[] adjacentCosts;
+        private final long[] nodeWeights;
+        private final long totalNodeWeight;
+
+        /**
+         * Node of the next coarser level into which each node was merged
+         */
+        private int[] coarseNodes;
+
+        private Level(int nodeCount, int[] offsets, int[] adjacentNodes, long[] adjacentCosts, long[] nodeWeights) {
+            this.nodeCount = nodeCount;
+            this.offsets = offsets;
+            this.adjacentNodes = adjacentNodes;
+            this.adjacentCosts = adjacentCosts;
+            this.nodeWeights = nodeWeights;
+            long total = 0;
+            for(long weight : nodeWeights){
+                total += weight;
+            }
+            this.totalNodeWeight = total;
+        }
+
+        /**
+         * Creates the level of the original graph. The edges between two
+         * nodes, in both directions, are merged into one.
+         */
+        private static <N extends Node, E extends Edge<? extends N>> Level of(CompactGraph<N, E> graph, WeightFunction<? super E> costs) {
+            int n = graph.getNodeCount();
+            int[] offsets = new int[n + 1];
+            int[] adjacentNodes = new int[2 * graph.getEdgeCount()];
+            long[] adjacentCosts = new long[2 * graph.getEdgeCount()];
+            int[] positions = new int[n];
+            Arrays.fill(positions, -1);
+
+            int size = 0;
+            for(int v = 0; v < n; v++){
+                int start = size;
+                for(int i = 0; i < graph.getOutDegree(v) + graph.getInDegree(v); i++){
+                    int edge;
+                    int u;
+                    if(i < graph.getOutDegree(v)){
+                        edge = graph.getOutEdge(v, i);
+                        u = graph.getEdgeTarget(edge);
+                    } else {
+                        edge = graph.getInEdge(v, i - graph.getOutDegree(v));
+                        u = graph.getEdgeSource(edge);
+                    }
+                    if(u == v){
+                        continue;
+                    }
+                    long cost = Math.max(0, costs.weightOf(graph.getEdge(edge)));
+                    if(positions[u] < start){
+                        positions[u] = size;
+                        adjacentNodes[size] = u;
+                        adjacentCosts[size] = cost;
+                        size++;
+                    } else {
+                        adjacentCosts[positions[u]] += cost;
+                    }
+                }
+                offsets[v + 1] = size;
+            }
+
+            long[] nodeWeights = new long[n];
+            Arrays.fill(nodeWeights, 1);
+            return new Level(n, offsets, adjacentNodes, adjacentCosts, nodeWeights);
+        }
+
+        /**
+         * Creates the next coarser level by merging each node with the
+         * unmatched neighbour to which it has the heaviest edge.
+         */
+        private Level coarsen(Random random, long maxNodeWeight) {
+            int[] order = new int[nodeCount];
+            for(int v = 0; v < nodeCount; v++){
+                order[v] = v;
+            }
+            for(int i = nodeCount - 1; i > 0; i--){
+                int j = random.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+
+            int[] matches = new int[nodeCount];
+            Arrays.fill(matches, -1);
+            for(int v : order){
+                if(matches[v] >= 0){
+                    continue;
+                }
+                int bestNode = v;
+                long bestCost = -1;
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    int u = adjacentNodes[i];
+                    if(matches[u] < 0 && adjacentCosts[i] > bestCost && nodeWeights[u] + nodeWeights[v] <= maxNodeWeight){
+                        bestNode = u;
+                        bestCost = adjacentCosts[i];
+                    }
+                }
+                matches[v] = bestNode;
+                matches[bestNode] = v;
+            }
+
+            coarseNodes = new int[nodeCount];
+            Arrays.fill(coarseNodes, -1);
+            int coarseCount = 0;
+            for(int v = 0; v < nodeCount; v++){
+                if(coarseNodes[v] < 0){
+                    coarseNodes[v] = coarseCount;
+                    coarseNodes[matches[v]] = coarseCount;
+                    coarseCount++;
+                }
+            }
+
+            int[] members = new int[2 * coarseCount];
+            Arrays.fill(members, -1);
+            long[] coarseWeights = new long[coarseCount];
+            for(int v = 0; v < nodeCount; v++){
+                int c = coarseNodes[v];
+                members[members[2 * c] < 0 ? 2 * c : 2 * c + 1] = v;
+                coarseWeights[c] += nodeWeights[v];
+            }
+
+            int[] coarseOffsets = new int[coarseCount + 1];
+            int[] coarseAdjacentNodes = new int[adjacentNodes.length];
+            long[] coarseAdjacentCosts = new long[adjacentNodes.length];
+            int[] positions = new int[coarseCount];
+            Arrays.fill(positions, -1);
+            int size = 0;
+            for(int c = 0; c < coarseCount; c++){
+                int start = size;
+                for(int m = 2 * c; m < 2 * c + 2; m++){
+                    int v = members[m];
+                    if(v < 0){
+                        continue;
+                    }
+                    for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                        int u = coarseNodes[adjacentNodes[i]];
+                        if(u == c){
+                            continue;
+                        }
+                        if(positions[u] < start){
+                            positions[u] = size;
+                            coarseAdjacentNodes[size] = u;
+                            coarseAdjacentCosts[size] = adjacentCosts[i];
+                            size++;
+                        } else {
+                            coarseAdjacentCosts[positions[u]] += adjacentCosts[i];
+                        }
+                    }
+                }
+                coarseOffsets[c + 1] = size;
+            }
+
+            return new Level(coarseCount, coarseOffsets, Arrays.copyOf(coarseAdjacentNodes, size),
+                    Arrays.copyOf(coarseAdjacentCosts, size), coarseWeights);
+        }
+
+        /**
+         * Creates an initial partition by growing each part breadth first
+         * from a seed node until it reaches its share of the node weight.
+         */
+        private int[] growParts(int partCount, Random random) {
+            int[] parts = new int[nodeCount];
+            Arrays.fill(parts, -1);
+            int[] queue = new int[nodeCount];
+            int unassigned = nodeCount;
+            long remainingWeight = totalNodeWeight;
+
+            for(int part = 0; part < partCount - 1 && unassigned > 0; part++){
+                long targetWeight = remainingWeight / (partCount - part);
+                long partWeight = 0;
+                int head = 0;
+                int tail = 0;
+                while(partWeight < targetWeight && unassigned > 0){
+                    if(head == tail){
+                        int seedNode = random.nextInt(nodeCount);
+                        while(parts[seedNode] >= 0){
+                            seedNode = (seedNode + 1) % nodeCount;
+                        }
+                        parts[seedNode] = part;
+                        queue[tail++] = seedNode;
+                        partWeight += nodeWeights[seedNode];
+                        unassigned--;
+                        continue;
+                    }
+                    int v = queue[head++];
+                    for(int i = offsets[v]; i < offsets[v + 1] && partWeight < targetWeight; i++){
+                        int u = adjacentNodes[i];
+                        if(parts[u] < 0){
+                            parts[u] = part;
+                            queue[tail++] = u;
+                            partWeight += nodeWeights[u];
+                            unassigned--;
+                        }
+                    }
+                }
+                remainingWeight -= partWeight;
+            }
+
+            for(int v = 0; v < nodeCount; v++){
+                if(parts[v] < 0){
+                    parts[v] = partCount - 1;
+                }
+            }
+            return parts;
+        }
+
+        /**
+         * Finds, for the nodes in the range, the neighbouring part to which
+         * moving the node would reduce the cut the most, or -1 if no move
+         * reduces the cut.
+         */
+        private void findMoves(int[] parts, int[] moves, int start, int end, long[] connections) {
+            for(int v = start; v < end; v++){
+                int ownPart = parts[v];
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    connections[parts[adjacentNodes[i]]] += adjacentCosts[i];
+                }
+
+                int bestPart = -1;
+                long bestConnection = connections[ownPart];
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    int part = parts[adjacentNodes[i]];
+                    if(connections[part] > bestConnection){
+                        bestPart = part;
+                        bestConnection = connections[part];
+                    }
+                }
+                moves[v] = bestPart;
+
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    connections[parts[adjacentNodes[i]]] = 0;
+                }
+            }
+        }
+
+        /**
+         * @return the reduction of the cut if node v is moved to the target part.
+         */
+        private long gain(int v, int target, int[] parts) {
+            long toTarget = 0;
+            long toOwnPart = 0;
+            int ownPart = parts[v];
+            for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                int part = parts[adjacentNodes[i]];
+                if(part == target){
+                    toTarget += adjacentCosts[i];
+                } else if(part == ownPart){
+                    toOwnPart += adjacentCosts[i];
+                }
+            }
+            return toTarget - toOwnPart;
+        }
+
+        /**
+         * Moves nodes out of the parts that are too large, into the parts
+         * where they increase the cut the least.
+         */
+        private void rebalance(int[] parts, long[] partWeights, long maxPartWeight, int partCount) {
+            long[] connections = new long[partCount];
+            for(int v = 0; v < nodeCount; v++){
+                int ownPart = parts[v];
+                if(partWeights[ownPart] <= maxPartWeight){
+                    continue;
+                }
+
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    connections[parts[adjacentNodes[i]]] += adjacentCosts[i];
+                }
+                int bestPart = -1;
+                for(int part = 0; part < partCount; part++){
+                    if(part != ownPart && partWeights[part] + nodeWeights[v] <= maxPartWeight
+                       && (bestPart < 0 || connections[part] > connections[bestPart])){
+                        bestPart = part;
+                    }
+                }
+                Arrays.fill(connections, 0);
+
+                if(bestPart >= 0){
+                    partWeights[ownPart] -= nodeWeights[v];
+                    partWeights[bestPart] += nodeWeights[v];
+                    parts[v] = bestPart;
+                }
+            }
+        }
+
+        private long[] partWeights(int[] parts, int partCount) {
+            long[] partWeights = new long[partCount];
+            for(int v = 0; v < nodeCount; v++){
+                partWeights[parts[v]] += nodeWeights[v];
+            }
+            return partWeights;
+        }
+
+        private long cutSize(int[] parts) {
+            long cut = 0;
+            for(int v = 0; v < nodeCount; v++){
+                for(int i = offsets[v]; i < offsets[v + 1]; i++){
+                    if(parts[adjacentNodes[i]] != parts[v]){
+                        cut += adjacentCosts[i];
+                    }
+                }
+            }
+            return cut / 2;
+        }
+    }
+}
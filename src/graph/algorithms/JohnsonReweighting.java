@@ -0,0 +1,241 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class reweights a directed graph whose weights can be negative so
+ * that Dijkstra's algorithm can then be used on it, as in Johnson's
+ * algorithm. The Bellman-Ford algorithm is run once from every node at
+ * once, which gives each node a potential h, and the weight of each edge
+ * from u to v becomes w(u, v) + h(u) - h(v), which cannot be negative.
+ *
+ * <p>
+ * The reweighting keeps the same shortest paths, and the weight of a path
+ * from s to t only changes by h(s) - h(t). The queries are therefore answered
+ * by a Dijkstra search on the new weights, which stops as soon as its target
+ * is settled, and the original weight of the path is then restored. The new
+ * weights are also available as a WeightFunction, so that they can be given
+ * to the other algorithms that require weights that are not negative.
+ * </p>
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the queries are answered on the graph as it was at that time. The
+ * queries can be run by several threads at once.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class JohnsonReweighting<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    private final CompactGraph<N, E> graph;
+    private final long[] potentials;
+
+    /**
+     * Weights of the edges after the reweighting, by edge index
+     */
+    private final long[] reweightedWeights;
+
+    private final ThreadLocal<DistanceSearch> searches = new ThreadLocal<DistanceSearch>() {
+        @Override
+        protected DistanceSearch initialValue() {
+            return new DistanceSearch(graph, reweightedWeights, TraversalDirection.OUTGOING);
+        }
+    };
+
+    /**
+     * Reweights a graph, following the direction of its edges and using their weights.
+     *
+     * @param graph to be reweighted
+     *
+     * @throws IllegalArgumentException if the graph is null or has a negative cycle.
+     */
+    public JohnsonReweighting(Graph<N, E> graph) {
+        this(graph, WeightFunction.EDGE_WEIGHT, 1);
+    }
+
+    /**
+     * Reweights a graph, following the direction of its edges and using the
+     * specified weights.
+     *
+     * @param graph to be reweighted
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, or if
+     *         the graph has a negative cycle.
+     */
+    public JohnsonReweighting(Graph<N, E> graph, WeightFunction<? super E> weights) {
+        this(graph, weights, 1);
+    }
+
+    /**
+     * Reweights a graph, following the direction of its edges and using the
+     * specified weights. The potentials are computed by the Bellman-Ford
+     * algorithm with the specified number of threads.
+     *
+     * @param graph to be reweighted
+     * @param weights function giving the weight of each edge
+     * @param threadCount number of threads computing the potentials
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if
+     *         the graph has a negative cycle, or if threadCount is smaller than 1.
+     */
+    public JohnsonReweighting(Graph<N, E> graph, WeightFunction<? super E> weights, int threadCount) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+
+        this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+        long[] edgeWeights = BellmanFord.copyWeights(this.graph, weights);
+        BellmanFord<N, E> potentialSearch = new BellmanFord<N, E>(this.graph, null, edgeWeights, TraversalDirection.OUTGOING, threadCount);
+        if(potentialSearch.hasNegativeCycle()){
+            throw new IllegalArgumentException("The graph has a negative cycle: " + potentialSearch.getNegativeCycle());
+        }
+        potentials = potentialSearch.getDistances();
+
+        reweightedWeights = new long[edgeWeights.length];
+        for(int edge = 0; edge < edgeWeights.length; edge++){
+            reweightedWeights[edge] = edgeWeights[edge] + potentials[this.graph.getEdgeSource(edge)] - potentials[this.graph.getEdgeTarget(edge)];
+        }
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the potential of the node, which is the weight of the shortest
+     *         path that ends at the node, or 0 if there is none of negative weight.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public long getPotential(N node) {
+        return potentials[indexOf(node)];
+    }
+
+    /**
+     * Returns the weights of the edges after the reweighting, which cannot be
+     * negative. The shortest paths found with these weights are the shortest
+     * paths of the graph, and their original weight is given by toOriginalWeight().
+     *
+     * @return the new weights of the graph's edges.
+     */
+    public WeightFunction<E> getReweightedWeights() {
+        return new WeightFunction<E>() {
+            @Override
+            public long weightOf(E edge) {
+                int index = graph.getEdgeIndex(edge);
+                if(index < 0){
+                    throw new IllegalArgumentException("The edge is not part of the graph: " + edge);
+                }
+                return reweightedWeights[index];
+            }
+        };
+    }
+
+    /**
+     * Converts the weight of a path found with the new weights back to its
+     * weight in the graph.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     * @param reweightedWeight weight of the path with the new weights
+     *
+     * @return the weight of the path in the graph, or Long.MAX_VALUE if the
+     *         weight given is Long.MAX_VALUE.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public long toOriginalWeight(N sourceNode, N targetNode, long reweightedWeight) {
+        return toOriginalWeight(indexOf(sourceNode), indexOf(targetNode), reweightedWeight);
+    }
+
+    /**
+     * Returns the shortest path weight between two nodes.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     *
+     * @return the weight of the shortest path, or Long.MAX_VALUE if the
+     *         target node cannot be reached from the source node.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public long getDistance(N sourceNode, N targetNode) {
+        int source = indexOf(sourceNode);
+        int target = indexOf(targetNode);
+        DistanceSearch search = searches.get();
+        search.search(source, new int[] {target}, 0, 1);
+        return toOriginalWeight(source, target, search.getDistance(target));
+    }
+
+    /**
+     * Returns the shortest path between two nodes.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     *
+     * @return the shortest path, or null if the target node cannot be reached
+     *         from the source node.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public WeightedPath<N, E> getShortestPath(N sourceNode, N targetNode) {
+        int source = indexOf(sourceNode);
+        int target = indexOf(targetNode);
+        WeightedPath<N, E> path = new LazyShortestPaths<N, E>(graph, source, reweightedWeights, TraversalDirection.OUTGOING).getShortestPath(targetNode);
+        if(path == null){
+            return null;
+        }
+        return new WeightedPath<N, E>(new ArrayList<N>(path.getNodes()), new ArrayList<E>(path.getEdges()),
+                toOriginalWeight(source, target, path.getWeight()));
+    }
+
+    /**
+     * Returns the shortest path weight of every node that can be reached from
+     * a source node.
+     *
+     * @param sourceNode first node of the paths
+     *
+     * @return a map of the shortest path weight of the reachable nodes.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public Map<N, Long> getShortestPaths(N sourceNode) {
+        int source = indexOf(sourceNode);
+        Map<N, Long> reweightedPaths = new LazyShortestPaths<N, E>(graph, source, reweightedWeights, TraversalDirection.OUTGOING)
+                .getNodesWithin(Long.MAX_VALUE);
+
+        Map<N, Long> paths = new LinkedHashMap<N, Long>();
+        for(Map.Entry<N, Long> entry : reweightedPaths.entrySet()){
+            paths.put(entry.getKey(), toOriginalWeight(source, graph.getNodeIndex(entry.getKey()), entry.getValue()));
+        }
+        return Collections.unmodifiableMap(paths);
+    }
+
+    private long toOriginalWeight(int source, int target, long reweightedWeight) {
+        if(reweightedWeight == Long.MAX_VALUE){
+            return Long.MAX_VALUE;
+        }
+        return reweightedWeight - potentials[source] + potentials[target];
+    }
+
+    private int indexOf(N node) {
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return index;
+    }
+}
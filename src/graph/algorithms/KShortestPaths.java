@@ -0,0 +1,610 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class finds the shortest loopless paths between a source node and a
+ * target node, in order of increasing weight, using Yen's algorithm. The
+ * paths are found lazily while they are being iterated, so a caller that
+ * stops after the first few paths does not pay for the others.
+ *
+ * <p>
+ * The shortest path tree to the target node is computed once, when the
+ * object is created, and is reused by every spur search: a spur path that
+ * can follow the tree is taken from it directly, and the others are found
+ * with an A* search guided by the distances of the tree. A candidate path
+ * only spurs from the node where it deviated from its parent path or later.
+ * </p>
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the paths are found on the graph as it was at that time. Each iterator
+ * finds the paths again from the first one. The object and its iterators
+ * are not thread safe.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class KShortestPaths<N extends Node, E extends WeightedEdge<? extends N>> implements Iterable<WeightedPath<N, E>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "KShortestPaths";
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+    private final int sourceNode;
+    private final int targetNode;
+
+    /**
+     * Distance from each node to the target node, or Long.MAX_VALUE if the
+     * target cannot be reached from the node
+     */
+    private final long[] distancesToTarget;
+
+    /**
+     * First edge and second node of the shortest path from each node to the
+     * target node, or -1 for the target and the nodes that cannot reach it
+     */
+    private final int[] treeEdges;
+    private final int[] treeNodes;
+
+    /**
+     * Finds the shortest paths following the edges in both directions, like
+     * ShortestPathsToNode, using the weights of the edges.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode first node of the paths
+     * @param targetNode last node of the paths
+     *
+     * @throws IllegalArgumentException if the graph is null, if a node is
+     *         null or not part of the graph, or if a weight is negative.
+     */
+    public KShortestPaths(Graph<N, E> graph, N sourceNode, N targetNode) {
+        this(graph, sourceNode, targetNode, WeightFunction.EDGE_WEIGHT, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Finds the shortest paths following the edges in both directions, using
+     * the specified weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode first node of the paths
+     * @param targetNode last node of the paths
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if a
+     *         node is null or not part of the graph, or if a weight is negative.
+     */
+    public KShortestPaths(Graph<N, E> graph, N sourceNode, N targetNode, WeightFunction<? super E> weights) {
+        this(graph, sourceNode, targetNode, weights, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Finds the shortest paths following the edges in the specified direction,
+     * using the specified weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode first node of the paths
+     * @param targetNode last node of the paths
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if a node is null or not part of the graph, or if a weight
+     *         is negative.
+     */
+    public KShortestPaths(Graph<N, E> graph, N sourceNode, N targetNode, WeightFunction<? super E> weights, TraversalDirection direction) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        if(sourceNode == null || targetNode == null){
+            throw new IllegalArgumentException("The source and target nodes cannot be null");
+        }
+        if(!graph.getAllNodes().contains(sourceNode) || !graph.getAllNodes().contains(targetNode)){
+            throw new IllegalArgumentException("The source and target nodes must be part of the graph");
+        }
+        for(E edge : graph.getAllEdges()){
+            if(weights.weightOf(edge) < 0){
+                throw new IllegalArgumentException("The weights cannot be negative: " + edge);
+            }
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+            this.direction = direction;
+            this.sourceNode = this.graph.getNodeIndex(sourceNode);
+            this.targetNode = this.graph.getNodeIndex(targetNode);
+            this.weights = new long[this.graph.getEdgeCount()];
+            for(int i = 0; i < this.weights.length; i++){
+                this.weights[i] = weights.weightOf(this.graph.getEdge(i));
+            }
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            int nodeCount = this.graph.getNodeCount();
+            distancesToTarget = new long[nodeCount];
+            treeEdges = new int[nodeCount];
+            treeNodes = new int[nodeCount];
+            long[] counts = buildTree();
+            if(run != null){
+                run.completed(counts[0], counts[1], counts[2]);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the weight of the shortest path, or Long.MAX_VALUE if the
+     *         target node cannot be reached from the source node.
+     */
+    public long getShortestPathWeight() {
+        return distancesToTarget[sourceNode];
+    }
+
+    /**
+     * Returns an iterator over the loopless paths from the source node to
+     * the target node, in order of increasing weight. The paths of equal
+     * weight are returned in the order in which they were found. Each path
+     * is only searched for when the iterator is asked for it.
+     *
+     * @return a new iterator over the paths, starting at the shortest one.
+     */
+    @Override
+    public Iterator<WeightedPath<N, E>> iterator() {
+        return new PathIterator();
+    }
+
+    /**
+     * Returns the shortest loopless paths from the source node to the target
+     * node, in order of increasing weight.
+     *
+     * @param k maximum number of paths returned
+     *
+     * @return the k shortest paths, or fewer if there are not as many paths.
+     *
+     * @throws IllegalArgumentException if k is negative.
+     */
+    public List<WeightedPath<N, E>> getPaths(int k) {
+        if(k < 0){
+            throw new IllegalArgumentException("The number of paths cannot be negative");
+        }
+        List<WeightedPath<N, E>> paths = new ArrayList<WeightedPath<N, E>>();
+        Iterator<WeightedPath<N, E>> iterator = iterator();
+        while(paths.size() < k && iterator.hasNext()){
+            paths.add(iterator.next());
+        }
+        return paths;
+    }
+
+    /**
+     * Runs Dijkstra's algorithm backwards from the target node to find the
+     * shortest path from every node to the target node.
+     *
+     * @return the number of nodes settled, edges scanned and edges relaxed.
+     */
+    private long[] buildTree() {
+        Arrays.fill(distancesToTarget, Long.MAX_VALUE);
+        Arrays.fill(treeEdges, -1);
+        Arrays.fill(treeNodes, -1);
+        boolean[] settled = new boolean[distancesToTarget.length];
+        long[] counts = new long[3];
+
+        NodeHeap heap = new NodeHeap();
+        distancesToTarget[targetNode] = 0;
+        heap.push(targetNode, 0);
+        while(!heap.isEmpty()){
+            long distance = heap.peekKey();
+            int node = heap.pop();
+            if(settled[node]){
+                continue;
+            }
+            settled[node] = true;
+            counts[0]++;
+
+            // The nodes whose edges lead to this node in the search direction
+            if(direction.followsIncomingEdges()){
+                for(int i = 0; i < graph.getOutDegree(node); i++){
+                    int edge = graph.getOutEdge(node, i);
+                    relaxTree(heap, counts, edge, graph.getEdgeTarget(edge), node, distance);
+                }
+            }
+            if(direction.followsOutgoingEdges()){
+                for(int i = 0; i < graph.getInDegree(node); i++){
+                    int edge = graph.getInEdge(node, i);
+                    relaxTree(heap, counts, edge, graph.getEdgeSource(edge), node, distance);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private void relaxTree(NodeHeap heap, long[] counts, int edge, int node, int nextNode, long distance) {
+        counts[1]++;
+        long newDistance = distance + weights[edge];
+        if(newDistance < distancesToTarget[node]){
+            counts[2]++;
+            distancesToTarget[node] = newDistance;
+            treeEdges[node] = edge;
+            treeNodes[node] = nextNode;
+            heap.push(node, newDistance);
+        }
+    }
+
+    /**
+     * Path found by the algorithm, identified by its sequence of edges
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+        private final int[] nodes;
+        private final int[] edges;
+        private final long weight;
+
+        /**
+         * Position of the node where the path deviates from the path it was derived from
+         */
+        private final int deviation;
+
+        /**
+         * Order in which the path was found, used to break the ties between paths of equal weight
+         */
+        private final long order;
+
+        private Candidate(int[] nodes, int[] edges, long weight, int deviation, long order) {
+            this.nodes = nodes;
+            this.edges = edges;
+            this.weight = weight;
+            this.deviation = deviation;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            if(weight != other.weight){
+                return weight < other.weight ? -1 : 1;
+            }
+            return order < other.order ? -1 : (order == other.order ? 0 : 1);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Candidate && Arrays.equals(edges, ((Candidate) o).edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(edges);
+        }
+    }
+
+    private final class PathIterator implements Iterator<WeightedPath<N, E>> {
+
+        /**
+         * Paths already returned, in order
+         */
+        private final List<Candidate> foundPaths = new ArrayList<Candidate>();
+
+        /**
+         * Paths found by the spur searches but not returned yet
+         */
+        private final PriorityQueue<Candidate> candidates = new PriorityQueue<Candidate>();
+
+        /**
+         * Paths already returned or waiting in the candidates
+         */
+        private final Set<Candidate> knownPaths = new HashSet<Candidate>();
+
+        private final SpurSearch search = new SpurSearch();
+        private Candidate nextPath;
+        private boolean exhausted;
+        private long pathCount;
+
+        @Override
+        public boolean hasNext() {
+            if(nextPath == null && !exhausted){
+                nextPath = findNextPath();
+                exhausted = nextPath == null;
+            }
+            return nextPath != null;
+        }
+
+        @Override
+        public WeightedPath<N, E> next() {
+            if(!hasNext()){
+                throw new NoSuchElementException();
+            }
+            Candidate path = nextPath;
+            nextPath = null;
+            foundPaths.add(path);
+            return toWeightedPath(path);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("The paths cannot be removed");
+        }
+
+        private Candidate findNextPath() {
+            if(foundPaths.isEmpty()){
+                if(distancesToTarget[sourceNode] == Long.MAX_VALUE){
+                    return null;
+                }
+                Candidate shortestPath = treePath();
+                knownPaths.add(shortestPath);
+                return shortestPath;
+            }
+            addSpurPaths(foundPaths.get(foundPaths.size() - 1));
+            return candidates.poll();
+        }
+
+        /**
+         * @return the shortest path, which follows the tree from the source node.
+         */
+        private Candidate treePath() {
+            int length = 0;
+            for(int node = sourceNode; node != targetNode; node = treeNodes[node]){
+                length++;
+            }
+            int[] nodes = new int[length + 1];
+            int[] edges = new int[length];
+            nodes[0] = sourceNode;
+            for(int i = 0; i < length; i++){
+                edges[i] = treeEdges[nodes[i]];
+                nodes[i + 1] = treeNodes[nodes[i]];
+            }
+            return new Candidate(nodes, edges, distancesToTarget[sourceNode], 0, pathCount++);
+        }
+
+        /**
+         * Adds to the candidates the paths that follow the specified path up
+         * to one of its nodes, the spur node, and then leave it by an edge
+         * that no path returned so far leaves it by after the same nodes.
+         */
+        private void addSpurPaths(Candidate path) {
+            long rootWeight = 0;
+            for(int i = 0; i < path.deviation; i++){
+                rootWeight += weights[path.edges[i]];
+            }
+
+            for(int i = path.deviation; i < path.edges.length; i++){
+                int spurNode = path.nodes[i];
+                search.start();
+                for(int j = 0; j < i; j++){
+                    search.banNode(path.nodes[j]);
+                }
+                for(Candidate foundPath : foundPaths){
+                    if(foundPath.edges.length > i && hasSameRoot(foundPath, path, i)){
+                        search.banEdge(foundPath.edges[i]);
+                    }
+                }
+
+                if(distancesToTarget[spurNode] != Long.MAX_VALUE && search.find(spurNode)){
+                    int[] nodes = new int[i + search.pathLength + 1];
+                    int[] edges = new int[i + search.pathLength];
+                    System.arraycopy(path.nodes, 0, nodes, 0, i);
+                    System.arraycopy(path.edges, 0, edges, 0, i);
+                    System.arraycopy(search.pathNodes, 0, nodes, i, search.pathLength + 1);
+                    System.arraycopy(search.pathEdges, 0, edges, i, search.pathLength);
+
+                    Candidate candidate = new Candidate(nodes, edges, rootWeight + search.pathWeight, i, pathCount++);
+                    if(knownPaths.add(candidate)){
+                        candidates.add(candidate);
+                    }
+                }
+                rootWeight += weights[path.edges[i]];
+            }
+        }
+
+        private boolean hasSameRoot(Candidate first, Candidate second, int length) {
+            for(int i = 0; i < length; i++){
+                if(first.edges[i] != second.edges[i]){
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private WeightedPath<N, E> toWeightedPath(Candidate path) {
+            List<N> nodes = new ArrayList<N>(path.nodes.length);
+            for(int node : path.nodes){
+                nodes.add(graph.getNode(node));
+            }
+            List<E> edges = new ArrayList<E>(path.edges.length);
+            for(int edge : path.edges){
+                edges.add(graph.getEdge(edge));
+            }
+            return new WeightedPath<N, E>(nodes, edges, path.weight);
+        }
+    }
+
+    /**
+     * Finds the shortest path from a spur node to the target node that avoids
+     * the banned nodes and edges. The marks of a search are only valid while
+     * they are equal to the current search number, so nothing has to be
+     * cleared between the searches.
+     */
+    private final class SpurSearch {
+        private final int[] bannedNodes = new int[distancesToTarget.length];
+        private final int[] bannedEdges = new int[weights.length];
+        private final int[] reachedNodes = new int[distancesToTarget.length];
+        private final boolean[] settled = new boolean[distancesToTarget.length];
+        private final long[] distances = new long[distancesToTarget.length];
+        private final int[] parentEdges = new int[distancesToTarget.length];
+        private final int[] parentNodes = new int[distancesToTarget.length];
+        private final NodeHeap heap = new NodeHeap();
+        private int searchNumber;
+
+        /**
+         * Path found by the last search
+         */
+        private int[] pathNodes = new int[16];
+        private int[] pathEdges = new int[16];
+        private int pathLength;
+        private long pathWeight;
+
+        private void start() {
+            searchNumber++;
+        }
+
+        private void banNode(int node) {
+            bannedNodes[node] = searchNumber;
+        }
+
+        private void banEdge(int edge) {
+            bannedEdges[edge] = searchNumber;
+        }
+
+        /**
+         * @param spurNode from which the path starts
+         *
+         * @return boolean indicating if a path was found.
+         */
+        private boolean find(int spurNode) {
+            if(followTree(spurNode)){
+                return true;
+            }
+
+            heap.clear();
+            reach(spurNode, -1, -1, 0);
+            while(!heap.isEmpty()){
+                int node = heap.pop();
+                if(settled[node]){
+                    continue;
+                }
+                settled[node] = true;
+                if(node == targetNode){
+                    storePath(spurNode);
+                    return true;
+                }
+
+                long distance = distances[node];
+                if(direction.followsOutgoingEdges()){
+                    for(int i = 0; i < graph.getOutDegree(node); i++){
+                        int edge = graph.getOutEdge(node, i);
+                        reach(graph.getEdgeTarget(edge), edge, node, distance);
+                    }
+                }
+                if(direction.followsIncomingEdges()){
+                    for(int i = 0; i < graph.getInDegree(node); i++){
+                        int edge = graph.getInEdge(node, i);
+                        reach(graph.getEdgeSource(edge), edge, node, distance);
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Takes the path of the tree from the spur node if none of its nodes
+         * or edges is banned. The tree path is then the shortest one.
+         */
+        private boolean followTree(int spurNode) {
+            int length = 0;
+            for(int node = spurNode; node != targetNode; node = treeNodes[node]){
+                if(bannedEdges[treeEdges[node]] == searchNumber || bannedNodes[treeNodes[node]] == searchNumber){
+                    return false;
+                }
+                length++;
+            }
+
+            ensurePathCapacity(length);
+            pathNodes[0] = spurNode;
+            for(int i = 0; i < length; i++){
+                pathEdges[i] = treeEdges[pathNodes[i]];
+                pathNodes[i + 1] = treeNodes[pathNodes[i]];
+            }
+            pathLength = length;
+            pathWeight = distancesToTarget[spurNode];
+            return true;
+        }
+
+        /**
+         * Reaches a node from its parent. The nodes are ordered in the heap by
+         * their distance plus their distance to the target node, which cannot
+         * be shorter than the one found by the tree.
+         */
+        private void reach(int node, int edge, int parentNode, long parentDistance) {
+            if(bannedNodes[node] == searchNumber || distancesToTarget[node] == Long.MAX_VALUE){
+                return;
+            }
+            if(edge >= 0 && bannedEdges[edge] == searchNumber){
+                return;
+            }
+            long distance = edge < 0 ? parentDistance : parentDistance + weights[edge];
+            if(reachedNodes[node] == searchNumber){
+                if(settled[node] || distance >= distances[node]){
+                    return;
+                }
+            } else {
+                reachedNodes[node] = searchNumber;
+                settled[node] = false;
+            }
+            distances[node] = distance;
+            parentEdges[node] = edge;
+            parentNodes[node] = parentNode;
+            heap.push(node, distance + distancesToTarget[node]);
+        }
+
+        private void storePath(int spurNode) {
+            int length = 0;
+            for(int node = targetNode; node != spurNode; node = parentNodes[node]){
+                length++;
+            }
+
+            ensurePathCapacity(length);
+            int node = targetNode;
+            for(int i = length; i > 0; i--){
+                pathNodes[i] = node;
+                pathEdges[i - 1] = parentEdges[node];
+                node = parentNodes[node];
+            }
+            pathNodes[0] = spurNode;
+            pathLength = length;
+            pathWeight = distances[targetNode];
+        }
+
+        private void ensurePathCapacity(int length) {
+            if(pathEdges.length < length + 1){
+                pathEdges = new int[length + 1];
+                pathNodes = new int[length + 1];
+            }
+        }
+    }
+}
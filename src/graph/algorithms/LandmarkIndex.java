@@ -0,0 +1,595 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class creates a landmark index (ALT) that bounds the distance between
+ * any two nodes of a graph, and uses these bounds to guide A* searches. The
+ * distances from and to a few landmark nodes are computed once, and the
+ * triangle inequality then gives a lower and an upper bound for the
+ * distance between two nodes in time proportional to the number of
+ * landmarks.
+ *
+ * <p>
+ * The landmarks are chosen with the farthest heuristic: each new landmark is
+ * the node farthest from the landmarks already chosen, so the landmarks end
+ * up on the edges of the graph, and in each of its components. The searches
+ * back to the landmarks run in parallel while the next landmarks are being
+ * chosen. The distances are stored in primitive arrays, grouped by node, so
+ * that the bounds of a node are read from consecutive entries.
+ * </p>
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the index is built, so the
+ * index answers the queries on the graph as it was at that time. The queries
+ * can be run by several threads at once.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class LandmarkIndex<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "LandmarkIndex";
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+    private final int[] landmarks;
+
+    /**
+     * Distance from each landmark to each node, at node * landmarkCount + landmark
+     */
+    private final long[] distancesFromLandmarks;
+
+    /**
+     * Distance from each node to each landmark, at node * landmarkCount + landmark.
+     * It is the same array as distancesFromLandmarks when the edges are undirected.
+     */
+    private final long[] distancesToLandmarks;
+
+    private final ThreadLocal<SearchWorkspace> workspaces = new ThreadLocal<SearchWorkspace>() {
+        @Override
+        protected SearchWorkspace initialValue() {
+            return new SearchWorkspace(graph.getNodeCount());
+        }
+    };
+
+    /**
+     * Builds an index for the distances along the edges in both directions,
+     * like ShortestPathsToNode, using the weights of the edges.
+     *
+     * @param graph whose distances are indexed
+     * @param landmarkCount number of landmarks, which is reduced to the
+     *        number of nodes if the graph has fewer nodes
+     *
+     * @throws IllegalArgumentException if the graph is null, if landmarkCount
+     *         is smaller than 1, or if a weight is negative.
+     */
+    public LandmarkIndex(Graph<N, E> graph, int landmarkCount) {
+        this(graph, landmarkCount, WeightFunction.EDGE_WEIGHT, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Builds an index for the distances along the edges in both directions,
+     * using the specified weights.
+     *
+     * @param graph whose distances are indexed
+     * @param landmarkCount number of landmarks, which is reduced to the
+     *        number of nodes if the graph has fewer nodes
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if
+     *         landmarkCount is smaller than 1, if the distance tables would
+     *         hold more than Integer.MAX_VALUE entries, or if a weight is negative.
+     */
+    public LandmarkIndex(Graph<N, E> graph, int landmarkCount, WeightFunction<? super E> weights) {
+        this(graph, landmarkCount, weights, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Builds an index for the distances along the edges in the specified
+     * direction, using the specified weights.
+     *
+     * @param graph whose distances are indexed
+     * @param landmarkCount number of landmarks, which is reduced to the
+     *        number of nodes if the graph has fewer nodes
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if landmarkCount is smaller than 1, if the distance tables
+     *         would hold more than Integer.MAX_VALUE entries, or if a weight
+     *         is negative.
+     */
+    public LandmarkIndex(Graph<N, E> graph, int landmarkCount, WeightFunction<? super E> weights, TraversalDirection direction) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        if(landmarkCount < 1){
+            throw new IllegalArgumentException("There must be at least one landmark");
+        }
+        int nodeCount = graph.getAllNodes().size();
+        long tableSize = (long) nodeCount * Math.min(landmarkCount, nodeCount);
+        if(tableSize > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Too many landmarks for " + nodeCount + " nodes: " + landmarkCount);
+        }
+        for(E edge : graph.getAllEdges()){
+            if(weights.weightOf(edge) < 0){
+                throw new IllegalArgumentException("The weights cannot be negative: " + edge);
+            }
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+            this.direction = direction;
+            this.weights = new long[this.graph.getEdgeCount()];
+            for(int i = 0; i < this.weights.length; i++){
+                this.weights[i] = weights.weightOf(this.graph.getEdge(i));
+            }
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            landmarks = new int[Math.min(landmarkCount, nodeCount)];
+            distancesFromLandmarks = new long[(int) tableSize];
+            distancesToLandmarks = direction == TraversalDirection.UNDIRECTED ? distancesFromLandmarks : new long[distancesFromLandmarks.length];
+            long[] counts = selectLandmarks();
+            if(run != null){
+                run.completed(counts[0], counts[1], counts[2]);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the landmarks, in the order in which they were chosen.
+     */
+    public List<N> getLandmarks() {
+        List<N> nodes = new ArrayList<N>(landmarks.length);
+        for(int landmark : landmarks){
+            nodes.add(graph.getNode(landmark));
+        }
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * Returns a lower bound of the weight of the shortest path between two nodes.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     *
+     * @return the lower bound, or Long.MAX_VALUE if the landmarks show that
+     *         the target node cannot be reached from the source node.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public long getLowerBound(N sourceNode, N targetNode) {
+        return lowerBound(indexOf(sourceNode), indexOf(targetNode));
+    }
+
+    /**
+     * Returns an upper bound of the weight of the shortest path between two
+     * nodes: the weight of the shortest path through the best landmark.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     *
+     * @return the upper bound, or Long.MAX_VALUE if no landmark can be reached
+     *         from the source node and reach the target node.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public long getUpperBound(N sourceNode, N targetNode) {
+        int source = indexOf(sourceNode);
+        int target = indexOf(targetNode);
+        if(source == target){
+            return 0;
+        }
+
+        long bound = Long.MAX_VALUE;
+        int sourceOffset = source * landmarks.length;
+        int targetOffset = target * landmarks.length;
+        for(int i = 0; i < landmarks.length; i++){
+            long toLandmark = distancesToLandmarks[sourceOffset + i];
+            long fromLandmark = distancesFromLandmarks[targetOffset + i];
+            if(toLandmark != Long.MAX_VALUE && fromLandmark != Long.MAX_VALUE){
+                bound = Math.min(bound, toLandmark + fromLandmark);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Finds the weight of the shortest path between two nodes with an A*
+     * search guided by the lower bounds of the index.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     *
+     * @return the weight of the shortest path, or Long.MAX_VALUE if the
+     *         target node cannot be reached from the source node.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public long getDistance(N sourceNode, N targetNode) {
+        SearchWorkspace workspace = workspaces.get();
+        int target = indexOf(targetNode);
+        return workspace.search(indexOf(sourceNode), target) ? workspace.distances[target] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Finds the shortest path between two nodes with an A* search guided by
+     * the lower bounds of the index.
+     *
+     * @param sourceNode first node of the path
+     * @param targetNode last node of the path
+     *
+     * @return the shortest path, or null if the target node cannot be reached
+     *         from the source node.
+     *
+     * @throws IllegalArgumentException if a node is not part of the graph.
+     */
+    public WeightedPath<N, E> getShortestPath(N sourceNode, N targetNode) {
+        SearchWorkspace workspace = workspaces.get();
+        int source = indexOf(sourceNode);
+        int target = indexOf(targetNode);
+        if(!workspace.search(source, target)){
+            return null;
+        }
+
+        List<N> nodes = new ArrayList<N>();
+        List<E> edges = new ArrayList<E>();
+        for(int node = target; node != source; node = workspace.parentNodes[node]){
+            nodes.add(graph.getNode(node));
+            edges.add(graph.getEdge(workspace.parentEdges[node]));
+        }
+        nodes.add(graph.getNode(source));
+        Collections.reverse(nodes);
+        Collections.reverse(edges);
+        return new WeightedPath<N, E>(nodes, edges, workspace.distances[target]);
+    }
+
+    /**
+     * @return the number of nodes settled by the last search of the calling
+     *         thread, which shows how well the bounds guided it.
+     */
+    public long getLastSearchNodesSettled() {
+        return workspaces.get().nodesSettled;
+    }
+
+    private int indexOf(N node) {
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the best lower bound given by the landmarks. For a landmark L,
+     * the triangle inequality gives d(u, v) >= d(L, v) - d(L, u) and
+     * d(u, v) >= d(u, L) - d(v, L).
+     */
+    private long lowerBound(int source, int target) {
+        if(source == target){
+            return 0;
+        }
+
+        long bound = 0;
+        int sourceOffset = source * landmarks.length;
+        int targetOffset = target * landmarks.length;
+        for(int i = 0; i < landmarks.length; i++){
+            long fromToSource = distancesFromLandmarks[sourceOffset + i];
+            long fromToTarget = distancesFromLandmarks[targetOffset + i];
+            if(fromToSource != Long.MAX_VALUE){
+                if(fromToTarget == Long.MAX_VALUE){
+                    // The landmark reaches the source node but not the target node
+                    return Long.MAX_VALUE;
+                }
+                bound = Math.max(bound, fromToTarget - fromToSource);
+            }
+
+            long sourceToLandmark = distancesToLandmarks[sourceOffset + i];
+            long targetToLandmark = distancesToLandmarks[targetOffset + i];
+            if(targetToLandmark != Long.MAX_VALUE){
+                if(sourceToLandmark == Long.MAX_VALUE){
+                    // The target node reaches the landmark but not the source node
+                    return Long.MAX_VALUE;
+                }
+                bound = Math.max(bound, sourceToLandmark - targetToLandmark);
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Chooses the landmarks one at a time, each one being the node whose
+     * distance to the closest landmark already chosen is the largest. The
+     * searches back to each landmark are run by a thread pool while the next
+     * landmarks are being chosen.
+     *
+     * @return the number of nodes settled, edges scanned and edges relaxed.
+     */
+    private long[] selectLandmarks() {
+        int nodeCount = graph.getNodeCount();
+        long[] counts = new long[3];
+        if(landmarks.length == 0){
+            return counts;
+        }
+
+        ExecutorService executor = null;
+        List<Future<long[]>> backwardSearches = new ArrayList<Future<long[]>>();
+        if(distancesToLandmarks != distancesFromLandmarks){
+            executor = Executors.newFixedThreadPool(Math.min(landmarks.length, Runtime.getRuntime().availableProcessors()));
+        }
+
+        try {
+            // The first landmark is the node farthest from an arbitrary node
+            long[] closestLandmark = new long[nodeCount];
+            add(counts, searchAll(0, direction, closestLandmark, 0, 1));
+            int landmark = farthestNode(closestLandmark);
+            Arrays.fill(closestLandmark, Long.MAX_VALUE);
+
+            for(int i = 0; i < landmarks.length; i++){
+                landmarks[i] = landmark;
+                add(counts, searchAll(landmark, direction, distancesFromLandmarks, i, landmarks.length));
+                if(executor != null){
+                    final int root = landmark;
+                    final int column = i;
+                    backwardSearches.add(executor.submit(new Callable<long[]>() {
+                        @Override
+                        public long[] call() {
+                            return searchAll(root, direction.reverse(), distancesToLandmarks, column, landmarks.length);
+                        }
+                    }));
+                }
+
+                for(int node = 0; node < nodeCount; node++){
+                    closestLandmark[node] = Math.min(closestLandmark[node], distancesFromLandmarks[node * landmarks.length + i]);
+                }
+                if(i + 1 < landmarks.length){
+                    landmark = farthestNode(closestLandmark);
+                }
+            }
+
+            for(Future<long[]> search : backwardSearches){
+                add(counts, search.get());
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The landmark searches were interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            if(executor != null){
+                executor.shutdownNow();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @return the node with the largest distance, the unreachable nodes being
+     *         the farthest, excluding the landmarks already chosen.
+     */
+    private int farthestNode(long[] distances) {
+        int farthest = -1;
+        for(int node = 0; node < distances.length; node++){
+            if(distances[node] != 0 && (farthest < 0 || distances[node] > distances[farthest])){
+                farthest = node;
+            }
+        }
+        if(farthest < 0){
+            // Every node is at distance 0 from a landmark, take the first node that is not one
+            for(int node = 0; node < distances.length && farthest < 0; node++){
+                if(!isLandmark(node)){
+                    farthest = node;
+                }
+            }
+        }
+        return farthest;
+    }
+
+    private boolean isLandmark(int node) {
+        for(int landmark : landmarks){
+            if(landmark == node){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Runs a complete Dijkstra search from a node and stores the distances
+     * in a column of a node-major array.
+     *
+     * @return the number of nodes settled, edges scanned and edges relaxed.
+     */
+    private long[] searchAll(int root, TraversalDirection searchDirection, long[] table, int column, int columnCount) {
+        int nodeCount = graph.getNodeCount();
+        long[] distances = new long[nodeCount];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        boolean[] settled = new boolean[nodeCount];
+        long[] counts = new long[3];
+
+        NodeHeap heap = new NodeHeap();
+        distances[root] = 0;
+        heap.push(root, 0);
+        while(!heap.isEmpty()){
+            long distance = heap.peekKey();
+            int node = heap.pop();
+            if(settled[node]){
+                continue;
+            }
+            settled[node] = true;
+            counts[0]++;
+
+            if(searchDirection.followsOutgoingEdges()){
+                for(int i = 0; i < graph.getOutDegree(node); i++){
+                    int edge = graph.getOutEdge(node, i);
+                    counts[1]++;
+                    int next = graph.getEdgeTarget(edge);
+                    if(distance + weights[edge] < distances[next]){
+                        counts[2]++;
+                        distances[next] = distance + weights[edge];
+                        heap.push(next, distances[next]);
+                    }
+                }
+            }
+            if(searchDirection.followsIncomingEdges()){
+                for(int i = 0; i < graph.getInDegree(node); i++){
+                    int edge = graph.getInEdge(node, i);
+                    counts[1]++;
+                    int next = graph.getEdgeSource(edge);
+                    if(distance + weights[edge] < distances[next]){
+                        counts[2]++;
+                        distances[next] = distance + weights[edge];
+                        heap.push(next, distances[next]);
+                    }
+                }
+            }
+        }
+
+        for(int node = 0; node < nodeCount; node++){
+            table[node * columnCount + column] = distances[node];
+        }
+        return counts;
+    }
+
+    private static void add(long[] counts, long[] searchCounts) {
+        for(int i = 0; i < counts.length; i++){
+            counts[i] += searchCounts[i];
+        }
+    }
+
+    /**
+     * Arrays used by the A* searches of a thread. The entries of a node are
+     * only valid while its mark is equal to the current search number, so
+     * nothing has to be cleared between the searches.
+     */
+    private final class SearchWorkspace {
+        private final long[] distances;
+        private final boolean[] settled;
+        private final int[] parentEdges;
+        private final int[] parentNodes;
+        private final int[] marks;
+        private final NodeHeap heap = new NodeHeap();
+        private int searchNumber;
+        private long nodesSettled;
+
+        private SearchWorkspace(int nodeCount) {
+            distances = new long[nodeCount];
+            settled = new boolean[nodeCount];
+            parentEdges = new int[nodeCount];
+            parentNodes = new int[nodeCount];
+            marks = new int[nodeCount];
+        }
+
+        /**
+         * Runs an A* search ordering the nodes by their distance plus the
+         * lower bound of their distance to the target node.
+         *
+         * @return boolean indicating if the target node was reached.
+         */
+        private boolean search(int source, int target) {
+            searchNumber++;
+            nodesSettled = 0;
+            heap.clear();
+            reach(source, -1, -1, 0, target);
+            while(!heap.isEmpty()){
+                int node = heap.pop();
+                if(settled[node]){
+                    continue;
+                }
+                settled[node] = true;
+                nodesSettled++;
+                if(node == target){
+                    return true;
+                }
+
+                long distance = distances[node];
+                if(direction.followsOutgoingEdges()){
+                    for(int i = 0; i < graph.getOutDegree(node); i++){
+                        int edge = graph.getOutEdge(node, i);
+                        reach(graph.getEdgeTarget(edge), edge, node, distance + weights[edge], target);
+                    }
+                }
+                if(direction.followsIncomingEdges()){
+                    for(int i = 0; i < graph.getInDegree(node); i++){
+                        int edge = graph.getInEdge(node, i);
+                        reach(graph.getEdgeSource(edge), edge, node, distance + weights[edge], target);
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void reach(int node, int edge, int parentNode, long distance, int target) {
+            if(marks[node] == searchNumber){
+                if(settled[node] || distance >= distances[node]){
+                    return;
+                }
+            } else {
+                marks[node] = searchNumber;
+                settled[node] = false;
+            }
+
+            long bound = lowerBound(node, target);
+            if(bound == Long.MAX_VALUE){
+                // The target node cannot be reached from this node
+                settled[node] = true;
+                return;
+            }
+            distances[node] = distance;
+            parentEdges[node] = edge;
+            parentNodes[node] = parentNode;
+            heap.push(node, distance + bound);
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class finds the shortest paths from a source node with Dijkstra's
+ * algorithm, like ShortestPathsToNode, but only settles the nodes it needs
+ * to answer the queries. The search stops as soon as the queried node is
+ * settled, and resumes from where it stopped on the next query, so the
+ * queries about nodes close to the source only explore their neighbourhood.
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the paths are found on the graph as it was at that time. The object is
+ * not thread safe.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class LazyShortestPaths<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "LazyShortestPaths";
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final TraversalDirection direction;
+    private final int sourceNode;
+
+    /**
+     * Distance of each node from the source node. It is final once the node is settled
+     */
+    private final long[] distances;
+    private final boolean[] settled;
+    private final int[] parentEdges;
+    private final int[] parentNodes;
+    private final NodeHeap heap = new NodeHeap();
+
+    /**
+     * Settled nodes, in order of increasing distance
+     */
+    private final int[] settledNodes;
+    private int settledCount;
+
+    private long edgesScanned;
+    private long edgesRelaxed;
+
+    /**
+     * Counts when the current query started, to report the work it did
+     */
+    private final long[] runStart = new long[3];
+
+    /**
+     * Prepares the search of the shortest paths following the edges in both
+     * directions, like ShortestPathsToNode, using the weights of the edges.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     *
+     * @throws IllegalArgumentException if the graph is null, if the source
+     *         node is null or not part of the graph, or if a weight is negative.
+     */
+    public LazyShortestPaths(Graph<N, E> graph, N sourceNode) {
+        this(graph, sourceNode, WeightFunction.EDGE_WEIGHT, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Prepares the search of the shortest paths following the edges in both
+     * directions, using the specified weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if
+     *         the source node is null or not part of the graph, or if a
+     *         weight is negative.
+     */
+    public LazyShortestPaths(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights) {
+        this(graph, sourceNode, weights, TraversalDirection.UNDIRECTED);
+    }
+
+    /**
+     * Prepares the search of the shortest paths following the edges in the
+     * specified direction, using the specified weights. No node is settled
+     * until the first query.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if the source node is null or not part of the graph, or
+     *         if a weight is negative.
+     */
+    public LazyShortestPaths(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights, TraversalDirection direction) {
+        this(toCompactGraph(graph), sourceNode, weights, direction);
+    }
+
+    private LazyShortestPaths(CompactGraph<N, E> graph, N sourceNode, WeightFunction<? super E> weights, TraversalDirection direction) {
+        this(graph, indexOfSource(graph, sourceNode), copyWeights(graph, weights), direction);
+    }
+
+    /**
+     * Prepares the search in a compact graph whose weights, which cannot be
+     * negative, are stored in an array.
+     */
+    LazyShortestPaths(CompactGraph<N, E> graph, int sourceNode, long[] weights, TraversalDirection direction) {
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        this.graph = graph;
+        this.sourceNode = sourceNode;
+        this.weights = weights;
+        this.direction = direction;
+
+        int nodeCount = graph.getNodeCount();
+        distances = new long[nodeCount];
+        Arrays.fill(distances, Long.MAX_VALUE);
+        settled = new boolean[nodeCount];
+        parentEdges = new int[nodeCount];
+        parentNodes = new int[nodeCount];
+        settledNodes = new int[nodeCount];
+
+        distances[sourceNode] = 0;
+        parentEdges[sourceNode] = -1;
+        parentNodes[sourceNode] = -1;
+        heap.push(sourceNode, 0);
+    }
+
+    private static <N extends Node, E extends WeightedEdge<? extends N>> CompactGraph<N, E> toCompactGraph(Graph<N, E> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        return graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+    }
+
+    private static int indexOfSource(CompactGraph<?, ?> graph, Node sourceNode) {
+        if(sourceNode == null){
+            throw new IllegalArgumentException("The source node cannot be null");
+        }
+        int index = graph.getNodeIndex(sourceNode);
+        if(index < 0){
+            throw new IllegalArgumentException("The source node must be a node in the graph");
+        }
+        return index;
+    }
+
+    private static <N extends Node, E extends WeightedEdge<? extends N>> long[] copyWeights(CompactGraph<N, E> graph, WeightFunction<? super E> weights) {
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
+        long[] edgeWeights = new long[graph.getEdgeCount()];
+        for(int i = 0; i < edgeWeights.length; i++){
+            edgeWeights[i] = weights.weightOf(graph.getEdge(i));
+            if(edgeWeights[i] < 0){
+                throw new IllegalArgumentException("The weights cannot be negative: " + graph.getEdge(i));
+            }
+        }
+        return edgeWeights;
+    }
+
+    /**
+     * Returns the shortest path weight between the source node and the target
+     * node. The search only continues until the target node is settled.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the weight of the shortest path, or Long.MAX_VALUE if the target
+     *         node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     */
+    public long getShortestPathToTarget(N targetNode) {
+        int target = indexOf(targetNode);
+        settleUntil(target);
+        return settled[target] ? distances[target] : Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the shortest path between the source node and the target node.
+     * The search only continues until the target node is settled.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the shortest path, or null if the target node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     */
+    public WeightedPath<N, E> getShortestPath(N targetNode) {
+        int target = indexOf(targetNode);
+        settleUntil(target);
+        if(!settled[target]){
+            return null;
+        }
+
+        List<N> nodes = new ArrayList<N>();
+        List<E> edges = new ArrayList<E>();
+        for(int node = target; node != sourceNode; node = parentNodes[node]){
+            nodes.add(graph.getNode(node));
+            edges.add(graph.getEdge(parentEdges[node]));
+        }
+        nodes.add(graph.getNode(sourceNode));
+        Collections.reverse(nodes);
+        Collections.reverse(edges);
+        return new WeightedPath<N, E>(nodes, edges, distances[target]);
+    }
+
+    /**
+     * Returns the nodes whose shortest path from the source node weighs at
+     * most the specified radius. The search only continues until all these
+     * nodes are settled.
+     *
+     * @param radius largest weight of the paths (inclusive)
+     *
+     * @return a map of the shortest path weight of the nodes within the
+     *         radius, in order of increasing weight.
+     */
+    public Map<N, Long> getNodesWithin(long radius) {
+        AlgorithmRunEvent run = startRun();
+        try {
+            while(nextDistance() <= radius && settleNext()){
+                // Settle one more node
+            }
+        } catch(RuntimeException e) {
+            failRun(run, e);
+            throw e;
+        } catch(Error e) {
+            failRun(run, e);
+            throw e;
+        }
+        completeRun(run);
+
+        Map<N, Long> nodes = new LinkedHashMap<N, Long>();
+        for(int i = 0; i < settledCount && distances[settledNodes[i]] <= radius; i++){
+            nodes.put(graph.getNode(settledNodes[i]), distances[settledNodes[i]]);
+        }
+        return nodes;
+    }
+
+    /**
+     * Returns the k nodes closest to the source node, including the source
+     * node itself. The search only continues until k nodes are settled.
+     *
+     * @param k number of nodes returned
+     *
+     * @return a map of the shortest path weight of the k closest nodes, or
+     *         of all the reachable nodes if there are fewer, in order of
+     *         increasing weight. The ties are broken arbitrarily.
+     *
+     * @throws IllegalArgumentException if k is negative.
+     */
+    public Map<N, Long> getNearestNodes(int k) {
+        if(k < 0){
+            throw new IllegalArgumentException("The number of nodes cannot be negative");
+        }
+
+        AlgorithmRunEvent run = startRun();
+        try {
+            while(settledCount < k && settleNext()){
+                // Settle one more node
+            }
+        } catch(RuntimeException e) {
+            failRun(run, e);
+            throw e;
+        } catch(Error e) {
+            failRun(run, e);
+            throw e;
+        }
+        completeRun(run);
+
+        Map<N, Long> nodes = new LinkedHashMap<N, Long>();
+        for(int i = 0; i < Math.min(k, settledCount); i++){
+            nodes.put(graph.getNode(settledNodes[i]), distances[settledNodes[i]]);
+        }
+        return nodes;
+    }
+
+    /**
+     * @return the number of nodes settled so far by the queries.
+     */
+    public int getSettledNodeCount() {
+        return settledCount;
+    }
+
+    private int indexOf(N node) {
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The target node must be a node in the graph");
+        }
+        return index;
+    }
+
+    private void settleUntil(int target) {
+        if(settled[target]){
+            return;
+        }
+        AlgorithmRunEvent run = startRun();
+        try {
+            while(!settled[target] && settleNext()){
+                // Settle one more node
+            }
+        } catch(RuntimeException e) {
+            failRun(run, e);
+            throw e;
+        } catch(Error e) {
+            failRun(run, e);
+            throw e;
+        }
+        completeRun(run);
+    }
+
+    /**
+     * @return the distance of the next node to be settled, or Long.MAX_VALUE
+     *         if all the reachable nodes are settled.
+     */
+    private long nextDistance() {
+        while(!heap.isEmpty() && settled[heap.peekNode()]){
+            heap.pop();
+        }
+        return heap.isEmpty() ? Long.MAX_VALUE : heap.peekKey();
+    }
+
+    /**
+     * Settles the closest node that is not settled yet and relaxes its edges.
+     *
+     * @return boolean indicating if a node was settled, false if all the
+     *         reachable nodes are already settled.
+     */
+    private boolean settleNext() {
+        while(!heap.isEmpty()){
+            long distance = heap.peekKey();
+            int node = heap.pop();
+            if(settled[node]){
+                continue;
+            }
+            settled[node] = true;
+            settledNodes[settledCount++] = node;
+
+            if(direction.followsOutgoingEdges()){
+                for(int i = 0; i < graph.getOutDegree(node); i++){
+                    int edge = graph.getOutEdge(node, i);
+                    relax(graph.getEdgeTarget(edge), edge, node, distance);
+                }
+            }
+            if(direction.followsIncomingEdges()){
+                for(int i = 0; i < graph.getInDegree(node); i++){
+                    int edge = graph.getInEdge(node, i);
+                    relax(graph.getEdgeSource(edge), edge, node, distance);
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void relax(int node, int edge, int parentNode, long parentDistance) {
+        edgesScanned++;
+        long distance = parentDistance + weights[edge];
+        if(settled[node] || distance >= distances[node]){
+            return;
+        }
+        edgesRelaxed++;
+        distances[node] = distance;
+        parentEdges[node] = edge;
+        parentNodes[node] = parentNode;
+        heap.push(node, distance);
+    }
+
+    /**
+     * Each query that resumes the search is reported as a run whose counts
+     * are the work done by the query.
+     */
+    private AlgorithmRunEvent startRun() {
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        if(run != null){
+            run.copyCompleted();
+            runStart[0] = settledCount;
+            runStart[1] = edgesScanned;
+            runStart[2] = edgesRelaxed;
+        }
+        return run;
+    }
+
+    private void completeRun(AlgorithmRunEvent run) {
+        if(run != null){
+            run.completed(settledCount - runStart[0], edgesScanned - runStart[1], edgesRelaxed - runStart[2]);
+        }
+    }
+
+    private void failRun(AlgorithmRunEvent run, Throwable failure) {
+        if(run != null){
+            run.failed(failure);
+        }
+    }
+}
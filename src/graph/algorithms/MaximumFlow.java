@@ -0,0 +1,518 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class finds the maximum flow from a source node to a sink node and a
+ * minimum cut separating them, using the highest-label push-relabel
+ * algorithm. The weights of the edges are their capacities.
+ *
+ * <p>
+ * The residual graph is stored in primitive arrays in compressed sparse row
+ * form: the arcs leaving each node are consecutive, and each edge has a
+ * forward arc and a reverse arc that point to each other. The heights of the
+ * nodes are periodically recomputed by a breadth-first search from the sink
+ * (global relabeling), and the nodes above a height that no node has any
+ * more are lifted out of the search at once (gap relabeling).
+ * </p>
+ *
+ * <p>
+ * The first phase finds the value of the maximum flow and a minimum cut. The
+ * second phase returns the excess left in the nodes that cannot reach the
+ * sink to the source node, so that the flow of every edge can be reported.
+ * </p>
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the flow is found on the graph as it was at that time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class MaximumFlow<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "MaximumFlow";
+
+    private final CompactGraph<N, E> graph;
+    private final int source;
+    private final int sink;
+    private final int nodeCount;
+    private final boolean undirected;
+
+    /**
+     * Residual graph: the arcs leaving node v are between firstArcs[v] and
+     * firstArcs[v + 1], and each arc has a head node, a residual capacity
+     * and a mate arc going the other way
+     */
+    private final int[] firstArcs;
+    private final int[] arcHeads;
+    private final int[] arcMates;
+    private final long[] residuals;
+
+    /**
+     * Capacity and forward arc of each edge, by edge index
+     */
+    private final long[] capacities;
+    private final int[] edgeArcs;
+
+    private final int[] heights;
+    private final long[] excesses;
+    private final int[] currentArcs;
+
+    /**
+     * Active nodes of each height, in singly linked lists
+     */
+    private int[] activeHeads;
+    private final int[] activeNext;
+    private int highestActive;
+
+    /**
+     * All the nodes of each height below the limit, in doubly linked lists
+     */
+    private int[] heightHeads;
+    private final int[] heightNext;
+    private final int[] heightPrevious;
+    private int highestHeight;
+
+    private final long maximumFlow;
+    private final boolean[] sourceSide;
+
+    private long relabels;
+    private long arcsScanned;
+    private long pushes;
+    private long workSinceGlobalRelabel;
+
+    /**
+     * Finds the maximum flow following the direction of the edges and using
+     * their weights as capacities.
+     *
+     * @param graph in which the flow is found
+     * @param sourceNode from which the flow leaves
+     * @param sinkNode to which the flow arrives
+     *
+     * @throws IllegalArgumentException if the graph is null, if a node is null
+     *         or not part of the graph, if the source and sink nodes are the
+     *         same, or if a capacity is negative.
+     */
+    public MaximumFlow(Graph<N, E> graph, N sourceNode, N sinkNode) {
+        this(graph, sourceNode, sinkNode, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING);
+    }
+
+    /**
+     * Finds the maximum flow following the direction of the edges and using
+     * the specified capacities.
+     *
+     * @param graph in which the flow is found
+     * @param sourceNode from which the flow leaves
+     * @param sinkNode to which the flow arrives
+     * @param capacities function giving the capacity of each edge
+     *
+     * @throws IllegalArgumentException if the graph or capacities is null, if
+     *         a node is null or not part of the graph, if the source and sink
+     *         nodes are the same, or if a capacity is negative.
+     */
+    public MaximumFlow(Graph<N, E> graph, N sourceNode, N sinkNode, WeightFunction<? super E> capacities) {
+        this(graph, sourceNode, sinkNode, capacities, TraversalDirection.OUTGOING);
+    }
+
+    /**
+     * Finds the maximum flow following the edges in the specified direction
+     * and using the specified capacities. With UNDIRECTED, the flow can go
+     * through an edge in either direction, up to its capacity.
+     *
+     * @param graph in which the flow is found
+     * @param sourceNode from which the flow leaves
+     * @param sinkNode to which the flow arrives
+     * @param capacities function giving the capacity of each edge
+     * @param direction in which the flow can go through the edges
+     *
+     * @throws IllegalArgumentException if the graph, capacities or direction
+     *         is null, if a node is null or not part of the graph, if the
+     *         source and sink nodes are the same, or if a capacity is negative.
+     */
+    public MaximumFlow(Graph<N, E> graph, N sourceNode, N sinkNode, WeightFunction<? super E> capacities, TraversalDirection direction) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(capacities == null){
+            throw new IllegalArgumentException("The capacity function cannot be null");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        if(sourceNode == null || sinkNode == null){
+            throw new IllegalArgumentException("The source and sink nodes cannot be null");
+        }
+        if(!graph.getAllNodes().contains(sourceNode) || !graph.getAllNodes().contains(sinkNode)){
+            throw new IllegalArgumentException("The source and sink nodes must be part of the graph");
+        }
+        if(sourceNode.equals(sinkNode)){
+            throw new IllegalArgumentException("The source and sink nodes must be different");
+        }
+        for(E edge : graph.getAllEdges()){
+            if(capacities.weightOf(edge) < 0){
+                throw new IllegalArgumentException("The capacities cannot be negative: " + edge);
+            }
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+            source = this.graph.getNodeIndex(sourceNode);
+            sink = this.graph.getNodeIndex(sinkNode);
+
+            nodeCount = this.graph.getNodeCount();
+            undirected = direction == TraversalDirection.UNDIRECTED;
+            int edgeCount = this.graph.getEdgeCount();
+            this.capacities = new long[edgeCount];
+            for(int edge = 0; edge < edgeCount; edge++){
+                this.capacities[edge] = capacities.weightOf(this.graph.getEdge(edge));
+            }
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            // Build the residual graph in compressed sparse row form
+            firstArcs = new int[nodeCount + 1];
+            arcHeads = new int[2 * edgeCount];
+            arcMates = new int[2 * edgeCount];
+            residuals = new long[2 * edgeCount];
+            edgeArcs = new int[edgeCount];
+            for(int edge = 0; edge < edgeCount; edge++){
+                firstArcs[this.graph.getEdgeSource(edge) + 1]++;
+                firstArcs[this.graph.getEdgeTarget(edge) + 1]++;
+            }
+            for(int node = 0; node < nodeCount; node++){
+                firstArcs[node + 1] += firstArcs[node];
+            }
+            int[] nextArcs = Arrays.copyOf(firstArcs, nodeCount);
+            for(int edge = 0; edge < edgeCount; edge++){
+                boolean forward = direction != TraversalDirection.INCOMING;
+                int tail = forward ? this.graph.getEdgeSource(edge) : this.graph.getEdgeTarget(edge);
+                int head = forward ? this.graph.getEdgeTarget(edge) : this.graph.getEdgeSource(edge);
+                int arc = nextArcs[tail]++;
+                int mate = nextArcs[head]++;
+                arcHeads[arc] = head;
+                arcHeads[mate] = tail;
+                arcMates[arc] = mate;
+                arcMates[mate] = arc;
+                residuals[arc] = this.capacities[edge];
+                residuals[mate] = undirected ? this.capacities[edge] : 0;
+                edgeArcs[edge] = arc;
+            }
+
+            heights = new int[nodeCount];
+            excesses = new long[nodeCount];
+            currentArcs = new int[nodeCount];
+            activeNext = new int[nodeCount];
+            heightNext = new int[nodeCount];
+            heightPrevious = new int[nodeCount];
+
+            // First phase: saturate the arcs leaving the source and push the flow to the sink
+            for(int arc = firstArcs[source]; arc < firstArcs[source + 1]; arc++){
+                long delta = residuals[arc];
+                if(delta > 0){
+                    residuals[arc] = 0;
+                    residuals[arcMates[arc]] += delta;
+                    excesses[arcHeads[arc]] += delta;
+                    excesses[source] -= delta;
+                }
+            }
+            run(sink, source, nodeCount, true);
+            maximumFlow = excesses[sink];
+
+            // Second phase: return the excess that cannot reach the sink to the source
+            run(source, sink, 2 * nodeCount, false);
+
+            sourceSide = new boolean[nodeCount];
+            int[] queue = new int[nodeCount];
+            int queueEnd = 0;
+            queue[queueEnd++] = source;
+            sourceSide[source] = true;
+            for(int i = 0; i < queueEnd; i++){
+                int node = queue[i];
+                for(int arc = firstArcs[node]; arc < firstArcs[node + 1]; arc++){
+                    if(residuals[arc] > 0 && !sourceSide[arcHeads[arc]]){
+                        sourceSide[arcHeads[arc]] = true;
+                        queue[queueEnd++] = arcHeads[arc];
+                    }
+                }
+            }
+
+            if(run != null){
+                run.completed(relabels, arcsScanned, pushes);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the value of the maximum flow from the source node to the sink node.
+     */
+    public long getMaximumFlow() {
+        return maximumFlow;
+    }
+
+    /**
+     * Returns the flow going through an edge. With UNDIRECTED, the flow is
+     * negative if it goes from the edge's target node to its source node, and
+     * with INCOMING, the flow goes from the target node to the source node.
+     *
+     * @param edge of the graph
+     *
+     * @return the flow going through the edge.
+     *
+     * @throws IllegalArgumentException if the edge is not part of the graph.
+     */
+    public long getFlow(E edge) {
+        int index = edge == null ? -1 : graph.getEdgeIndex(edge);
+        if(index < 0){
+            throw new IllegalArgumentException("The edge is not part of the graph: " + edge);
+        }
+        return capacities[index] - residuals[edgeArcs[index]];
+    }
+
+    /**
+     * @return a map of the flow going through every edge with a flow. The map
+     *         cannot be modified.
+     */
+    public Map<E, Long> getFlows() {
+        Map<E, Long> flows = new LinkedHashMap<E, Long>();
+        for(int edge = 0; edge < capacities.length; edge++){
+            long flow = capacities[edge] - residuals[edgeArcs[edge]];
+            if(flow != 0){
+                flows.put(graph.getEdge(edge), flow);
+            }
+        }
+        return Collections.unmodifiableMap(flows);
+    }
+
+    /**
+     * @return the nodes on the source side of the minimum cut: the nodes that
+     *         can still receive flow from the source node. The set cannot be modified.
+     */
+    public Set<N> getSourceSide() {
+        Set<N> nodes = new LinkedHashSet<N>();
+        for(int node = 0; node < nodeCount; node++){
+            if(sourceSide[node]){
+                nodes.add(graph.getNode(node));
+            }
+        }
+        return Collections.unmodifiableSet(nodes);
+    }
+
+    /**
+     * @return the edges of the minimum cut, which go from the source side to
+     *         the rest of the graph (in either direction with UNDIRECTED).
+     *         Their capacities add up to the maximum flow. The set cannot be
+     *         modified.
+     */
+    public Set<E> getMinimumCutEdges() {
+        Set<E> edges = new LinkedHashSet<E>();
+        for(int edge = 0; edge < capacities.length; edge++){
+            int arc = edgeArcs[edge];
+            int tail = arcHeads[arcMates[arc]];
+            int head = arcHeads[arc];
+            if(sourceSide[tail] != sourceSide[head] && (sourceSide[tail] || undirected) && capacities[edge] > 0){
+                edges.add(graph.getEdge(edge));
+            }
+        }
+        return Collections.unmodifiableSet(edges);
+    }
+
+    /**
+     * Discharges the active nodes, highest first, until none is left below
+     * the height limit.
+     *
+     * @param target node to which the excess is pushed
+     * @param excluded node that is never active and is not searched through
+     * @param limit height from which the nodes are no longer active
+     * @param gaps boolean indicating if the gap relabeling is used
+     */
+    private void run(int target, int excluded, int limit, boolean gaps) {
+        activeHeads = new int[limit + 1];
+        heightHeads = new int[limit + 1];
+        globalRelabel(target, excluded, limit);
+
+        while(highestActive >= 0){
+            int node = activeHeads[highestActive];
+            if(node < 0){
+                highestActive--;
+                continue;
+            }
+            activeHeads[highestActive] = activeNext[node];
+            discharge(node, target, excluded, limit, gaps);
+
+            if(workSinceGlobalRelabel > 6L * nodeCount + arcHeads.length){
+                globalRelabel(target, excluded, limit);
+            }
+        }
+    }
+
+    /**
+     * Sets the height of every node to its distance to the target node in the
+     * residual graph, and rebuilds the lists of nodes.
+     */
+    private void globalRelabel(int target, int excluded, int limit) {
+        workSinceGlobalRelabel = 0;
+        Arrays.fill(heights, limit);
+        heights[target] = 0;
+        int[] queue = new int[nodeCount];
+        int queueEnd = 0;
+        queue[queueEnd++] = target;
+        for(int i = 0; i < queueEnd; i++){
+            int node = queue[i];
+            for(int arc = firstArcs[node]; arc < firstArcs[node + 1]; arc++){
+                int next = arcHeads[arc];
+                if(heights[next] == limit && next != excluded && residuals[arcMates[arc]] > 0){
+                    heights[next] = heights[node] + 1;
+                    queue[queueEnd++] = next;
+                }
+            }
+        }
+
+        Arrays.fill(activeHeads, -1);
+        Arrays.fill(heightHeads, -1);
+        highestActive = -1;
+        highestHeight = -1;
+        for(int node = 0; node < nodeCount; node++){
+            currentArcs[node] = firstArcs[node];
+            if(node == target || node == excluded || heights[node] >= limit){
+                continue;
+            }
+            addToHeight(node);
+            if(excesses[node] > 0){
+                activate(node);
+            }
+        }
+    }
+
+    /**
+     * Pushes the excess of a node through its admissible arcs, relabeling the
+     * node when it has none left, until its excess is gone or it reaches the
+     * height limit.
+     */
+    private void discharge(int node, int target, int excluded, int limit, boolean gaps) {
+        while(true){
+            int height = heights[node];
+            int end = firstArcs[node + 1];
+            for(int arc = currentArcs[node]; arc < end; arc++){
+                arcsScanned++;
+                if(residuals[arc] == 0){
+                    continue;
+                }
+                int next = arcHeads[arc];
+                if(heights[next] != height - 1){
+                    continue;
+                }
+
+                long delta = Math.min(excesses[node], residuals[arc]);
+                residuals[arc] -= delta;
+                residuals[arcMates[arc]] += delta;
+                excesses[node] -= delta;
+                if(excesses[next] == 0 && next != target && next != excluded){
+                    excesses[next] = delta;
+                    activate(next);
+                } else {
+                    excesses[next] += delta;
+                }
+                pushes++;
+                if(excesses[node] == 0){
+                    currentArcs[node] = arc;
+                    return;
+                }
+            }
+
+            // Relabel the node above its lowest residual neighbour
+            relabels++;
+            int newHeight = limit;
+            for(int arc = firstArcs[node]; arc < end; arc++){
+                if(residuals[arc] > 0){
+                    newHeight = Math.min(newHeight, heights[arcHeads[arc]] + 1);
+                }
+            }
+            workSinceGlobalRelabel += 12 + end - firstArcs[node];
+            removeFromHeight(node);
+
+            if(gaps && heightHeads[height] < 0){
+                // No node is left at this height: the nodes above cannot reach the target
+                for(int gapHeight = height + 1; gapHeight <= highestHeight; gapHeight++){
+                    for(int gapNode = heightHeads[gapHeight]; gapNode >= 0; gapNode = heightNext[gapNode]){
+                        heights[gapNode] = limit;
+                    }
+                    heightHeads[gapHeight] = -1;
+                }
+                highestHeight = height - 1;
+                heights[node] = limit;
+                return;
+            }
+            if(newHeight >= limit){
+                heights[node] = limit;
+                return;
+            }
+
+            heights[node] = newHeight;
+            addToHeight(node);
+            currentArcs[node] = firstArcs[node];
+        }
+    }
+
+    private void activate(int node) {
+        int height = heights[node];
+        activeNext[node] = activeHeads[height];
+        activeHeads[height] = node;
+        highestActive = Math.max(highestActive, height);
+    }
+
+    private void addToHeight(int node) {
+        int height = heights[node];
+        heightPrevious[node] = -1;
+        heightNext[node] = heightHeads[height];
+        if(heightHeads[height] >= 0){
+            heightPrevious[heightHeads[height]] = node;
+        }
+        heightHeads[height] = node;
+        highestHeight = Math.max(highestHeight, height);
+    }
+
+    private void removeFromHeight(int node) {
+        int height = heights[node];
+        if(heightPrevious[node] >= 0){
+            heightNext[heightPrevious[node]] = heightNext[node];
+        } else {
+            heightHeads[height] = heightNext[node];
+        }
+        if(heightNext[node] >= 0){
+            heightPrevious[heightNext[node]] = heightPrevious[node];
+        }
+    }
+}
@@ -2,7 +2,10 @@ package graph.algorithms;
 
 import graph.elements.Graph;
 import graph.elements.Node;
+import graph.elements.WeightFunction;
 import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
 
 import java.util.Collections;
 import java.util.Iterator;
@@ -13,11 +16,16 @@ import java.util.Set;
  * This class can be used to find the minimum spanning tree of a graph.
  * The algorithm used is based off of Prim's algorithm.
  *
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  */
 public class MinimumSpanningTree<N extends Node, E extends WeightedEdge<N>> {
 
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "MinimumSpanningTree";
+
     private final Set<E> spanningTreeEdges;
     private final long spanningTreeWeight;
 
@@ -30,70 +38,112 @@ public class MinimumSpanningTree<N extends Node, E extends WeightedEdge<N>> {
      * @throws IllegalArgumentException if the graph is empty.
      */
     public MinimumSpanningTree(Graph<N, E> graph) {
+        this(graph, WeightFunction.EDGE_WEIGHT);
+    }
+
+    /**
+     * Finds the minimum spanning tree of a graph, using the weights given by
+     * a weight function instead of the weights stored in the edges.
+     *
+     * @param graph to run the tree selection algorithm on.
+     * @param weights function giving the weight of each edge.
+     * 
+     * @throws IllegalArgumentException if the graph is empty or the weight
+     *         function is null.
+     */
+    public MinimumSpanningTree(Graph<N, E> graph, WeightFunction<? super E> weights) {
+        if(weights == null) {
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
         if(graph.isEmpty()) {
             throw new IllegalArgumentException("The graph cannot be empty");
         }
 
-        Set<E> treeEdges = new LinkedHashSet<E>();
-        Set<N> treeNodes = new LinkedHashSet<N>();
-        Set<E> cotreeEdges = new LinkedHashSet<E>();
-        Set<N> cotreeNodes = new LinkedHashSet<N>();
-
-        cotreeEdges.addAll(graph.getAllEdges());
-        cotreeNodes.addAll(graph.getAllNodes());
-
-        long treeWeight = 0;
-
-        //Add a first Node to the tree (and remove from the cotree)
-        Iterator<N> iter = cotreeNodes.iterator();
-        N groundNode = iter.next();
-        treeNodes.add(groundNode);
-        cotreeNodes.remove(groundNode);
-
-
-        while( !cotreeNodes.isEmpty() ){
-            long weightToAdd = Long.MAX_VALUE;
-            E edgeToAdd = null;
-            N nodeToAdd = null;
-
-            // Find all the potential edges (edges that connect to one node in the
-            // present tree and one node not in the present tree). From these
-            // potential edges, find the edge with the lowest weight. Add this edge
-            // and its new node to the tree (and remove them from the cotree).
-            for(E edge : cotreeEdges) {
-                N sourceNode = edge.getSourceNode();
-                N targetNode = edge.getTargetNode();
-                boolean sourceIsInTree = treeNodes.contains(sourceNode);
-                boolean targetIsInTree = treeNodes.contains(targetNode);
-
-                if( (sourceIsInTree && !targetIsInTree) || (!sourceIsInTree && targetIsInTree)) {
-                    // Note: By using <= instead of < ensures that the edges with
-                    // a weight of Long.MAX_VALUE can be placed in the tree.
-                    if(edge.getWeight() <= weightToAdd){
-                        weightToAdd = edge.getWeight();
-                        edgeToAdd = edge;
-                        if(!sourceIsInTree) {
-                            nodeToAdd = sourceNode;
-                        } else {
-                            nodeToAdd = targetNode;
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            Set<E> treeEdges = new LinkedHashSet<E>();
+            Set<N> treeNodes = new LinkedHashSet<N>();
+            Set<E> cotreeEdges = new LinkedHashSet<E>();
+            Set<N> cotreeNodes = new LinkedHashSet<N>();
+
+            cotreeEdges.addAll(graph.getAllEdges());
+            cotreeNodes.addAll(graph.getAllNodes());
+            if(run != null) {
+                run.copyCompleted();
+            }
+
+            long treeWeight = 0;
+            long edgesScanned = 0;
+            long edgesRelaxed = 0;
+
+            //Add a first Node to the tree (and remove from the cotree)
+            Iterator<N> iter = cotreeNodes.iterator();
+            N groundNode = iter.next();
+            treeNodes.add(groundNode);
+            cotreeNodes.remove(groundNode);
+
+
+            while( !cotreeNodes.isEmpty() ){
+                long weightToAdd = Long.MAX_VALUE;
+                E edgeToAdd = null;
+                N nodeToAdd = null;
+
+                // Find all the potential edges (edges that connect to one node in the
+                // present tree and one node not in the present tree). From these
+                // potential edges, find the edge with the lowest weight. Add this edge
+                // and its new node to the tree (and remove them from the cotree).
+                for(E edge : cotreeEdges) {
+                    edgesScanned++;
+                    N sourceNode = edge.getSourceNode();
+                    N targetNode = edge.getTargetNode();
+                    boolean sourceIsInTree = treeNodes.contains(sourceNode);
+                    boolean targetIsInTree = treeNodes.contains(targetNode);
+
+                    if( (sourceIsInTree && !targetIsInTree) || (!sourceIsInTree && targetIsInTree)) {
+                        edgesRelaxed++;
+                        // Note: By using <= instead of < ensures that the edges with
+                        // a weight of Long.MAX_VALUE can be placed in the tree.
+                        long edgeWeight = weights.weightOf(edge);
+                        if(edgeWeight <= weightToAdd){
+                            weightToAdd = edgeWeight;
+                            edgeToAdd = edge;
+                            if(!sourceIsInTree) {
+                                nodeToAdd = sourceNode;
+                            } else {
+                                nodeToAdd = targetNode;
+                            }
                         }
                     }
                 }
+
+                if(edgeToAdd != null && nodeToAdd != null) {
+                    treeEdges.add(edgeToAdd);
+                    treeNodes.add(nodeToAdd);
+                    cotreeEdges.remove(edgeToAdd);
+                    cotreeNodes.remove(nodeToAdd);
+                    treeWeight += weightToAdd;
+                } else {
+                    // This should never happen
+                    throw new IllegalStateException("No edge from cotree could be added to the tree");
+                }
             }
+            spanningTreeEdges = treeEdges;
+            spanningTreeWeight = treeWeight;
 
-            if(edgeToAdd != null && nodeToAdd != null) {
-                treeEdges.add(edgeToAdd);
-                treeNodes.add(nodeToAdd);
-                cotreeEdges.remove(edgeToAdd);
-                cotreeNodes.remove(nodeToAdd);
-                treeWeight += weightToAdd;
-            } else {
-                // This should never happen
-                throw new IllegalStateException("No edge from cotree could be added to the tree");
+            if(run != null) {
+                run.completed(treeNodes.size(), edgesScanned, edgesRelaxed);
+            }
+        } catch(RuntimeException e) {
+            if(run != null) {
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null) {
+                run.failed(e);
             }
+            throw e;
         }
-        spanningTreeEdges = treeEdges;
-        spanningTreeWeight = treeWeight;
     }
 
     /**
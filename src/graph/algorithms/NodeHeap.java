@@ -0,0 +1,103 @@
+package graph.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * This class creates a binary min-heap of node indexes ordered by a key of
+ * type long, such as the distance of the node when it was added. A node
+ * can be added several times: the searches using the heap skip the entries
+ * of the nodes that are already settled instead of decreasing their key.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class NodeHeap {
+
+    private int[] nodes = new int[16];
+    private long[] keys = new long[16];
+    private int size;
+
+    /**
+     * @return boolean indicating if the heap is empty.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the entries of the heap.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return the smallest key in the heap. The heap cannot be empty.
+     */
+    long peekKey() {
+        return keys[0];
+    }
+
+    /**
+     * @return the node with the smallest key. The heap cannot be empty.
+     */
+    int peekNode() {
+        return nodes[0];
+    }
+
+    /**
+     * Adds a node to the heap.
+     *
+     * @param node index of the node
+     * @param key by which the node is ordered
+     */
+    void push(int node, long key) {
+        if(size == nodes.length){
+            nodes = Arrays.copyOf(nodes, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int i = size++;
+        while(i > 0){
+            int parent = (i - 1) >>> 1;
+            if(keys[parent] <= key){
+                break;
+            }
+            nodes[i] = nodes[parent];
+            keys[i] = keys[parent];
+            i = parent;
+        }
+        nodes[i] = node;
+        keys[i] = key;
+    }
+
+    /**
+     * Removes the node with the smallest key. The heap cannot be empty.
+     *
+     * @return the index of the node removed.
+     */
+    int pop() {
+        int top = nodes[0];
+        size--;
+        int node = nodes[size];
+        long key = keys[size];
+        int i = 0;
+        while(true){
+            int child = 2 * i + 1;
+            if(child >= size){
+                break;
+            }
+            if(child + 1 < size && keys[child + 1] < keys[child]){
+                child++;
+            }
+            if(keys[child] >= key){
+                break;
+            }
+            nodes[i] = nodes[child];
+            keys[i] = keys[child];
+            i = child;
+        }
+        nodes[i] = node;
+        keys[i] = key;
+        return top;
+    }
+}
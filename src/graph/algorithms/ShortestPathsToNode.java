@@ -8,14 +8,17 @@ import java.util.Set;
 
 import graph.elements.Graph;
 import graph.elements.Node;
+import graph.elements.WeightFunction;
 import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
 
 /**
  * This class can be used to find the shortest path from any node in the 
- * system to the source node provided. It is based of off Dijkstras
+ * system to the source node provided. It is based of off Dijkstra’s
  * Algorithm.
  *
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  */
 public class ShortestPathsToNode<N extends Node, E extends WeightedEdge<N>> {
@@ -31,7 +34,12 @@ public class ShortestPathsToNode<N extends Node, E extends WeightedEdge<N>> {
     private final Set<E> shortestPathsTreeEdges;
 
     /**
-     * Finds all the shortest path to a source node using Dijkstras Algorithm.
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "ShortestPathsToNode";
+
+    /**
+     * Finds all the shortest path to a source node using Dijkstra’s Algorithm.
      *
      * @param graph to run the shortest path problem algorithm on.
      * @param sourceNode node to which all the weights are calculated.
@@ -40,87 +48,131 @@ public class ShortestPathsToNode<N extends Node, E extends WeightedEdge<N>> {
      *         is null, or the source node is not in the graph.
      */
     public ShortestPathsToNode(Graph<N, E> graph, N sourceNode) {
+        this(graph, sourceNode, WeightFunction.EDGE_WEIGHT);
+    }
+
+    /**
+     * Finds all the shortest path to a source node using Dijkstra’s Algorithm,
+     * using the weights given by a weight function instead of the weights
+     * stored in the edges.
+     *
+     * @param graph to run the shortest path problem algorithm on.
+     * @param sourceNode node to which all the weights are calculated.
+     * @param weights function giving the weight of each edge.
+     * 
+     * @throws IllegalArgumentException if the graph is empty, the source node
+     *         is null, the source node is not in the graph, or the weight
+     *         function is null.
+     */
+    public ShortestPathsToNode(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights) {
+        if(weights == null) {
+            throw new IllegalArgumentException("The weight function cannot be null");
+        }
         if(graph.isEmpty()) {
             throw new IllegalArgumentException("The graph cannot be empty");
         }
         if(sourceNode == null) {
             throw new IllegalArgumentException("The source node cannot be null");
         }
+        if(!graph.getAllNodes().contains(sourceNode)) {
+            throw new IllegalArgumentException("The source node must be a node in the graph");
+        }
 
-        Set<E> treeEdges = new LinkedHashSet<E>();
-        Set<N> treeNodes = new LinkedHashSet<N>();
-        Set<E> cotreeEdges = new LinkedHashSet<E>();
-        Set<N> cotreeNodes = new LinkedHashSet<N>();
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            Set<E> treeEdges = new LinkedHashSet<E>();
+            Set<N> treeNodes = new LinkedHashSet<N>();
+            Set<E> cotreeEdges = new LinkedHashSet<E>();
+            Set<N> cotreeNodes = new LinkedHashSet<N>();
         
-        cotreeEdges.addAll(graph.getAllEdges());
-        cotreeNodes.addAll(graph.getAllNodes());
+            cotreeEdges.addAll(graph.getAllEdges());
+            cotreeNodes.addAll(graph.getAllNodes());
         
-        if(!cotreeNodes.contains(sourceNode)) {
-            throw new IllegalArgumentException("The source node must be a node in the graph");
-        }
+            if(run != null) {
+                run.copyCompleted();
+            }
+            long edgesScanned = 0;
+            long edgesRelaxed = 0;
 
-        // Initialize the shortest path weight (SPW) to each variable to the largest value possible
-        Map<N,Long> shortestPathWeight = new HashMap<N,Long>();
-        for(N node : cotreeNodes){
-            shortestPathWeight.put(node, Long.MAX_VALUE);
-        }
+            // Initialize the shortest path weight (SPW) to each variable to the largest value possible
+            Map<N,Long> shortestPathWeight = new HashMap<N,Long>();
+            for(N node : cotreeNodes){
+                shortestPathWeight.put(node, Long.MAX_VALUE);
+            }
         
-        // Set the SPW of the source node to zero and add the source node to the tree
-        shortestPathWeight.put(sourceNode, 0L);
-        treeNodes.add(sourceNode);
-        cotreeNodes.remove(sourceNode);
+            // Set the SPW of the source node to zero and add the source node to the tree
+            shortestPathWeight.put(sourceNode, 0L);
+            treeNodes.add(sourceNode);
+            cotreeNodes.remove(sourceNode);
         
-        while( !cotreeNodes.isEmpty() ){
-            long weightToAdd = Long.MAX_VALUE;
-            E edgeToAdd = null;
-            N nodeToAdd = null;
+            while( !cotreeNodes.isEmpty() ){
+                long weightToAdd = Long.MAX_VALUE;
+                E edgeToAdd = null;
+                N nodeToAdd = null;
 
-            // Find all the potential edges ( edges that connect to one node in the present tree 
-            // (T node) and one node not in the present tree (C node))
-            for(E edge : cotreeEdges) {
+                // Find all the potential edges ( edges that connect to one node in the present tree 
+                // (T node) and one node not in the present tree (C node))
+                for(E edge : cotreeEdges) {
+                    edgesScanned++;
                 
-                // For each of the potential edges, find the SPW of its C node
-                // (C node SPW = Edge Weight + SPW of the edges T node) and add the 
-                // edge with the lowest C node SPW to the tree.
-                N edgeSourceNode = edge.getSourceNode();
-                N edgeTragetNode = edge.getTargetNode();
-                boolean sourceIsInTree = treeNodes.contains(edgeSourceNode);
-                boolean targetIsInTree = treeNodes.contains(edgeTragetNode);
+                    // For each of the potential edges, find the SPW of its C node
+                    // (C node SPW = Edge Weight + SPW of the edge’s T node) and add the 
+                    // edge with the lowest C node SPW to the tree.
+                    N edgeSourceNode = edge.getSourceNode();
+                    N edgeTragetNode = edge.getTargetNode();
+                    boolean sourceIsInTree = treeNodes.contains(edgeSourceNode);
+                    boolean targetIsInTree = treeNodes.contains(edgeTragetNode);
 
-                if( (sourceIsInTree && !targetIsInTree) || (!sourceIsInTree && targetIsInTree)) {      
-                    N treeNode;
-                    N cotreeNode;
-                    if(sourceIsInTree) {
-                        treeNode = edgeSourceNode;
-                        cotreeNode = edgeTragetNode;
-                    } else {
-                        treeNode = edgeTragetNode;
-                        cotreeNode = edgeSourceNode;
-                    }
+                    if( (sourceIsInTree && !targetIsInTree) || (!sourceIsInTree && targetIsInTree)) {      
+                        edgesRelaxed++;
+                        N treeNode;
+                        N cotreeNode;
+                        if(sourceIsInTree) {
+                            treeNode = edgeSourceNode;
+                            cotreeNode = edgeTragetNode;
+                        } else {
+                            treeNode = edgeTragetNode;
+                            cotreeNode = edgeSourceNode;
+                        }
                     
-                    long cotreeNodeWeight = shortestPathWeight.get(treeNode) + edge.getWeight();
-                    if(cotreeNodeWeight <= weightToAdd) {
-                        weightToAdd = cotreeNodeWeight;
-                        edgeToAdd = edge;
-                        nodeToAdd = cotreeNode;
+                        long cotreeNodeWeight = shortestPathWeight.get(treeNode) + weights.weightOf(edge);
+                        if(cotreeNodeWeight <= weightToAdd) {
+                            weightToAdd = cotreeNodeWeight;
+                            edgeToAdd = edge;
+                            nodeToAdd = cotreeNode;
+                        }
                     }
                 }
+        
+                if(edgeToAdd != null && nodeToAdd != null) {
+                    treeEdges.add(edgeToAdd);
+                    treeNodes.add(nodeToAdd);
+                    cotreeEdges.remove(edgeToAdd);
+                    cotreeNodes.remove(nodeToAdd);
+                    shortestPathWeight.put(nodeToAdd, weightToAdd);
+                } else {
+                    // This should never happen
+                    throw new IllegalStateException("No edge from cotree could be added to the tree");
+                }     
             }
         
-            if(edgeToAdd != null && nodeToAdd != null) {
-                treeEdges.add(edgeToAdd);
-                treeNodes.add(nodeToAdd);
-                cotreeEdges.remove(edgeToAdd);
-                cotreeNodes.remove(nodeToAdd);
-                shortestPathWeight.put(nodeToAdd, weightToAdd);
-            } else {
-                // This should never happen
-                throw new IllegalStateException("No edge from cotree could be added to the tree");
-            }     
+            shortestPaths = shortestPathWeight;
+            shortestPathsTreeEdges = treeEdges;
+
+            if(run != null) {
+                run.completed(treeNodes.size(), edgesScanned, edgesRelaxed);
+            }
+        } catch(RuntimeException e) {
+            if(run != null) {
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null) {
+                run.failed(e);
+            }
+            throw e;
         }
-        
-        shortestPaths = shortestPathWeight;
-        shortestPathsTreeEdges = treeEdges;
     }
 
     /**
@@ -0,0 +1,195 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * This class finds the shortest paths from a source node, choosing the
+ * algorithm from the shape of the graph. The nodes are first sorted with
+ * Kahn's algorithm, which takes a single pass over the graph: if the graph
+ * is acyclic, the paths are found in linear time by DagShortestPaths, which
+ * also accepts negative weights. Otherwise, they are found by Dijkstra's
+ * algorithm with LazyShortestPaths, which only settles the nodes needed by
+ * the queries, or by the Bellman-Ford algorithm if a weight is negative.
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the paths are found on the graph as it was at that time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class SingleSourceShortestPaths<N extends Node, E extends WeightedEdge<? extends N>> {
+
+    /**
+     * Paths found in the acyclic graphs, or null if the graph has a cycle
+     */
+    private final DagShortestPaths<N, E> acyclicPaths;
+
+    /**
+     * Paths found in the graphs with a cycle and a negative weight, or null otherwise
+     */
+    private final BellmanFord<N, E> negativePaths;
+
+    /**
+     * Paths found in the graphs with a cycle and no negative weight, or null otherwise
+     */
+    private final LazyShortestPaths<N, E> dijkstraPaths;
+
+    /**
+     * Finds the shortest paths from a source node, following the direction
+     * of the edges and using their weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     *
+     * @throws IllegalArgumentException if the graph is null, if the source
+     *         node is null or not part of the graph, or if the graph has a
+     *         negative cycle.
+     */
+    public SingleSourceShortestPaths(Graph<N, E> graph, N sourceNode) {
+        this(graph, sourceNode, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING);
+    }
+
+    /**
+     * Finds the shortest paths from a source node, following the direction
+     * of the edges and using the specified weights.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null, if
+     *         the source node is null or not part of the graph, or if the
+     *         graph has a negative cycle.
+     */
+    public SingleSourceShortestPaths(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights) {
+        this(graph, sourceNode, weights, TraversalDirection.OUTGOING);
+    }
+
+    /**
+     * Finds the shortest paths from a source node, following the edges in
+     * the specified direction and using the specified weights. Following the
+     * edges in both directions makes every edge a cycle, so the UNDIRECTED
+     * direction always uses Dijkstra's algorithm.
+     *
+     * @param graph in which the paths are found
+     * @param sourceNode from which the paths start
+     * @param weights function giving the weight of each edge
+     * @param direction in which the edges are followed
+     *
+     * @throws IllegalArgumentException if the graph, weights or direction is
+     *         null, if the source node is null or not part of the graph, or
+     *         if the graph has a negative cycle.
+     */
+    public SingleSourceShortestPaths(Graph<N, E> graph, N sourceNode, WeightFunction<? super E> weights, TraversalDirection direction) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(direction == null){
+            throw new IllegalArgumentException("The direction is null");
+        }
+        if(sourceNode == null){
+            throw new IllegalArgumentException("The source node cannot be null");
+        }
+
+        CompactGraph<N, E> compactGraph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+        TopologicalSort<N, E> sort = null;
+        if(direction != TraversalDirection.UNDIRECTED){
+            sort = new TopologicalSort<N, E>(compactGraph, direction, 1);
+        }
+
+        if(sort != null && sort.isAcyclic()){
+            acyclicPaths = new DagShortestPaths<N, E>(compactGraph, sort, sourceNode, weights, direction, false);
+            negativePaths = null;
+            dijkstraPaths = null;
+            return;
+        }
+
+        long[] edgeWeights = BellmanFord.copyWeights(compactGraph, weights);
+        boolean negativeWeights = false;
+        for(long weight : edgeWeights){
+            negativeWeights |= weight < 0;
+        }
+        acyclicPaths = null;
+        if(negativeWeights){
+            negativePaths = new BellmanFord<N, E>(compactGraph, sourceNode, edgeWeights, direction, 1);
+            dijkstraPaths = null;
+            if(negativePaths.hasNegativeCycle()){
+                throw new IllegalArgumentException("The graph has a negative cycle: " + negativePaths.getNegativeCycle());
+            }
+        } else {
+            negativePaths = null;
+            int source = compactGraph.getNodeIndex(sourceNode);
+            if(source < 0){
+                throw new IllegalArgumentException("The source node must be a node in the graph");
+            }
+            dijkstraPaths = new LazyShortestPaths<N, E>(compactGraph, source, edgeWeights, direction);
+        }
+    }
+
+    /**
+     * @return boolean indicating if the graph is acyclic, in which case the
+     *         paths were found in the topological order of the nodes.
+     */
+    public boolean isAcyclic() {
+        return acyclicPaths != null;
+    }
+
+    /**
+     * Returns the shortest path weight between the source node and the target node.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the weight of the shortest path, or Long.MAX_VALUE if the target
+     *         node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     */
+    public long getShortestPathToTarget(N targetNode) {
+        if(acyclicPaths != null){
+            return acyclicPaths.getPathWeight(targetNode);
+        }
+        return negativePaths != null ? negativePaths.getShortestPathToTarget(targetNode) : dijkstraPaths.getShortestPathToTarget(targetNode);
+    }
+
+    /**
+     * Returns the shortest path between the source node and the target node.
+     *
+     * @param targetNode node of the graph
+     *
+     * @return the shortest path, or null if the target node cannot be reached.
+     *
+     * @throws IllegalArgumentException if the target node is not part of the graph.
+     */
+    public WeightedPath<N, E> getShortestPath(N targetNode) {
+        if(acyclicPaths != null){
+            return acyclicPaths.getPath(targetNode);
+        }
+        return negativePaths != null ? negativePaths.getShortestPath(targetNode) : dijkstraPaths.getShortestPath(targetNode);
+    }
+
+    /**
+     * @return a map of the shortest path weight of every node that can be
+     *         reached from the source node.
+     */
+    public Map<N, Long> getShortestPaths() {
+        if(acyclicPaths != null){
+            return acyclicPaths.getPathWeights();
+        }
+        if(negativePaths != null){
+            return negativePaths.getShortestPaths();
+        }
+        return Collections.unmodifiableMap(dijkstraPaths.getNodesWithin(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,377 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * This class sorts the nodes of a directed graph so that every edge goes
+ * from a node to a node that comes after it, using Kahn's algorithm. The
+ * nodes are sorted in levels: the first level contains the nodes without
+ * incoming edges, and each following level contains the nodes whose
+ * incoming edges all come from the previous levels.
+ *
+ * <p>
+ * If the graph contains a cycle, the nodes on the cycle and the nodes that
+ * can only be reached through it cannot be sorted, and the graph is not
+ * acyclic. Finding this out takes a single pass over the edges, so the sort
+ * can be used to check cheaply if a graph is acyclic.
+ * </p>
+ *
+ * <p>
+ * With several threads, the nodes of each large level are split between
+ * the threads, which release their successors in parallel. The nodes of a
+ * level are then in no particular order.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class TopologicalSort<N extends Node, E extends Edge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "TopologicalSort";
+
+    /**
+     * Smallest level whose nodes are split between the threads
+     */
+    private static final int PARALLEL_LEVEL_SIZE = 1024;
+
+    private final CompactGraph<N, E> graph;
+    private final TraversalDirection direction;
+
+    /**
+     * Sorted nodes, level by level. Only the first sortedCount entries are set
+     */
+    private final int[] order;
+    private int sortedCount;
+
+    /**
+     * Position in the order of the first node of each level, followed by sortedCount
+     */
+    private final List<Integer> levelStarts = new ArrayList<Integer>();
+
+    private long edgesScanned;
+
+    /**
+     * Sorts the nodes of a graph along the direction of its edges.
+     *
+     * @param graph whose nodes are sorted
+     *
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public TopologicalSort(Graph<N, E> graph) {
+        this(graph, 1);
+    }
+
+    /**
+     * Sorts the nodes of a graph along the direction of its edges, splitting
+     * the large levels between several threads.
+     *
+     * @param graph whose nodes are sorted
+     * @param threadCount number of threads sorting the nodes, at least 1
+     *
+     * @throws IllegalArgumentException if the graph is null or threadCount
+     *         is smaller than 1.
+     */
+    public TopologicalSort(Graph<N, E> graph, int threadCount) {
+        this(toCompactGraph(graph), TraversalDirection.OUTGOING, threadCount);
+    }
+
+    /**
+     * Sorts the nodes of a compact graph. The edges are followed in the
+     * specified direction: with INCOMING, the order is reversed, and with
+     * UNDIRECTED, only the nodes without edges can be sorted.
+     */
+    TopologicalSort(CompactGraph<N, E> graph, TraversalDirection direction, int threadCount) {
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.graph = graph;
+        this.direction = direction;
+        this.order = new int[graph.getNodeCount()];
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            if(run != null){
+                run.copyCompleted();
+            }
+            if(threadCount == 1){
+                sort();
+            } else {
+                sortInParallel(threadCount);
+            }
+            if(run != null){
+                run.completed(sortedCount, edgesScanned, edgesScanned);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    private static <N extends Node, E extends Edge<? extends N>> CompactGraph<N, E> toCompactGraph(Graph<N, E> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        return graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+    }
+
+    /**
+     * @return boolean indicating if the graph is acyclic, in which case all
+     *         its nodes are sorted.
+     */
+    public boolean isAcyclic() {
+        return sortedCount == order.length;
+    }
+
+    /**
+     * @return the nodes of the graph, sorted so that every edge goes from a
+     *         node to a node that comes after it.
+     *
+     * @throws IllegalStateException if the graph is not acyclic.
+     */
+    public List<N> getSortedNodes() {
+        checkAcyclic();
+        List<N> nodes = new ArrayList<N>(sortedCount);
+        for(int i = 0; i < sortedCount; i++){
+            nodes.add(graph.getNode(order[i]));
+        }
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * @return the levels of the graph. Every node is in the level that
+     *         follows the last level of the nodes that have an edge to it.
+     *
+     * @throws IllegalStateException if the graph is not acyclic.
+     */
+    public List<List<N>> getLevels() {
+        checkAcyclic();
+        List<List<N>> levels = new ArrayList<List<N>>(levelStarts.size());
+        for(int level = 0; level < levelStarts.size(); level++){
+            int end = level + 1 < levelStarts.size() ? levelStarts.get(level + 1) : sortedCount;
+            List<N> nodes = new ArrayList<N>(end - levelStarts.get(level));
+            for(int i = levelStarts.get(level); i < end; i++){
+                nodes.add(graph.getNode(order[i]));
+            }
+            levels.add(Collections.unmodifiableList(nodes));
+        }
+        return Collections.unmodifiableList(levels);
+    }
+
+    /**
+     * @return the nodes that could not be sorted because they are on a cycle
+     *         or can only be reached through one. The list is empty if the graph
+     *         is acyclic.
+     */
+    public List<N> getUnsortedNodes() {
+        boolean[] sorted = new boolean[order.length];
+        for(int i = 0; i < sortedCount; i++){
+            sorted[order[i]] = true;
+        }
+        List<N> nodes = new ArrayList<N>(order.length - sortedCount);
+        for(int node = 0; node < order.length; node++){
+            if(!sorted[node]){
+                nodes.add(graph.getNode(node));
+            }
+        }
+        return Collections.unmodifiableList(nodes);
+    }
+
+    /**
+     * @return the indexes of the sorted nodes in the compact graph, or null
+     *         if the graph is not acyclic.
+     */
+    int[] getOrder() {
+        return isAcyclic() ? order : null;
+    }
+
+    private void checkAcyclic() {
+        if(!isAcyclic()){
+            throw new IllegalStateException("The graph is not acyclic: " + (order.length - sortedCount) + " nodes could not be sorted");
+        }
+    }
+
+    /**
+     * @return the number of edges that lead to each node in the direction of the sort.
+     */
+    private int[] countIncomingEdges() {
+        int[] counts = new int[order.length];
+        for(int node = 0; node < counts.length; node++){
+            if(direction.followsOutgoingEdges()){
+                counts[node] += graph.getInDegree(node);
+            }
+            if(direction.followsIncomingEdges()){
+                counts[node] += graph.getOutDegree(node);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Runs Kahn's algorithm. The order is also the queue of the algorithm:
+     * the nodes are appended to it once all their incoming edges are removed.
+     */
+    private void sort() {
+        int[] remainingEdges = countIncomingEdges();
+        for(int node = 0; node < order.length; node++){
+            if(remainingEdges[node] == 0){
+                order[sortedCount++] = node;
+            }
+        }
+
+        int levelStart = 0;
+        while(levelStart < sortedCount){
+            levelStarts.add(levelStart);
+            int levelEnd = sortedCount;
+            for(int i = levelStart; i < levelEnd; i++){
+                int node = order[i];
+                if(direction.followsOutgoingEdges()){
+                    for(int j = 0; j < graph.getOutDegree(node); j++){
+                        int next = graph.getEdgeTarget(graph.getOutEdge(node, j));
+                        if(--remainingEdges[next] == 0){
+                            order[sortedCount++] = next;
+                        }
+                    }
+                    edgesScanned += graph.getOutDegree(node);
+                }
+                if(direction.followsIncomingEdges()){
+                    for(int j = 0; j < graph.getInDegree(node); j++){
+                        int next = graph.getEdgeSource(graph.getInEdge(node, j));
+                        if(--remainingEdges[next] == 0){
+                            order[sortedCount++] = next;
+                        }
+                    }
+                    edgesScanned += graph.getInDegree(node);
+                }
+            }
+            levelStart = levelEnd;
+        }
+    }
+
+    /**
+     * Runs Kahn's algorithm one level at a time. The nodes of the large
+     * levels are split between the threads, each thread collecting the
+     * successors it released, and the next level is the concatenation of
+     * what the threads collected.
+     */
+    private void sortInParallel(int threadCount) {
+        final AtomicIntegerArray remainingEdges = new AtomicIntegerArray(countIncomingEdges());
+        for(int node = 0; node < order.length; node++){
+            if(remainingEdges.get(node) == 0){
+                order[sortedCount++] = node;
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            int levelStart = 0;
+            while(levelStart < sortedCount){
+                levelStarts.add(levelStart);
+                int levelEnd = sortedCount;
+                int taskCount = Math.min(threadCount, (levelEnd - levelStart + PARALLEL_LEVEL_SIZE - 1) / PARALLEL_LEVEL_SIZE);
+                if(taskCount == 1){
+                    append(releaseSuccessors(remainingEdges, levelStart, levelEnd));
+                } else {
+                    List<Callable<int[]>> tasks = new ArrayList<Callable<int[]>>(taskCount);
+                    for(int t = 0; t < taskCount; t++){
+                        final int from = levelStart + (int) ((long) (levelEnd - levelStart) * t / taskCount);
+                        final int to = levelStart + (int) ((long) (levelEnd - levelStart) * (t + 1) / taskCount);
+                        tasks.add(new Callable<int[]>() {
+                            @Override
+                            public int[] call() {
+                                return releaseSuccessors(remainingEdges, from, to);
+                            }
+                        });
+                    }
+                    for(Future<int[]> result : executor.invokeAll(tasks)){
+                        append(result.get());
+                    }
+                }
+                levelStart = levelEnd;
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The sort was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Appends to the order the nodes released by a task.
+     */
+    private void append(int[] released) {
+        // The first entry is the number of edges scanned, the second the number of nodes released
+        edgesScanned += released[0];
+        System.arraycopy(released, 2, order, sortedCount, released[1]);
+        sortedCount += released[1];
+    }
+
+    /**
+     * Removes the edges leaving the nodes of the order between from and to.
+     *
+     * @return the number of edges scanned, the number of nodes released and
+     *         the nodes released, which have no incoming edges left.
+     */
+    private int[] releaseSuccessors(AtomicIntegerArray remainingEdges, int from, int to) {
+        int[] released = new int[16];
+        int count = 2;
+        int scanned = 0;
+        for(int i = from; i < to; i++){
+            int node = order[i];
+            int outDegree = direction.followsOutgoingEdges() ? graph.getOutDegree(node) : 0;
+            int inDegree = direction.followsIncomingEdges() ? graph.getInDegree(node) : 0;
+            for(int j = 0; j < outDegree + inDegree; j++){
+                int next = j < outDegree ? graph.getEdgeTarget(graph.getOutEdge(node, j))
+                                         : graph.getEdgeSource(graph.getInEdge(node, j - outDegree));
+                if(remainingEdges.decrementAndGet(next) == 0){
+                    if(count == released.length){
+                        released = Arrays.copyOf(released, count * 2);
+                    }
+                    released[count++] = next;
+                }
+            }
+            scanned += outDegree + inDegree;
+        }
+        released[0] = scanned;
+        released[1] = count - 2;
+        return released;
+    }
+}
@@ -0,0 +1,55 @@
+package graph.algorithms;
+
+/**
+ * This enum specifies which edges a search follows from a node.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public enum TraversalDirection {
+
+    /**
+     * The search follows the edges from their source node to their target node.
+     */
+    OUTGOING,
+
+    /**
+     * The search follows the edges from their target node to their source node.
+     */
+    INCOMING,
+
+    /**
+     * The search follows the edges in both directions, like ShortestPathsToNode.
+     */
+    UNDIRECTED;
+
+    /**
+     * @return the direction that follows the edges the other way. A search
+     *         from a node in the reverse direction finds the paths that end
+     *         at the node.
+     */
+    public TraversalDirection reverse() {
+        switch(this){
+            case OUTGOING:
+                return INCOMING;
+            case INCOMING:
+                return OUTGOING;
+            default:
+                return UNDIRECTED;
+        }
+    }
+
+    /**
+     * @return boolean indicating if the search follows the edges from their source node.
+     */
+    public boolean followsOutgoingEdges() {
+        return this != INCOMING;
+    }
+
+    /**
+     * @return boolean indicating if the search follows the edges from their target node.
+     */
+    public boolean followsIncomingEdges() {
+        return this != OUTGOING;
+    }
+}
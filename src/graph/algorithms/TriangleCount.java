@@ -0,0 +1,408 @@
+package graph.algorithms;
+
+import graph.components.CompactGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class counts the triangles of a graph, globally and per node, and
+ * computes the clustering coefficients derived from them. The direction of
+ * the edges is ignored, as are self-loops and parallel edges: two nodes are
+ * neighbours if at least one edge connects them.
+ *
+ * <p>
+ * Each undirected edge is oriented from the node of lower degree to the node
+ * of higher degree (ties broken by node index), so that no node has more than
+ * O(sqrt(m)) oriented neighbours and every triangle is found exactly once,
+ * from its lowest node. The oriented neighbours of a node are marked in a
+ * direct-address table, and the oriented neighbours of each of them are
+ * looked up in the table.
+ * </p>
+ *
+ * <p>
+ * The nodes can be processed by several threads. The threads take small
+ * blocks of nodes from a shared counter as they finish their previous block,
+ * so that a few nodes of very high degree do not leave the other threads idle.
+ * </p>
+ *
+ * <p>
+ * The graph is copied into a CompactGraph when the object is created, so
+ * the triangles are counted on the graph as it was at that time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class TriangleCount<N extends Node, E extends Edge<? extends N>> {
+
+    /**
+     * Name under which the runs of the algorithm are reported to the AlgorithmMonitor
+     */
+    private static final String ALGORITHM_NAME = "TriangleCount";
+
+    /**
+     * Number of nodes taken by a thread at a time
+     */
+    static final int BLOCK_SIZE = 256;
+
+    private final CompactGraph<N, E> graph;
+
+    /**
+     * Number of distinct neighbours of each node, by node index
+     */
+    private final int[] degrees;
+
+    /**
+     * Number of triangles of each node, by node index
+     */
+    private final long[] triangles;
+
+    private final long triangleCount;
+
+    /**
+     * Oriented adjacency in compressed sparse row form: the neighbours of
+     * higher rank of node v are between firstNeighbours[v] and
+     * firstNeighbours[v + 1]
+     */
+    private int[] firstNeighbours;
+    private int[] neighbours;
+
+    /**
+     * Counts the triangles of the graph in a single thread.
+     *
+     * @param graph whose triangles are counted
+     *
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public TriangleCount(Graph<N, E> graph) {
+        this(graph, 1);
+    }
+
+    /**
+     * Counts the triangles of the graph with the specified number of threads.
+     *
+     * @param graph whose triangles are counted
+     * @param threadCount number of threads counting the triangles, at least 1
+     *
+     * @throws IllegalArgumentException if the graph is null or threadCount
+     *         is smaller than 1.
+     */
+    public TriangleCount(Graph<N, E> graph, int threadCount) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+
+        AlgorithmRunEvent run = AlgorithmMonitor.startRun(ALGORITHM_NAME, graph);
+        try {
+            this.graph = graph instanceof CompactGraph ? (CompactGraph<N, E>) graph : new CompactGraph<N, E>(graph);
+            if(run != null){
+                run.copyCompleted();
+            }
+
+            int nodeCount = this.graph.getNodeCount();
+            degrees = new int[nodeCount];
+            triangles = new long[nodeCount];
+            orient();
+
+            final AtomicInteger nextBlock = new AtomicInteger();
+            long count;
+            if(threadCount == 1 || nodeCount <= BLOCK_SIZE){
+                count = countBlocks(nextBlock, triangles);
+            } else {
+                count = countInParallel(nextBlock, threadCount);
+            }
+            triangleCount = count;
+
+            // The oriented adjacency is only needed while counting
+            firstNeighbours = null;
+            neighbours = null;
+
+            if(run != null){
+                run.completed(nodeCount, 2L * this.graph.getEdgeCount(), count);
+            }
+        } catch(RuntimeException e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        } catch(Error e) {
+            if(run != null){
+                run.failed(e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the number of triangles in the graph.
+     */
+    public long getTriangleCount() {
+        return triangleCount;
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the number of triangles the node is part of.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public long getTriangleCount(N node) {
+        return triangles[indexOf(node)];
+    }
+
+    /**
+     * @return a map of the number of triangles each node is part of. The map
+     *         cannot be modified.
+     */
+    public Map<N, Long> getTriangleCounts() {
+        Map<N, Long> counts = new LinkedHashMap<N, Long>();
+        for(int node = 0; node < triangles.length; node++){
+            counts.put(graph.getNode(node), triangles[node]);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the local clustering coefficient of a node: the fraction of the
+     * pairs of its neighbours that are neighbours themselves.
+     *
+     * @param node of the graph
+     *
+     * @return the clustering coefficient of the node, or 0 if it has fewer
+     *         than two neighbours.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public double getClusteringCoefficient(N node) {
+        return clusteringCoefficient(indexOf(node));
+    }
+
+    /**
+     * @return a map of the local clustering coefficient of each node. The map
+     *         cannot be modified.
+     */
+    public Map<N, Double> getClusteringCoefficients() {
+        Map<N, Double> coefficients = new LinkedHashMap<N, Double>();
+        for(int node = 0; node < triangles.length; node++){
+            coefficients.put(graph.getNode(node), clusteringCoefficient(node));
+        }
+        return Collections.unmodifiableMap(coefficients);
+    }
+
+    /**
+     * @return the average of the local clustering coefficients of all the
+     *         nodes, or 0 if the graph is empty. The nodes with fewer than two
+     *         neighbours count as 0.
+     */
+    public double getAverageClusteringCoefficient() {
+        if(triangles.length == 0){
+            return 0;
+        }
+        double sum = 0;
+        for(int node = 0; node < triangles.length; node++){
+            sum += clusteringCoefficient(node);
+        }
+        return sum / triangles.length;
+    }
+
+    /**
+     * @return the global clustering coefficient (transitivity) of the graph:
+     *         three times the number of triangles divided by the number of
+     *         pairs of edges sharing a node, or 0 if there are no such pairs.
+     */
+    public double getGlobalClusteringCoefficient() {
+        double triples = 0;
+        for(int degree : degrees){
+            triples += (double) degree * (degree - 1) / 2;
+        }
+        return triples == 0 ? 0 : 3 * triangleCount / triples;
+    }
+
+    private double clusteringCoefficient(int node) {
+        long degree = degrees[node];
+        return degree < 2 ? 0 : 2.0 * triangles[node] / (degree * (degree - 1));
+    }
+
+    private int indexOf(N node) {
+        int index = node == null ? -1 : graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return index;
+    }
+
+    /**
+     * Builds the distinct undirected neighbours of every node, then keeps only
+     * those of higher rank, a node ranking above another if it has a higher
+     * degree or the same degree and a higher index.
+     */
+    private void orient() {
+        int nodeCount = degrees.length;
+        int edgeCount = graph.getEdgeCount();
+
+        int[] first = new int[nodeCount + 1];
+        for(int edge = 0; edge < edgeCount; edge++){
+            int source = graph.getEdgeSource(edge);
+            int target = graph.getEdgeTarget(edge);
+            if(source != target){
+                first[source + 1]++;
+                first[target + 1]++;
+            }
+        }
+        for(int node = 0; node < nodeCount; node++){
+            first[node + 1] += first[node];
+        }
+        int[] adjacency = new int[first[nodeCount]];
+        int[] next = Arrays.copyOf(first, nodeCount);
+        for(int edge = 0; edge < edgeCount; edge++){
+            int source = graph.getEdgeSource(edge);
+            int target = graph.getEdgeTarget(edge);
+            if(source != target){
+                adjacency[next[source]++] = target;
+                adjacency[next[target]++] = source;
+            }
+        }
+
+        // Remove the parallel edges and count the distinct neighbours
+        for(int node = 0; node < nodeCount; node++){
+            Arrays.sort(adjacency, first[node], first[node + 1]);
+            int distinct = 0;
+            for(int i = first[node]; i < first[node + 1]; i++){
+                if(i == first[node] || adjacency[i] != adjacency[i - 1]){
+                    adjacency[first[node] + distinct++] = adjacency[i];
+                }
+            }
+            degrees[node] = distinct;
+        }
+
+        firstNeighbours = new int[nodeCount + 1];
+        for(int node = 0; node < nodeCount; node++){
+            int oriented = 0;
+            for(int i = first[node]; i < first[node] + degrees[node]; i++){
+                if(ranksAbove(adjacency[i], node)){
+                    oriented++;
+                }
+            }
+            firstNeighbours[node + 1] = firstNeighbours[node] + oriented;
+        }
+        neighbours = new int[firstNeighbours[nodeCount]];
+        for(int node = 0; node < nodeCount; node++){
+            int position = firstNeighbours[node];
+            for(int i = first[node]; i < first[node] + degrees[node]; i++){
+                if(ranksAbove(adjacency[i], node)){
+                    neighbours[position++] = adjacency[i];
+                }
+            }
+        }
+    }
+
+    private boolean ranksAbove(int node, int other) {
+        return degrees[node] > degrees[other] || degrees[node] == degrees[other] && node > other;
+    }
+
+    /**
+     * Counts the triangles of the blocks of nodes taken from the shared
+     * counter until none is left.
+     *
+     * @param nextBlock counter of the next block of nodes to be processed
+     * @param counts array in which the triangles of each node are added
+     *
+     * @return the number of triangles found.
+     */
+    private long countBlocks(AtomicInteger nextBlock, long[] counts) {
+        int nodeCount = degrees.length;
+        int[] marks = new int[nodeCount];
+        Arrays.fill(marks, -1);
+        long total = 0;
+
+        int from;
+        while((from = nextBlock.getAndAdd(BLOCK_SIZE)) < nodeCount){
+            int to = Math.min(nodeCount, from + BLOCK_SIZE);
+            for(int u = from; u < to; u++){
+                int uEnd = firstNeighbours[u + 1];
+                for(int i = firstNeighbours[u]; i < uEnd; i++){
+                    marks[neighbours[i]] = u;
+                }
+                for(int i = firstNeighbours[u]; i < uEnd; i++){
+                    int v = neighbours[i];
+                    int vEnd = firstNeighbours[v + 1];
+                    for(int j = firstNeighbours[v]; j < vEnd; j++){
+                        int w = neighbours[j];
+                        if(marks[w] == u){
+                            counts[u]++;
+                            counts[v]++;
+                            counts[w]++;
+                            total++;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private long countInParallel(final AtomicInteger nextBlock, int threadCount) {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Callable<long[]>> tasks = new ArrayList<Callable<long[]>>(threadCount);
+            for(int t = 0; t < threadCount; t++){
+                tasks.add(new Callable<long[]>() {
+                    @Override
+                    public long[] call() {
+                        // The last entry holds the number of triangles found by the task
+                        long[] counts = new long[degrees.length + 1];
+                        counts[degrees.length] = countBlocks(nextBlock, counts);
+                        return counts;
+                    }
+                });
+            }
+
+            long total = 0;
+            for(Future<long[]> result : executor.invokeAll(tasks)){
+                long[] counts = result.get();
+                for(int node = 0; node < degrees.length; node++){
+                    triangles[node] += counts[node];
+                }
+                total += counts[degrees.length];
+            }
+            return total;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The count was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package graph.algorithms;
+
+import graph.elements.Edge;
+import graph.elements.Node;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class represents a path found by a path finding algorithm. It
+ * contains the nodes visited by the path, from its first node to its last
+ * node, the edges followed between them, and the weight of the path.
+ *
+ * <p>
+ * NOTE: The weight is the one computed by the algorithm when the path was
+ * found. It is not updated if the weights of the edges change afterwards.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the nodes of the path.
+ * @param <E> is the type of the edges of the path.
+ */
+public final class WeightedPath<N extends Node, E extends Edge<? extends N>> {
+
+    private final List<N> nodes;
+    private final List<E> edges;
+    private final long weight;
+
+    /**
+     * @param nodes visited by the path, one more than the edges
+     * @param edges followed by the path
+     * @param weight of the path
+     */
+    WeightedPath(List<N> nodes, List<E> edges, long weight) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.edges = Collections.unmodifiableList(edges);
+        this.weight = weight;
+    }
+
+    /**
+     * @return the nodes visited by the path, in order. The list cannot be modified.
+     */
+    public List<N> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return the edges followed by the path, in order. The list cannot be modified.
+     */
+    public List<E> getEdges() {
+        return edges;
+    }
+
+    /**
+     * @return the first node of the path.
+     */
+    public N getStartNode() {
+        return nodes.get(0);
+    }
+
+    /**
+     * @return the last node of the path.
+     */
+    public N getEndNode() {
+        return nodes.get(nodes.size() - 1);
+    }
+
+    /**
+     * @return the sum of the weights of the path's edges.
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o){
+            return true;
+        }
+        if(!(o instanceof WeightedPath)){
+            return false;
+        }
+        WeightedPath<?, ?> other = (WeightedPath<?, ?>) o;
+        return weight == other.weight && nodes.equals(other.nodes) && edges.equals(other.edges);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * nodes.hashCode() + edges.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Path[Nodes: " + nodes + ", Weight: " + weight + "]";
+    }
+}
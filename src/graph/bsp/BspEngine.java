@@ -0,0 +1,614 @@
+package graph.bsp;
+
+import graph.components.CompactGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class runs vertex programs on a graph in the bulk synchronous
+ * parallel (Pregel) model. The graph is copied into a CompactGraph whose
+ * vertices are split into ranges (partitions); during each superstep, the
+ * partitions are computed in parallel, then the messages they sent are
+ * delivered to the partitions of their targets, also in parallel.
+ *
+ * <p>
+ * The values of the vertices and the messages are stored in primitive
+ * arrays. When the program has a combiner, the messages sent to a vertex
+ * are combined into one while they are delivered. The messages are
+ * delivered in the order of the partitions that sent them, so the result
+ * of a run does not depend on the number of threads.
+ * </p>
+ *
+ * <p>
+ * The edge weights given to the programs are the weights of the weighted
+ * edges, or 1 for the edges that are not weighted, unless a weight function
+ * is specified.
+ * </p>
+ *
+ * <p>
+ * NOTE: An engine can run several programs one after the other, but not at
+ * the same time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public class BspEngine<N extends Node, E extends Edge<? extends N>> {
+
+    /**
+     * Number of partitions scheduled on each thread, so that the threads
+     * that finish early can take over the remaining partitions
+     */
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private final CompactGraph<N, E> graph;
+
+    /**
+     * Weight of each edge of the compact graph
+     */
+    private final long[] edgeWeights;
+
+    private final Map<String, Integer> aggregatorIndexes = new LinkedHashMap<String, Integer>();
+    private final List<Combiner> aggregatorCombiners = new ArrayList<Combiner>();
+    private final List<Long> aggregatorInitialValues = new ArrayList<Long>();
+
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private int maxSupersteps = Integer.MAX_VALUE;
+
+    /**
+     * Creates an engine that runs programs on the graph, using the weights
+     * of the weighted edges, or 1 for the edges that are not weighted.
+     *
+     * @param graph on which the programs are run
+     *
+     * @throws IllegalArgumentException if the graph is null.
+     */
+    public BspEngine(Graph<N, E> graph) {
+        this(graph, new WeightFunction<E>() {
+            @Override
+            public long weightOf(E edge) {
+                return edge instanceof WeightedEdge ? ((WeightedEdge<?>) edge).getWeight() : 1;
+            }
+        });
+    }
+
+    /**
+     * Creates an engine that runs programs on the graph, using the specified
+     * edge weights.
+     *
+     * @param graph on which the programs are run
+     * @param weights function giving the weight of each edge
+     *
+     * @throws IllegalArgumentException if the graph or weights is null.
+     */
+    public BspEngine(Graph<N, E> graph, WeightFunction<? super E> weights) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(weights == null){
+            throw new IllegalArgumentException("The weight function is null");
+        }
+
+        if(graph instanceof CompactGraph){
+            this.graph = (CompactGraph<N, E>) graph;
+        } else {
+            this.graph = new CompactGraph<N, E>(graph);
+        }
+        edgeWeights = new long[this.graph.getEdgeCount()];
+        for(int i = 0; i < edgeWeights.length; i++){
+            edgeWeights[i] = weights.weightOf(this.graph.getEdge(i));
+        }
+    }
+
+    /**
+     * @return the compact graph whose node numbers are used as vertex numbers.
+     */
+    public CompactGraph<N, E> getGraph() {
+        return graph;
+    }
+
+    /**
+     * Sets the number of threads running the supersteps. The default is the
+     * number of available processors.
+     *
+     * @param threadCount is the number of threads, at least 1
+     *
+     * @throws IllegalArgumentException if threadCount is smaller than 1.
+     */
+    public void setThreadCount(int threadCount) {
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Sets the largest number of supersteps of a run. By default, a run only
+     * stops once every vertex has voted to halt and no message is in transit.
+     *
+     * @param maxSupersteps is the largest number of supersteps, at least 1
+     *
+     * @throws IllegalArgumentException if maxSupersteps is smaller than 1.
+     */
+    public void setMaxSupersteps(int maxSupersteps) {
+        if(maxSupersteps < 1){
+            throw new IllegalArgumentException("The maximum number of supersteps must be at least 1");
+        }
+        this.maxSupersteps = maxSupersteps;
+    }
+
+    /**
+     * Registers an aggregator that the vertices can use to combine values
+     * during each superstep. The aggregator starts every superstep at its
+     * initial value.
+     *
+     * @param name of the aggregator
+     * @param combiner used to aggregate the values
+     * @param initialValue of the aggregator, which should not change the
+     *        values it is combined with (0 for a sum, for instance)
+     *
+     * @throws IllegalArgumentException if the name or combiner is null, or if
+     *         an aggregator with the same name is already registered.
+     */
+    public void registerAggregator(String name, Combiner combiner, long initialValue) {
+        if(name == null){
+            throw new IllegalArgumentException("The aggregator name is null");
+        }
+        if(combiner == null){
+            throw new IllegalArgumentException("The combiner is null");
+        }
+        if(aggregatorIndexes.containsKey(name)){
+            throw new IllegalArgumentException("The aggregator is already registered: " + name);
+        }
+
+        aggregatorIndexes.put(name, aggregatorCombiners.size());
+        aggregatorCombiners.add(combiner);
+        aggregatorInitialValues.add(initialValue);
+    }
+
+    /**
+     * Runs a program on every vertex of the graph until every vertex has
+     * voted to halt and no message is in transit, or until the maximum
+     * number of supersteps is reached.
+     *
+     * @param program to be run
+     *
+     * @return the final values of the vertices.
+     *
+     * @throws IllegalArgumentException if the program is null.
+     */
+    public BspResult<N> run(VertexProgram<N> program) {
+        if(program == null){
+            throw new IllegalArgumentException("The program is null");
+        }
+        return new Execution(program).run();
+    }
+
+    private static void invokeAll(ExecutorService executor, List<Callable<Void>> tasks) {
+        if(executor == null){
+            for(Callable<Void> task : tasks){
+                try {
+                    task.call();
+                } catch(RuntimeException e) {
+                    throw e;
+                } catch(Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return;
+        }
+
+        try {
+            for(Future<Void> future : executor.invokeAll(tasks)){
+                future.get();
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The run was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * State of a single run of a program.
+     */
+    private final class Execution {
+        private final VertexProgram<N> program;
+        private final Combiner combiner;
+        private final int vertexCount;
+        private final long[] values;
+        private final boolean[] halted;
+        private final int partitionSize;
+        private final List<Partition> partitions;
+        private final Combiner[] combiners;
+        private final long[] initialAggregatedValues;
+
+        /**
+         * Values aggregated during the previous superstep
+         */
+        private long[] aggregatedValues;
+        private int superstep;
+
+        private Execution(VertexProgram<N> program) {
+            this.program = program;
+            this.combiner = program.getCombiner();
+            this.vertexCount = graph.getNodeCount();
+            this.values = new long[vertexCount];
+            this.halted = new boolean[vertexCount];
+
+            this.combiners = aggregatorCombiners.toArray(new Combiner[aggregatorCombiners.size()]);
+            this.initialAggregatedValues = new long[combiners.length];
+            for(int i = 0; i < combiners.length; i++){
+                initialAggregatedValues[i] = aggregatorInitialValues.get(i);
+            }
+            this.aggregatedValues = initialAggregatedValues.clone();
+
+            int partitionCount = Math.max(1, Math.min(vertexCount, threadCount * PARTITIONS_PER_THREAD));
+            this.partitionSize = Math.max(1, (vertexCount + partitionCount - 1) / partitionCount);
+            partitionCount = Math.max(1, (vertexCount + partitionSize - 1) / partitionSize);
+            this.partitions = new ArrayList<Partition>(partitionCount);
+            for(int p = 0; p < partitionCount; p++){
+                partitions.add(new Partition(p * partitionSize, Math.min(vertexCount, (p + 1) * partitionSize), partitionCount));
+            }
+        }
+
+        private BspResult<N> run() {
+            List<Callable<Void>> computeTasks = new ArrayList<Callable<Void>>();
+            List<Callable<Void>> deliveryTasks = new ArrayList<Callable<Void>>();
+            for(final Partition partition : partitions){
+                computeTasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        partition.compute();
+                        return null;
+                    }
+                });
+                deliveryTasks.add(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        partition.deliver();
+                        return null;
+                    }
+                });
+            }
+
+            int poolSize = Math.min(threadCount, partitions.size());
+            ExecutorService executor = poolSize > 1 ? Executors.newFixedThreadPool(poolSize) : null;
+            try {
+                boolean active = vertexCount > 0;
+                while(active && superstep < maxSupersteps){
+                    invokeAll(executor, computeTasks);
+
+                    long[] newAggregatedValues = initialAggregatedValues.clone();
+                    for(Partition partition : partitions){
+                        for(int i = 0; i < combiners.length; i++){
+                            newAggregatedValues[i] = combiners[i].combine(newAggregatedValues[i], partition.aggregatedValues[i]);
+                        }
+                    }
+                    aggregatedValues = newAggregatedValues;
+
+                    invokeAll(executor, deliveryTasks);
+
+                    active = false;
+                    for(Partition partition : partitions){
+                        active |= partition.isActive();
+                    }
+                    superstep++;
+                }
+            } finally {
+                if(executor != null){
+                    executor.shutdownNow();
+                }
+            }
+
+            Map<String, Long> aggregators = new HashMap<String, Long>();
+            for(Map.Entry<String, Integer> entry : aggregatorIndexes.entrySet()){
+                aggregators.put(entry.getKey(), aggregatedValues[entry.getValue()]);
+            }
+            return new BspResult<N>(graph, values, superstep, aggregators);
+        }
+
+        /**
+         * Range of vertices computed by the same task, with the messages
+         * they received and the messages they sent.
+         */
+        private final class Partition implements Vertex<N> {
+            private final int start;
+            private final int end;
+
+            /**
+             * Messages received by vertex v during the previous superstep, from
+             * inboxMessages[inboxOffsets[v - start]] to
+             * inboxMessages[inboxOffsets[v - start + 1] - 1]
+             */
+            private final int[] inboxOffsets;
+            private long[] inboxMessages = new long[0];
+
+            /**
+             * Messages sent during the current superstep, by partition of their target
+             */
+            private final MessageBuffer[] outboxes;
+
+            /**
+             * Values aggregated by the partition during the current superstep
+             */
+            private final long[] aggregatedValues;
+
+            private final Messages messages = new Messages();
+
+            /**
+             * Vertex on which the program is being run
+             */
+            private int vertex;
+
+            private Partition(int start, int end, int partitionCount) {
+                this.start = start;
+                this.end = end;
+                this.inboxOffsets = new int[end - start + 1];
+                this.outboxes = new MessageBuffer[partitionCount];
+                for(int p = 0; p < partitionCount; p++){
+                    outboxes[p] = new MessageBuffer();
+                }
+                this.aggregatedValues = new long[combiners.length];
+            }
+
+            private void compute() {
+                System.arraycopy(initialAggregatedValues, 0, aggregatedValues, 0, aggregatedValues.length);
+                for(MessageBuffer outbox : outboxes){
+                    outbox.clear();
+                }
+
+                for(int v = start; v < end; v++){
+                    int from = inboxOffsets[v - start];
+                    int to = inboxOffsets[v - start + 1];
+                    if(halted[v] && from == to){
+                        continue;
+                    }
+                    halted[v] = false;
+                    messages.reset(inboxMessages, from, to);
+                    vertex = v;
+                    program.compute(this, messages);
+                }
+            }
+
+            /**
+             * Moves the messages sent to the partition's vertices into its inbox.
+             */
+            private void deliver() {
+                int index = partitionIndex(start);
+                int size = end - start;
+                int[] counts = inboxOffsets;
+                Arrays.fill(counts, 0);
+
+                if(combiner == null){
+                    int total = 0;
+                    for(Partition sender : partitions){
+                        MessageBuffer outbox = sender.outboxes[index];
+                        for(int i = 0; i < outbox.size; i++){
+                            counts[outbox.targets[i] - start + 1]++;
+                        }
+                        total += outbox.size;
+                    }
+                    for(int i = 0; i < size; i++){
+                        counts[i + 1] += counts[i];
+                    }
+                    if(inboxMessages.length < total){
+                        inboxMessages = new long[total];
+                    }
+
+                    // Use the counts as insertion positions, then shift them back into offsets
+                    for(Partition sender : partitions){
+                        MessageBuffer outbox = sender.outboxes[index];
+                        for(int i = 0; i < outbox.size; i++){
+                            inboxMessages[counts[outbox.targets[i] - start]++] = outbox.messages[i];
+                        }
+                    }
+                    System.arraycopy(counts, 0, counts, 1, size);
+                    counts[0] = 0;
+                } else {
+                    if(inboxMessages.length < size){
+                        inboxMessages = new long[size];
+                    }
+                    boolean[] received = new boolean[size];
+                    for(Partition sender : partitions){
+                        MessageBuffer outbox = sender.outboxes[index];
+                        for(int i = 0; i < outbox.size; i++){
+                            int target = outbox.targets[i] - start;
+                            if(received[target]){
+                                inboxMessages[target] = combiner.combine(inboxMessages[target], outbox.messages[i]);
+                            } else {
+                                inboxMessages[target] = outbox.messages[i];
+                                received[target] = true;
+                            }
+                        }
+                    }
+
+                    // Move the combined messages next to each other
+                    int count = 0;
+                    for(int i = 0; i < size; i++){
+                        counts[i] = count;
+                        if(received[i]){
+                            inboxMessages[count++] = inboxMessages[i];
+                        }
+                    }
+                    counts[size] = count;
+                }
+            }
+
+            /**
+             * @return boolean indicating if the partition has a vertex that
+             *         did not halt or that received a message.
+             */
+            private boolean isActive() {
+                if(inboxOffsets[end - start] > 0){
+                    return true;
+                }
+                for(int v = start; v < end; v++){
+                    if(!halted[v]){
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public int getIndex() {
+                return vertex;
+            }
+
+            @Override
+            public N getNode() {
+                return graph.getNode(vertex);
+            }
+
+            @Override
+            public long getValue() {
+                return values[vertex];
+            }
+
+            @Override
+            public void setValue(long value) {
+                values[vertex] = value;
+            }
+
+            @Override
+            public int getSuperstep() {
+                return superstep;
+            }
+
+            @Override
+            public int getVertexCount() {
+                return vertexCount;
+            }
+
+            @Override
+            public int getOutDegree() {
+                return graph.getOutDegree(vertex);
+            }
+
+            @Override
+            public int getOutNeighbour(int i) {
+                return graph.getEdgeTarget(graph.getOutEdge(vertex, i));
+            }
+
+            @Override
+            public long getOutEdgeWeight(int i) {
+                return edgeWeights[graph.getOutEdge(vertex, i)];
+            }
+
+            @Override
+            public int getInDegree() {
+                return graph.getInDegree(vertex);
+            }
+
+            @Override
+            public int getInNeighbour(int i) {
+                return graph.getEdgeSource(graph.getInEdge(vertex, i));
+            }
+
+            @Override
+            public long getInEdgeWeight(int i) {
+                return edgeWeights[graph.getInEdge(vertex, i)];
+            }
+
+            @Override
+            public void sendMessage(int target, long message) {
+                if(target < 0 || target >= vertexCount){
+                    throw new IllegalArgumentException("The vertex does not exist: " + target);
+                }
+                outboxes[partitionIndex(target)].add(target, message);
+            }
+
+            @Override
+            public void sendMessageToOutNeighbours(long message) {
+                int degree = graph.getOutDegree(vertex);
+                for(int i = 0; i < degree; i++){
+                    int target = graph.getEdgeTarget(graph.getOutEdge(vertex, i));
+                    outboxes[partitionIndex(target)].add(target, message);
+                }
+            }
+
+            @Override
+            public void voteToHalt() {
+                halted[vertex] = true;
+            }
+
+            @Override
+            public void aggregate(String aggregator, long value) {
+                int i = aggregatorIndex(aggregator);
+                aggregatedValues[i] = combiners[i].combine(aggregatedValues[i], value);
+            }
+
+            @Override
+            public long getAggregatedValue(String aggregator) {
+                return Execution.this.aggregatedValues[aggregatorIndex(aggregator)];
+            }
+
+            @Override
+            public String toString() {
+                return "Vertex[Index: " + vertex + ", Value: " + values[vertex] + "]";
+            }
+        }
+
+        private int partitionIndex(int vertex) {
+            return vertex / partitionSize;
+        }
+
+        private int aggregatorIndex(String aggregator) {
+            Integer index = aggregatorIndexes.get(aggregator);
+            if(index == null){
+                throw new IllegalArgumentException("Unknown aggregator: " + aggregator);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Growable buffer of messages and of the vertices to which they are sent.
+     */
+    private static final class MessageBuffer {
+        private int[] targets = new int[16];
+        private long[] messages = new long[16];
+        private int size;
+
+        private void add(int target, long message) {
+            if(size == targets.length){
+                targets = Arrays.copyOf(targets, size * 2);
+                messages = Arrays.copyOf(messages, size * 2);
+            }
+            targets[size] = target;
+            messages[size] = message;
+            size++;
+        }
+
+        private void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package graph.bsp;
+
+import graph.components.CompactGraph;
+import graph.elements.Node;
+
+import java.util.Map;
+
+/**
+ * This class contains the result of a run of the BspEngine: the final value
+ * of every vertex, the number of supersteps and the values of the
+ * aggregators after the last superstep.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ */
+public final class BspResult<N extends Node> {
+
+    private final CompactGraph<N, ?> graph;
+    private final long[] values;
+    private final int superstepCount;
+    private final Map<String, Long> aggregatedValues;
+
+    BspResult(CompactGraph<N, ?> graph, long[] values, int superstepCount, Map<String, Long> aggregatedValues) {
+        this.graph = graph;
+        this.values = values;
+        this.superstepCount = superstepCount;
+        this.aggregatedValues = aggregatedValues;
+    }
+
+    /**
+     * @return the compact graph whose node numbers are used by getValue(int).
+     */
+    public CompactGraph<N, ?> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the final value of the node's vertex.
+     *
+     * @throws IllegalArgumentException if the node is not part of the graph.
+     */
+    public long getValue(N node) {
+        int index = graph.getNodeIndex(node);
+        if(index < 0){
+            throw new IllegalArgumentException("The node is not part of the graph: " + node);
+        }
+        return values[index];
+    }
+
+    /**
+     * @param vertex number of the vertex
+     *
+     * @return the final value of the vertex.
+     */
+    public long getValue(int vertex) {
+        return values[vertex];
+    }
+
+    /**
+     * @return the number of supersteps that were run.
+     */
+    public int getSuperstepCount() {
+        return superstepCount;
+    }
+
+    /**
+     * @param aggregator name of the aggregator
+     *
+     * @return the value aggregated during the last superstep.
+     *
+     * @throws IllegalArgumentException if the aggregator was not registered.
+     */
+    public long getAggregatedValue(String aggregator) {
+        Long value = aggregatedValues.get(aggregator);
+        if(value == null){
+            throw new IllegalArgumentException("Unknown aggregator: " + aggregator);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "BspResult[Vertices: " + values.length + ", Supersteps: " + superstepCount + "]";
+    }
+}
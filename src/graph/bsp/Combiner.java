@@ -0,0 +1,66 @@
+package graph.bsp;
+
+/**
+ * This interface specifies an associative and commutative operation that
+ * merges two values into one. It is used to combine the messages sent to a
+ * vertex during a superstep and to aggregate the values of all the vertices.
+ *
+ * <p>
+ * Values that are not integers can be stored in a long, for instance with
+ * Double.doubleToLongBits(), as long as the combiner decodes them the same
+ * way (see DOUBLE_SUM).
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public interface Combiner {
+
+    /**
+     * Combiner that adds the values.
+     */
+    Combiner SUM = new Combiner() {
+        @Override
+        public long combine(long first, long second) {
+            return first + second;
+        }
+    };
+
+    /**
+     * Combiner that keeps the smallest value.
+     */
+    Combiner MIN = new Combiner() {
+        @Override
+        public long combine(long first, long second) {
+            return Math.min(first, second);
+        }
+    };
+
+    /**
+     * Combiner that keeps the largest value.
+     */
+    Combiner MAX = new Combiner() {
+        @Override
+        public long combine(long first, long second) {
+            return Math.max(first, second);
+        }
+    };
+
+    /**
+     * Combiner that adds values encoded with Double.doubleToLongBits().
+     */
+    Combiner DOUBLE_SUM = new Combiner() {
+        @Override
+        public long combine(long first, long second) {
+            return Double.doubleToLongBits(Double.longBitsToDouble(first) + Double.longBitsToDouble(second));
+        }
+    };
+
+    /**
+     * @param first value
+     * @param second value
+     *
+     * @return the combination of the two values.
+     */
+    long combine(long first, long second);
+}
@@ -0,0 +1,77 @@
+package graph.bsp;
+
+import java.util.NoSuchElementException;
+
+/**
+ * This class gives a vertex the messages that were sent to it during the
+ * previous superstep. The messages are read directly from the engine's
+ * message buffers, and are only valid during the call to
+ * VertexProgram.compute() to which they are given.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class Messages {
+
+    private long[] buffer;
+    private int start;
+    private int end;
+    private int next;
+
+    Messages() {
+    }
+
+    void reset(long[] buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+        this.next = start;
+    }
+
+    /**
+     * @return the number of messages.
+     */
+    public int size() {
+        return end - start;
+    }
+
+    /**
+     * @return boolean indicating if there are no messages.
+     */
+    public boolean isEmpty() {
+        return end == start;
+    }
+
+    /**
+     * @param index of the message, between 0 and size() - 1
+     *
+     * @return the message at the index.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    public long get(int index) {
+        if(index < 0 || index >= end - start){
+            throw new IndexOutOfBoundsException("Message " + index + " of " + (end - start));
+        }
+        return buffer[start + index];
+    }
+
+    /**
+     * @return boolean indicating if next() can return another message.
+     */
+    public boolean hasNext() {
+        return next < end;
+    }
+
+    /**
+     * @return the next message.
+     *
+     * @throws NoSuchElementException if all the messages were read.
+     */
+    public long next() {
+        if(next >= end){
+            throw new NoSuchElementException();
+        }
+        return buffer[next++];
+    }
+}
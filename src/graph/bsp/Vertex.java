@@ -0,0 +1,134 @@
+package graph.bsp;
+
+import graph.elements.Node;
+
+/**
+ * This interface gives a VertexProgram access to the vertex on which it is
+ * run. The vertices are numbered like the nodes of the engine's
+ * CompactGraph, and each of them holds a value of type long.
+ *
+ * <p>
+ * The out neighbours of a vertex are the targets of its edges, and its in
+ * neighbours are the sources of the edges that end at it. Programs that
+ * treat the graph as undirected can go through both.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ */
+public interface Vertex<N extends Node> {
+
+    /**
+     * @return the number of the vertex.
+     */
+    int getIndex();
+
+    /**
+     * @return the node of the vertex.
+     */
+    N getNode();
+
+    /**
+     * @return the value of the vertex, which is 0 before it is first set.
+     */
+    long getValue();
+
+    /**
+     * @param value to be assigned to the vertex.
+     */
+    void setValue(long value);
+
+    /**
+     * @return the number of the current superstep, starting at 0.
+     */
+    int getSuperstep();
+
+    /**
+     * @return the number of vertices in the graph.
+     */
+    int getVertexCount();
+
+    /**
+     * @return the number of edges that start at the vertex.
+     */
+    int getOutDegree();
+
+    /**
+     * @param i between 0 and getOutDegree() - 1
+     *
+     * @return the number of the target of the vertex's i-th out edge.
+     */
+    int getOutNeighbour(int i);
+
+    /**
+     * @param i between 0 and getOutDegree() - 1
+     *
+     * @return the weight of the vertex's i-th out edge.
+     */
+    long getOutEdgeWeight(int i);
+
+    /**
+     * @return the number of edges that end at the vertex.
+     */
+    int getInDegree();
+
+    /**
+     * @param i between 0 and getInDegree() - 1
+     *
+     * @return the number of the source of the vertex's i-th in edge.
+     */
+    int getInNeighbour(int i);
+
+    /**
+     * @param i between 0 and getInDegree() - 1
+     *
+     * @return the weight of the vertex's i-th in edge.
+     */
+    long getInEdgeWeight(int i);
+
+    /**
+     * Sends a message that will be delivered to a vertex at the start of
+     * the next superstep.
+     *
+     * @param vertex number of the vertex to which the message is sent
+     * @param message to be sent
+     *
+     * @throws IllegalArgumentException if the vertex does not exist.
+     */
+    void sendMessage(int vertex, long message);
+
+    /**
+     * Sends a message to the targets of all the vertex's out edges.
+     *
+     * @param message to be sent
+     */
+    void sendMessageToOutNeighbours(long message);
+
+    /**
+     * Makes the vertex inactive until it receives a message.
+     */
+    void voteToHalt();
+
+    /**
+     * Adds a value to an aggregator. The value aggregated by all the vertices
+     * during a superstep can be read during the next superstep.
+     *
+     * @param aggregator name of the aggregator
+     * @param value to be aggregated
+     *
+     * @throws IllegalArgumentException if the aggregator was not registered.
+     */
+    void aggregate(String aggregator, long value);
+
+    /**
+     * @param aggregator name of the aggregator
+     *
+     * @return the value aggregated during the previous superstep, or the
+     *         aggregator's initial value during the first superstep.
+     *
+     * @throws IllegalArgumentException if the aggregator was not registered.
+     */
+    long getAggregatedValue(String aggregator);
+}
@@ -0,0 +1,51 @@
+package graph.bsp;
+
+import graph.elements.Node;
+
+/**
+ * This class specifies the program run by the BspEngine on every vertex of a
+ * graph. The engine runs the program in supersteps: during each superstep,
+ * compute() is called once for every active vertex with the messages that
+ * were sent to it during the previous superstep. The messages sent during
+ * a superstep are only delivered at the start of the next one.
+ *
+ * <p>
+ * A vertex becomes inactive when it votes to halt, and is reactivated when
+ * it receives a message. The engine stops once every vertex is inactive and
+ * no message is in transit.
+ * </p>
+ *
+ * <p>
+ * NOTE: compute() is called concurrently for vertices of different
+ * partitions. It must only change the state of the vertex it is given, and
+ * communicate with the other vertices through messages and aggregators.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ */
+public abstract class VertexProgram<N extends Node> {
+
+    /**
+     * Computes the new value of a vertex and sends its messages.
+     *
+     * @param vertex on which the program is run
+     * @param messages sent to the vertex during the previous superstep
+     */
+    public abstract void compute(Vertex<N> vertex, Messages messages);
+
+    /**
+     * Returns the combiner used to merge the messages sent to the same
+     * vertex into a single message. When a program only needs, for instance,
+     * the smallest or the sum of its messages, a combiner reduces the memory
+     * used by the messages to one value per vertex. By default, the messages
+     * are not combined.
+     *
+     * @return the combiner of the messages, or null if the messages are not combined.
+     */
+    public Combiner getCombiner() {
+        return null;
+    }
+}
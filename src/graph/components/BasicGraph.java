@@ -3,10 +3,16 @@ package graph.components;
 import graph.algorithms.AlgorithmUtilities;
 import graph.elements.Edge;
 import graph.elements.Graph;
+import graph.elements.MemoryFootprint;
+import graph.elements.NamedEdge;
 import graph.elements.Node;
 
+import java.util.AbstractSet;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -14,7 +20,14 @@ import java.util.Set;
  * connect to two nodes. Loops are permitted, as well as multiple edges
  * connecting to the same nodes. Unconnected nodes are not permitted
  * 
- * @author Mathieu Lger
+ * <p>
+ * The graph keeps an index of the edges connected to each node, so that the
+ * edges of a node can be found without going through all the graph's edges.
+ * Therefore, the source and target nodes of an edge must not be changed
+ * while the edge is part of the graph.
+ * </p>
+ * 
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the graph's edges will connect.
@@ -24,15 +37,46 @@ import java.util.Set;
  *        N or any of its subclasses.
  */
 public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements Graph<N, E> {
+    /**
+     * Initial capacity of the Sets of the edges connected to a node
+     */
+    private static final int INCIDENT_EDGES_INITIAL_CAPACITY = 4;
+
+    /**
+     * Initial capacity of the graph's collections
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
     /**
      * Ordered Set containing all the graph edges
      */
-    private final Set<E> edges = new LinkedHashSet<E>();
+    private Set<E> edges = new LinkedHashSet<E>();
 
     /**
      * Ordered Set containing all the graph nodes
      */
-    private final Set<N> nodes = new LinkedHashSet<N>();
+    private Set<N> nodes = new LinkedHashSet<N>();
+
+    /**
+     * Ordered Sets of the edges connected to each node of the graph
+     */
+    private Map<N, Set<E>> incidentEdges = new HashMap<N, Set<E>>();
+
+    /**
+     * Initial capacity of the graph's collections, and the largest number of
+     * edges and nodes they held since they were created. Hash based
+     * collections never shrink, so these are used to estimate their size.
+     */
+    private int initialCapacity = DEFAULT_INITIAL_CAPACITY;
+    private int maximumEdgeCount;
+    private int maximumNodeCount;
+    private int maximumIndexedNodeCount;
+
+    /**
+     * Unmodifiable views of the graph's edges and nodes
+     */
+    private final Set<E> edgeView = new EdgeSetView();
+    private final Set<N> nodeView = new NodeSetView();
 
     /**
      * Creates an basic graph.
@@ -43,7 +87,7 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
 
     @Override
     public Set<E> getAllEdges() {
-        return Collections.unmodifiableSet(edges);
+        return edgeView;
     }
     
     /**
@@ -61,14 +105,21 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
             throw new IllegalArgumentException("One or more of the Edges nodes were null");
         }
 
-        Set<E> matchedEdges = new LinkedHashSet<E>();
-        for(E edge : edges){
-            if(edge.getSourceNode().equals(sourceNode) && edge.getTargetNode().equals(targetNode)){
-                matchedEdges.add(edge);
-            }
+        return new LinkedHashSet<E>(edges(sourceNode, targetNode));
+    }
+
+    @Override
+    public Set<E> edges(final N sourceNode, final N targetNode) {
+        if(sourceNode == null || targetNode == null){
+            throw new IllegalArgumentException("One or more of the Edges nodes were null");
         }
 
-        return matchedEdges;
+        return new FilteredEdgeSet<E>(edgesOf(sourceNode)) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getSourceNode().equals(sourceNode) && edge.getTargetNode().equals(targetNode);
+            }
+        };
     }
 
     @Override
@@ -77,14 +128,16 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
             throw new IllegalArgumentException("The node is null");
         }
 
-        Set<E> matchedEdges = new LinkedHashSet<E>();
-        for(E edge : edges){
-            if(edge.getSourceNode().equals(node) || edge.getTargetNode().equals(node)){
-                matchedEdges.add(edge);
-            }
+        return new LinkedHashSet<E>(edgesOf(node));
+    }
+
+    @Override
+    public Set<E> edgesOf(N node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
         }
 
-        return matchedEdges;
+        return new IncidentEdgeSet(node);
     }
 
     @Override
@@ -99,7 +152,16 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
         nodes.add(sourceNode);
         nodes.add(targetNode);
 
-        return edges.add(edge);
+        boolean edgeAdded = edges.add(edge);
+        if(edgeAdded){
+            addToIndex(sourceNode, edge);
+            addToIndex(targetNode, edge);
+        }
+        maximumEdgeCount = Math.max(maximumEdgeCount, edges.size());
+        maximumNodeCount = Math.max(maximumNodeCount, nodes.size());
+        maximumIndexedNodeCount = Math.max(maximumIndexedNodeCount, incidentEdges.size());
+
+        return edgeAdded;
     }
     
     @Override
@@ -124,14 +186,18 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
         boolean sourceDeleteSuccess;
         boolean targetDeleteSuccess;
         edgeDeleteSuccess = edges.remove(edge);
+        if(edgeDeleteSuccess){
+            removeFromIndex(sourceNode, edge);
+            removeFromIndex(targetNode, edge);
+        }
 
-        if(getEdgesOf(sourceNode).isEmpty()){
+        if(!incidentEdges.containsKey(sourceNode)){
             sourceDeleteSuccess = nodes.remove(sourceNode);
         } else {
             sourceDeleteSuccess = true;
         }
 
-        if(getEdgesOf(targetNode).isEmpty()){
+        if(!incidentEdges.containsKey(targetNode)){
             targetDeleteSuccess = nodes.remove(targetNode);
         } else {
             targetDeleteSuccess = true;
@@ -142,7 +208,7 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
 
     @Override
     public Set<N> getAllNodes() {
-        return Collections.unmodifiableSet(nodes);
+        return nodeView;
     }
 
     /**
@@ -160,8 +226,15 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
             throw new IllegalArgumentException("The node is null");
         }
 
-        Set<E> associatedEdges = getEdgesOf(node);
-        boolean edgesRemoved = edges.removeAll(associatedEdges);
+        boolean edgesRemoved = false;
+        Set<E> associatedEdges = incidentEdges.remove(node);
+        if(associatedEdges != null){
+            for(E edge : associatedEdges){
+                edgesRemoved = edges.remove(edge) || edgesRemoved;
+                removeFromIndex(edge.getSourceNode(), edge);
+                removeFromIndex(edge.getTargetNode(), edge);
+            }
+        }
         boolean nodeRemoved = nodes.remove(node);
 
         return edgesRemoved && nodeRemoved;
@@ -172,9 +245,229 @@ public class BasicGraph<N extends Node, E extends Edge<? extends N>> implements
         return edges.isEmpty();
     }
 
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        Map<String, Boolean> countedNames = MemoryEstimator.newNameCounter();
+
+        long nodeBytes = 0;
+        long nameBytes = 0;
+        for(N node : nodes){
+            nodeBytes += MemoryEstimator.nodeBytes(node);
+            nameBytes += MemoryEstimator.distinctNameBytes(node.getName(), countedNames);
+        }
+
+        long edgeBytes = 0;
+        for(E edge : edges){
+            edgeBytes += MemoryEstimator.edgeBytes(edge);
+            nameBytes += MemoryEstimator.distinctNameBytes(MemoryEstimator.edgeName(edge), countedNames);
+        }
+
+        long indexBytes = MemoryEstimator.linkedHashSetBytes(edges.size(),
+                MemoryEstimator.tableCapacity(maximumEdgeCount, initialCapacity));
+        indexBytes += MemoryEstimator.linkedHashSetBytes(nodes.size(),
+                MemoryEstimator.tableCapacity(maximumNodeCount, initialCapacity));
+        indexBytes += MemoryEstimator.hashMapBytes(incidentEdges.size(),
+                MemoryEstimator.tableCapacity(maximumIndexedNodeCount, initialCapacity));
+        for(Set<E> nodeEdges : incidentEdges.values()){
+            indexBytes += MemoryEstimator.linkedHashSetBytes(nodeEdges.size(),
+                    MemoryEstimator.tableCapacity(nodeEdges.size(), INCIDENT_EDGES_INITIAL_CAPACITY));
+        }
+
+        return new MemoryFootprint(nodeBytes, edgeBytes, indexBytes, nameBytes);
+    }
+
+    /**
+     * Reduces the memory retained by the graph without changing its content.
+     * 
+     * <p>
+     * The hash tables of the graph's collections never shrink on their own,
+     * so after many edges or nodes are removed they keep the size they had
+     * when the graph was at its largest. This method rebuilds them with the
+     * capacity needed by their current content, keeping the order of the
+     * edges and nodes. It also makes the nodes and named edges whose names
+     * are equal share the same String instance.
+     * </p>
+     * 
+     * <p>
+     * NOTE: The graph must not be modified while it is being compacted.
+     * Views returned by the graph remain valid.
+     * </p>
+     */
+    public void compact() {
+        int capacity = MemoryEstimator.initialCapacityFor(Math.max(edges.size(), nodes.size()));
+
+        Set<E> compactEdges = new LinkedHashSet<E>(capacity);
+        compactEdges.addAll(edges);
+        Set<N> compactNodes = new LinkedHashSet<N>(capacity);
+        compactNodes.addAll(nodes);
+        Map<N, Set<E>> compactIncidentEdges = new HashMap<N, Set<E>>(capacity);
+        for(Map.Entry<N, Set<E>> entry : incidentEdges.entrySet()){
+            Set<E> nodeEdges = entry.getValue();
+            Set<E> compactNodeEdges = new LinkedHashSet<E>(Math.max(INCIDENT_EDGES_INITIAL_CAPACITY,
+                    MemoryEstimator.initialCapacityFor(nodeEdges.size())));
+            compactNodeEdges.addAll(nodeEdges);
+            compactIncidentEdges.put(entry.getKey(), compactNodeEdges);
+        }
+
+        edges = compactEdges;
+        nodes = compactNodes;
+        incidentEdges = compactIncidentEdges;
+        initialCapacity = capacity;
+        maximumEdgeCount = edges.size();
+        maximumNodeCount = nodes.size();
+        maximumIndexedNodeCount = incidentEdges.size();
+
+        deduplicateNames();
+    }
+
+    /**
+     * Makes the nodes and named edges whose names are equal share the same
+     * String instance.
+     */
+    private void deduplicateNames() {
+        Map<String, String> names = new HashMap<String, String>();
+        for(N node : nodes){
+            String name = node.getName();
+            String sharedName = sharedName(name, names);
+            if(sharedName != name){
+                node.setName(sharedName);
+            }
+        }
+        for(E edge : edges){
+            if(edge instanceof NamedEdge){
+                NamedEdge<?> namedEdge = (NamedEdge<?>) edge;
+                String name = namedEdge.getName();
+                String sharedName = sharedName(name, names);
+                if(sharedName != name){
+                    namedEdge.setName(sharedName);
+                }
+            }
+        }
+    }
+
+    private static String sharedName(String name, Map<String, String> names) {
+        if(name == null){
+            return null;
+        }
+        String sharedName = names.get(name);
+        if(sharedName == null){
+            names.put(name, name);
+            sharedName = name;
+        }
+        return sharedName;
+    }
+
     @Override
     public String toString() {
-        return AlgorithmUtilities.printEdgeSetToString("Graph", edges);
+        return AlgorithmUtilities.printEdgeSetToString("Graph", edges, AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+
+    /**
+     * Adds an edge to the index of the edges connected to a node.
+     * 
+     * @param node to which the edge connects
+     * @param edge to be indexed
+     */
+    private void addToIndex(N node, E edge) {
+        Set<E> nodeEdges = incidentEdges.get(node);
+        if(nodeEdges == null){
+            nodeEdges = new LinkedHashSet<E>(INCIDENT_EDGES_INITIAL_CAPACITY);
+            incidentEdges.put(node, nodeEdges);
+        }
+        nodeEdges.add(edge);
+    }
+
+    /**
+     * Removes an edge from the index of the edges connected to a node. Nodes
+     * that are no longer connected to any edge are removed from the index.
+     * 
+     * @param node to which the edge connects
+     * @param edge to be removed from the index
+     */
+    private void removeFromIndex(N node, E edge) {
+        Set<E> nodeEdges = incidentEdges.get(node);
+        if(nodeEdges != null){
+            nodeEdges.remove(edge);
+            if(nodeEdges.isEmpty()){
+                incidentEdges.remove(node);
+            }
+        }
+    }
+
+    /**
+     * Unmodifiable view of the graph's edges. The view always reads the
+     * current edge set, so that it stays valid when the graph is compacted.
+     */
+    private final class EdgeSetView extends AbstractSet<E> {
+        @Override
+        public Iterator<E> iterator() {
+            return Collections.unmodifiableSet(edges).iterator();
+        }
+
+        @Override
+        public int size() {
+            return edges.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return edges.contains(o);
+        }
+    }
+
+    /**
+     * Unmodifiable view of the graph's nodes. The view always reads the
+     * current node set, so that it stays valid when the graph is compacted.
+     */
+    private final class NodeSetView extends AbstractSet<N> {
+        @Override
+        public Iterator<N> iterator() {
+            return Collections.unmodifiableSet(nodes).iterator();
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return nodes.contains(o);
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges connected to a node. The index is looked
+     * up every time the view is used so that the view stays valid when the
+     * node is removed from the graph and added back to it.
+     */
+    private final class IncidentEdgeSet extends AbstractSet<E> {
+        private final N node;
+
+        private IncidentEdgeSet(N node) {
+            this.node = node;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            Set<E> nodeEdges = incidentEdges.get(node);
+            if(nodeEdges == null){
+                return Collections.<E>emptySet().iterator();
+            }
+            return Collections.unmodifiableSet(nodeEdges).iterator();
+        }
+
+        @Override
+        public int size() {
+            Set<E> nodeEdges = incidentEdges.get(node);
+            return nodeEdges == null ? 0 : nodeEdges.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Set<E> nodeEdges = incidentEdges.get(node);
+            return nodeEdges != null && nodeEdges.contains(o);
+        }
     }
 
 }
@@ -7,7 +7,7 @@ import graph.elements.Node;
  * This class creates a named directed edge that starts at a source node
  * and ends at a target node.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> type of node to which the edge will connect.
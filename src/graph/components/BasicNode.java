@@ -5,7 +5,7 @@ import graph.elements.Node;
 /**
  * This class creates a basic node that edges in a graph can connect to.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  */
 public class BasicNode implements Node {
@@ -13,7 +13,7 @@ import java.util.Set;
  * connect to two nodes. Loops are permitted, as well as multiple edges
  * connecting to the same nodes. Unconnected nodes are not permitted
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the graph's edges will connect.
@@ -34,38 +34,47 @@ public class BasicWeightedGraph<N extends Node, E extends WeightedEdge<? extends
 
     @Override
     public Set<E> getEdgesWithWeight(long weight) {
-
-        Set<E> matchedEdges = new LinkedHashSet<E>();
-        for(E edge : getAllEdges()){
-            if(edge.getWeight() == weight) {
-                matchedEdges.add(edge);
-            }
-        }
-        return matchedEdges;
+        return new LinkedHashSet<E>(edgesWithWeight(weight));
     }
 
     @Override
     public Set<E> getEdgesWithWeightAbove(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightAbove(weight));
+    }
 
-        Set<E> matchedEdges = new LinkedHashSet<E>();
-        for(E edge : getAllEdges()){
-            if(edge.getWeight() > weight) {
-                matchedEdges.add(edge);
+    @Override
+    public Set<E> getEdgesWithWeightBelow(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightBelow(weight));
+    }
+
+    @Override
+    public Set<E> edgesWithWeight(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() == weight;
             }
-        }
-        return matchedEdges;
+        };
     }
 
     @Override
-    public Set<E> getEdgesWithWeightBelow(long weight) {
+    public Set<E> edgesWithWeightAbove(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() > weight;
+            }
+        };
+    }
 
-        Set<E> matchedEdges = new LinkedHashSet<E>();
-        for(E edge : getAllEdges()){
-            if(edge.getWeight() < weight) {
-                matchedEdges.add(edge);
+    @Override
+    public Set<E> edgesWithWeightBelow(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() < weight;
             }
-        }
-        return matchedEdges;
+        };
     }
 
     @Override
@@ -77,7 +86,7 @@ public class BasicWeightedGraph<N extends Node, E extends WeightedEdge<? extends
 
     @Override
     public String toString() {
-        return AlgorithmUtilities.printEdgeSetToString("WeightedGraph", getAllEdges());
+        return AlgorithmUtilities.printEdgeSetToString("WeightedGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
     }
 
 }
@@ -0,0 +1,91 @@
+package graph.components;
+
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+/**
+ * This class creates a weighted directed edge that starts at a source node
+ * and ends at a target node, and whose weight can be stored in the weight
+ * column of a ColumnarWeightedGraph.
+ *
+ * <p>
+ * While the edge is part of a ColumnarWeightedGraph, its weight is read from
+ * and written to the graph's weight column. Once it is removed from the graph,
+ * its weight is moved back into the edge. An edge can only be part of one
+ * ColumnarWeightedGraph at a time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> type of node to which the edge will connect.
+ */
+public class ColumnarWeightedEdge<N extends Node> extends BasicEdge<N> implements WeightedEdge<N> {
+
+    /**
+     * Weight of the edge when it is not bound to a column
+     */
+    long weight;
+
+    /**
+     * Column in which the weight is stored, or null if the edge is not
+     * part of a columnar graph
+     */
+    WeightColumn column;
+
+    /**
+     * Slot of the edge's weight in the column
+     */
+    int slot = -1;
+
+    /**
+     * Creates a columnar weighted edge that starts at the source node
+     * and ends (points) at the destination node.
+     *
+     * @param sourceNode is the source node of the edge
+     * @param targetNode is the target node of the edge
+     * @param weight is the weight assigned to the edge
+     *
+     * @throws IllegalArgumentException if sourceNode or targetNode is null.
+     */
+    public ColumnarWeightedEdge(N sourceNode, N targetNode, long weight) {
+        super(sourceNode, targetNode);
+        this.weight = weight;
+    }
+
+    /**
+     * Creates a columnar weighted edge with a default weight specified
+     * by the variable WeightedEdge.DEFAULT_EDGE_WEIGHT. The edge
+     * starts at the source node and ends (points) at the destination node.
+     *
+     * @param sourceNode is the source node of the edge
+     * @param targetNode is the target node of the edge
+     *
+     * @throws IllegalArgumentException if sourceNode or targetNode is null.
+     */
+    public ColumnarWeightedEdge(N sourceNode, N targetNode) {
+        this(sourceNode, targetNode, DEFAULT_EDGE_WEIGHT);
+    }
+
+    @Override
+    public long getWeight() {
+        if(column == null) {
+            return weight;
+        }
+        return column.get(slot);
+    }
+
+    @Override
+    public void setWeight(long weight) {
+        if(column == null) {
+            this.weight = weight;
+        } else {
+            column.set(slot, weight);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Edge[Nodes: " + getSourceNode() + " -> " + getTargetNode() + ", Weight: " + getWeight() + "]";
+    }
+}
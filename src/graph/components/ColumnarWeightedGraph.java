@@ -0,0 +1,298 @@
+package graph.components;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This class creates a weighted graph that stores the weights of all its edges
+ * in a single contiguous column instead of in each edge. The edges read and
+ * write their weight through the column for as long as they are part of the
+ * graph, so the values returned by WeightedEdge.getWeight() are unchanged.
+ *
+ * <p>
+ * Storing the weights in a column allows the weight filters, the weight reset
+ * and the bulk weight operations of this class to go through the weights in
+ * tight loops over a primitive array instead of calling each edge.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type ColumnarWeightedEdge or any of its subclasses that connect to
+ *        nodes of type N or any of its subclasses.
+ */
+public class ColumnarWeightedGraph<N extends Node, E extends ColumnarWeightedEdge<? extends N>> extends BasicWeightedGraph<N, E> {
+
+    /**
+     * Column containing the weights of all the graph's edges
+     */
+    private final WeightColumn column = new WeightColumn();
+
+    /**
+     * Creates an empty columnar weighted graph.
+     */
+    public ColumnarWeightedGraph() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if edge is null or is part of another
+     *         columnar weighted graph.
+     */
+    @Override
+    public boolean addEdge(E edge) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+
+        column.bind(edge);
+        return super.addEdge(edge);
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        boolean success = super.removeEdge(edge);
+        if(!getAllEdges().contains(edge)) {
+            column.unbind(edge);
+        }
+        return success;
+    }
+
+    @Override
+    public boolean removeNode(N node) {
+        Set<E> associatedEdges = getEdgesOf(node);
+        boolean success = super.removeNode(node);
+        for(E edge : associatedEdges) {
+            column.unbind(edge);
+        }
+        return success;
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeight(long weight) {
+        return getEdgesWithWeightBetween(weight, weight);
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightAbove(long weight) {
+        if(weight == Long.MAX_VALUE) {
+            return new LinkedHashSet<E>();
+        }
+        return getEdgesWithWeightBetween(weight + 1, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightBelow(long weight) {
+        if(weight == Long.MIN_VALUE) {
+            return new LinkedHashSet<E>();
+        }
+        return getEdgesWithWeightBetween(Long.MIN_VALUE, weight - 1);
+    }
+
+    /**
+     * Returns a set of edges who's weight is within the specified range.
+     *
+     * @param minWeight smallest weight of the range (inclusive)
+     * @param maxWeight largest weight of the range (inclusive)
+     *
+     * @return Set of edges with a weight within the specified range.
+     */
+    @SuppressWarnings("unchecked")
+    public Set<E> getEdgesWithWeightBetween(long minWeight, long maxWeight) {
+        List<ColumnarWeightedEdge<?>> matchedEdges = column.edgesInRange(minWeight, maxWeight);
+
+        Set<E> edgeSet = new LinkedHashSet<E>(matchedEdges.size() * 4 / 3 + 1);
+        for(ColumnarWeightedEdge<?> edge : matchedEdges) {
+            // Only edges of type E are bound to the graph's column
+            edgeSet.add((E) edge);
+        }
+        return edgeSet;
+    }
+
+    @Override
+    public Set<E> edgesWithWeight(long weight) {
+        return new WeightRangeEdgeSet(weight, weight);
+    }
+
+    @Override
+    public Set<E> edgesWithWeightAbove(long weight) {
+        if(weight == Long.MAX_VALUE) {
+            return new WeightRangeEdgeSet(Long.MAX_VALUE, Long.MIN_VALUE);
+        }
+        return new WeightRangeEdgeSet(weight + 1, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Set<E> edgesWithWeightBelow(long weight) {
+        if(weight == Long.MIN_VALUE) {
+            return new WeightRangeEdgeSet(Long.MAX_VALUE, Long.MIN_VALUE);
+        }
+        return new WeightRangeEdgeSet(Long.MIN_VALUE, weight - 1);
+    }
+
+    @Override
+    public void resetEdgeWeights() {
+        column.fill(E.DEFAULT_EDGE_WEIGHT);
+    }
+
+    /**
+     * Multiplies the weight of every edge in the graph by the specified factor.
+     *
+     * <p>
+     * NOTE: Like any other long multiplication, the weights silently overflow
+     * if the result does not fit in a long.
+     * </p>
+     *
+     * @param factor by which the edge weights are multiplied
+     */
+    public void scaleEdgeWeights(long factor) {
+        column.scaleAndOffset(factor, 0);
+    }
+
+    /**
+     * Adds the specified offset to the weight of every edge in the graph.
+     *
+     * <p>
+     * NOTE: Like any other long addition, the weights silently overflow
+     * if the result does not fit in a long.
+     * </p>
+     *
+     * @param offset to be added to the edge weights
+     */
+    public void offsetEdgeWeights(long offset) {
+        column.scaleAndOffset(1, offset);
+    }
+
+    /**
+     * @return the smallest edge weight in the graph.
+     *
+     * @throws IllegalStateException if the graph is empty.
+     */
+    public long getMinimumEdgeWeight() {
+        return column.min();
+    }
+
+    /**
+     * @return the largest edge weight in the graph.
+     *
+     * @throws IllegalStateException if the graph is empty.
+     */
+    public long getMaximumEdgeWeight() {
+        return column.max();
+    }
+
+    /**
+     * @return the sum of the weights of all the edges in the graph, or 0 if
+     *         the graph is empty.
+     */
+    public long getTotalEdgeWeight() {
+        return column.sum();
+    }
+
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        MemoryFootprint footprint = super.estimateMemoryFootprint();
+        return new MemoryFootprint(footprint.getNodeBytes(), footprint.getEdgeBytes(),
+                footprint.getIndexBytes() + column.estimateMemoryBytes(), footprint.getNameBytes());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The weight column is also compacted, which releases the slots left
+     * empty by the removed edges.
+     * </p>
+     */
+    @Override
+    public void compact() {
+        column.compact();
+        super.compact();
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("ColumnarWeightedGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+
+    /**
+     * Unmodifiable view of the edges whose weight is within a range. The
+     * weights are read directly from the column while the view is being
+     * iterated.
+     */
+    private final class WeightRangeEdgeSet extends AbstractSet<E> {
+        private final long minWeight;
+        private final long maxWeight;
+
+        private WeightRangeEdgeSet(long minWeight, long maxWeight) {
+            this.minWeight = minWeight;
+            this.maxWeight = maxWeight;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int nextSlot = column.nextSlotInRange(0, minWeight, maxWeight);
+
+                @Override
+                public boolean hasNext() {
+                    return nextSlot >= 0;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E next() {
+                    if(nextSlot < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    // Only edges of type E are bound to the graph's column
+                    E edge = (E) column.edgeAt(nextSlot);
+                    nextSlot = column.nextSlotInRange(nextSlot + 1, minWeight, maxWeight);
+                    return edge;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("The edge view is unmodifiable");
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for(int slot = column.nextSlotInRange(0, minWeight, maxWeight); slot >= 0;
+                    slot = column.nextSlotInRange(slot + 1, minWeight, maxWeight)) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return column.nextSlotInRange(0, minWeight, maxWeight) < 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if(!getAllEdges().contains(o)) {
+                return false;
+            }
+            long weight = ((ColumnarWeightedEdge<?>) o).getWeight();
+            return weight >= minWeight && weight <= maxWeight;
+        }
+    }
+}
@@ -0,0 +1,532 @@
+package graph.components;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This class creates a read-only copy of a graph that is optimized for reads
+ * and uses much less memory than a BasicGraph. It is meant to replace graphs
+ * that are no longer modified.
+ *
+ * <p>
+ * The nodes and edges are numbered in the order in which the copied graph
+ * returned them, and stored in arrays. The edges leaving and entering each
+ * node are stored as ranges of edge numbers in two shared int arrays, instead
+ * of as one hash set per node. The compact graph returns the same nodes and
+ * edges, in the same order, as the graph from which it was created.
+ * </p>
+ *
+ * <p>
+ * The nodes and edges can also be accessed by their number, which allows
+ * algorithms to keep their state in arrays instead of maps.
+ * </p>
+ *
+ * <p>
+ * NOTE: All the methods that modify the graph throw an
+ * UnsupportedOperationException.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type Edge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class CompactGraph<N extends Node, E extends Edge<? extends N>> implements Graph<N, E> {
+
+    private final Object[] nodes;
+    private final Object[] edges;
+
+    /**
+     * Number of the source and target node of each edge
+     */
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+
+    /**
+     * Edges leaving each node: the edges of node n are found in
+     * outEdges[outOffsets[n]] to outEdges[outOffsets[n + 1] - 1], in
+     * ascending order
+     */
+    private final int[] outOffsets;
+    private final int[] outEdges;
+
+    /**
+     * Edges entering each node, stored like the edges leaving each node
+     */
+    private final int[] inOffsets;
+    private final int[] inEdges;
+
+    private final ObjectIndex nodeIndex;
+    private final ObjectIndex edgeIndex;
+
+    private final Set<E> edgeView = new ArrayView<E>(true);
+    private final Set<N> nodeView = new ArrayView<N>(false);
+
+    /**
+     * Creates a compact copy of a graph. The graph must not be modified
+     * while it is being copied.
+     *
+     * @param graph to be copied
+     *
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public CompactGraph(Graph<N, E> graph) {
+        this(nodesOf(graph), graph.getAllEdges().toArray());
+    }
+
+    /**
+     * Creates a compact graph containing the specified edges, without
+     * building a modifiable graph first. The nodes are ordered the way a
+     * BasicGraph would order them if the edges were added to it in the
+     * iteration order of the collection.
+     *
+     * @param edges to be contained in the graph. They must be distinct.
+     *
+     * @throws IllegalArgumentException if edges is null, contains a null
+     *         edge or contains the same edge more than once.
+     */
+    public CompactGraph(Collection<? extends E> edges) {
+        this(nodesOf(edges), edges.toArray());
+    }
+
+    private CompactGraph(Object[] nodes, Object[] edges) {
+        this.nodes = nodes;
+        this.edges = edges;
+        nodeIndex = new ObjectIndex(nodes);
+        edgeIndex = new ObjectIndex(edges);
+
+        int nodeCount = nodes.length;
+        int edgeCount = edges.length;
+        edgeSources = new int[edgeCount];
+        edgeTargets = new int[edgeCount];
+        outOffsets = new int[nodeCount + 1];
+        inOffsets = new int[nodeCount + 1];
+        for(int e = 0; e < edgeCount; e++){
+            Edge<?> edge = (Edge<?>) edges[e];
+            edgeSources[e] = nodeIndex.positionOf(edge.getSourceNode());
+            edgeTargets[e] = nodeIndex.positionOf(edge.getTargetNode());
+            outOffsets[edgeSources[e] + 1]++;
+            inOffsets[edgeTargets[e] + 1]++;
+        }
+        for(int n = 0; n < nodeCount; n++){
+            outOffsets[n + 1] += outOffsets[n];
+            inOffsets[n + 1] += inOffsets[n];
+        }
+
+        outEdges = new int[edgeCount];
+        inEdges = new int[edgeCount];
+        int[] outFill = new int[nodeCount];
+        int[] inFill = new int[nodeCount];
+        for(int e = 0; e < edgeCount; e++){
+            int source = edgeSources[e];
+            int target = edgeTargets[e];
+            outEdges[outOffsets[source] + outFill[source]++] = e;
+            inEdges[inOffsets[target] + inFill[target]++] = e;
+        }
+    }
+
+    private static Object[] nodesOf(Graph<?, ?> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        return graph.getAllNodes().toArray();
+    }
+
+    private static Object[] nodesOf(Collection<? extends Edge<?>> edges) {
+        if(edges == null){
+            throw new IllegalArgumentException("The edge collection is null");
+        }
+
+        Set<Node> nodes = new LinkedHashSet<Node>();
+        for(Edge<?> edge : edges){
+            if(edge == null){
+                throw new IllegalArgumentException("The edge is null");
+            }
+            nodes.add(edge.getSourceNode());
+            nodes.add(edge.getTargetNode());
+        }
+        return nodes.toArray();
+    }
+
+    /**
+     * @return the number of nodes in the graph.
+     */
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    /**
+     * @return the number of edges in the graph.
+     */
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * @param index number of the node, between 0 and getNodeCount() - 1
+     *
+     * @return the node with the specified number.
+     */
+    @SuppressWarnings("unchecked")
+    public N getNode(int index) {
+        // The array only contains nodes of type N
+        return (N) nodes[index];
+    }
+
+    /**
+     * @param index number of the edge, between 0 and getEdgeCount() - 1
+     *
+     * @return the edge with the specified number.
+     */
+    @SuppressWarnings("unchecked")
+    public E getEdge(int index) {
+        // The array only contains edges of type E
+        return (E) edges[index];
+    }
+
+    /**
+     * @param node to be looked up
+     *
+     * @return the number of the node, or -1 if the node is not part of the graph.
+     */
+    public int getNodeIndex(Node node) {
+        return nodeIndex.positionOf(node);
+    }
+
+    /**
+     * @param edge to be looked up
+     *
+     * @return the number of the edge, or -1 if the edge is not part of the graph.
+     */
+    public int getEdgeIndex(Edge<?> edge) {
+        return edgeIndex.positionOf(edge);
+    }
+
+    /**
+     * @param edge number of the edge
+     *
+     * @return the number of the edge's source node.
+     */
+    public int getEdgeSource(int edge) {
+        return edgeSources[edge];
+    }
+
+    /**
+     * @param edge number of the edge
+     *
+     * @return the number of the edge's target node.
+     */
+    public int getEdgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    /**
+     * @param node number of the node
+     *
+     * @return the number of edges leaving the node.
+     */
+    public int getOutDegree(int node) {
+        return outOffsets[node + 1] - outOffsets[node];
+    }
+
+    /**
+     * @param node number of the node
+     * @param i position of the edge among the edges leaving the node,
+     *        between 0 and getOutDegree(node) - 1
+     *
+     * @return the number of the edge.
+     */
+    public int getOutEdge(int node, int i) {
+        return outEdges[outOffsets[node] + i];
+    }
+
+    /**
+     * @param node number of the node
+     *
+     * @return the number of edges entering the node.
+     */
+    public int getInDegree(int node) {
+        return inOffsets[node + 1] - inOffsets[node];
+    }
+
+    /**
+     * @param node number of the node
+     * @param i position of the edge among the edges entering the node,
+     *        between 0 and getInDegree(node) - 1
+     *
+     * @return the number of the edge.
+     */
+    public int getInEdge(int node, int i) {
+        return inEdges[inOffsets[node] + i];
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        return edgeView;
+    }
+
+    @Override
+    public Set<E> getEdges(N sourceNode, N targetNode) {
+        return new LinkedHashSet<E>(edges(sourceNode, targetNode));
+    }
+
+    @Override
+    public Set<E> edges(N sourceNode, N targetNode) {
+        if(sourceNode == null || targetNode == null){
+            throw new IllegalArgumentException("One or more of the Edges nodes were null");
+        }
+
+        final int target = nodeIndex.positionOf(targetNode);
+        return new EdgeRangeView(nodeIndex.positionOf(sourceNode), false) {
+            @Override
+            boolean accept(int edge) {
+                return edgeTargets[edge] == target;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> getEdgesOf(N node) {
+        return new LinkedHashSet<E>(edgesOf(node));
+    }
+
+    @Override
+    public Set<E> edgesOf(N node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
+        }
+
+        return new EdgeRangeView(nodeIndex.positionOf(node), true) {
+            @Override
+            boolean accept(int edge) {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public boolean addEdge(E edge) {
+        throw new UnsupportedOperationException("The compact graph is read-only");
+    }
+
+    @Override
+    public boolean addAllEdges(Set<? extends E> edges) {
+        throw new UnsupportedOperationException("The compact graph is read-only");
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        throw new UnsupportedOperationException("The compact graph is read-only");
+    }
+
+    @Override
+    public Set<N> getAllNodes() {
+        return nodeView;
+    }
+
+    @Override
+    public boolean removeNode(N node) {
+        throw new UnsupportedOperationException("The compact graph is read-only");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return edges.length == 0;
+    }
+
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        Map<String, Boolean> countedNames = MemoryEstimator.newNameCounter();
+
+        long nodeBytes = 0;
+        long nameBytes = 0;
+        for(Object node : nodes){
+            nodeBytes += MemoryEstimator.nodeBytes((Node) node);
+            nameBytes += MemoryEstimator.distinctNameBytes(((Node) node).getName(), countedNames);
+        }
+
+        long edgeBytes = 0;
+        for(Object edge : edges){
+            edgeBytes += MemoryEstimator.edgeBytes((Edge<?>) edge);
+            nameBytes += MemoryEstimator.distinctNameBytes(MemoryEstimator.edgeName((Edge<?>) edge), countedNames);
+        }
+
+        long indexBytes = MemoryEstimator.arrayBytes(nodes.length, MemoryEstimator.REFERENCE_BYTES)
+                          + MemoryEstimator.arrayBytes(edges.length, MemoryEstimator.REFERENCE_BYTES)
+                          + 4 * MemoryEstimator.arrayBytes(edges.length, 4)
+                          + 2 * MemoryEstimator.arrayBytes(nodes.length + 1, 4)
+                          + nodeIndex.estimateMemoryBytes() + edgeIndex.estimateMemoryBytes();
+
+        return new MemoryFootprint(nodeBytes, edgeBytes, indexBytes, nameBytes);
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("CompactGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+
+    /**
+     * Unmodifiable view of the graph's node or edge array.
+     */
+    private final class ArrayView<T> extends AbstractSet<T> {
+        private final boolean edgeArray;
+
+        private ArrayView(boolean edgeArray) {
+            this.edgeArray = edgeArray;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            final Object[] elements = edgeArray ? edges : nodes;
+
+            return new Iterator<T>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < elements.length;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if(next >= elements.length){
+                        throw new NoSuchElementException();
+                    }
+                    // The view's type matches the type of the array's elements
+                    return (T) elements[next++];
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("The compact graph is read-only");
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return edgeArray ? edges.length : nodes.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return (edgeArray ? edgeIndex : nodeIndex).positionOf(o) >= 0;
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges leaving a node, and optionally the edges
+     * entering it, that satisfy a condition. The edges are returned in
+     * ascending order of their number, which is the order in which the copied
+     * graph returned them.
+     */
+    private abstract class EdgeRangeView extends AbstractSet<E> {
+        private final int node;
+        private final boolean includeInEdges;
+
+        private EdgeRangeView(int node, boolean includeInEdges) {
+            this.node = node;
+            this.includeInEdges = includeInEdges;
+        }
+
+        /**
+         * @param edge number of an edge leaving or entering the node
+         *
+         * @return boolean indicating if the edge is part of the view.
+         */
+        abstract boolean accept(int edge);
+
+        @Override
+        public Iterator<E> iterator() {
+            return new Iterator<E>() {
+                private int out = node < 0 ? 0 : outOffsets[node];
+                private final int outEnd = node < 0 ? 0 : outOffsets[node + 1];
+                private int in = node < 0 || !includeInEdges ? 0 : inOffsets[node];
+                private final int inEnd = node < 0 || !includeInEdges ? 0 : inOffsets[node + 1];
+                private int nextEdge = findNext();
+
+                /*
+                 * Merges the two ascending ranges, skipping the loops which
+                 * appear in both of them.
+                 */
+                private int findNext() {
+                    while(out < outEnd || in < inEnd){
+                        int edge;
+                        if(in >= inEnd || (out < outEnd && outEdges[out] < inEdges[in])){
+                            edge = outEdges[out++];
+                        } else if(out >= outEnd || inEdges[in] < outEdges[out]){
+                            edge = inEdges[in++];
+                        } else {
+                            edge = outEdges[out++];
+                            in++;
+                        }
+                        if(accept(edge)){
+                            return edge;
+                        }
+                    }
+                    return -1;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return nextEdge >= 0;
+                }
+
+                @Override
+                public E next() {
+                    if(nextEdge < 0){
+                        throw new NoSuchElementException();
+                    }
+                    E edge = getEdge(nextEdge);
+                    nextEdge = findNext();
+                    return edge;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("The compact graph is read-only");
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for(Iterator<E> iterator = iterator(); iterator.hasNext(); iterator.next()){
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !iterator().hasNext();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            int edge = edgeIndex.positionOf(o);
+            if(edge < 0 || node < 0){
+                return false;
+            }
+            boolean connected = edgeSources[edge] == node || (includeInEdges && edgeTargets[edge] == node);
+            return connected && accept(edge);
+        }
+    }
+}
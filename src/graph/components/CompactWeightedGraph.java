@@ -0,0 +1,115 @@
+package graph.components;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class creates a read-only copy of a weighted graph that is optimized
+ * for reads and uses much less memory than a BasicWeightedGraph. See
+ * CompactGraph for details.
+ *
+ * <p>
+ * The weights are still read from the edges, so they can be changed through
+ * the edges or with resetEdgeWeights() even though the structure of the graph
+ * cannot.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type WeightedEdge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class CompactWeightedGraph<N extends Node, E extends WeightedEdge<? extends N>> extends CompactGraph<N, E> implements WeightedGraph<N, E> {
+
+    /**
+     * Creates a compact copy of a weighted graph. The graph must not be
+     * modified while it is being copied.
+     *
+     * @param graph to be copied
+     *
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public CompactWeightedGraph(WeightedGraph<N, E> graph) {
+        super(graph);
+    }
+
+    /**
+     * Creates a compact weighted graph containing the specified edges,
+     * without building a modifiable graph first.
+     *
+     * @param edges to be contained in the graph. They must be distinct.
+     *
+     * @throws IllegalArgumentException if edges is null, contains a null
+     *         edge or contains the same edge more than once.
+     */
+    public CompactWeightedGraph(Collection<? extends E> edges) {
+        super(edges);
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeight(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeight(weight));
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightAbove(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightAbove(weight));
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightBelow(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightBelow(weight));
+    }
+
+    @Override
+    public Set<E> edgesWithWeight(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() == weight;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> edgesWithWeightAbove(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() > weight;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> edgesWithWeightBelow(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() < weight;
+            }
+        };
+    }
+
+    @Override
+    public void resetEdgeWeights() {
+        for(int e = 0; e < getEdgeCount(); e++){
+            getEdge(e).setWeight(E.DEFAULT_EDGE_WEIGHT);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("CompactWeightedGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+}
@@ -0,0 +1,174 @@
+package graph.components;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+/**
+ * This class stores an alternate weight for each edge of a graph in a
+ * primitive array, without modifying the edges. The weights are stored in
+ * the order in which graph.getAllEdges() returned the edges when the array
+ * was created, and can be accessed by edge or by position.
+ * 
+ * <p>
+ * Each scenario can use its own array with the same graph, so that
+ * algorithms can run on different weights at the same time.
+ * </p>
+ * 
+ * <p>
+ * NOTE: The array contains the edges of the graph at the time it was
+ * created. Edges added to the graph afterwards do not have a weight in
+ * the array.
+ * </p>
+ * 
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <E> is the type of edges to which the array gives a weight.
+ */
+public class EdgeWeightArray<E extends Edge<?>> implements WeightFunction<E> {
+
+    private final Object[] edges;
+    private final ObjectIndex edgeIndex;
+    private final long[] weights;
+
+    /**
+     * Creates an array of the weights of the graph's edges. The weight of
+     * each weighted edge is copied into the array; the other edges are given
+     * the weight WeightedEdge.DEFAULT_EDGE_WEIGHT.
+     * 
+     * @param graph whose edges are given a weight
+     * 
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public EdgeWeightArray(Graph<?, ? extends E> graph) {
+        this(edgesOf(graph), null);
+    }
+
+    /**
+     * Creates an array of weights for the graph's edges that uses the
+     * specified array. The weights are not copied: changes to the array are
+     * reflected in the weights returned by this object.
+     * 
+     * @param graph whose edges are given a weight
+     * @param weights of the edges, in the order in which graph.getAllEdges()
+     *        returns them
+     * 
+     * @throws IllegalArgumentException if graph or weights is null, or if the
+     *         length of weights is not the number of edges of the graph.
+     */
+    public EdgeWeightArray(Graph<?, ? extends E> graph, long[] weights) {
+        this(edgesOf(graph), checkWeights(weights));
+    }
+
+    private EdgeWeightArray(Object[] edges, long[] weights) {
+        if(weights != null && weights.length != edges.length){
+            throw new IllegalArgumentException("The graph has " + edges.length + " edges but " + weights.length + " weights were given");
+        }
+
+        this.edges = edges;
+        this.edgeIndex = new ObjectIndex(edges);
+        if(weights == null){
+            weights = new long[edges.length];
+            for(int i = 0; i < edges.length; i++){
+                if(edges[i] instanceof WeightedEdge){
+                    weights[i] = ((WeightedEdge<?>) edges[i]).getWeight();
+                } else {
+                    weights[i] = WeightedEdge.DEFAULT_EDGE_WEIGHT;
+                }
+            }
+        }
+        this.weights = weights;
+    }
+
+    private static Object[] edgesOf(Graph<?, ?> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        return graph.getAllEdges().toArray();
+    }
+
+    private static long[] checkWeights(long[] weights) {
+        if(weights == null){
+            throw new IllegalArgumentException("The weight array is null");
+        }
+        return weights;
+    }
+
+    /**
+     * @return the number of edges in the array.
+     */
+    public int size() {
+        return edges.length;
+    }
+
+    /**
+     * @param edge to be looked up
+     * 
+     * @return the position of the edge in the array, or -1 if the edge has no weight in the array.
+     */
+    public int indexOf(Edge<?> edge) {
+        return edgeIndex.positionOf(edge);
+    }
+
+    /**
+     * @param index position of the edge, between 0 and size() - 1
+     * 
+     * @return the edge at the specified position.
+     */
+    @SuppressWarnings("unchecked")
+    public E getEdge(int index) {
+        // The array only contains edges of type E
+        return (E) edges[index];
+    }
+
+    /**
+     * @param index position of the edge, between 0 and size() - 1
+     * 
+     * @return the weight of the edge at the specified position.
+     */
+    public long getWeight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Sets the weight of the edge at the specified position.
+     * 
+     * @param index position of the edge, between 0 and size() - 1
+     * @param weight to be given to the edge
+     */
+    public void setWeight(int index, long weight) {
+        weights[index] = weight;
+    }
+
+    /**
+     * Sets the weight of an edge.
+     * 
+     * @param edge whose weight is set
+     * @param weight to be given to the edge
+     * 
+     * @throws IllegalArgumentException if the edge has no weight in the array.
+     */
+    public void setWeight(E edge, long weight) {
+        weights[checkedIndexOf(edge)] = weight;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws IllegalArgumentException if the edge has no weight in the array.
+     */
+    @Override
+    public long weightOf(E edge) {
+        return weights[checkedIndexOf(edge)];
+    }
+
+    private int checkedIndexOf(E edge) {
+        int index = edgeIndex.positionOf(edge);
+        if(index < 0){
+            throw new IllegalArgumentException("The edge has no weight in the array: " + edge);
+        }
+        return index;
+    }
+}
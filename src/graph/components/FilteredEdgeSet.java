@@ -0,0 +1,110 @@
+package graph.components;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This class creates an unmodifiable view of the edges of a backing set that
+ * satisfy a condition. No edges are copied: the condition is evaluated lazily
+ * while the view is being iterated, so that operations such as isEmpty() or
+ * finding a first match stop as soon as a matching edge is found.
+ *
+ * <p>
+ * NOTE: The size() method has to go through the whole backing set every
+ * time it is called.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <E> is the type of edges contained in the view.
+ */
+abstract class FilteredEdgeSet<E> extends AbstractSet<E> {
+
+    /**
+     * Set of edges that is being filtered
+     */
+    private final Set<E> backingSet;
+
+    /**
+     * Creates a view of the edges of the backing set that are accepted
+     * by the accept() method.
+     *
+     * @param backingSet set of edges that is being filtered.
+     */
+    FilteredEdgeSet(Set<E> backingSet) {
+        this.backingSet = backingSet;
+    }
+
+    /**
+     * Determines if an edge of the backing set is part of the view.
+     *
+     * @param edge of the backing set
+     *
+     * @return boolean indicating if the edge is part of the view.
+     */
+    abstract boolean accept(E edge);
+
+    @Override
+    public Iterator<E> iterator() {
+        final Iterator<E> backingIterator = backingSet.iterator();
+
+        return new Iterator<E>() {
+            private E nextEdge;
+            private boolean nextEdgeFound;
+
+            @Override
+            public boolean hasNext() {
+                while(!nextEdgeFound && backingIterator.hasNext()) {
+                    E edge = backingIterator.next();
+                    if(accept(edge)) {
+                        nextEdge = edge;
+                        nextEdgeFound = true;
+                    }
+                }
+                return nextEdgeFound;
+            }
+
+            @Override
+            public E next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                nextEdgeFound = false;
+                E edge = nextEdge;
+                nextEdge = null;
+                return edge;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("The edge view is unmodifiable");
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for(E edge : backingSet) {
+            if(accept(edge)) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean contains(Object o) {
+        // Only objects found in the backing set can be of type E
+        return backingSet.contains(o) && accept((E) o);
+    }
+}
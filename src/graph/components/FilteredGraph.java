@@ -0,0 +1,192 @@
+package graph.components;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.elements.Edge;
+import graph.elements.Filter;
+import graph.elements.Graph;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class creates a read-only view of the part of a graph that satisfies
+ * a node filter and an edge filter. No nodes or edges are copied: the
+ * filters are evaluated every time the view is read, so the view reflects
+ * the changes made to the underlying graph.
+ * 
+ * <p>
+ * An edge is part of the view if it satisfies the edge filter and both its
+ * nodes satisfy the node filter. A node is part of the view if it satisfies
+ * the node filter and at least one of its edges is part of the view, since
+ * graphs cannot contain unconnected nodes.
+ * </p>
+ * 
+ * <p>
+ * The view can be given to any algorithm that takes a Graph. As with the
+ * underlying graph, the size() method of the returned sets has to go through
+ * the whole set.
+ * </p>
+ * 
+ * <p>
+ * NOTE: All the methods that modify the graph throw an
+ * UnsupportedOperationException.
+ * </p>
+ * 
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type Edge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class FilteredGraph<N extends Node, E extends Edge<? extends N>> implements Graph<N, E> {
+
+    private final Graph<N, E> graph;
+    private final Filter<? super N> nodeFilter;
+    private final Filter<? super E> edgeFilter;
+
+    /**
+     * Creates a view of the part of a graph that satisfies the filters.
+     * 
+     * @param graph to be filtered
+     * @param nodeFilter that the nodes must satisfy, or null to accept all the nodes
+     * @param edgeFilter that the edges must satisfy, or null to accept all the edges
+     * 
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public FilteredGraph(Graph<N, E> graph, Filter<? super N> nodeFilter, Filter<? super E> edgeFilter) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        this.graph = graph;
+        this.nodeFilter = nodeFilter;
+        this.edgeFilter = edgeFilter;
+    }
+
+    /**
+     * @return the graph being filtered.
+     */
+    public Graph<N, E> getUnderlyingGraph() {
+        return graph;
+    }
+
+    /**
+     * Determines if a node of the underlying graph satisfies the node filter.
+     * 
+     * @param node of the underlying graph
+     * 
+     * @return boolean indicating if the node satisfies the node filter.
+     */
+    boolean acceptNode(N node) {
+        return nodeFilter == null || nodeFilter.accept(node);
+    }
+
+    /**
+     * Determines if an edge of the underlying graph is part of the view.
+     * 
+     * @param edge of the underlying graph
+     * 
+     * @return boolean indicating if the edge is part of the view.
+     */
+    boolean acceptEdge(E edge) {
+        return (edgeFilter == null || edgeFilter.accept(edge))
+               && acceptNode(edge.getSourceNode()) && acceptNode(edge.getTargetNode());
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        return new FilteredEdgeSet<E>(graph.getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return acceptEdge(edge);
+            }
+        };
+    }
+
+    @Override
+    public Set<E> getEdges(N sourceNode, N targetNode) {
+        return new LinkedHashSet<E>(edges(sourceNode, targetNode));
+    }
+
+    @Override
+    public Set<E> edges(N sourceNode, N targetNode) {
+        return new FilteredEdgeSet<E>(graph.edges(sourceNode, targetNode)) {
+            @Override
+            boolean accept(E edge) {
+                return acceptEdge(edge);
+            }
+        };
+    }
+
+    @Override
+    public Set<E> getEdgesOf(N node) {
+        return new LinkedHashSet<E>(edgesOf(node));
+    }
+
+    @Override
+    public Set<E> edgesOf(N node) {
+        return new FilteredEdgeSet<E>(graph.edgesOf(node)) {
+            @Override
+            boolean accept(E edge) {
+                return acceptEdge(edge);
+            }
+        };
+    }
+
+    @Override
+    public boolean addEdge(E edge) {
+        throw new UnsupportedOperationException("The filtered graph is read-only");
+    }
+
+    @Override
+    public boolean addAllEdges(Set<? extends E> edges) {
+        throw new UnsupportedOperationException("The filtered graph is read-only");
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        throw new UnsupportedOperationException("The filtered graph is read-only");
+    }
+
+    @Override
+    public Set<N> getAllNodes() {
+        return new FilteredEdgeSet<N>(graph.getAllNodes()) {
+            @Override
+            boolean accept(N node) {
+                return acceptNode(node) && !edgesOf(node).isEmpty();
+            }
+        };
+    }
+
+    @Override
+    public boolean removeNode(N node) {
+        throw new UnsupportedOperationException("The filtered graph is read-only");
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return getAllEdges().isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The view does not retain any nodes, edges or names: only the view
+     * itself is counted.
+     * </p>
+     */
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        return new MemoryFootprint(0, 0, MemoryEstimator.align(MemoryEstimator.OBJECT_HEADER_BYTES + 3 * MemoryEstimator.REFERENCE_BYTES), 0);
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("FilteredGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+}
@@ -0,0 +1,120 @@
+package graph.components;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.elements.Filter;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * This class creates a read-only view of the part of a weighted graph that
+ * satisfies a node filter and an edge filter, or whose edge weights are
+ * within a range. See FilteredGraph for details.
+ * 
+ * <p>
+ * NOTE: resetEdgeWeights() throws an UnsupportedOperationException, like all
+ * the methods that modify the graph.
+ * </p>
+ * 
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type WeightedEdge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class FilteredWeightedGraph<N extends Node, E extends WeightedEdge<? extends N>> extends FilteredGraph<N, E> implements WeightedGraph<N, E> {
+
+    /**
+     * Creates a view of the part of a weighted graph that satisfies the filters.
+     * 
+     * @param graph to be filtered
+     * @param nodeFilter that the nodes must satisfy, or null to accept all the nodes
+     * @param edgeFilter that the edges must satisfy, or null to accept all the edges
+     * 
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public FilteredWeightedGraph(WeightedGraph<N, E> graph, Filter<? super N> nodeFilter, Filter<? super E> edgeFilter) {
+        super(graph, nodeFilter, edgeFilter);
+    }
+
+    /**
+     * Creates a view of the edges of a weighted graph whose weight is within
+     * the specified range.
+     * 
+     * @param graph to be filtered
+     * @param minWeight smallest weight of the range (inclusive)
+     * @param maxWeight largest weight of the range (inclusive)
+     * 
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public FilteredWeightedGraph(WeightedGraph<N, E> graph, final long minWeight, final long maxWeight) {
+        this(graph, null, new Filter<E>() {
+            @Override
+            public boolean accept(E edge) {
+                long weight = edge.getWeight();
+                return weight >= minWeight && weight <= maxWeight;
+            }
+        });
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeight(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeight(weight));
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightAbove(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightAbove(weight));
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightBelow(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightBelow(weight));
+    }
+
+    @Override
+    public Set<E> edgesWithWeight(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() == weight;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> edgesWithWeightAbove(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() > weight;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> edgesWithWeightBelow(final long weight) {
+        return new FilteredEdgeSet<E>(getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getWeight() < weight;
+            }
+        };
+    }
+
+    @Override
+    public void resetEdgeWeights() {
+        throw new UnsupportedOperationException("The filtered graph is read-only");
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("FilteredWeightedGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+}
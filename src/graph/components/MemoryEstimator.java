@@ -0,0 +1,159 @@
+package graph.components;
+
+import graph.elements.Edge;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * This class contains the utility methods used by the graphs to estimate the
+ * memory used by their nodes, edges and collections. The estimates assume a
+ * 64-bit JVM using compressed object references: objects have a 12 byte header,
+ * references take 4 bytes, and objects are aligned on 8 bytes.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class MemoryEstimator {
+
+    static final int OBJECT_HEADER_BYTES = 12;
+    static final int ARRAY_HEADER_BYTES = 16;
+    static final int REFERENCE_BYTES = 4;
+
+    private static final int STRING_BYTES = 24;
+    private static final int HASH_SET_BYTES = 16;
+    private static final int HASH_MAP_BYTES = 48;
+    private static final int LINKED_HASH_MAP_BYTES = 56;
+    private static final int HASH_MAP_ENTRY_BYTES = 32;
+    private static final int LINKED_HASH_MAP_ENTRY_BYTES = 40;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /*
+     * This class contains only static utility methods. Therefore the constructor is private
+     * so that nobody can call it.
+     */
+    private MemoryEstimator() {
+    }
+
+    /**
+     * @return the number of bytes rounded up to the 8 byte object alignment.
+     */
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * @return the memory used by an array of the specified length.
+     */
+    static long arrayBytes(long length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + length * elementBytes);
+    }
+
+    /**
+     * @return the memory used by a string and its characters.
+     */
+    static long stringBytes(String string) {
+        return STRING_BYTES + arrayBytes(string.length(), 2);
+    }
+
+    /**
+     * Returns the capacity of the table of a hash based collection that has
+     * held at most the specified number of elements since it was created.
+     *
+     * @param maximumSize largest number of elements held by the collection
+     * @param initialCapacity capacity of the collection when it was created
+     *
+     * @return the estimated capacity of the collection's table.
+     */
+    static int tableCapacity(int maximumSize, int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1;
+        while(capacity * LOAD_FACTOR < maximumSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * @return the initial capacity to be given to a hash based collection so
+     *         that it can hold the specified number of elements without
+     *         growing its table.
+     */
+    static int initialCapacityFor(int size) {
+        return (int) (size / LOAD_FACTOR) + 1;
+    }
+
+    /**
+     * @return the memory used by a LinkedHashSet, excluding its elements.
+     */
+    static long linkedHashSetBytes(int size, int capacity) {
+        return HASH_SET_BYTES + LINKED_HASH_MAP_BYTES + arrayBytes(capacity, REFERENCE_BYTES)
+               + (long) size * LINKED_HASH_MAP_ENTRY_BYTES;
+    }
+
+    /**
+     * @return the memory used by a HashMap, excluding its keys and values.
+     */
+    static long hashMapBytes(int size, int capacity) {
+        return HASH_MAP_BYTES + arrayBytes(capacity, REFERENCE_BYTES) + (long) size * HASH_MAP_ENTRY_BYTES;
+    }
+
+    /**
+     * @return the memory used by a node object, excluding its name.
+     */
+    static long nodeBytes(Node node) {
+        return align(OBJECT_HEADER_BYTES + REFERENCE_BYTES);
+    }
+
+    /**
+     * @return the memory used by an edge object, excluding its nodes and name.
+     */
+    static long edgeBytes(Edge<?> edge) {
+        long bytes = OBJECT_HEADER_BYTES + 2 * REFERENCE_BYTES;
+        if(edge instanceof WeightedEdge) {
+            bytes += 8;
+        }
+        if(edge instanceof NamedEdge) {
+            bytes += REFERENCE_BYTES;
+        }
+        if(edge instanceof ColumnarWeightedEdge) {
+            bytes += REFERENCE_BYTES + 4;
+        }
+        return align(bytes);
+    }
+
+    /**
+     * Adds the memory used by a name to the total if the same string
+     * instance was not already counted.
+     *
+     * @param name to be counted, may be null
+     * @param countedNames string instances already counted
+     *
+     * @return the memory used by the name if it was not already counted, 0 otherwise.
+     */
+    static long distinctNameBytes(String name, Map<String, Boolean> countedNames) {
+        if(name == null || countedNames.put(name, Boolean.TRUE) != null) {
+            return 0;
+        }
+        return stringBytes(name);
+    }
+
+    /**
+     * @return a map in which the counted names are kept by identity.
+     */
+    static Map<String, Boolean> newNameCounter() {
+        return new IdentityHashMap<String, Boolean>();
+    }
+
+    /**
+     * @return the name of a named edge, or null if the edge is not named.
+     */
+    static String edgeName(Edge<?> edge) {
+        if(edge instanceof NamedEdge) {
+            return ((NamedEdge<?>) edge).getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,82 @@
+package graph.components;
+
+/**
+ * This class maps a fixed set of objects to their position in an array,
+ * using a single open addressing table instead of one entry object per
+ * mapping. Objects are compared with their equals() method.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class ObjectIndex {
+
+    /**
+     * Objects that were indexed, at the slot given by their hash code
+     */
+    private final Object[] keys;
+
+    /**
+     * Position of the object found in the same slot of the keys
+     */
+    private final int[] positions;
+
+    private final int mask;
+
+    /**
+     * Creates an index of the objects of an array. Each object is mapped
+     * to its position in the array.
+     *
+     * @param objects to be indexed. They must not be null.
+     *
+     * @throws IllegalArgumentException if the same object is found more than once.
+     */
+    ObjectIndex(Object[] objects) {
+        int capacity = Integer.highestOneBit(Math.max(1, objects.length) * 2 - 1) << 1;
+        keys = new Object[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+
+        for(int i = 0; i < objects.length; i++) {
+            int slot = slotOf(objects[i]);
+            while(keys[slot] != null) {
+                if(keys[slot].equals(objects[i])) {
+                    throw new IllegalArgumentException("The same element was found more than once: " + objects[i]);
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = objects[i];
+            positions[slot] = i;
+        }
+    }
+
+    /**
+     * @param object to be looked up, may be null
+     *
+     * @return the position of the object or -1 if it was not indexed.
+     */
+    int positionOf(Object object) {
+        if(object == null) {
+            return -1;
+        }
+        for(int slot = slotOf(object); keys[slot] != null; slot = (slot + 1) & mask) {
+            if(keys[slot].equals(object)) {
+                return positions[slot];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return an estimate of the memory used by the index, in bytes.
+     */
+    long estimateMemoryBytes() {
+        return MemoryEstimator.align(MemoryEstimator.OBJECT_HEADER_BYTES + 2 * MemoryEstimator.REFERENCE_BYTES + 4)
+               + MemoryEstimator.arrayBytes(keys.length, MemoryEstimator.REFERENCE_BYTES)
+               + MemoryEstimator.arrayBytes(positions.length, 4);
+    }
+
+    private int slotOf(Object object) {
+        int hash = object.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
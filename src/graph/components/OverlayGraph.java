@@ -0,0 +1,583 @@
+package graph.components;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * This class creates a weighted graph that sits on top of a base graph and
+ * only records how it differs from it: the edges that were added, the edges
+ * of the base that were removed, and the edges whose weight was changed.
+ * Reads merge the base and the differences, so creating an overlay costs
+ * nothing no matter the size of the base.
+ * 
+ * <p>
+ * The base is never modified until commit() is called, and the edges are
+ * never modified at all: new weights are recorded in the overlay and
+ * returned by weightOf(). Since the overlay is a WeightFunction, it can be
+ * given to the algorithms that take one so that they use its weights.
+ * </p>
+ * 
+ * <p>
+ * Overlays can be nested: the base of an overlay can be another overlay, in
+ * which case committing the inner overlay records its changes in the outer
+ * one.
+ * </p>
+ * 
+ * <p>
+ * NOTE: The base must not be modified while overlays use it, other than by
+ * committing one of them. Several overlays can read the same base at the
+ * same time, but an overlay itself must only be used by one thread at a
+ * time.
+ * </p>
+ * 
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type WeightedEdge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class OverlayGraph<N extends Node, E extends WeightedEdge<? extends N>> implements WeightedGraph<N, E>, WeightFunction<E> {
+
+    private final WeightedGraph<N, E> base;
+
+    /**
+     * Weights of the base's edges: the base itself when it is an overlay,
+     * the weights stored in the edges otherwise
+     */
+    private final WeightFunction<? super E> baseWeights;
+
+    /**
+     * Edges added to the overlay, and index of these edges by node
+     */
+    private final Set<E> addedEdges = new LinkedHashSet<E>();
+    private final Map<N, Set<E>> addedIncidentEdges = new HashMap<N, Set<E>>();
+
+    /**
+     * Edges of the base removed from the overlay
+     */
+    private final Set<E> removedEdges = new LinkedHashSet<E>();
+
+    /**
+     * Weights changed in the overlay
+     */
+    private final Map<E, Long> changedWeights = new HashMap<E, Long>();
+
+    /**
+     * Indicates if resetEdgeWeights() was called since the overlay was
+     * created or committed. The reset applies to the edges of the base; the
+     * edges added before the reset have their default weight recorded in
+     * changedWeights
+     */
+    private boolean weightsReset;
+
+    private final Set<E> edgeView;
+    private final Set<N> nodeView;
+
+    /**
+     * Creates an overlay without any changes on top of a base graph.
+     * 
+     * @param base graph on which the overlay sits
+     * 
+     * @throws IllegalArgumentException if base is null.
+     */
+    @SuppressWarnings("unchecked")
+    public OverlayGraph(WeightedGraph<N, E> base) {
+        if(base == null){
+            throw new IllegalArgumentException("The base graph is null");
+        }
+        this.base = base;
+        if(base instanceof OverlayGraph){
+            // An overlay gives a weight to its own edges, which are of type E
+            baseWeights = (OverlayGraph<N, E>) base;
+        } else {
+            baseWeights = WeightFunction.EDGE_WEIGHT;
+        }
+
+        edgeView = new UnionSet<E>(new FilteredEdgeSet<E>(base.getAllEdges()) {
+            @Override
+            boolean accept(E edge) {
+                return !removedEdges.contains(edge);
+            }
+        }, Collections.unmodifiableSet(addedEdges)) {
+            @Override
+            public int size() {
+                // The removed edges are all part of the base
+                return OverlayGraph.this.base.getAllEdges().size() - removedEdges.size() + addedEdges.size();
+            }
+        };
+        nodeView = new UnionSet<N>(new FilteredEdgeSet<N>(base.getAllNodes()) {
+            @Override
+            boolean accept(N node) {
+                return !edgesOf(node).isEmpty();
+            }
+        }, new FilteredEdgeSet<N>(Collections.unmodifiableSet(addedIncidentEdges.keySet())) {
+            @Override
+            boolean accept(N node) {
+                return !OverlayGraph.this.base.getAllNodes().contains(node);
+            }
+        });
+    }
+
+    /**
+     * @return the graph on which the overlay sits.
+     */
+    public WeightedGraph<N, E> getBase() {
+        return base;
+    }
+
+    /**
+     * @return boolean indicating if the overlay differs from its base.
+     */
+    public boolean hasChanges() {
+        return !addedEdges.isEmpty() || !removedEdges.isEmpty() || !changedWeights.isEmpty() || weightsReset;
+    }
+
+    /**
+     * @return an unmodifiable Set of the edges added to the overlay.
+     */
+    public Set<E> getAddedEdges() {
+        return Collections.unmodifiableSet(addedEdges);
+    }
+
+    /**
+     * @return an unmodifiable Set of the edges of the base removed from the overlay.
+     */
+    public Set<E> getRemovedEdges() {
+        return Collections.unmodifiableSet(removedEdges);
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        return edgeView;
+    }
+
+    @Override
+    public Set<E> getEdges(N sourceNode, N targetNode) {
+        return new LinkedHashSet<E>(edges(sourceNode, targetNode));
+    }
+
+    @Override
+    public Set<E> edges(final N sourceNode, final N targetNode) {
+        if(sourceNode == null || targetNode == null){
+            throw new IllegalArgumentException("One or more of the Edges nodes were null");
+        }
+
+        return new UnionSet<E>(new FilteredEdgeSet<E>(base.edges(sourceNode, targetNode)) {
+            @Override
+            boolean accept(E edge) {
+                return !removedEdges.contains(edge);
+            }
+        }, new FilteredEdgeSet<E>(new AddedIncidentEdgeSet(sourceNode)) {
+            @Override
+            boolean accept(E edge) {
+                return edge.getSourceNode().equals(sourceNode) && edge.getTargetNode().equals(targetNode);
+            }
+        });
+    }
+
+    @Override
+    public Set<E> getEdgesOf(N node) {
+        return new LinkedHashSet<E>(edgesOf(node));
+    }
+
+    @Override
+    public Set<E> edgesOf(N node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
+        }
+
+        return new UnionSet<E>(new FilteredEdgeSet<E>(base.edgesOf(node)) {
+            @Override
+            boolean accept(E edge) {
+                return !removedEdges.contains(edge);
+            }
+        }, new AddedIncidentEdgeSet(node));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Adding back an edge of the base that was removed from the overlay
+     * cancels its removal.
+     * </p>
+     */
+    @Override
+    public boolean addEdge(E edge) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+
+        if(removedEdges.remove(edge)){
+            return true;
+        }
+        if(addedEdges.contains(edge) || base.getAllEdges().contains(edge)){
+            return false;
+        }
+        addedEdges.add(edge);
+        addToIndex(edge.getSourceNode(), edge);
+        addToIndex(edge.getTargetNode(), edge);
+        return true;
+    }
+
+    @Override
+    public boolean addAllEdges(Set<? extends E> edges) {
+        boolean success = true;
+        for(E edge : edges){
+            success = success && addEdge(edge);
+        }
+        return success;
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+
+        boolean edgeRemoved;
+        if(addedEdges.remove(edge)){
+            removeFromIndex(edge.getSourceNode(), edge);
+            removeFromIndex(edge.getTargetNode(), edge);
+            edgeRemoved = true;
+        } else {
+            edgeRemoved = base.getAllEdges().contains(edge) && removedEdges.add(edge);
+        }
+        if(edgeRemoved){
+            changedWeights.remove(edge);
+        }
+        return edgeRemoved;
+    }
+
+    @Override
+    public Set<N> getAllNodes() {
+        return nodeView;
+    }
+
+    @Override
+    public boolean removeNode(N node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
+        }
+
+        boolean edgesRemoved = false;
+        for(E edge : getEdgesOf(node)){
+            edgesRemoved = removeEdge(edge) || edgesRemoved;
+        }
+        return edgesRemoved;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return edgeView.isEmpty();
+    }
+
+    /**
+     * Returns the weight of an edge in the overlay: the weight set with
+     * setEdgeWeight() if there is one, the default weight if the edge was
+     * part of the overlay when its weights were reset, or else the weight of
+     * the edge in the base.
+     * 
+     * @param edge of the overlay
+     * 
+     * @return the weight of the edge in the overlay.
+     */
+    @Override
+    public long weightOf(E edge) {
+        if(!changedWeights.isEmpty()){
+            Long weight = changedWeights.get(edge);
+            if(weight != null){
+                return weight;
+            }
+        }
+        if(weightsReset && !addedEdges.contains(edge)){
+            return E.DEFAULT_EDGE_WEIGHT;
+        }
+        return baseWeights.weightOf(edge);
+    }
+
+    /**
+     * Changes the weight of an edge in the overlay. The edge itself is not
+     * modified until the overlay is committed.
+     * 
+     * @param edge of the overlay
+     * @param weight to be given to the edge
+     * 
+     * @throws IllegalArgumentException if the edge is null or is not part of the overlay.
+     */
+    public void setEdgeWeight(E edge, long weight) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+        if(!edgeView.contains(edge)){
+            throw new IllegalArgumentException("The edge is not part of the graph: " + edge);
+        }
+        changedWeights.put(edge, weight);
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeight(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeight(weight));
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightAbove(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightAbove(weight));
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightBelow(long weight) {
+        return new LinkedHashSet<E>(edgesWithWeightBelow(weight));
+    }
+
+    @Override
+    public Set<E> edgesWithWeight(final long weight) {
+        return new FilteredEdgeSet<E>(edgeView) {
+            @Override
+            boolean accept(E edge) {
+                return weightOf(edge) == weight;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> edgesWithWeightAbove(final long weight) {
+        return new FilteredEdgeSet<E>(edgeView) {
+            @Override
+            boolean accept(E edge) {
+                return weightOf(edge) > weight;
+            }
+        };
+    }
+
+    @Override
+    public Set<E> edgesWithWeightBelow(final long weight) {
+        return new FilteredEdgeSet<E>(edgeView) {
+            @Override
+            boolean accept(E edge) {
+                return weightOf(edge) < weight;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * The edges are not modified until the overlay is committed. Only the
+     * edges of the overlay at the time of the call are reset: the edges
+     * added afterwards keep their weight.
+     * </p>
+     */
+    @Override
+    public void resetEdgeWeights() {
+        changedWeights.clear();
+        for(E edge : addedEdges){
+            changedWeights.put(edge, E.DEFAULT_EDGE_WEIGHT);
+        }
+        weightsReset = true;
+    }
+
+    /**
+     * Applies the changes recorded in the overlay to its base, then clears
+     * them. Only the changes are applied, so the cost of a commit does not
+     * depend on the size of the base. If the base is an overlay, the changes
+     * are recorded in it; otherwise the new weights are set in the edges.
+     */
+    public void commit() {
+        for(E edge : removedEdges){
+            base.removeEdge(edge);
+        }
+        // The reset only applies to the edges of the base, so it is done before the edges are added
+        if(weightsReset){
+            base.resetEdgeWeights();
+        }
+        for(E edge : addedEdges){
+            base.addEdge(edge);
+        }
+        for(Map.Entry<E, Long> entry : changedWeights.entrySet()){
+            if(base instanceof OverlayGraph){
+                @SuppressWarnings("unchecked")
+                OverlayGraph<N, E> baseOverlay = (OverlayGraph<N, E>) base;
+                baseOverlay.setEdgeWeight(entry.getKey(), entry.getValue());
+            } else {
+                entry.getKey().setWeight(entry.getValue());
+            }
+        }
+        rollback();
+    }
+
+    /**
+     * Discards the changes recorded in the overlay, so that it is the same
+     * as its base again.
+     */
+    public void rollback() {
+        addedEdges.clear();
+        addedIncidentEdges.clear();
+        removedEdges.clear();
+        changedWeights.clear();
+        weightsReset = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>
+     * Only the memory used by the changes recorded in the overlay is
+     * counted, not the memory used by its base.
+     * </p>
+     */
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        long edgeBytes = 0;
+        for(E edge : addedEdges){
+            edgeBytes += MemoryEstimator.edgeBytes(edge);
+        }
+
+        int addedCount = addedEdges.size();
+        long indexBytes = MemoryEstimator.linkedHashSetBytes(addedCount, MemoryEstimator.tableCapacity(addedCount, 16))
+                          + MemoryEstimator.hashMapBytes(addedIncidentEdges.size(),
+                                  MemoryEstimator.tableCapacity(addedIncidentEdges.size(), 16))
+                          + MemoryEstimator.linkedHashSetBytes(removedEdges.size(),
+                                  MemoryEstimator.tableCapacity(removedEdges.size(), 16))
+                          + MemoryEstimator.hashMapBytes(changedWeights.size(),
+                                  MemoryEstimator.tableCapacity(changedWeights.size(), 16))
+                          + changedWeights.size() * MemoryEstimator.align(MemoryEstimator.OBJECT_HEADER_BYTES + 8);
+        for(Set<E> nodeEdges : addedIncidentEdges.values()){
+            indexBytes += MemoryEstimator.linkedHashSetBytes(nodeEdges.size(), MemoryEstimator.tableCapacity(nodeEdges.size(), 16));
+        }
+        return new MemoryFootprint(0, edgeBytes, indexBytes, 0);
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("OverlayGraph", edgeView, AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+
+    private void addToIndex(N node, E edge) {
+        Set<E> nodeEdges = addedIncidentEdges.get(node);
+        if(nodeEdges == null){
+            nodeEdges = new LinkedHashSet<E>();
+            addedIncidentEdges.put(node, nodeEdges);
+        }
+        nodeEdges.add(edge);
+    }
+
+    private void removeFromIndex(N node, E edge) {
+        Set<E> nodeEdges = addedIncidentEdges.get(node);
+        if(nodeEdges != null){
+            nodeEdges.remove(edge);
+            if(nodeEdges.isEmpty()){
+                addedIncidentEdges.remove(node);
+            }
+        }
+    }
+
+    /**
+     * Unmodifiable view of the edges added to the overlay that connect to a
+     * node.
+     */
+    private final class AddedIncidentEdgeSet extends AbstractSet<E> {
+        private final N node;
+
+        private AddedIncidentEdgeSet(N node) {
+            this.node = node;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            Set<E> nodeEdges = addedIncidentEdges.get(node);
+            if(nodeEdges == null){
+                return Collections.<E>emptySet().iterator();
+            }
+            return Collections.unmodifiableSet(nodeEdges).iterator();
+        }
+
+        @Override
+        public int size() {
+            Set<E> nodeEdges = addedIncidentEdges.get(node);
+            return nodeEdges == null ? 0 : nodeEdges.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Set<E> nodeEdges = addedIncidentEdges.get(node);
+            return nodeEdges != null && nodeEdges.contains(o);
+        }
+    }
+
+    /**
+     * Unmodifiable view of the union of two disjoint sets.
+     */
+    private static class UnionSet<T> extends AbstractSet<T> {
+        private final List<Set<T>> sets = new ArrayList<Set<T>>(2);
+
+        private UnionSet(Set<T> first, Set<T> second) {
+            sets.add(first);
+            sets.add(second);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int set;
+                private Iterator<T> iterator = sets.get(0).iterator();
+
+                @Override
+                public boolean hasNext() {
+                    while(!iterator.hasNext() && set < sets.size() - 1){
+                        set++;
+                        iterator = sets.get(set).iterator();
+                    }
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if(!hasNext()){
+                        throw new NoSuchElementException();
+                    }
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("The view is unmodifiable");
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return sets.get(0).size() + sets.get(1).size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return sets.get(0).isEmpty() && sets.get(1).isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return sets.get(0).contains(o) || sets.get(1).contains(o);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package graph.components;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class stores the weights of a set of columnar weighted edges in
+ * a single contiguous array. Each edge bound to the column is assigned a
+ * slot in the array, in the order in which the edges were bound.
+ *
+ * <p>
+ * When an edge is unbound, its slot is left empty until the column is
+ * compacted. All the bulk operations compact the column first so that they
+ * can go through the weights in a single tight loop.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class WeightColumn {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Weight of the edge bound to each slot
+     */
+    private long[] weights = new long[INITIAL_CAPACITY];
+
+    /**
+     * Edge bound to each slot, or null if the slot is empty
+     */
+    private ColumnarWeightedEdge<?>[] edges = new ColumnarWeightedEdge<?>[INITIAL_CAPACITY];
+
+    /**
+     * Number of slots used, including the empty ones
+     */
+    private int size;
+
+    /**
+     * Number of empty slots
+     */
+    private int emptySlots;
+
+    /**
+     * Binds an edge to the column. The edge's current weight is moved
+     * into the column.
+     *
+     * @param edge to be bound to the column.
+     *
+     * @throws IllegalArgumentException if the edge is bound to another column.
+     */
+    void bind(ColumnarWeightedEdge<?> edge) {
+        if(edge.column == this) {
+            return;
+        }
+        if(edge.column != null) {
+            throw new IllegalArgumentException("The edge is already part of another columnar graph");
+        }
+
+        if(size == weights.length) {
+            if(emptySlots > 0) {
+                compact();
+            }
+            if(size == weights.length) {
+                int capacity = weights.length * 2;
+                weights = Arrays.copyOf(weights, capacity);
+                edges = Arrays.copyOf(edges, capacity);
+            }
+        }
+
+        weights[size] = edge.weight;
+        edges[size] = edge;
+        edge.column = this;
+        edge.slot = size;
+        size++;
+    }
+
+    /**
+     * Unbinds an edge from the column. The edge's weight is moved back
+     * into the edge.
+     *
+     * @param edge to be unbound from the column.
+     */
+    void unbind(ColumnarWeightedEdge<?> edge) {
+        if(edge.column != this) {
+            return;
+        }
+
+        edge.weight = weights[edge.slot];
+        edges[edge.slot] = null;
+        edge.column = null;
+        edge.slot = -1;
+        emptySlots++;
+    }
+
+    long get(int slot) {
+        return weights[slot];
+    }
+
+    void set(int slot, long weight) {
+        weights[slot] = weight;
+    }
+
+    /**
+     * Moves the bound edges into consecutive slots, in the order in which
+     * they were bound, and releases the memory used by the empty slots.
+     */
+    void compact() {
+        int newSize = 0;
+        for(int i = 0; i < size; i++) {
+            ColumnarWeightedEdge<?> edge = edges[i];
+            if(edge != null) {
+                weights[newSize] = weights[i];
+                edges[newSize] = edge;
+                edge.slot = newSize;
+                newSize++;
+            }
+        }
+        Arrays.fill(edges, newSize, size, null);
+        size = newSize;
+        emptySlots = 0;
+
+        int capacity = Math.max(INITIAL_CAPACITY, size);
+        if(capacity < weights.length / 2) {
+            weights = Arrays.copyOf(weights, capacity);
+            edges = Arrays.copyOf(edges, capacity);
+        }
+    }
+
+    /**
+     * @return an estimate of the memory used by the column, in bytes.
+     */
+    long estimateMemoryBytes() {
+        return MemoryEstimator.align(MemoryEstimator.OBJECT_HEADER_BYTES + 2 * MemoryEstimator.REFERENCE_BYTES + 8)
+               + MemoryEstimator.arrayBytes(weights.length, 8)
+               + MemoryEstimator.arrayBytes(edges.length, MemoryEstimator.REFERENCE_BYTES);
+    }
+
+    /**
+     * @return the number of edges bound to the column.
+     */
+    int edgeCount() {
+        return size - emptySlots;
+    }
+
+    /**
+     * Returns the slot of the next edge whose weight is within the range,
+     * starting at the specified slot.
+     *
+     * @param fromSlot first slot to be checked
+     * @param minWeight smallest weight in the range (inclusive)
+     * @param maxWeight largest weight in the range (inclusive)
+     *
+     * @return the slot of the matching edge or -1 if no edge matches.
+     */
+    int nextSlotInRange(int fromSlot, long minWeight, long maxWeight) {
+        for(int i = fromSlot; i < size; i++) {
+            long weight = weights[i];
+            if(weight >= minWeight && weight <= maxWeight && edges[i] != null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param slot of the edge
+     *
+     * @return the edge bound to the slot, or null if the slot is empty.
+     */
+    ColumnarWeightedEdge<?> edgeAt(int slot) {
+        return edges[slot];
+    }
+
+    /**
+     * Returns the edges whose weight is within the range, in the order in
+     * which they were bound.
+     *
+     * @param minWeight smallest weight in the range (inclusive)
+     * @param maxWeight largest weight in the range (inclusive)
+     *
+     * @return list of the edges within the range.
+     */
+    List<ColumnarWeightedEdge<?>> edgesInRange(long minWeight, long maxWeight) {
+        if(emptySlots > 0) {
+            compact();
+        }
+
+        List<ColumnarWeightedEdge<?>> matchedEdges = new ArrayList<ColumnarWeightedEdge<?>>();
+        long[] w = weights;
+        int n = size;
+        for(int i = 0; i < n; i++) {
+            long weight = w[i];
+            if(weight >= minWeight && weight <= maxWeight) {
+                matchedEdges.add(edges[i]);
+            }
+        }
+        return matchedEdges;
+    }
+
+    /**
+     * Sets the weight of every edge bound to the column.
+     *
+     * @param weight to be assigned to the edges.
+     */
+    void fill(long weight) {
+        Arrays.fill(weights, 0, size, weight);
+    }
+
+    /**
+     * Replaces the weight of every edge by weight * scale + offset.
+     *
+     * @param scale by which the weights are multiplied
+     * @param offset added to the weights after they are scaled
+     */
+    void scaleAndOffset(long scale, long offset) {
+        if(emptySlots > 0) {
+            compact();
+        }
+
+        long[] w = weights;
+        int n = size;
+        for(int i = 0; i < n; i++) {
+            w[i] = w[i] * scale + offset;
+        }
+    }
+
+    /**
+     * @return the smallest weight of the edges bound to the column.
+     *
+     * @throws IllegalStateException if no edges are bound to the column.
+     */
+    long min() {
+        checkNotEmpty();
+
+        long[] w = weights;
+        int n = size;
+        long min = Long.MAX_VALUE;
+        for(int i = 0; i < n; i++) {
+            min = Math.min(min, w[i]);
+        }
+        return min;
+    }
+
+    /**
+     * @return the largest weight of the edges bound to the column.
+     *
+     * @throws IllegalStateException if no edges are bound to the column.
+     */
+    long max() {
+        checkNotEmpty();
+
+        long[] w = weights;
+        int n = size;
+        long max = Long.MIN_VALUE;
+        for(int i = 0; i < n; i++) {
+            max = Math.max(max, w[i]);
+        }
+        return max;
+    }
+
+    /**
+     * @return the sum of the weights of the edges bound to the column.
+     */
+    long sum() {
+        if(emptySlots > 0) {
+            compact();
+        }
+
+        long[] w = weights;
+        int n = size;
+        long sum = 0;
+        for(int i = 0; i < n; i++) {
+            sum += w[i];
+        }
+        return sum;
+    }
+
+    private void checkNotEmpty() {
+        if(emptySlots > 0) {
+            compact();
+        }
+        if(size == 0) {
+            throw new IllegalStateException("The graph does not contain any edges");
+        }
+    }
+}
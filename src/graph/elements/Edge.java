@@ -5,7 +5,7 @@ package graph.elements;
  * The edge is directed and starts at the source node and ends at the
  * target node.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the edge will connect, which can
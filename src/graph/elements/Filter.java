@@ -0,0 +1,22 @@
+package graph.elements;
+
+/**
+ * This interface specifies a condition used to select the nodes or edges
+ * of a graph.
+ * 
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <T> is the type of element to which the condition applies.
+ */
+public interface Filter<T> {
+
+    /**
+     * Determines if an element satisfies the condition.
+     * 
+     * @param element to be checked
+     * 
+     * @return boolean indicating if the element satisfies the condition.
+     */
+    boolean accept(T element);
+}
@@ -7,7 +7,7 @@ import java.util.Set;
  * connect to two nodes. Loops are permitted, as well as multiple edges connecting to the same nodes.
  * Unconnected nodes are not permitted
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the graph's edges will connect.
@@ -62,6 +62,56 @@ public interface Graph<N extends Node, E extends Edge<? extends N>> {
      */
     Set<E> getEdgesOf(N node);
 
+    /**
+     * Returns an unmodifiable view of the edges that have the specified source
+     * node and target node.
+     * 
+     * <p>
+     * Unlike getEdges(), no edges are copied when this method is called. The
+     * view is backed by the graph and its edges are matched lazily while it is
+     * being iterated, which means that methods such as isEmpty() stop at the
+     * first matching edge. Its size() method however has to go through all the
+     * candidate edges every time it is called.
+     * </p>
+     * 
+     * <p>
+     * NOTE: Changes to the graph's edges will be reflected in this view.
+     * Therefore, one must be careful not to make changes to the graph while
+     * iterating through it.
+     * </p>
+     * 
+     * @param sourceNode edge's source node
+     * @param targetNode edge's target node
+     * 
+     * @return unmodifiable view of the edges with the specified source and target nodes.
+     * 
+     * @throws IllegalArgumentException if sourceNode or targetNode is null.
+     */
+    Set<E> edges(N sourceNode, N targetNode);
+
+    /**
+     * Returns an unmodifiable view of the edges that connect to the specified node.
+     * 
+     * <p>
+     * Unlike getEdgesOf(), no edges are copied when this method is called. The
+     * view is backed by the graph and is evaluated lazily while it is being
+     * iterated.
+     * </p>
+     * 
+     * <p>
+     * NOTE: Changes to the graph's edges will be reflected in this view.
+     * Therefore, one must be careful not to make changes to the graph while
+     * iterating through it.
+     * </p>
+     * 
+     * @param node to which the edges connect
+     * 
+     * @return unmodifiable view of the edges that connect to the specified node.
+     * 
+     * @throws IllegalArgumentException if node is null.
+     */
+    Set<E> edgesOf(N node);
+
     /**
      * Adds the supplied edge to the graph. Also adds the edge's nodes
      * to the graph if they are not already present.
@@ -137,4 +187,13 @@ public interface Graph<N extends Node, E extends Edge<? extends N>> {
      *         consequence of how edges are removed, no nodes).
      */
     boolean isEmpty();
+
+    /**
+     * Estimates the memory retained by the graph, broken down into the memory
+     * used by its nodes, its edges, its indexes and the names of its nodes and
+     * edges.
+     * 
+     * @return an estimate of the memory retained by the graph.
+     */
+    MemoryFootprint estimateMemoryFootprint();
 }
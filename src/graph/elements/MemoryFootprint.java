@@ -0,0 +1,79 @@
+package graph.elements;
+
+/**
+ * This class contains an estimate of the memory retained by a graph, in bytes,
+ * broken down into the memory used by the graph's nodes, its edges, the
+ * indexes and collections used to look them up, and the strings naming the
+ * nodes and edges.
+ *
+ * <p>
+ * NOTE: The estimates assume a 64-bit JVM using compressed object references.
+ * Nodes and edges shared with other graphs are counted in full.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class MemoryFootprint {
+
+    private final long nodeBytes;
+    private final long edgeBytes;
+    private final long indexBytes;
+    private final long nameBytes;
+
+    /**
+     * Creates a memory footprint estimate.
+     *
+     * @param nodeBytes memory used by the node objects
+     * @param edgeBytes memory used by the edge objects
+     * @param indexBytes memory used by the collections and indexes of the graph
+     * @param nameBytes memory used by the distinct name strings of the nodes and edges
+     */
+    public MemoryFootprint(long nodeBytes, long edgeBytes, long indexBytes, long nameBytes) {
+        this.nodeBytes = nodeBytes;
+        this.edgeBytes = edgeBytes;
+        this.indexBytes = indexBytes;
+        this.nameBytes = nameBytes;
+    }
+
+    /**
+     * @return the memory used by the node objects.
+     */
+    public long getNodeBytes() {
+        return nodeBytes;
+    }
+
+    /**
+     * @return the memory used by the edge objects.
+     */
+    public long getEdgeBytes() {
+        return edgeBytes;
+    }
+
+    /**
+     * @return the memory used by the collections and indexes of the graph.
+     */
+    public long getIndexBytes() {
+        return indexBytes;
+    }
+
+    /**
+     * @return the memory used by the distinct name strings of the nodes and edges.
+     */
+    public long getNameBytes() {
+        return nameBytes;
+    }
+
+    /**
+     * @return the total memory retained by the graph.
+     */
+    public long getTotalBytes() {
+        return nodeBytes + edgeBytes + indexBytes + nameBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryFootprint[Total: " + getTotalBytes() + " bytes, Nodes: " + nodeBytes + ", Edges: " + edgeBytes
+               + ", Indexes: " + indexBytes + ", Names: " + nameBytes + "]";
+    }
+}
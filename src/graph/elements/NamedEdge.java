@@ -7,7 +7,7 @@ package graph.elements;
  * NOTE: The edge's name does not necessarily need to be unique amongst the graph's edges.
  * </p>
  *
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the edge will connect, which can
@@ -5,7 +5,7 @@ package graph.elements;
  * 
  * NOTE: The node's name does not necessarily need to be unique amongst the graph's nodes.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  */
 public interface Node {
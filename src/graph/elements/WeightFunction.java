@@ -0,0 +1,49 @@
+package graph.elements;
+
+/**
+ * This interface specifies a function that gives a weight to each edge of a
+ * graph. Algorithms that take a weight function use it instead of the
+ * weights stored in the edges, which allows them to run on alternate weights
+ * without modifying the edges. Several algorithms can therefore run at the
+ * same time on the same graph with different weights.
+ * 
+ * <p>
+ * NOTE: A weight function must return the same weight for an edge for as
+ * long as an algorithm is using it.
+ * </p>
+ * 
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <E> is the type of edges to which the function gives a weight.
+ */
+public interface WeightFunction<E> {
+
+    /**
+     * Weight function that returns the weight stored in each edge.
+     */
+    WeightFunction<WeightedEdge<?>> EDGE_WEIGHT = new WeightFunction<WeightedEdge<?>>() {
+        @Override
+        public long weightOf(WeightedEdge<?> edge) {
+            return edge.getWeight();
+        }
+    };
+
+    /**
+     * Weight function that gives a weight of 1 to every edge, so that the
+     * weight of a path is its number of edges.
+     */
+    WeightFunction<Edge<?>> UNIT_WEIGHT = new WeightFunction<Edge<?>>() {
+        @Override
+        public long weightOf(Edge<?> edge) {
+            return 1;
+        }
+    };
+
+    /**
+     * @param edge of the graph
+     * 
+     * @return the weight of the edge.
+     */
+    long weightOf(E edge);
+}
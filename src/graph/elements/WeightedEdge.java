@@ -4,7 +4,7 @@ package graph.elements;
  * This interface specifies the properties of a directed edge with a that
  * connects to two nodes and has a weight specified by a long.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the edge will connect, which can
@@ -6,7 +6,7 @@ import java.util.Set;
  * This interface specifies the properties of a graph that contains nodes and directed
  * weighted edges that connect to two nodes.
  * 
- * @author Mathieu Lger
+ * @author Mathieu Léger
  * @since Mar 16, 2014
  *
  * @param <N> is the type of node to which the graph's edges will connect.
@@ -44,6 +44,42 @@ public interface WeightedGraph<N extends Node, E extends WeightedEdge<? extends
      */
     Set<E> getEdgesWithWeightBelow(long weight);
 
+    /**
+     * Returns an unmodifiable view of the edges who's weight is equal to the
+     * requested weight. The view is backed by the graph and the edge weights
+     * are only compared while the view is being iterated, so no edges are
+     * copied when this method is called.
+     * 
+     * @param weight is the weight to be matched
+     * 
+     * @return unmodifiable view of the edges with a weight equal to the requested value
+     */
+    Set<E> edgesWithWeight(long weight);
+
+    /**
+     * Returns an unmodifiable view of the edges who's weight is above the
+     * specified value. The view is backed by the graph and the edge weights
+     * are only compared while the view is being iterated, so no edges are
+     * copied when this method is called.
+     * 
+     * @param weight weight above which the match edges weight must be.
+     * 
+     * @return unmodifiable view of the edges with a weight above the specified value.
+     */
+    Set<E> edgesWithWeightAbove(long weight);
+
+    /**
+     * Returns an unmodifiable view of the edges who's weight is below the
+     * specified value. The view is backed by the graph and the edge weights
+     * are only compared while the view is being iterated, so no edges are
+     * copied when this method is called.
+     * 
+     * @param weight weight below which the match edges weight must be.
+     * 
+     * @return unmodifiable view of the edges with a weight below the specified value.
+     */
+    Set<E> edgesWithWeightBelow(long weight);
+
     /**
      * Resets the weights of all the edges in the graph to the
      * WeightedEdge.DEFAULT_EDGE_WEIGHT value.
@@ -0,0 +1,129 @@
+package graph.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * This class contains the constants and encoding methods of the binary graph
+ * format written by the BinaryGraphExporter.
+ *
+ * <p>
+ * A file starts with the magic number and the version, followed by records
+ * that each start with a one byte tag:
+ * </p>
+ * <ul>
+ * <li>NODE_RECORD: the name of the next node. Nodes are numbered from 0 in
+ * the order in which they are written.</li>
+ * <li>EDGE_RECORD: the edge flags, the numbers of the source and target
+ * nodes, the weight if the edge is weighted, and the name if it is named.</li>
+ * <li>END_RECORD: the number of edges written and the number of edges
+ * omitted. Nothing follows this record.</li>
+ * </ul>
+ *
+ * <p>
+ * Numbers are written as variable length integers: 7 bits per byte, least
+ * significant bits first, with the high bit set on every byte but the last.
+ * Weights are zigzag encoded so that small negative weights are short.
+ * Strings are written as their length plus one followed by their UTF-8
+ * bytes, a length of 0 standing for a null String.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class BinaryFormat {
+
+    static final int MAGIC = 0x47525048;
+    static final int VERSION = 1;
+
+    static final int END_RECORD = 0;
+    static final int NODE_RECORD = 1;
+    static final int EDGE_RECORD = 2;
+    static final int REMOVE_EDGE_RECORD = 3;
+    static final int REMOVE_NODE_RECORD = 4;
+    static final int WEIGHT_RECORD = 5;
+    static final int RESET_WEIGHTS_RECORD = 6;
+
+    static final int SNAPSHOT_MAGIC = 0x47534E50;
+    static final int LOG_MAGIC = 0x47574C47;
+
+    static final int WEIGHTED_EDGE = 1;
+    static final int NAMED_EDGE = 2;
+
+    /*
+     * This class contains only static utility methods. Therefore the constructor is private
+     * so that nobody can call it.
+     */
+    private BinaryFormat() {
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while((value & ~0x7FL) != 0){
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for(int shift = 0; shift < 64; shift += 7){
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0){
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    static void writeSignedVarLong(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(DataInput in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int readIndex(DataInput in, int limit) throws IOException {
+        long value = readVarLong(in);
+        if(value < 0 || value >= limit){
+            throw new IOException("Invalid node number: " + value);
+        }
+        return (int) value;
+    }
+
+    static void writeString(DataOutput out, String string) throws IOException {
+        if(string == null){
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = string.getBytes(NameTable.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        long length = readVarLong(in);
+        if(length == 0){
+            return null;
+        }
+        if(length < 0 || length - 1 > Integer.MAX_VALUE){
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[(int) (length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, NameTable.UTF_8);
+    }
+
+    static int readTag(DataInput in) throws IOException {
+        try {
+            return in.readUnsignedByte();
+        } catch(EOFException e) {
+            throw new IOException("The graph ends before its end record", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package graph.io;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class writes a graph in a compact binary format that can be read back
+ * by the BinaryGraphImporter. Each node name is written once, and the edges
+ * refer to their nodes by number. See BinaryFormat for the layout.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class BinaryGraphExporter extends GraphExporter {
+
+    @Override
+    protected void write(Graph<?, ?> graph, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        data.writeInt(BinaryFormat.MAGIC);
+        data.writeInt(BinaryFormat.VERSION);
+
+        Map<Node, Integer> nodeIds = new HashMap<Node, Integer>();
+        long maxEdges = getMaxEdges();
+        long writtenEdges = 0;
+        for(Edge<?> edge : graph.getAllEdges()){
+            if(writtenEdges == maxEdges){
+                break;
+            }
+            int sourceId = nodeId(edge.getSourceNode(), nodeIds, data);
+            int targetId = nodeId(edge.getTargetNode(), nodeIds, data);
+            writeEdge(edge, sourceId, targetId, data);
+            writtenEdges++;
+        }
+
+        data.writeByte(BinaryFormat.END_RECORD);
+        BinaryFormat.writeVarLong(data, writtenEdges);
+        BinaryFormat.writeVarLong(data, graph.getAllEdges().size() - writtenEdges);
+        data.flush();
+    }
+
+    /**
+     * Writes an edge record.
+     *
+     * @param edge to be written
+     * @param sourceId number of the edge's source node
+     * @param targetId number of the edge's target node
+     * @param data stream to which the record is written
+     */
+    static void writeEdge(Edge<?> edge, int sourceId, int targetId, DataOutputStream data) throws IOException {
+        int flags = 0;
+        if(edge instanceof WeightedEdge){
+            flags |= BinaryFormat.WEIGHTED_EDGE;
+        }
+        if(edge instanceof NamedEdge){
+            flags |= BinaryFormat.NAMED_EDGE;
+        }
+
+        data.writeByte(BinaryFormat.EDGE_RECORD);
+        data.writeByte(flags);
+        BinaryFormat.writeVarLong(data, sourceId);
+        BinaryFormat.writeVarLong(data, targetId);
+        if(edge instanceof WeightedEdge){
+            BinaryFormat.writeSignedVarLong(data, ((WeightedEdge<?>) edge).getWeight());
+        }
+        if(edge instanceof NamedEdge){
+            BinaryFormat.writeString(data, ((NamedEdge<?>) edge).getName());
+        }
+    }
+
+    private static int nodeId(Node node, Map<Node, Integer> nodeIds, DataOutputStream data) throws IOException {
+        Integer id = nodeIds.get(node);
+        if(id == null){
+            id = nodeIds.size();
+            nodeIds.put(node, id);
+            data.writeByte(BinaryFormat.NODE_RECORD);
+            BinaryFormat.writeString(data, node.getName());
+        }
+        return id;
+    }
+}
@@ -0,0 +1,150 @@
+package graph.io;
+
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.components.NamedWeightedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * This class reads graphs written by the BinaryGraphExporter. GZIP
+ * compressed input is detected and decompressed automatically.
+ *
+ * <p>
+ * Each node is read as a BasicNode. Edges with a name are read as
+ * NamedWeightedEdges and the other edges as BasicWeightedEdges. Edges that
+ * were not weighted when they were exported are given the weight
+ * WeightedEdge.DEFAULT_EDGE_WEIGHT.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class BinaryGraphImporter {
+
+    private static final int GZIP_MAGIC = 0x8B1F;
+
+    /**
+     * Reads a graph from a stream into a weighted graph. The stream is not
+     * closed.
+     *
+     * @param in stream from which the graph is read
+     * @param graph into which the edges are imported
+     *
+     * @return the number of edges read.
+     *
+     * @throws IllegalArgumentException if in or graph is null.
+     * @throws IOException if the stream cannot be read or does not contain a valid graph.
+     */
+    public long importInto(InputStream in, WeightedGraph<Node, WeightedEdge<Node>> graph) throws IOException {
+        if(in == null){
+            throw new IllegalArgumentException("The input stream is null");
+        }
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+
+        DataInputStream data = new DataInputStream(decompress(new BufferedInputStream(in, GraphExporter.BUFFER_SIZE)));
+        if(data.readInt() != BinaryFormat.MAGIC){
+            throw new IOException("The stream does not contain a graph");
+        }
+        int version = data.readInt();
+        if(version != BinaryFormat.VERSION){
+            throw new IOException("Unsupported graph format version: " + version);
+        }
+
+        List<Node> nodes = new ArrayList<Node>();
+        long edgeCount = 0;
+        while(true){
+            int tag = BinaryFormat.readTag(data);
+            if(tag == BinaryFormat.END_RECORD){
+                long writtenEdges = BinaryFormat.readVarLong(data);
+                BinaryFormat.readVarLong(data);
+                if(writtenEdges != edgeCount){
+                    throw new IOException("Expected " + writtenEdges + " edges but found " + edgeCount);
+                }
+                return edgeCount;
+            } else if(tag == BinaryFormat.NODE_RECORD){
+                String name = BinaryFormat.readString(data);
+                if(name == null || name.trim().isEmpty()){
+                    throw new IOException("The graph contains a node without a name");
+                }
+                nodes.add(new BasicNode(name));
+            } else if(tag == BinaryFormat.EDGE_RECORD){
+                graph.addEdge(readEdge(data, nodes));
+                edgeCount++;
+            } else {
+                throw new IOException("Unknown record: " + tag);
+            }
+        }
+    }
+
+    /**
+     * Reads a graph from a file into a weighted graph.
+     *
+     * @param file from which the graph is read
+     * @param graph into which the edges are imported
+     *
+     * @return the number of edges read.
+     *
+     * @throws IllegalArgumentException if file or graph is null.
+     * @throws IOException if the file cannot be read or does not contain a valid graph.
+     */
+    public long importInto(File file, WeightedGraph<Node, WeightedEdge<Node>> graph) throws IOException {
+        if(file == null){
+            throw new IllegalArgumentException("The file is null");
+        }
+        InputStream in = new FileInputStream(file);
+        try {
+            return importInto(in, graph);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads an edge record, after its tag.
+     *
+     * @param data stream from which the record is read
+     * @param nodes read so far, by number
+     *
+     * @return the edge that was read.
+     */
+    static WeightedEdge<Node> readEdge(DataInputStream data, List<Node> nodes) throws IOException {
+        int flags = data.readUnsignedByte();
+        Node sourceNode = nodes.get(BinaryFormat.readIndex(data, nodes.size()));
+        Node targetNode = nodes.get(BinaryFormat.readIndex(data, nodes.size()));
+        long weight = WeightedEdge.DEFAULT_EDGE_WEIGHT;
+        if((flags & BinaryFormat.WEIGHTED_EDGE) != 0){
+            weight = BinaryFormat.readSignedVarLong(data);
+        }
+        if((flags & BinaryFormat.NAMED_EDGE) != 0){
+            String name = BinaryFormat.readString(data);
+            if(name != null && !name.trim().isEmpty()){
+                return new NamedWeightedEdge<Node>(name, sourceNode, targetNode, weight);
+            }
+        }
+        return new BasicWeightedEdge<Node>(sourceNode, targetNode, weight);
+    }
+
+    private static InputStream decompress(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int magic = in.read() | (in.read() << 8);
+        in.reset();
+        if(magic == GZIP_MAGIC){
+            return new GZIPInputStream(in, GraphExporter.BUFFER_SIZE);
+        }
+        return in;
+    }
+}
@@ -0,0 +1,74 @@
+package graph.io;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.IOException;
+
+/**
+ * This class writes a graph in the DOT language used by Graphviz. Each node
+ * is labeled with its name. Each edge has a weight attribute if it is
+ * weighted, and is labeled with its name if it is named, or with its weight
+ * otherwise.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class DotExporter extends TextGraphExporter {
+
+    @Override
+    protected void writeHeader(Graph<?, ?> graph, Appendable out) throws IOException {
+        out.append("digraph G {\n");
+    }
+
+    @Override
+    protected void writeNode(Node node, int id, Appendable out) throws IOException {
+        out.append("  n").append(String.valueOf(id)).append(" [label=");
+        appendQuoted(node.getName() == null ? "" : node.getName(), out);
+        out.append("];\n");
+    }
+
+    @Override
+    protected void writeEdge(Edge<?> edge, int sourceId, int targetId, Appendable out) throws IOException {
+        out.append("  n").append(String.valueOf(sourceId)).append(" -> n").append(String.valueOf(targetId));
+
+        String label = edge instanceof NamedEdge ? ((NamedEdge<?>) edge).getName() : null;
+        if(edge instanceof WeightedEdge){
+            String weight = String.valueOf(((WeightedEdge<?>) edge).getWeight());
+            out.append(" [weight=").append(weight).append(", label=");
+            appendQuoted(label == null ? weight : label, out);
+            out.append(']');
+        } else if(label != null){
+            out.append(" [label=");
+            appendQuoted(label, out);
+            out.append(']');
+        }
+        out.append(";\n");
+    }
+
+    @Override
+    protected void writeFooter(long omittedEdges, Appendable out) throws IOException {
+        if(omittedEdges > 0){
+            out.append("  // ").append(String.valueOf(omittedEdges)).append(" more edges omitted\n");
+        }
+        out.append("}\n");
+    }
+
+    private static void appendQuoted(String text, Appendable out) throws IOException {
+        out.append('"');
+        for(int i = 0; i < text.length(); i++){
+            char c = text.charAt(i);
+            if(c == '"' || c == '\\'){
+                out.append('\\').append(c);
+            } else if(c == '\n'){
+                out.append("\\n");
+            } else if(c != '\r'){
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
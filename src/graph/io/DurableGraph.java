@@ -0,0 +1,972 @@
+package graph.io;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.components.BasicWeightedGraph;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class creates a weighted graph whose changes are persisted in a
+ * directory, so that the graph can be restored after the process stops.
+ *
+ * <p>
+ * Every change made through the graph (addEdge(), removeEdge(), removeNode(),
+ * setEdgeWeight() and resetEdgeWeights()) is appended to a write-ahead log.
+ * The log is forced to the disk in batches: a background thread syncs it
+ * every SYNC_INTERVAL_MILLIS milliseconds, and when sync-on-write is enabled
+ * each change waits until it is durable, the changes of concurrent writers
+ * being forced together. Every few changes, a snapshot of the graph is
+ * written in the background and the log files it covers are deleted.
+ * </p>
+ *
+ * <p>
+ * Opening a directory restores the graph from the latest snapshot and the
+ * log written after it. A change whose log frame was only partly written
+ * when the process stopped is ignored, along with the changes that follow
+ * it in the same log file.
+ * </p>
+ *
+ * <p>
+ * NOTE: The changes must be made through the DurableGraph. Changes made
+ * directly to the wrapped graph or to the weight of an edge are not logged.
+ * The nodes are restored as BasicNodes, the named edges as
+ * NamedWeightedEdges and the other edges as BasicWeightedEdges.
+ * </p>
+ *
+ * <p>
+ * NOTE: The changes and the methods that return copies of the edges
+ * (getEdges(), getEdgesOf() and getEdgesWithWeight...()) can be called from
+ * several threads. The views (getAllEdges(), getAllNodes(), edges(),
+ * edgesOf() and edgesWithWeight...()) are backed by the wrapped graph, which
+ * is not thread-safe: they must not be used while another thread changes
+ * the graph.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class DurableGraph implements WeightedGraph<Node, WeightedEdge<Node>>, Closeable {
+
+    /**
+     * Interval at which the log is forced to the disk, in milliseconds
+     */
+    public static final long SYNC_INTERVAL_MILLIS = 50;
+
+    /**
+     * Default number of changes after which a snapshot is taken
+     */
+    public static final long DEFAULT_SNAPSHOT_INTERVAL = 1000000;
+
+    private static final Pattern FILE_NAME = Pattern.compile("graph-(\\d+)\\.(snapshot|log)");
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Number of records decoded together during the recovery
+     */
+    private static final int RECOVERY_BATCH_SIZE = 1024;
+    private static final List<LogRecord> END_OF_RECORDS = Collections.emptyList();
+
+    private final File directory;
+    private final WeightedGraph<Node, WeightedEdge<Node>> graph;
+
+    /**
+     * Persistent ids of the nodes and edges of the graph. The ids are never
+     * reused, and the id of a node is dropped when it loses its last edge.
+     */
+    private final Map<Node, Long> nodeIds = new HashMap<Node, Long>();
+    private final Map<WeightedEdge<Node>, Long> edgeIds = new HashMap<WeightedEdge<Node>, Long>();
+    private long nextNodeId;
+    private long nextEdgeId;
+
+    /**
+     * Edges by id, only used while the graph is being restored
+     */
+    private Map<Long, WeightedEdge<Node>> edgesById;
+
+    /**
+     * Lock held while the graph is changed and while a snapshot captures it
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Lock held while a snapshot is taken, so that only one is taken at a time
+     */
+    private final Object snapshotLock = new Object();
+
+    private final WriteAheadLog log;
+    private final WriteAheadLog.RecordBuffer records = new WriteAheadLog.RecordBuffer();
+    private final DataOutputStream recordData = new DataOutputStream(records);
+    private final ScheduledExecutorService executor;
+
+    private long generation;
+    private long changesSinceSnapshot;
+    private long snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+    private volatile boolean syncOnWrite;
+    private volatile boolean snapshotScheduled;
+    private volatile IOException snapshotFailure;
+    private boolean closed;
+
+    /**
+     * Opens a durable graph stored in a directory, restoring the graph
+     * persisted in the directory if there is one. The graph is kept in memory
+     * in a BasicWeightedGraph.
+     *
+     * @param directory in which the graph is persisted. It is created if it
+     *        does not exist.
+     *
+     * @throws IllegalArgumentException if the directory is null or is not a directory.
+     * @throws IOException if the files of the directory cannot be read or written.
+     */
+    public DurableGraph(File directory) throws IOException {
+        this(directory, new BasicWeightedGraph<Node, WeightedEdge<Node>>());
+    }
+
+    /**
+     * Opens a durable graph stored in a directory, restoring the graph
+     * persisted in the directory into the specified empty graph.
+     *
+     * @param directory in which the graph is persisted. It is created if it
+     *        does not exist.
+     * @param graph empty graph that keeps the nodes and edges in memory
+     *
+     * @throws IllegalArgumentException if the directory or graph is null, if
+     *         the directory is not a directory or if the graph is not empty.
+     * @throws IOException if the files of the directory cannot be read or written.
+     */
+    public DurableGraph(File directory, WeightedGraph<Node, WeightedEdge<Node>> graph) throws IOException {
+        if(directory == null){
+            throw new IllegalArgumentException("The directory is null");
+        }
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(!graph.isEmpty()){
+            throw new IllegalArgumentException("The graph is not empty");
+        }
+        directory.mkdirs();
+        if(!directory.isDirectory()){
+            throw new IllegalArgumentException("The file is not a directory: " + directory);
+        }
+
+        this.directory = directory;
+        this.graph = graph;
+        this.executor = Executors.newScheduledThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "DurableGraph writer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        try {
+            recover();
+            log = new WriteAheadLog(fileOf(generation, "log"));
+        } catch(IOException e) {
+            executor.shutdownNow();
+            throw e;
+        } catch(RuntimeException e) {
+            executor.shutdownNow();
+            throw e;
+        }
+
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    log.sync(log.getSequence());
+                } catch(IOException e) {
+                    // The failure is reported by the next change
+                }
+            }
+        }, SYNC_INTERVAL_MILLIS, SYNC_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the directory in which the graph is persisted.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Sets whether each change waits until it is forced to the disk before
+     * returning. Otherwise, the changes are forced within
+     * SYNC_INTERVAL_MILLIS milliseconds. Disabled by default.
+     *
+     * @param syncOnWrite whether each change waits until it is durable
+     */
+    public void setSyncOnWrite(boolean syncOnWrite) {
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    /**
+     * Sets the number of changes after which a snapshot is taken in the
+     * background. DEFAULT_SNAPSHOT_INTERVAL is used by default.
+     *
+     * @param snapshotInterval number of changes between two snapshots
+     *
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public void setSnapshotInterval(long snapshotInterval) {
+        if(snapshotInterval < 1){
+            throw new IllegalArgumentException("The snapshot interval must be positive");
+        }
+        synchronized(lock){
+            this.snapshotInterval = snapshotInterval;
+        }
+    }
+
+    /**
+     * Sets the weight of an edge of the graph, and logs the change.
+     *
+     * @param edge of the graph
+     * @param weight to be assigned to the edge
+     *
+     * @throws IllegalArgumentException if the edge is null or is not part of the graph.
+     * @throws IllegalStateException if the graph is closed or the log cannot be written.
+     */
+    public void setEdgeWeight(WeightedEdge<Node> edge, long weight) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+
+        long sequence;
+        synchronized(lock){
+            checkOpen();
+            Long id = edgeIds.get(edge);
+            if(id == null){
+                throw new IllegalArgumentException("The edge is not part of the graph");
+            }
+            edge.setWeight(weight);
+            records.reset();
+            try {
+                LogRecord.writeWeight(recordData, id, weight);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+            sequence = append();
+        }
+        awaitDurable(sequence);
+    }
+
+    @Override
+    public boolean addEdge(WeightedEdge<Node> edge) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+
+        long sequence;
+        synchronized(lock){
+            checkOpen();
+            if(!graph.addEdge(edge)){
+                return false;
+            }
+            records.reset();
+            writeAddedEdge(edge);
+            sequence = append();
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edges are logged together, as a single change.
+     * </p>
+     */
+    @Override
+    public boolean addAllEdges(Set<? extends WeightedEdge<Node>> edges) {
+        if(edges == null){
+            throw new IllegalArgumentException("The set of edges is null");
+        }
+
+        for(WeightedEdge<Node> edge : edges){
+            if(edge == null){
+                throw new IllegalArgumentException("The set of edges contains a null edge");
+            }
+        }
+
+        boolean success = true;
+        long sequence;
+        synchronized(lock){
+            checkOpen();
+            records.reset();
+            for(WeightedEdge<Node> edge : edges){
+                if(graph.addEdge(edge)){
+                    writeAddedEdge(edge);
+                } else {
+                    success = false;
+                }
+            }
+            if(records.size() == 0){
+                return success;
+            }
+            sequence = append();
+        }
+        awaitDurable(sequence);
+        return success;
+    }
+
+    @Override
+    public boolean removeEdge(WeightedEdge<Node> edge) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+
+        boolean success;
+        long sequence;
+        synchronized(lock){
+            checkOpen();
+            Long id = edgeIds.get(edge);
+            if(id == null){
+                return graph.removeEdge(edge);
+            }
+            success = removeLoggedEdge(edge);
+            records.reset();
+            try {
+                LogRecord.writeRemoval(recordData, BinaryFormat.REMOVE_EDGE_RECORD, id);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+            sequence = append();
+        }
+        awaitDurable(sequence);
+        return success;
+    }
+
+    @Override
+    public boolean removeNode(Node node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
+        }
+
+        boolean success;
+        long sequence;
+        synchronized(lock){
+            checkOpen();
+            Long id = nodeIds.get(node);
+            if(id == null){
+                return graph.removeNode(node);
+            }
+            success = removeLoggedNode(node);
+            records.reset();
+            try {
+                LogRecord.writeRemoval(recordData, BinaryFormat.REMOVE_NODE_RECORD, id);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+            sequence = append();
+        }
+        awaitDurable(sequence);
+        return success;
+    }
+
+    @Override
+    public void resetEdgeWeights() {
+        long sequence;
+        synchronized(lock){
+            checkOpen();
+            graph.resetEdgeWeights();
+            records.reset();
+            try {
+                LogRecord.writeResetWeights(recordData);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+            sequence = append();
+        }
+        awaitDurable(sequence);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getAllEdges() {
+        return graph.getAllEdges();
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdges(Node sourceNode, Node targetNode) {
+        synchronized(lock){
+            return graph.getEdges(sourceNode, targetNode);
+        }
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesOf(Node node) {
+        synchronized(lock){
+            return graph.getEdgesOf(node);
+        }
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edges(Node sourceNode, Node targetNode) {
+        return graph.edges(sourceNode, targetNode);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesOf(Node node) {
+        return graph.edgesOf(node);
+    }
+
+    @Override
+    public Set<Node> getAllNodes() {
+        return graph.getAllNodes();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        synchronized(lock){
+            return graph.isEmpty();
+        }
+    }
+
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        synchronized(lock){
+            return graph.estimateMemoryFootprint();
+        }
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesWithWeight(long weight) {
+        synchronized(lock){
+            return graph.getEdgesWithWeight(weight);
+        }
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesWithWeightAbove(long weight) {
+        synchronized(lock){
+            return graph.getEdgesWithWeightAbove(weight);
+        }
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesWithWeightBelow(long weight) {
+        synchronized(lock){
+            return graph.getEdgesWithWeightBelow(weight);
+        }
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesWithWeight(long weight) {
+        return graph.edgesWithWeight(weight);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesWithWeightAbove(long weight) {
+        return graph.edgesWithWeightAbove(weight);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesWithWeightBelow(long weight) {
+        return graph.edgesWithWeightBelow(weight);
+    }
+
+    /**
+     * Forces all the changes made so far to the disk.
+     *
+     * @throws IOException if the log cannot be written.
+     */
+    public void sync() throws IOException {
+        log.sync(log.getSequence());
+    }
+
+    /**
+     * Takes a snapshot of the graph and deletes the log files it covers.
+     * The changes made while the snapshot is written are logged in a new
+     * log file.
+     *
+     * @throws IllegalStateException if the graph is closed.
+     * @throws IOException if the snapshot cannot be written.
+     */
+    public void snapshot() throws IOException {
+        synchronized(snapshotLock){
+            synchronized(lock){
+                checkOpen();
+            }
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * Forces the changes to the disk, waits for the snapshot being written
+     * and stops the background threads.
+     *
+     * @throws IOException if the log cannot be written or a background
+     *         snapshot failed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized(snapshotLock){
+            synchronized(lock){
+                if(closed){
+                    return;
+                }
+                closed = true;
+            }
+            executor.shutdown();
+            log.close();
+        }
+        if(snapshotFailure != null){
+            throw new IOException("A background snapshot could not be written", snapshotFailure);
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized(lock){
+            return AlgorithmUtilities.printEdgeSetToString("DurableGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+        }
+    }
+
+    private void checkOpen() {
+        if(closed){
+            throw new IllegalStateException("The graph is closed");
+        }
+    }
+
+    /**
+     * Encodes an edge that was added to the graph, preceded by the nodes
+     * that were not part of the graph. Must be called while holding the lock.
+     */
+    private void writeAddedEdge(WeightedEdge<Node> edge) {
+        try {
+            long sourceId = idOf(edge.getSourceNode());
+            long targetId = idOf(edge.getTargetNode());
+            long id = nextEdgeId++;
+            edgeIds.put(edge, id);
+            LogRecord.writeEdge(recordData, id, sourceId, targetId, edge.getWeight(), LogRecord.nameOf(edge));
+        } catch(IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long idOf(Node node) throws IOException {
+        Long id = nodeIds.get(node);
+        if(id == null){
+            id = nextNodeId++;
+            nodeIds.put(node, id);
+            LogRecord.writeNode(recordData, id, node);
+        }
+        return id;
+    }
+
+    private boolean removeLoggedEdge(WeightedEdge<Node> edge) {
+        boolean success = graph.removeEdge(edge);
+        Long id = edgeIds.remove(edge);
+        if(edgesById != null){
+            edgesById.remove(id);
+        }
+        forgetIfUnused(edge.getSourceNode());
+        forgetIfUnused(edge.getTargetNode());
+        return success;
+    }
+
+    private boolean removeLoggedNode(Node node) {
+        Set<WeightedEdge<Node>> associatedEdges = graph.getEdgesOf(node);
+        boolean success = graph.removeNode(node);
+        nodeIds.remove(node);
+        for(WeightedEdge<Node> edge : associatedEdges){
+            Long id = edgeIds.remove(edge);
+            if(edgesById != null){
+                edgesById.remove(id);
+            }
+            forgetIfUnused(edge.getSourceNode());
+            forgetIfUnused(edge.getTargetNode());
+        }
+        return success;
+    }
+
+    private void forgetIfUnused(Node node) {
+        if(graph.edgesOf(node).isEmpty()){
+            nodeIds.remove(node);
+        }
+    }
+
+    /**
+     * Appends the encoded records to the log and schedules a snapshot if
+     * enough changes were made since the last one. Must be called while
+     * holding the lock.
+     */
+    private long append() {
+        long sequence = log.append(records);
+        changesSinceSnapshot++;
+        if(changesSinceSnapshot >= snapshotInterval && !snapshotScheduled){
+            snapshotScheduled = true;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        synchronized(snapshotLock){
+                            writeSnapshot();
+                        }
+                    } catch(IOException e) {
+                        snapshotFailure = e;
+                    } finally {
+                        snapshotScheduled = false;
+                    }
+                }
+            });
+        }
+        return sequence;
+    }
+
+    private void awaitDurable(long sequence) {
+        if(syncOnWrite){
+            try {
+                log.sync(sequence);
+            } catch(IOException e) {
+                throw new IllegalStateException("The change could not be written to the log", e);
+            }
+        }
+    }
+
+    /**
+     * Captures the graph, continues the log in a new file and writes the
+     * captured graph as the snapshot of the new file. Must be called while
+     * holding the snapshot lock.
+     */
+    private void writeSnapshot() throws IOException {
+        long snapshotGeneration;
+        Node[] nodes;
+        long[] capturedNodeIds;
+        long[] capturedEdgeIds;
+        long[] sourceIds;
+        long[] targetIds;
+        long[] weights;
+        String[] names;
+        long capturedNextNodeId;
+        long capturedNextEdgeId;
+
+        synchronized(lock){
+            if(closed){
+                return;
+            }
+            int nodeCount = nodeIds.size();
+            nodes = new Node[nodeCount];
+            capturedNodeIds = new long[nodeCount];
+            int i = 0;
+            for(Map.Entry<Node, Long> entry : nodeIds.entrySet()){
+                nodes[i] = entry.getKey();
+                capturedNodeIds[i] = entry.getValue();
+                i++;
+            }
+
+            int edgeCount = edgeIds.size();
+            capturedEdgeIds = new long[edgeCount];
+            sourceIds = new long[edgeCount];
+            targetIds = new long[edgeCount];
+            weights = new long[edgeCount];
+            names = new String[edgeCount];
+            i = 0;
+            for(Map.Entry<WeightedEdge<Node>, Long> entry : edgeIds.entrySet()){
+                WeightedEdge<Node> edge = entry.getKey();
+                capturedEdgeIds[i] = entry.getValue();
+                sourceIds[i] = nodeIds.get(edge.getSourceNode());
+                targetIds[i] = nodeIds.get(edge.getTargetNode());
+                weights[i] = edge.getWeight();
+                names[i] = LogRecord.nameOf(edge);
+                i++;
+            }
+            capturedNextNodeId = nextNodeId;
+            capturedNextEdgeId = nextEdgeId;
+
+            snapshotGeneration = generation + 1;
+            log.rotate(fileOf(snapshotGeneration, "log"));
+            generation = snapshotGeneration;
+            changesSinceSnapshot = 0;
+        }
+
+        File snapshotFile = fileOf(snapshotGeneration, "snapshot");
+        File temporaryFile = new File(directory, snapshotFile.getName() + TEMPORARY_SUFFIX);
+        FileOutputStream stream = new FileOutputStream(temporaryFile);
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, GraphExporter.BUFFER_SIZE));
+            out.writeInt(BinaryFormat.SNAPSHOT_MAGIC);
+            out.writeInt(BinaryFormat.VERSION);
+            for(int i = 0; i < nodes.length; i++){
+                LogRecord.writeNode(out, capturedNodeIds[i], nodes[i]);
+            }
+            for(int i = 0; i < capturedEdgeIds.length; i++){
+                LogRecord.writeEdge(out, capturedEdgeIds[i], sourceIds[i], targetIds[i], weights[i], names[i]);
+            }
+            out.writeByte(BinaryFormat.END_RECORD);
+            BinaryFormat.writeVarLong(out, nodes.length);
+            BinaryFormat.writeVarLong(out, capturedEdgeIds.length);
+            BinaryFormat.writeVarLong(out, capturedNextNodeId);
+            BinaryFormat.writeVarLong(out, capturedNextEdgeId);
+            out.flush();
+            stream.getChannel().force(true);
+        } finally {
+            stream.close();
+        }
+
+        if(!temporaryFile.renameTo(snapshotFile)){
+            throw new IOException("The snapshot could not be renamed to " + snapshotFile);
+        }
+        deleteFilesBefore(snapshotGeneration);
+    }
+
+    /**
+     * Restores the graph from the latest snapshot and the logs written
+     * after it. A thread reads and decodes the files while the calling
+     * thread applies the decoded records to the graph, in order.
+     */
+    private void recover() throws IOException {
+        long snapshotGeneration = -1;
+        long lastGeneration = -1;
+        List<Long> logGenerations = new ArrayList<Long>();
+        File[] files = directory.listFiles();
+        if(files == null){
+            throw new IOException("The directory cannot be read: " + directory);
+        }
+        for(File file : files){
+            String name = file.getName();
+            if(name.startsWith("graph-") && name.endsWith(TEMPORARY_SUFFIX)){
+                file.delete();
+                continue;
+            }
+            Matcher matcher = FILE_NAME.matcher(name);
+            if(!matcher.matches()){
+                continue;
+            }
+            long fileGeneration = Long.parseLong(matcher.group(1));
+            if(matcher.group(2).equals("snapshot")){
+                snapshotGeneration = Math.max(snapshotGeneration, fileGeneration);
+            } else {
+                logGenerations.add(fileGeneration);
+            }
+            lastGeneration = Math.max(lastGeneration, fileGeneration);
+        }
+        Collections.sort(logGenerations);
+
+        final List<File> logFiles = new ArrayList<File>();
+        for(long logGeneration : logGenerations){
+            if(logGeneration >= snapshotGeneration){
+                logFiles.add(fileOf(logGeneration, "log"));
+            }
+        }
+        final File snapshotFile = snapshotGeneration >= 0 ? fileOf(snapshotGeneration, "snapshot") : null;
+
+        if(snapshotFile != null || !logFiles.isEmpty()){
+            final BlockingQueue<List<LogRecord>> batches = new ArrayBlockingQueue<List<LogRecord>>(64);
+            Future<Void> decoder = executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException, InterruptedException {
+                    try {
+                        decode(snapshotFile, logFiles, batches);
+                    } finally {
+                        batches.put(END_OF_RECORDS);
+                    }
+                    return null;
+                }
+            });
+
+            edgesById = new HashMap<Long, WeightedEdge<Node>>();
+            try {
+                while(true){
+                    List<LogRecord> batch = batches.take();
+                    if(batch == END_OF_RECORDS){
+                        break;
+                    }
+                    for(LogRecord record : batch){
+                        apply(record);
+                    }
+                }
+                decoder.get();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while the graph was being restored", e);
+            } catch(ExecutionException e) {
+                Throwable cause = e.getCause();
+                if(cause instanceof IOException){
+                    throw (IOException) cause;
+                } else if(cause instanceof RuntimeException){
+                    throw (RuntimeException) cause;
+                } else if(cause instanceof Error){
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            } finally {
+                decoder.cancel(true);
+                edgesById = null;
+            }
+        }
+
+        if(snapshotGeneration >= 0){
+            deleteFilesBefore(snapshotGeneration);
+        }
+        generation = lastGeneration + 1;
+    }
+
+    /**
+     * Decodes the snapshot and the logs into batches of records.
+     */
+    private static void decode(File snapshotFile, List<File> logFiles, BlockingQueue<List<LogRecord>> batches)
+            throws IOException, InterruptedException {
+        Map<Long, Node> nodes = new HashMap<Long, Node>();
+        List<LogRecord> batch = new ArrayList<LogRecord>(RECOVERY_BATCH_SIZE);
+
+        if(snapshotFile != null){
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile), GraphExporter.BUFFER_SIZE));
+            try {
+                if(in.readInt() != BinaryFormat.SNAPSHOT_MAGIC){
+                    throw new IOException("The file is not a graph snapshot: " + snapshotFile);
+                }
+                int version = in.readInt();
+                if(version != BinaryFormat.VERSION){
+                    throw new IOException("Unsupported graph snapshot version: " + version);
+                }
+                int nodeCount = 0;
+                int edgeCount = 0;
+                int tag;
+                while((tag = BinaryFormat.readTag(in)) != BinaryFormat.END_RECORD){
+                    if(tag != BinaryFormat.NODE_RECORD && tag != BinaryFormat.EDGE_RECORD){
+                        throw new IOException("Unexpected record in the snapshot: " + tag);
+                    }
+                    LogRecord record = LogRecord.read(in, tag, nodes);
+                    if(tag == BinaryFormat.NODE_RECORD){
+                        nodeCount++;
+                    } else {
+                        edgeCount++;
+                    }
+                    batch = publish(batch, record, batches);
+                }
+                if(BinaryFormat.readVarLong(in) != nodeCount || BinaryFormat.readVarLong(in) != edgeCount){
+                    throw new IOException("The snapshot does not contain the expected number of nodes and edges");
+                }
+                long nextNodeId = BinaryFormat.readVarLong(in);
+                long nextEdgeId = BinaryFormat.readVarLong(in);
+                batch = publish(batch, LogRecord.idCounters(nextNodeId, nextEdgeId), batches);
+            } finally {
+                in.close();
+            }
+        }
+
+        for(File logFile : logFiles){
+            WriteAheadLog.Reader reader = new WriteAheadLog.Reader(logFile);
+            try {
+                byte[] frame;
+                while((frame = reader.nextFrame()) != null){
+                    DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+                    while(in.available() > 0){
+                        batch = publish(batch, LogRecord.read(in, in.readUnsignedByte(), nodes), batches);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+
+        if(!batch.isEmpty()){
+            batches.put(batch);
+        }
+    }
+
+    private static List<LogRecord> publish(List<LogRecord> batch, LogRecord record, BlockingQueue<List<LogRecord>> batches)
+            throws InterruptedException {
+        batch.add(record);
+        if(batch.size() < RECOVERY_BATCH_SIZE){
+            return batch;
+        }
+        batches.put(batch);
+        return new ArrayList<LogRecord>(RECOVERY_BATCH_SIZE);
+    }
+
+    /**
+     * Applies a decoded record to the graph and to the ids.
+     */
+    private void apply(LogRecord record) throws IOException {
+        switch(record.tag){
+            case BinaryFormat.NODE_RECORD:
+                nodeIds.put(record.node, record.id);
+                nextNodeId = Math.max(nextNodeId, record.id + 1);
+                break;
+            case BinaryFormat.EDGE_RECORD:
+                graph.addEdge(record.edge);
+                edgeIds.put(record.edge, record.id);
+                edgesById.put(record.id, record.edge);
+                nextEdgeId = Math.max(nextEdgeId, record.id + 1);
+                break;
+            case BinaryFormat.REMOVE_EDGE_RECORD:
+                removeLoggedEdge(edgeOf(record.id));
+                break;
+            case BinaryFormat.REMOVE_NODE_RECORD:
+                removeLoggedNode(record.node);
+                break;
+            case BinaryFormat.WEIGHT_RECORD:
+                edgeOf(record.id).setWeight(record.weight);
+                break;
+            case BinaryFormat.RESET_WEIGHTS_RECORD:
+                graph.resetEdgeWeights();
+                break;
+            case BinaryFormat.END_RECORD:
+                nextNodeId = Math.max(nextNodeId, record.sourceId);
+                nextEdgeId = Math.max(nextEdgeId, record.targetId);
+                break;
+            default:
+                throw new IOException("Unknown record: " + record.tag);
+        }
+    }
+
+    private WeightedEdge<Node> edgeOf(long id) throws IOException {
+        WeightedEdge<Node> edge = edgesById.get(id);
+        if(edge == null){
+            throw new IOException("Unknown edge id: " + id);
+        }
+        return edge;
+    }
+
+    private File fileOf(long fileGeneration, String extension) {
+        return new File(directory, "graph-" + fileGeneration + "." + extension);
+    }
+
+    /**
+     * Deletes the snapshots and logs of the generations before the specified one.
+     */
+    private void deleteFilesBefore(long lastGeneration) {
+        File[] files = directory.listFiles();
+        if(files == null){
+            return;
+        }
+        for(File file : files){
+            Matcher matcher = FILE_NAME.matcher(file.getName());
+            if(matcher.matches() && Long.parseLong(matcher.group(1)) < lastGeneration){
+                file.delete();
+            }
+        }
+    }
+}
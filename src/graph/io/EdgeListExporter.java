@@ -0,0 +1,124 @@
+package graph.io;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.IOException;
+
+/**
+ * This class writes a graph as an edge list that can be read back by the
+ * EdgeListImporter: one edge per line, in the format
+ * source,target[,weight[,name]]
+ *
+ * <p>
+ * Edges are identified by the names of their nodes, so nodes with the same
+ * name are merged when the edge list is imported. The format has no quoting,
+ * so the exporter rejects the names it cannot write in a way that the
+ * importer reads back unchanged: empty node names, names containing the
+ * delimiter or a line break, names starting or ending with a blank, and
+ * source node names starting with '#', which would be read as a comment.
+ * Empty edge names are written as unnamed edges.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class EdgeListExporter extends TextGraphExporter {
+
+    private char delimiter = ',';
+
+    /**
+     * Sets the character separating the fields of a line. The default
+     * delimiter is ','.
+     *
+     * @param delimiter is an ASCII character other than a space, a tab or a line break.
+     *
+     * @throws IllegalArgumentException if the delimiter is not valid.
+     */
+    public void setDelimiter(char delimiter) {
+        if(delimiter > 127 || delimiter == ' ' || delimiter == '\t' || delimiter == '\n' || delimiter == '\r'){
+            throw new IllegalArgumentException("The delimiter must be an ASCII character other than a space, a tab or a line break");
+        }
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    protected void writeHeader(Graph<?, ?> graph, Appendable out) {
+        // The edge list has no header
+    }
+
+    @Override
+    protected void writeNode(Node node, int id, Appendable out) {
+        // The nodes are written as part of the edges
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the name of a node or of the edge
+     *         cannot be read back by the importer.
+     */
+    @Override
+    protected void writeEdge(Edge<?> edge, int sourceId, int targetId, Appendable out) throws IOException {
+        String sourceName = nodeNameOf(edge.getSourceNode());
+        if(sourceName.charAt(0) == '#'){
+            throw new IllegalArgumentException("A source node name cannot start with '#': " + sourceName);
+        }
+        out.append(sourceName).append(delimiter).append(nodeNameOf(edge.getTargetNode()));
+
+        String name = edge instanceof NamedEdge ? ((NamedEdge<?>) edge).getName() : null;
+        if(name != null && name.isEmpty()){
+            name = null;
+        }
+        if(name != null){
+            checkName(name);
+        }
+        if(edge instanceof WeightedEdge){
+            out.append(delimiter).append(String.valueOf(((WeightedEdge<?>) edge).getWeight()));
+        } else if(name != null){
+            out.append(delimiter).append(String.valueOf(WeightedEdge.DEFAULT_EDGE_WEIGHT));
+        }
+        if(name != null){
+            out.append(delimiter).append(name);
+        }
+        out.append('\n');
+    }
+
+    @Override
+    protected void writeFooter(long omittedEdges, Appendable out) throws IOException {
+        if(omittedEdges > 0){
+            out.append("# ").append(String.valueOf(omittedEdges)).append(" more edges omitted\n");
+        }
+    }
+
+    private String nodeNameOf(Node node) {
+        String name = node.getName();
+        if(name == null || name.isEmpty()){
+            throw new IllegalArgumentException("The node has no name: " + node);
+        }
+        checkName(name);
+        return name;
+    }
+
+    /**
+     * Checks that a name would be read back unchanged by the importer.
+     *
+     * @throws IllegalArgumentException if the name contains the delimiter or
+     *         a line break, or starts or ends with a blank.
+     */
+    private void checkName(String name) {
+        if(name.indexOf(delimiter) >= 0 || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0){
+            throw new IllegalArgumentException("A name cannot contain the delimiter or a line break: " + name);
+        }
+        if(isBlank(name.charAt(0)) || isBlank(name.charAt(name.length() - 1))){
+            throw new IllegalArgumentException("A name cannot start or end with a blank: '" + name + "'");
+        }
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
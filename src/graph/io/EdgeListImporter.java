@@ -0,0 +1,459 @@
+package graph.io;
+
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.components.CompactWeightedGraph;
+import graph.components.NamedWeightedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class imports weighted edges from a text file containing one edge per
+ * line, in the format: source,target[,weight[,name]]
+ *
+ * <p>
+ * The file is memory-mapped and split into chunks that end at a line break.
+ * The chunks are parsed in parallel, directly from the bytes of the file:
+ * weights are parsed without creating Strings, and node and edge names are
+ * interned so that a String is only created the first time a name is found.
+ * Every occurrence of a node name is mapped to the same BasicNode.
+ * </p>
+ *
+ * <p>
+ * Edges without a weight are given the weight WeightedEdge.DEFAULT_EDGE_WEIGHT.
+ * Edges with a name are created as NamedWeightedEdges, the others as
+ * BasicWeightedEdges. Spaces and tabs around the fields are ignored, as are
+ * blank lines and lines starting with '#'. Lines that cannot be parsed are
+ * skipped and reported in the ImportReport. Names are read as UTF-8 and
+ * cannot contain the delimiter: quoted fields are not supported.
+ * </p>
+ *
+ * <p>
+ * The edges are added to the graph in the order in which they appear in the
+ * file, so an import always produces the same graph.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class EdgeListImporter {
+
+    /**
+     * Largest number of malformed lines kept in the ImportReport
+     */
+    public static final int MAX_REPORTED_MALFORMED_LINES = 100;
+
+    /**
+     * Default size of the chunks into which the file is split, in bytes
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAX_FIELDS = 4;
+
+    private final File file;
+    private byte delimiter = ',';
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Creates an importer that reads the edges of a file.
+     *
+     * @param file containing the edges
+     *
+     * @throws IllegalArgumentException if file is null.
+     */
+    public EdgeListImporter(File file) {
+        if(file == null){
+            throw new IllegalArgumentException("The file is null");
+        }
+        this.file = file;
+    }
+
+    /**
+     * Sets the character separating the fields of a line. The default
+     * delimiter is ','.
+     *
+     * @param delimiter is an ASCII character other than a space, a tab or a line break.
+     *
+     * @throws IllegalArgumentException if the delimiter is not valid.
+     */
+    public void setDelimiter(char delimiter) {
+        if(delimiter > 127 || delimiter == ' ' || delimiter == '\t' || delimiter == '\n' || delimiter == '\r'){
+            throw new IllegalArgumentException("The delimiter must be an ASCII character other than a space, a tab or a line break");
+        }
+        this.delimiter = (byte) delimiter;
+    }
+
+    /**
+     * Sets the number of threads parsing the file. The default is the
+     * number of available processors.
+     *
+     * @param threadCount is the number of threads, at least 1.
+     *
+     * @throws IllegalArgumentException if threadCount is smaller than 1.
+     */
+    public void setThreadCount(int threadCount) {
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Sets the size of the chunks into which the file is split. Chunks are
+     * extended to the end of the line on which they would end.
+     *
+     * @param chunkSize is the size of the chunks, in bytes, at least 1.
+     *
+     * @throws IllegalArgumentException if chunkSize is smaller than 1.
+     */
+    public void setChunkSize(int chunkSize) {
+        if(chunkSize < 1){
+            throw new IllegalArgumentException("The chunk size must be at least 1");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the edges of the file into a graph.
+     *
+     * @param graph into which the edges are imported
+     *
+     * @return a report of the import, containing the graph.
+     *
+     * @throws IllegalArgumentException if graph is null.
+     * @throws IOException if the file cannot be read.
+     */
+    public <G extends WeightedGraph<Node, WeightedEdge<Node>>> ImportReport<G> importInto(G graph) throws IOException {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+
+        long start = System.nanoTime();
+        List<Chunk> chunks = parse();
+        for(Chunk chunk : chunks){
+            for(WeightedEdge<Node> edge : chunk.edges){
+                graph.addEdge(edge);
+            }
+            chunk.edges = null;
+        }
+        return report(graph, chunks, start);
+    }
+
+    /**
+     * Imports the edges of the file into a CompactWeightedGraph, without
+     * building a modifiable graph first.
+     *
+     * @return a report of the import, containing the graph.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public ImportReport<CompactWeightedGraph<Node, WeightedEdge<Node>>> importCompact() throws IOException {
+        long start = System.nanoTime();
+        List<Chunk> chunks = parse();
+
+        int edgeCount = 0;
+        for(Chunk chunk : chunks){
+            edgeCount += chunk.edges.size();
+        }
+        List<WeightedEdge<Node>> edges = new ArrayList<WeightedEdge<Node>>(edgeCount);
+        for(Chunk chunk : chunks){
+            edges.addAll(chunk.edges);
+            chunk.edges = null;
+        }
+
+        CompactWeightedGraph<Node, WeightedEdge<Node>> graph = new CompactWeightedGraph<Node, WeightedEdge<Node>>(edges);
+        return report(graph, chunks, start);
+    }
+
+    /**
+     * Splits the file into chunks and parses them in parallel.
+     *
+     * @return the parsed chunks, in the order in which they appear in the file.
+     */
+    private List<Chunk> parse() throws IOException {
+        NameTable<Node> nodeNames = new NameTable<Node>() {
+            @Override
+            Node create(String name) {
+                return new BasicNode(name);
+            }
+        };
+        NameTable<String> edgeNames = new NameTable<String>() {
+            @Override
+            String create(String name) {
+                return name;
+            }
+        };
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            List<Future<Chunk>> futures = new ArrayList<Future<Chunk>>();
+            long size = channel.size();
+            long chunkStart = 0;
+            while(chunkStart < size){
+                long chunkEnd = findChunkEnd(channel, chunkStart, size);
+                if(chunkEnd - chunkStart > Integer.MAX_VALUE){
+                    throw new IOException("A line starting at byte " + chunkStart + " is too long to be mapped");
+                }
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+                futures.add(executor.submit(new ChunkParser(buffer, delimiter, nodeNames, edgeNames)));
+                chunkStart = chunkEnd;
+            }
+
+            List<Chunk> chunks = new ArrayList<Chunk>(futures.size());
+            for(Future<Chunk> future : futures){
+                chunks.add(future.get());
+            }
+            return chunks;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("The import was interrupted");
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IOException("The file could not be parsed", cause);
+        } finally {
+            executor.shutdownNow();
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Returns the end of the chunk starting at the specified position: the
+     * position following the first line break found after chunkSize bytes,
+     * or the end of the file.
+     */
+    private long findChunkEnd(FileChannel channel, long chunkStart, long size) throws IOException {
+        long position = chunkStart + chunkSize;
+        if(position >= size){
+            return size;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        while(position < size){
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if(read <= 0){
+                break;
+            }
+            for(int i = 0; i < read; i++){
+                if(buffer.get(i) == '\n'){
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private <G extends WeightedGraph<Node, WeightedEdge<Node>>> ImportReport<G> report(G graph, List<Chunk> chunks, long start) {
+        long lineCount = 0;
+        long edgeCount = 0;
+        long malformedLineCount = 0;
+        List<MalformedLine> malformedLines = new ArrayList<MalformedLine>();
+        for(Chunk chunk : chunks){
+            for(MalformedLine line : chunk.malformedLines){
+                if(malformedLines.size() < MAX_REPORTED_MALFORMED_LINES){
+                    malformedLines.add(new MalformedLine(lineCount + line.getLineNumber(), line.getContent(), line.getReason()));
+                }
+            }
+            lineCount += chunk.lineCount;
+            edgeCount += chunk.edgeCount;
+            malformedLineCount += chunk.malformedLineCount;
+        }
+        return new ImportReport<G>(graph, lineCount, edgeCount, malformedLineCount, malformedLines, System.nanoTime() - start);
+    }
+
+    /**
+     * Result of the parsing of a chunk. The line numbers of the malformed
+     * lines are relative to the start of the chunk.
+     */
+    private static final class Chunk {
+        private List<WeightedEdge<Node>> edges = new ArrayList<WeightedEdge<Node>>();
+        private final List<MalformedLine> malformedLines = new ArrayList<MalformedLine>();
+        private long lineCount;
+        private long edgeCount;
+        private long malformedLineCount;
+    }
+
+    /**
+     * Task parsing the lines of a chunk.
+     */
+    private static final class ChunkParser implements Callable<Chunk> {
+        private final ByteBuffer buffer;
+        private final byte delimiter;
+        private final NameTable<Node> nodeNames;
+        private final NameTable<String> edgeNames;
+        private final NameTable.NameKey probe = new NameTable.NameKey();
+
+        /**
+         * Start and end of the fields of the line being parsed
+         */
+        private final int[] fieldStarts = new int[MAX_FIELDS];
+        private final int[] fieldEnds = new int[MAX_FIELDS];
+
+        /**
+         * Weight parsed by parseWeight()
+         */
+        private long weight;
+
+        private ChunkParser(ByteBuffer buffer, byte delimiter, NameTable<Node> nodeNames, NameTable<String> edgeNames) {
+            this.buffer = buffer;
+            this.delimiter = delimiter;
+            this.nodeNames = nodeNames;
+            this.edgeNames = edgeNames;
+        }
+
+        @Override
+        public Chunk call() {
+            Chunk chunk = new Chunk();
+            int limit = buffer.limit();
+            int lineStart = 0;
+            while(lineStart < limit){
+                int lineEnd = lineStart;
+                while(lineEnd < limit && buffer.get(lineEnd) != '\n'){
+                    lineEnd++;
+                }
+                chunk.lineCount++;
+                parseLine(chunk, lineStart, lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd);
+                lineStart = lineEnd + 1;
+            }
+            return chunk;
+        }
+
+        private void parseLine(Chunk chunk, int lineStart, int lineEnd) {
+            int start = skipBlanks(lineStart, lineEnd);
+            if(start == lineEnd || buffer.get(start) == '#'){
+                return;
+            }
+
+            int fieldCount = 0;
+            int fieldStart = lineStart;
+            for(int i = lineStart; i <= lineEnd; i++){
+                if(i == lineEnd || buffer.get(i) == delimiter){
+                    if(fieldCount == MAX_FIELDS){
+                        malformed(chunk, lineStart, lineEnd, "Too many fields");
+                        return;
+                    }
+                    int trimmedStart = skipBlanks(fieldStart, i);
+                    int trimmedEnd = i;
+                    while(trimmedEnd > trimmedStart && isBlank(buffer.get(trimmedEnd - 1))){
+                        trimmedEnd--;
+                    }
+                    fieldStarts[fieldCount] = trimmedStart;
+                    fieldEnds[fieldCount] = trimmedEnd;
+                    fieldCount++;
+                    fieldStart = i + 1;
+                }
+            }
+
+            if(fieldCount < 2){
+                malformed(chunk, lineStart, lineEnd, "Expected source,target[,weight[,name]]");
+                return;
+            }
+            if(fieldStarts[0] == fieldEnds[0] || fieldStarts[1] == fieldEnds[1]){
+                malformed(chunk, lineStart, lineEnd, "Empty node name");
+                return;
+            }
+            weight = WeightedEdge.DEFAULT_EDGE_WEIGHT;
+            if(fieldCount > 2 && !parseWeight(fieldStarts[2], fieldEnds[2])){
+                malformed(chunk, lineStart, lineEnd, "Invalid weight");
+                return;
+            }
+
+            Node sourceNode = nodeNames.intern(buffer, fieldStarts[0], fieldEnds[0] - fieldStarts[0], probe);
+            Node targetNode = nodeNames.intern(buffer, fieldStarts[1], fieldEnds[1] - fieldStarts[1], probe);
+            if(fieldCount > 3 && fieldStarts[3] < fieldEnds[3]){
+                String name = edgeNames.intern(buffer, fieldStarts[3], fieldEnds[3] - fieldStarts[3], probe);
+                chunk.edges.add(new NamedWeightedEdge<Node>(name, sourceNode, targetNode, weight));
+            } else {
+                chunk.edges.add(new BasicWeightedEdge<Node>(sourceNode, targetNode, weight));
+            }
+            chunk.edgeCount++;
+        }
+
+        /**
+         * Parses a decimal long, optionally preceded by a sign, into the
+         * weight field.
+         *
+         * @return boolean indicating if the field contains a valid long.
+         */
+        private boolean parseWeight(int start, int end) {
+            if(start == end){
+                return false;
+            }
+
+            boolean negative = false;
+            int i = start;
+            byte first = buffer.get(i);
+            if(first == '-' || first == '+'){
+                negative = first == '-';
+                i++;
+                if(i == end){
+                    return false;
+                }
+            }
+
+            // Accumulated negatively, like Long.parseLong(), so that Long.MIN_VALUE can be parsed
+            long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+            long result = 0;
+            for(; i < end; i++){
+                int digit = buffer.get(i) - '0';
+                if(digit < 0 || digit > 9){
+                    return false;
+                }
+                if(result < (limit + digit) / 10){
+                    return false;
+                }
+                result = result * 10 - digit;
+            }
+            weight = negative ? result : -result;
+            return true;
+        }
+
+        private int skipBlanks(int start, int end) {
+            while(start < end && isBlank(buffer.get(start))){
+                start++;
+            }
+            return start;
+        }
+
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t';
+        }
+
+        private void malformed(Chunk chunk, int lineStart, int lineEnd, String reason) {
+            chunk.malformedLineCount++;
+            if(chunk.malformedLines.size() < MAX_REPORTED_MALFORMED_LINES){
+                byte[] content = new byte[lineEnd - lineStart];
+                for(int i = 0; i < content.length; i++){
+                    content[i] = buffer.get(lineStart + i);
+                }
+                chunk.malformedLines.add(new MalformedLine(chunk.lineCount, new String(content, NameTable.UTF_8), reason));
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package graph.io;
+
+import graph.elements.Graph;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class is the base of the exporters that write a graph to a stream.
+ * The graph is written one edge at a time through a buffer of fixed size,
+ * so the memory used by an export does not depend on the size of the graph.
+ *
+ * <p>
+ * The number of edges written can be limited with setMaxEdges(), which
+ * allows large graphs to be logged safely. The output can be compressed
+ * with GZIP.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public abstract class GraphExporter {
+
+    /**
+     * Compression applied to the output of an exporter
+     */
+    public enum Compression {
+        NONE,
+        GZIP
+    }
+
+    /**
+     * Size of the buffers through which the output is written, in bytes
+     */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private long maxEdges = Long.MAX_VALUE;
+    private Compression compression = Compression.NONE;
+
+    /**
+     * Sets the largest number of edges written by an export. The edges that
+     * are left out are counted in the output. By default, all the edges are
+     * written.
+     *
+     * @param maxEdges is the largest number of edges to be written, at least 0.
+     *
+     * @throws IllegalArgumentException if maxEdges is negative.
+     */
+    public void setMaxEdges(long maxEdges) {
+        if(maxEdges < 0){
+            throw new IllegalArgumentException("The maximum number of edges cannot be negative");
+        }
+        this.maxEdges = maxEdges;
+    }
+
+    /**
+     * @return the largest number of edges written by an export.
+     */
+    public long getMaxEdges() {
+        return maxEdges;
+    }
+
+    /**
+     * Sets the compression applied to the output written to streams,
+     * channels and files. By default, the output is not compressed.
+     *
+     * @param compression to be applied to the output
+     *
+     * @throws IllegalArgumentException if compression is null.
+     */
+    public void setCompression(Compression compression) {
+        if(compression == null){
+            throw new IllegalArgumentException("The compression is null");
+        }
+        this.compression = compression;
+    }
+
+    /**
+     * @return the compression applied to the output.
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Writes a graph to a stream. The stream is flushed but not closed.
+     *
+     * @param graph to be exported
+     * @param out stream to which the graph is written
+     *
+     * @throws IllegalArgumentException if graph or out is null.
+     * @throws IOException if the graph cannot be written to the stream.
+     */
+    public void export(Graph<?, ?> graph, OutputStream out) throws IOException {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(out == null){
+            throw new IllegalArgumentException("The output stream is null");
+        }
+
+        if(compression == Compression.GZIP){
+            GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+            write(graph, gzip);
+            gzip.finish();
+        } else {
+            write(graph, out);
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes a graph to a channel. The channel is not closed.
+     *
+     * @param graph to be exported
+     * @param channel to which the graph is written
+     *
+     * @throws IllegalArgumentException if graph or channel is null.
+     * @throws IOException if the graph cannot be written to the channel.
+     */
+    public void export(Graph<?, ?> graph, WritableByteChannel channel) throws IOException {
+        if(channel == null){
+            throw new IllegalArgumentException("The channel is null");
+        }
+        export(graph, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Writes a graph to a file, replacing its content.
+     *
+     * @param graph to be exported
+     * @param file to which the graph is written
+     *
+     * @throws IllegalArgumentException if graph or file is null.
+     * @throws IOException if the graph cannot be written to the file.
+     */
+    public void export(Graph<?, ?> graph, File file) throws IOException {
+        if(file == null){
+            throw new IllegalArgumentException("The file is null");
+        }
+        OutputStream out = new FileOutputStream(file);
+        try {
+            export(graph, out);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes a graph to a stream, applying the maximum number of edges.
+     * Implementations must flush their buffers but must not close the stream.
+     *
+     * @param graph to be exported
+     * @param out stream to which the graph is written
+     *
+     * @throws IOException if the graph cannot be written to the stream.
+     */
+    protected abstract void write(Graph<?, ?> graph, OutputStream out) throws IOException;
+}
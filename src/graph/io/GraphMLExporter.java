@@ -0,0 +1,94 @@
+package graph.io;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.IOException;
+
+/**
+ * This class writes a graph in the GraphML format. The names of the nodes
+ * and edges, and the weights of the edges, are written as data elements
+ * with the keys "name" and "weight".
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class GraphMLExporter extends TextGraphExporter {
+
+    @Override
+    protected void writeHeader(Graph<?, ?> graph, Appendable out) throws IOException {
+        out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.append("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n");
+        out.append("  <key id=\"name\" for=\"all\" attr.name=\"name\" attr.type=\"string\"/>\n");
+        out.append("  <key id=\"weight\" for=\"edge\" attr.name=\"weight\" attr.type=\"long\"/>\n");
+        out.append("  <graph id=\"G\" edgedefault=\"directed\">\n");
+    }
+
+    @Override
+    protected void writeNode(Node node, int id, Appendable out) throws IOException {
+        out.append("    <node id=\"n").append(String.valueOf(id)).append('"');
+        if(node.getName() == null){
+            out.append("/>\n");
+        } else {
+            out.append("><data key=\"name\">");
+            appendEscaped(node.getName(), out);
+            out.append("</data></node>\n");
+        }
+    }
+
+    @Override
+    protected void writeEdge(Edge<?> edge, int sourceId, int targetId, Appendable out) throws IOException {
+        out.append("    <edge source=\"n").append(String.valueOf(sourceId))
+           .append("\" target=\"n").append(String.valueOf(targetId)).append('"');
+
+        String name = edge instanceof NamedEdge ? ((NamedEdge<?>) edge).getName() : null;
+        if(name == null && !(edge instanceof WeightedEdge)){
+            out.append("/>\n");
+            return;
+        }
+        out.append('>');
+        if(edge instanceof WeightedEdge){
+            out.append("<data key=\"weight\">").append(String.valueOf(((WeightedEdge<?>) edge).getWeight())).append("</data>");
+        }
+        if(name != null){
+            out.append("<data key=\"name\">");
+            appendEscaped(name, out);
+            out.append("</data>");
+        }
+        out.append("</edge>\n");
+    }
+
+    @Override
+    protected void writeFooter(long omittedEdges, Appendable out) throws IOException {
+        if(omittedEdges > 0){
+            out.append("    <!-- ").append(String.valueOf(omittedEdges)).append(" more edges omitted -->\n");
+        }
+        out.append("  </graph>\n");
+        out.append("</graphml>\n");
+    }
+
+    private static void appendEscaped(String text, Appendable out) throws IOException {
+        for(int i = 0; i < text.length(); i++){
+            char c = text.charAt(i);
+            switch(c){
+                case '<':
+                    out.append("&lt;");
+                    break;
+                case '>':
+                    out.append("&gt;");
+                    break;
+                case '&':
+                    out.append("&amp;");
+                    break;
+                case '"':
+                    out.append("&quot;");
+                    break;
+                default:
+                    out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package graph.io;
+
+import graph.elements.Graph;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class contains the result of an import: the graph into which the
+ * edges were imported and statistics on the lines that were read.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <G> is the type of graph into which the edges were imported.
+ */
+public final class ImportReport<G extends Graph<?, ?>> {
+
+    private final G graph;
+    private final long lineCount;
+    private final long edgeCount;
+    private final long malformedLineCount;
+    private final List<MalformedLine> malformedLines;
+    private final long durationNanos;
+
+    ImportReport(G graph, long lineCount, long edgeCount, long malformedLineCount,
+            List<MalformedLine> malformedLines, long durationNanos) {
+        this.graph = graph;
+        this.lineCount = lineCount;
+        this.edgeCount = edgeCount;
+        this.malformedLineCount = malformedLineCount;
+        this.malformedLines = Collections.unmodifiableList(malformedLines);
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * @return the graph into which the edges were imported.
+     */
+    public G getGraph() {
+        return graph;
+    }
+
+    /**
+     * @return the number of lines read, including the blank, comment and
+     *         malformed lines.
+     */
+    public long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * @return the number of edges read from the file.
+     */
+    public long getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @return the number of lines that could not be parsed.
+     */
+    public long getMalformedLineCount() {
+        return malformedLineCount;
+    }
+
+    /**
+     * Returns the first malformed lines of the file, in the order in which
+     * they appear in the file. At most EdgeListImporter.MAX_REPORTED_MALFORMED_LINES
+     * lines are returned.
+     *
+     * @return an unmodifiable list of the first malformed lines.
+     */
+    public List<MalformedLine> getMalformedLines() {
+        return malformedLines;
+    }
+
+    /**
+     * @return the time taken by the import, in nanoseconds.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return the number of lines read per second.
+     */
+    public double getLinesPerSecond() {
+        if(durationNanos == 0) {
+            return 0;
+        }
+        return lineCount * 1e9 / durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReport[Lines: " + lineCount + ", Edges: " + edgeCount + ", Malformed lines: " + malformedLineCount
+               + ", Lines per second: " + (long) getLinesPerSecond() + "]";
+    }
+}
@@ -0,0 +1,183 @@
+package graph.io;
+
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.components.NamedWeightedEdge;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This class contains a record read from the snapshot or the write-ahead
+ * log of a DurableGraph, along with the methods that encode and decode the
+ * records. See BinaryFormat for the layout of the records.
+ *
+ * <p>
+ * Nodes are read as BasicNodes, edges with a name as NamedWeightedEdges and
+ * the other edges as BasicWeightedEdges, like the BinaryGraphImporter does.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class LogRecord {
+
+    /**
+     * Tag of the record, one of the record constants of BinaryFormat
+     */
+    final int tag;
+
+    /**
+     * Id of the node or edge to which the record applies
+     */
+    final long id;
+
+    /**
+     * Ids of the nodes of an added edge
+     */
+    final long sourceId;
+    final long targetId;
+
+    /**
+     * New weight of an edge
+     */
+    final long weight;
+
+    /**
+     * Node that was added or removed, or edge that was added
+     */
+    final Node node;
+    final WeightedEdge<Node> edge;
+
+    private LogRecord(int tag, long id, long sourceId, long targetId, long weight, Node node, WeightedEdge<Node> edge) {
+        this.tag = tag;
+        this.id = id;
+        this.sourceId = sourceId;
+        this.targetId = targetId;
+        this.weight = weight;
+        this.node = node;
+        this.edge = edge;
+    }
+
+    static void writeNode(DataOutput out, long id, Node node) throws IOException {
+        out.writeByte(BinaryFormat.NODE_RECORD);
+        BinaryFormat.writeVarLong(out, id);
+        BinaryFormat.writeString(out, node.getName());
+    }
+
+    static void writeEdge(DataOutput out, long id, long sourceId, long targetId, long weight, String name) throws IOException {
+        out.writeByte(BinaryFormat.EDGE_RECORD);
+        BinaryFormat.writeVarLong(out, id);
+        out.writeByte(BinaryFormat.WEIGHTED_EDGE | (name != null ? BinaryFormat.NAMED_EDGE : 0));
+        BinaryFormat.writeVarLong(out, sourceId);
+        BinaryFormat.writeVarLong(out, targetId);
+        BinaryFormat.writeSignedVarLong(out, weight);
+        if(name != null){
+            BinaryFormat.writeString(out, name);
+        }
+    }
+
+    static void writeRemoval(DataOutput out, int tag, long id) throws IOException {
+        out.writeByte(tag);
+        BinaryFormat.writeVarLong(out, id);
+    }
+
+    static void writeWeight(DataOutput out, long id, long weight) throws IOException {
+        out.writeByte(BinaryFormat.WEIGHT_RECORD);
+        BinaryFormat.writeVarLong(out, id);
+        BinaryFormat.writeSignedVarLong(out, weight);
+    }
+
+    static void writeResetWeights(DataOutput out) throws IOException {
+        out.writeByte(BinaryFormat.RESET_WEIGHTS_RECORD);
+    }
+
+    /**
+     * @param nextNodeId next node id read from the end of a snapshot
+     * @param nextEdgeId next edge id read from the end of a snapshot
+     *
+     * @return an END_RECORD carrying the ids in its sourceId and targetId.
+     */
+    static LogRecord idCounters(long nextNodeId, long nextEdgeId) {
+        return new LogRecord(BinaryFormat.END_RECORD, 0, nextNodeId, nextEdgeId, 0, null, null);
+    }
+
+    /**
+     * @param edge whose name is returned
+     *
+     * @return the name of the edge, or null if it is not named.
+     */
+    static String nameOf(WeightedEdge<?> edge) {
+        if(edge instanceof NamedEdge){
+            String name = ((NamedEdge<?>) edge).getName();
+            if(name != null && !name.trim().isEmpty()){
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads a record, after its tag. The nodes read are added to the map of
+     * nodes, and the nodes removed are taken out of it.
+     *
+     * @param in stream from which the record is read
+     * @param tag of the record
+     * @param nodes read so far, by id
+     *
+     * @return the record that was read.
+     *
+     * @throws IOException if the record is malformed or refers to an unknown node.
+     */
+    static LogRecord read(DataInput in, int tag, Map<Long, Node> nodes) throws IOException {
+        if(tag == BinaryFormat.RESET_WEIGHTS_RECORD){
+            return new LogRecord(tag, 0, 0, 0, 0, null, null);
+        }
+        long id = BinaryFormat.readVarLong(in);
+        if(tag == BinaryFormat.NODE_RECORD){
+            String name = BinaryFormat.readString(in);
+            if(name == null || name.trim().isEmpty()){
+                throw new IOException("The graph contains a node without a name");
+            }
+            Node node = new BasicNode(name);
+            nodes.put(id, node);
+            return new LogRecord(tag, id, 0, 0, 0, node, null);
+        } else if(tag == BinaryFormat.EDGE_RECORD){
+            int flags = in.readUnsignedByte();
+            long sourceId = BinaryFormat.readVarLong(in);
+            long targetId = BinaryFormat.readVarLong(in);
+            Node sourceNode = nodeOf(nodes, sourceId);
+            Node targetNode = nodeOf(nodes, targetId);
+            long weight = BinaryFormat.readSignedVarLong(in);
+            WeightedEdge<Node> edge;
+            if((flags & BinaryFormat.NAMED_EDGE) != 0){
+                edge = new NamedWeightedEdge<Node>(BinaryFormat.readString(in), sourceNode, targetNode, weight);
+            } else {
+                edge = new BasicWeightedEdge<Node>(sourceNode, targetNode, weight);
+            }
+            return new LogRecord(tag, id, sourceId, targetId, weight, null, edge);
+        } else if(tag == BinaryFormat.REMOVE_EDGE_RECORD){
+            return new LogRecord(tag, id, 0, 0, 0, null, null);
+        } else if(tag == BinaryFormat.REMOVE_NODE_RECORD){
+            Node node = nodeOf(nodes, id);
+            nodes.remove(id);
+            return new LogRecord(tag, id, 0, 0, 0, node, null);
+        } else if(tag == BinaryFormat.WEIGHT_RECORD){
+            return new LogRecord(tag, id, 0, 0, BinaryFormat.readSignedVarLong(in), null, null);
+        }
+        throw new IOException("Unknown record: " + tag);
+    }
+
+    private static Node nodeOf(Map<Long, Node> nodes, long id) throws IOException {
+        Node node = nodes.get(id);
+        if(node == null){
+            throw new IOException("Unknown node id: " + id);
+        }
+        return node;
+    }
+}
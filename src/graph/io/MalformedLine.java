@@ -0,0 +1,46 @@
+package graph.io;
+
+/**
+ * This class describes a line of an imported file that could not be parsed.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class MalformedLine {
+
+    private final long lineNumber;
+    private final String content;
+    private final String reason;
+
+    MalformedLine(long lineNumber, String content, String reason) {
+        this.lineNumber = lineNumber;
+        this.content = content;
+        this.reason = reason;
+    }
+
+    /**
+     * @return the number of the line in the file, starting at 1.
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return the content of the line, without its line terminator.
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * @return the reason why the line could not be parsed.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "MalformedLine[Line: " + lineNumber + ", Reason: " + reason + ", Content: " + content + "]";
+    }
+}
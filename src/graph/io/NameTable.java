@@ -0,0 +1,133 @@
+package graph.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class interns the names read by the importer, so that every
+ * occurrence of a name is mapped to the same object. Names are looked up
+ * directly from the bytes of the file: a String is only created the first
+ * time a name is found.
+ *
+ * <p>
+ * NOTE: The table can be used by several threads at the same time, as long
+ * as each thread uses its own probe key.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <T> is the type of object to which the names are mapped.
+ */
+abstract class NameTable<T> {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ConcurrentMap<NameKey, T> table = new ConcurrentHashMap<NameKey, T>();
+
+    /**
+     * Creates the object to which a new name is mapped.
+     *
+     * @param name found for the first time
+     *
+     * @return the object to which the name is mapped.
+     */
+    abstract T create(String name);
+
+    /**
+     * Returns the object to which a name is mapped, creating it if the name
+     * was never found before.
+     *
+     * @param buffer containing the name
+     * @param offset of the first byte of the name in the buffer
+     * @param length of the name, in bytes
+     * @param probe key owned by the calling thread, used for the lookup
+     *
+     * @return the object to which the name is mapped.
+     */
+    T intern(ByteBuffer buffer, int offset, int length, NameKey probe) {
+        probe.wrap(buffer, offset, length);
+        T value = table.get(probe);
+        if(value == null) {
+            NameKey key = probe.copy();
+            T newValue = create(new String(key.bytes, UTF_8));
+            value = table.putIfAbsent(key, newValue);
+            if(value == null) {
+                value = newValue;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return the number of distinct names in the table.
+     */
+    int size() {
+        return table.size();
+    }
+
+    /**
+     * Key of the table. A key either points to a slice of a buffer, when it
+     * is used to look up a name, or holds a copy of the name's bytes, when
+     * it is stored in the table.
+     */
+    static final class NameKey {
+        private ByteBuffer buffer;
+        private byte[] bytes;
+        private int offset;
+        private int length;
+        private int hash;
+
+        private void wrap(ByteBuffer buffer, int offset, int length) {
+            this.buffer = buffer;
+            this.bytes = null;
+            this.offset = offset;
+            this.length = length;
+
+            int h = 0;
+            for(int i = offset; i < offset + length; i++) {
+                h = 31 * h + buffer.get(i);
+            }
+            hash = h;
+        }
+
+        private NameKey copy() {
+            NameKey key = new NameKey();
+            key.bytes = new byte[length];
+            for(int i = 0; i < length; i++) {
+                key.bytes[i] = byteAt(i);
+            }
+            key.length = length;
+            key.hash = hash;
+            return key;
+        }
+
+        private byte byteAt(int i) {
+            return bytes != null ? bytes[offset + i] : buffer.get(offset + i);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof NameKey)) {
+                return false;
+            }
+            NameKey other = (NameKey) o;
+            if(hash != other.hash || length != other.length) {
+                return false;
+            }
+            for(int i = 0; i < length; i++) {
+                if(byteAt(i) != other.byteAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package graph.io;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is the base of the exporters that write a graph as text.
+ * Besides streams, channels and files, text exporters can append the graph
+ * to any Appendable, such as a Writer or a StringBuilder. Text written to streams
+ * is encoded in UTF-8.
+ *
+ * <p>
+ * The nodes are numbered in the order in which they are first reached while
+ * going through the edges, and each node is written just before the first
+ * edge connected to it. Only the nodes of the edges that are written are
+ * written.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public abstract class TextGraphExporter extends GraphExporter {
+
+    /**
+     * Writes a graph to an Appendable. The Appendable is neither flushed
+     * nor closed.
+     *
+     * @param graph to be exported
+     * @param out Appendable to which the graph is written
+     *
+     * @throws IllegalArgumentException if graph or out is null.
+     * @throws IOException if the graph cannot be written to the Appendable.
+     */
+    public void append(Graph<?, ?> graph, Appendable out) throws IOException {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+        if(out == null){
+            throw new IllegalArgumentException("The output is null");
+        }
+
+        Map<Node, Integer> nodeIds = new HashMap<Node, Integer>();
+        long maxEdges = getMaxEdges();
+        long writtenEdges = 0;
+
+        writeHeader(graph, out);
+        for(Edge<?> edge : graph.getAllEdges()){
+            if(writtenEdges == maxEdges){
+                break;
+            }
+            int sourceId = nodeId(edge.getSourceNode(), nodeIds, out);
+            int targetId = nodeId(edge.getTargetNode(), nodeIds, out);
+            writeEdge(edge, sourceId, targetId, out);
+            writtenEdges++;
+        }
+        writeFooter(graph.getAllEdges().size() - writtenEdges, out);
+    }
+
+    @Override
+    protected void write(Graph<?, ?> graph, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, NameTable.UTF_8), BUFFER_SIZE);
+        append(graph, writer);
+        writer.flush();
+    }
+
+    private int nodeId(Node node, Map<Node, Integer> nodeIds, Appendable out) throws IOException {
+        Integer id = nodeIds.get(node);
+        if(id == null){
+            id = nodeIds.size();
+            nodeIds.put(node, id);
+            writeNode(node, id, out);
+        }
+        return id;
+    }
+
+    /**
+     * Writes what comes before the nodes and edges.
+     *
+     * @param graph being exported
+     * @param out Appendable to which the graph is written
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    protected abstract void writeHeader(Graph<?, ?> graph, Appendable out) throws IOException;
+
+    /**
+     * Writes a node, the first time it is reached.
+     *
+     * @param node to be written
+     * @param id number given to the node
+     * @param out Appendable to which the graph is written
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    protected abstract void writeNode(Node node, int id, Appendable out) throws IOException;
+
+    /**
+     * Writes an edge.
+     *
+     * @param edge to be written
+     * @param sourceId number given to the edge's source node
+     * @param targetId number given to the edge's target node
+     * @param out Appendable to which the graph is written
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    protected abstract void writeEdge(Edge<?> edge, int sourceId, int targetId, Appendable out) throws IOException;
+
+    /**
+     * Writes what comes after the nodes and edges.
+     *
+     * @param omittedEdges number of edges that were not written because of
+     *        the maximum number of edges
+     * @param out Appendable to which the graph is written
+     *
+     * @throws IOException if the output cannot be written.
+     */
+    protected abstract void writeFooter(long omittedEdges, Appendable out) throws IOException;
+}
@@ -0,0 +1,334 @@
+package graph.io;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.zip.CRC32;
+
+/**
+ * This class appends the records of a DurableGraph to a log file. The
+ * records are first appended to a memory buffer; sync() then writes all the
+ * records buffered so far as a single frame and forces them to the disk.
+ *
+ * <p>
+ * The callers of sync() share the writes: while one thread writes a frame,
+ * the others keep appending to a second buffer, and the next caller writes
+ * all of them in the next frame (group commit). A single fsync therefore
+ * makes the records of many writers durable.
+ * </p>
+ *
+ * <p>
+ * Each frame contains the length of its records and their CRC-32 checksum,
+ * so that a frame that was only partly written when the process stopped is
+ * detected and ignored when the log is read.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class WriteAheadLog {
+
+    /**
+     * Sizes of the header of the file (magic number and version) and of the
+     * header of each frame (length and checksum)
+     */
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    private FileOutputStream out;
+
+    /**
+     * Records appended since the last frame was written, and the buffer
+     * that replaces it while the frame is written
+     */
+    private RecordBuffer pending = new RecordBuffer();
+    private RecordBuffer spare = new RecordBuffer();
+
+    /**
+     * Number of appends made, and number of appends that are durable
+     */
+    private long appended;
+    private long durable;
+
+    private boolean flushing;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * Creates a new log file.
+     *
+     * @param file to be created
+     *
+     * @throws IOException if the file cannot be created.
+     */
+    WriteAheadLog(File file) throws IOException {
+        out = open(file);
+    }
+
+    /**
+     * Appends records to the log.
+     *
+     * @param records encoded records
+     *
+     * @return the sequence number of the append, to be passed to sync().
+     *
+     * @throws IllegalStateException if the log is closed or could not be written.
+     */
+    synchronized long append(RecordBuffer records) {
+        if(closed){
+            throw new IllegalStateException("The log is closed");
+        }
+        if(failure != null){
+            throw new IllegalStateException("The log could not be written", failure);
+        }
+        pending.write(records.buffer(), 0, records.size());
+        return ++appended;
+    }
+
+    /**
+     * @return the sequence number of the last append.
+     */
+    synchronized long getSequence() {
+        return appended;
+    }
+
+    /**
+     * Waits until the append with the specified sequence number is durable,
+     * writing and forcing the buffered records to the disk if no other
+     * thread is already doing it.
+     *
+     * @param sequence number returned by append()
+     *
+     * @throws IOException if the log could not be written.
+     */
+    void sync(long sequence) throws IOException {
+        while(true){
+            FileOutputStream file;
+            RecordBuffer batch;
+            long batchEnd;
+            synchronized(this){
+                while(true){
+                    if(failure != null){
+                        throw new IOException("The log could not be written", failure);
+                    }
+                    if(durable >= sequence || closed){
+                        return;
+                    }
+                    if(!flushing){
+                        break;
+                    }
+                    waitForFlush();
+                }
+                flushing = true;
+                file = out;
+                batch = pending;
+                pending = spare;
+                spare = null;
+                batchEnd = appended;
+            }
+
+            IOException error = null;
+            try {
+                writeFrame(file, batch);
+            } catch(IOException e) {
+                error = e;
+            }
+
+            synchronized(this){
+                batch.reset();
+                spare = batch;
+                flushing = false;
+                if(error != null){
+                    failure = error;
+                } else {
+                    durable = batchEnd;
+                }
+                notifyAll();
+            }
+            if(error != null){
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered records to the current file and continues the log
+     * in a new file. The appends made before the rotation are then durable.
+     *
+     * @param file to be created
+     *
+     * @throws IOException if a file could not be written.
+     */
+    synchronized void rotate(File file) throws IOException {
+        flushAndClose();
+        out = open(file);
+        closed = false;
+    }
+
+    /**
+     * Writes the buffered records and closes the log.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    synchronized void close() throws IOException {
+        if(!closed){
+            flushAndClose();
+        }
+    }
+
+    private void flushAndClose() throws IOException {
+        while(flushing){
+            waitForFlush();
+        }
+        if(failure != null){
+            throw new IOException("The log could not be written", failure);
+        }
+        try {
+            writeFrame(out, pending);
+            pending.reset();
+            durable = appended;
+        } catch(IOException e) {
+            failure = e;
+            throw e;
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+
+    private void waitForFlush() throws InterruptedIOException {
+        try {
+            wait();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the log to be written");
+        }
+    }
+
+    private static FileOutputStream open(File file) throws IOException {
+        FileOutputStream stream = new FileOutputStream(file);
+        try {
+            DataOutputStream data = new DataOutputStream(stream);
+            data.writeInt(BinaryFormat.LOG_MAGIC);
+            data.writeInt(BinaryFormat.VERSION);
+            data.flush();
+            stream.getChannel().force(true);
+            return stream;
+        } catch(IOException e) {
+            stream.close();
+            throw e;
+        }
+    }
+
+    private static void writeFrame(FileOutputStream out, RecordBuffer records) throws IOException {
+        if(records.size() == 0){
+            return;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(records.buffer(), 0, records.size());
+        int checksum = (int) crc.getValue();
+        int length = records.size();
+        out.write(new byte[] {(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length,
+                              (byte) (checksum >>> 24), (byte) (checksum >>> 16), (byte) (checksum >>> 8), (byte) checksum});
+        out.write(records.buffer(), 0, length);
+        out.getChannel().force(false);
+    }
+
+    /**
+     * Buffer whose content can be read without being copied.
+     */
+    static final class RecordBuffer extends ByteArrayOutputStream {
+        RecordBuffer() {
+            super(GraphExporter.BUFFER_SIZE);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
+    /**
+     * This class reads the frames of a log file, in order.
+     */
+    static final class Reader {
+        private final DataInputStream in;
+        private boolean torn;
+
+        /**
+         * Number of bytes of the file that were not read yet
+         */
+        private long remaining;
+
+        /**
+         * Opens a log file. A file that ends before the end of its header was
+         * only partly created when the process stopped, and has no frames.
+         *
+         * @param file to be read
+         *
+         * @throws IOException if the file cannot be read or is not a log.
+         */
+        Reader(File file) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), GraphExporter.BUFFER_SIZE));
+            remaining = file.length() - FILE_HEADER_SIZE;
+            try {
+                if(in.readInt() != BinaryFormat.LOG_MAGIC){
+                    throw new IOException("The file is not a graph log: " + file);
+                }
+                int version = in.readInt();
+                if(version != BinaryFormat.VERSION){
+                    throw new IOException("Unsupported graph log version: " + version);
+                }
+            } catch(EOFException e) {
+                torn = true;
+            } catch(IOException e) {
+                in.close();
+                throw e;
+            }
+        }
+
+        /**
+         * @return the records of the next frame, or null if the log ends or
+         *         its next frame is incomplete or corrupt.
+         *
+         * @throws IOException if the file cannot be read.
+         */
+        byte[] nextFrame() throws IOException {
+            if(torn){
+                return null;
+            }
+            try {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                remaining -= FRAME_HEADER_SIZE;
+                if(length < 0 || length > remaining){
+                    torn = true;
+                    return null;
+                }
+                remaining -= length;
+                byte[] records = new byte[length];
+                in.readFully(records);
+                CRC32 crc = new CRC32();
+                crc.update(records, 0, length);
+                if((int) crc.getValue() != checksum){
+                    torn = true;
+                    return null;
+                }
+                return records;
+            } catch(EOFException e) {
+                torn = true;
+                return null;
+            }
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+}
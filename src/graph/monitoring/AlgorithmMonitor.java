@@ -0,0 +1,106 @@
+package graph.monitoring;
+
+import graph.elements.Graph;
+
+/**
+ * This class keeps the listeners that are notified of the runs of the graph
+ * algorithms.
+ *
+ * <p>
+ * Monitoring is disabled while no listeners are registered. The algorithms
+ * then only pay for a single read of the listener array per run: no events
+ * are created and no time is measured.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class AlgorithmMonitor {
+
+    private static final AlgorithmRunListener[] NO_LISTENERS = new AlgorithmRunListener[0];
+
+    private static volatile AlgorithmRunListener[] listeners = NO_LISTENERS;
+
+    /*
+     * This class contains only static methods. Therefore the constructor is private
+     * so that nobody can call it.
+     */
+    private AlgorithmMonitor() {
+    }
+
+    /**
+     * Registers a listener that will be notified of every algorithm run.
+     *
+     * @param listener to be registered.
+     *
+     * @throws IllegalArgumentException if listener is null.
+     */
+    public static synchronized void addListener(AlgorithmRunListener listener) {
+        if(listener == null) {
+            throw new IllegalArgumentException("The listener is null");
+        }
+
+        AlgorithmRunListener[] newListeners = new AlgorithmRunListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, newListeners, 0, listeners.length);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    /**
+     * Removes a registered listener. Does nothing if the listener is not
+     * registered.
+     *
+     * @param listener to be removed.
+     */
+    public static synchronized void removeListener(AlgorithmRunListener listener) {
+        for(int i = 0; i < listeners.length; i++) {
+            if(listeners[i] == listener) {
+                AlgorithmRunListener[] newListeners = new AlgorithmRunListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                listeners = newListeners;
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return boolean indicating if at least one listener is registered.
+     */
+    public static boolean isEnabled() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Starts the monitoring of an algorithm run and notifies the listeners.
+     *
+     * @param algorithm name of the algorithm
+     * @param graph on which the algorithm runs
+     *
+     * @return the event describing the run, or null if monitoring is disabled.
+     */
+    public static AlgorithmRunEvent startRun(String algorithm, Graph<?, ?> graph) {
+        AlgorithmRunListener[] currentListeners = listeners;
+        if(currentListeners.length == 0) {
+            return null;
+        }
+
+        AlgorithmRunEvent event = new AlgorithmRunEvent(algorithm, graph.getAllNodes().size(), graph.getAllEdges().size());
+        for(AlgorithmRunListener listener : currentListeners) {
+            listener.runStarted(event);
+        }
+        return event;
+    }
+
+    static void fireRunCompleted(AlgorithmRunEvent event) {
+        for(AlgorithmRunListener listener : listeners) {
+            listener.runCompleted(event);
+        }
+    }
+
+    static void fireRunFailed(AlgorithmRunEvent event) {
+        for(AlgorithmRunListener listener : listeners) {
+            listener.runFailed(event);
+        }
+    }
+}
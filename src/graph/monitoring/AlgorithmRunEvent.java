@@ -0,0 +1,171 @@
+package graph.monitoring;
+
+/**
+ * This class describes a run of a graph algorithm: the size of its input,
+ * the time it spent copying its input and computing its result, and the
+ * amount of work done by its selection loop. All the durations are in
+ * nanoseconds. A run ends either completed or failed, and the listeners are
+ * notified of exactly one of these.
+ *
+ * <p>
+ * Events are only created while at least one AlgorithmRunListener is
+ * registered with the AlgorithmMonitor.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class AlgorithmRunEvent {
+
+    private final String algorithm;
+    private final int nodeCount;
+    private final int edgeCount;
+    private final long startTimeMillis;
+    private final long startNanos;
+    private long copyCompletedNanos;
+    private long completedNanos;
+    private long nodesSettled;
+    private long edgesScanned;
+    private long edgesRelaxed;
+    private Throwable failure;
+
+    AlgorithmRunEvent(String algorithm, int nodeCount, int edgeCount) {
+        this.algorithm = algorithm;
+        this.nodeCount = nodeCount;
+        this.edgeCount = edgeCount;
+        this.startTimeMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the phase in which the algorithm copies its input.
+     */
+    public void copyCompleted() {
+        copyCompletedNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of the run and notifies the listeners.
+     *
+     * @param nodesSettled number of nodes whose result was finalized
+     * @param edgesScanned number of edges examined by the selection loop
+     * @param edgesRelaxed number of edges that were candidates to join the
+     *        result when they were examined
+     */
+    public void completed(long nodesSettled, long edgesScanned, long edgesRelaxed) {
+        this.completedNanos = System.nanoTime();
+        if(copyCompletedNanos == 0) {
+            copyCompletedNanos = startNanos;
+        }
+        this.nodesSettled = nodesSettled;
+        this.edgesScanned = edgesScanned;
+        this.edgesRelaxed = edgesRelaxed;
+        AlgorithmMonitor.fireRunCompleted(this);
+    }
+
+    /**
+     * Marks the end of a run that was stopped by an exception or an error
+     * and notifies the listeners. Does nothing if the run already ended, for
+     * example if a listener failed while being notified of its completion.
+     *
+     * @param failure thrown by the algorithm
+     */
+    public void failed(Throwable failure) {
+        if(completedNanos != 0) {
+            return;
+        }
+        this.completedNanos = System.nanoTime();
+        if(copyCompletedNanos == 0) {
+            copyCompletedNanos = startNanos;
+        }
+        this.failure = failure;
+        AlgorithmMonitor.fireRunFailed(this);
+    }
+
+    /**
+     * @return the name of the algorithm.
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return the number of nodes in the algorithm's input graph.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the number of edges in the algorithm's input graph.
+     */
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * @return the time at which the run started, in milliseconds since the epoch.
+     */
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * @return the time spent copying the input graph.
+     */
+    public long getCopyDuration() {
+        return copyCompletedNanos - startNanos;
+    }
+
+    /**
+     * @return the time spent computing the result once the input was copied.
+     */
+    public long getComputeDuration() {
+        return completedNanos - copyCompletedNanos;
+    }
+
+    /**
+     * @return the total duration of the run.
+     */
+    public long getDuration() {
+        return completedNanos - startNanos;
+    }
+
+    /**
+     * @return the number of nodes whose result was finalized.
+     */
+    public long getNodesSettled() {
+        return nodesSettled;
+    }
+
+    /**
+     * @return the number of edges examined by the selection loop.
+     */
+    public long getEdgesScanned() {
+        return edgesScanned;
+    }
+
+    /**
+     * @return the number of edges that were candidates to join the result
+     *         when they were examined.
+     */
+    public long getEdgesRelaxed() {
+        return edgesRelaxed;
+    }
+
+    /**
+     * @return the exception or error that stopped the run, or null if the
+     *         run completed.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "AlgorithmRun[Algorithm: " + algorithm + ", Nodes: " + nodeCount + ", Edges: " + edgeCount
+               + ", Copy: " + getCopyDuration() + "ns, Compute: " + getComputeDuration() + "ns, Settled: "
+               + nodesSettled + ", Scanned: " + edgesScanned + ", Relaxed: " + edgesRelaxed
+               + (failure == null ? "" : ", Failure: " + failure) + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package graph.monitoring;
+
+/**
+ * This interface specifies a listener that is notified when the graph
+ * algorithms start a run and when the run completes or fails. Listeners are registered with
+ * AlgorithmMonitor.addListener().
+ *
+ * <p>
+ * NOTE: Listeners are called synchronously by the thread running the
+ * algorithm, so they should return quickly.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public interface AlgorithmRunListener {
+
+    /**
+     * Called when an algorithm starts a run, before it copies its input.
+     *
+     * @param event describing the run. Only the algorithm name, the graph
+     *        size and the start time are set at this point.
+     */
+    void runStarted(AlgorithmRunEvent event);
+
+    /**
+     * Called when an algorithm completes a run.
+     *
+     * @param event describing the run.
+     */
+    void runCompleted(AlgorithmRunEvent event);
+
+    /**
+     * Called when a run is stopped by an exception or an error, instead of
+     * runCompleted(). The counts of the event are not set.
+     *
+     * @param event describing the run. Its failure is set.
+     */
+    void runFailed(AlgorithmRunEvent event);
+}
@@ -0,0 +1,42 @@
+package graph.monitoring;
+
+/**
+ * This enum lists the Graph and WeightedGraph methods whose calls are counted
+ * and timed by an instrumented graph.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public enum GraphOperation {
+    GET_ALL_EDGES("getAllEdges"),
+    GET_EDGES("getEdges"),
+    EDGES("edges"),
+    GET_EDGES_OF("getEdgesOf"),
+    EDGES_OF("edgesOf"),
+    ADD_EDGE("addEdge"),
+    ADD_ALL_EDGES("addAllEdges"),
+    REMOVE_EDGE("removeEdge"),
+    GET_ALL_NODES("getAllNodes"),
+    REMOVE_NODE("removeNode"),
+    IS_EMPTY("isEmpty"),
+    GET_EDGES_WITH_WEIGHT("getEdgesWithWeight"),
+    GET_EDGES_WITH_WEIGHT_ABOVE("getEdgesWithWeightAbove"),
+    GET_EDGES_WITH_WEIGHT_BELOW("getEdgesWithWeightBelow"),
+    EDGES_WITH_WEIGHT("edgesWithWeight"),
+    EDGES_WITH_WEIGHT_ABOVE("edgesWithWeightAbove"),
+    EDGES_WITH_WEIGHT_BELOW("edgesWithWeightBelow"),
+    RESET_EDGE_WEIGHTS("resetEdgeWeights");
+
+    private final String methodName;
+
+    private GraphOperation(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * @return the name of the graph method.
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+}
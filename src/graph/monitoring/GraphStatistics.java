@@ -0,0 +1,217 @@
+package graph.monitoring;
+
+import graph.elements.Graph;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * This class keeps the call counts and latency histograms of the operations
+ * of an instrumented graph, and exposes them, along with the size of the
+ * graph, through JMX.
+ *
+ * <p>
+ * The memory footprint exposed through JMX is the last one estimated by the
+ * application, through estimateMemoryFootprint() on the instrumented graph or
+ * sampleMemoryFootprint(), since walking the graph from a JMX thread would
+ * race with the threads modifying it.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class GraphStatistics implements GraphStatisticsMXBean {
+
+    /**
+     * Domain of the ObjectNames under which the statistics are registered
+     */
+    public static final String JMX_DOMAIN = "graph";
+
+    private final Graph<?, ?> graph;
+    private final LatencyHistogram[] histograms;
+    private ObjectName objectName;
+
+    /**
+     * Last estimate of the graph's memory footprint, or -1
+     */
+    private volatile long estimatedMemoryFootprint = -1;
+
+    /**
+     * Creates empty statistics for the specified graph.
+     *
+     * @param graph whose size is reported.
+     *
+     * @throws IllegalArgumentException if graph is null.
+     */
+    GraphStatistics(Graph<?, ?> graph) {
+        if(graph == null) {
+            throw new IllegalArgumentException("The graph is null");
+        }
+        this.graph = graph;
+
+        histograms = new LatencyHistogram[GraphOperation.values().length];
+        for(int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Records a call to a graph operation.
+     *
+     * @param operation that was called
+     * @param startNanos value of System.nanoTime() when the call started
+     */
+    void record(GraphOperation operation, long startNanos) {
+        histograms[operation.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Keeps an estimate of the graph's memory footprint, to be returned by
+     * getEstimatedMemoryFootprint().
+     *
+     * @param bytes estimated footprint of the graph
+     */
+    void memoryFootprintEstimated(long bytes) {
+        estimatedMemoryFootprint = bytes;
+    }
+
+    /**
+     * Estimates the memory footprint of the graph now, and keeps it for
+     * getEstimatedMemoryFootprint(). Like any other read of the graph, it
+     * must not be called while the graph is being modified.
+     *
+     * @return the estimated footprint of the graph, in bytes.
+     */
+    public long sampleMemoryFootprint() {
+        long bytes = graph.estimateMemoryFootprint().getTotalBytes();
+        estimatedMemoryFootprint = bytes;
+        return bytes;
+    }
+
+    /**
+     * Returns the latency histogram of a graph operation.
+     *
+     * @param operation whose latencies were recorded
+     *
+     * @return the latency histogram of the operation.
+     */
+    public LatencyHistogram getLatencyHistogram(GraphOperation operation) {
+        return histograms[operation.ordinal()];
+    }
+
+    @Override
+    public int getNodeCount() {
+        return graph.getAllNodes().size();
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return graph.getAllEdges().size();
+    }
+
+    @Override
+    public long getEstimatedMemoryFootprint() {
+        return estimatedMemoryFootprint;
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> callCounts = new LinkedHashMap<String, Long>();
+        for(GraphOperation operation : GraphOperation.values()) {
+            callCounts.put(operation.getMethodName(), histograms[operation.ordinal()].getCount());
+        }
+        return callCounts;
+    }
+
+    @Override
+    public List<OperationStatistics> getOperationStatistics() {
+        List<OperationStatistics> statistics = new ArrayList<OperationStatistics>();
+        for(GraphOperation operation : GraphOperation.values()) {
+            LatencyHistogram histogram = histograms[operation.ordinal()];
+            long count = histogram.getCount();
+            if(count > 0) {
+                statistics.add(new OperationStatistics(operation.getMethodName(), count, histogram.getMean(),
+                        histogram.getPercentile(50), histogram.getPercentile(99), histogram.getPercentile(99.9),
+                        histogram.getMax()));
+            }
+        }
+        return statistics;
+    }
+
+    @Override
+    public void resetStatistics() {
+        for(LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Registers the statistics in the platform MBean server under the
+     * ObjectName "graph:type=Graph,name=[name]".
+     *
+     * @param name under which the graph is registered.
+     *
+     * @return the ObjectName under which the statistics were registered.
+     *
+     * @throws IllegalArgumentException if name is null or empty, or not a
+     *         valid ObjectName value.
+     * @throws IllegalStateException if the statistics are already registered,
+     *         or if another MBean is registered under the same name.
+     */
+    public synchronized ObjectName register(String name) {
+        if(name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("The name provided is null or empty");
+        }
+        if(objectName != null) {
+            throw new IllegalStateException("The statistics are already registered as " + objectName);
+        }
+
+        ObjectName newObjectName;
+        try {
+            newObjectName = new ObjectName(JMX_DOMAIN + ":type=Graph,name=" + name);
+        } catch(MalformedObjectNameException e) {
+            throw new IllegalArgumentException("The name provided is not a valid ObjectName value: " + name, e);
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, newObjectName);
+        } catch(InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Another MBean is already registered as " + newObjectName, e);
+        } catch(JMException e) {
+            throw new IllegalStateException("The statistics could not be registered as " + newObjectName, e);
+        }
+
+        objectName = newObjectName;
+        return objectName;
+    }
+
+    /**
+     * Removes the statistics from the platform MBean server. Does nothing if
+     * the statistics are not registered.
+     */
+    public synchronized void unregister() {
+        if(objectName == null) {
+            return;
+        }
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch(InstanceNotFoundException e) {
+            // Already unregistered by someone else
+        } catch(JMException e) {
+            throw new IllegalStateException("The statistics could not be unregistered", e);
+        }
+        objectName = null;
+    }
+}
@@ -0,0 +1,50 @@
+package graph.monitoring;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This interface specifies the attributes and operations of an instrumented
+ * graph that are exposed through JMX.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public interface GraphStatisticsMXBean {
+
+    /**
+     * @return the number of nodes in the graph.
+     */
+    int getNodeCount();
+
+    /**
+     * @return the number of edges in the graph.
+     */
+    int getEdgeCount();
+
+    /**
+     * Returns the estimate of the memory retained by the graph made the last
+     * time the graph's footprint was estimated. The graph is not walked when
+     * this attribute is read, since it is read from a JMX thread.
+     *
+     * @return the last estimate of the memory retained by the graph, in
+     *         bytes, or -1 if it was never estimated.
+     */
+    long getEstimatedMemoryFootprint();
+
+    /**
+     * @return the number of calls made to each graph method, by method name.
+     */
+    Map<String, Long> getCallCounts();
+
+    /**
+     * @return the call count and latency distribution of each graph method
+     *         that was called at least once.
+     */
+    List<OperationStatistics> getOperationStatistics();
+
+    /**
+     * Sets all the call counters and latency histograms back to zero.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,181 @@
+package graph.monitoring;
+
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+
+import java.util.Set;
+
+/**
+ * This class wraps a graph and records the number of calls made to each of
+ * its methods, along with the latency of these calls. The recorded statistics
+ * can be read from getStatistics(), or exposed through JMX by registering
+ * them with GraphStatistics.register().
+ *
+ * <p>
+ * The instrumentation is opt-in: only the calls made through the wrapper are
+ * recorded, and the wrapped graph is left untouched. Recording a call costs
+ * two reads of System.nanoTime() and the few atomic updates of
+ * LatencyHistogram.record().
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type Edge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class InstrumentedGraph<N extends Node, E extends Edge<? extends N>> implements Graph<N, E> {
+
+    private final Graph<N, E> graph;
+
+    /**
+     * Statistics of the calls made to the graph
+     */
+    final GraphStatistics statistics;
+
+    /**
+     * Creates an instrumented wrapper around a graph.
+     *
+     * @param graph to be instrumented.
+     *
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public InstrumentedGraph(Graph<N, E> graph) {
+        this.statistics = new GraphStatistics(graph);
+        this.graph = graph;
+    }
+
+    /**
+     * @return the statistics of the calls made to the graph.
+     */
+    public GraphStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public Set<E> getAllEdges() {
+        long start = System.nanoTime();
+        try {
+            return graph.getAllEdges();
+        } finally {
+            statistics.record(GraphOperation.GET_ALL_EDGES, start);
+        }
+    }
+
+    @Override
+    public Set<E> getEdges(N sourceNode, N targetNode) {
+        long start = System.nanoTime();
+        try {
+            return graph.getEdges(sourceNode, targetNode);
+        } finally {
+            statistics.record(GraphOperation.GET_EDGES, start);
+        }
+    }
+
+    @Override
+    public Set<E> edges(N sourceNode, N targetNode) {
+        long start = System.nanoTime();
+        try {
+            return graph.edges(sourceNode, targetNode);
+        } finally {
+            statistics.record(GraphOperation.EDGES, start);
+        }
+    }
+
+    @Override
+    public Set<E> getEdgesOf(N node) {
+        long start = System.nanoTime();
+        try {
+            return graph.getEdgesOf(node);
+        } finally {
+            statistics.record(GraphOperation.GET_EDGES_OF, start);
+        }
+    }
+
+    @Override
+    public Set<E> edgesOf(N node) {
+        long start = System.nanoTime();
+        try {
+            return graph.edgesOf(node);
+        } finally {
+            statistics.record(GraphOperation.EDGES_OF, start);
+        }
+    }
+
+    @Override
+    public boolean addEdge(E edge) {
+        long start = System.nanoTime();
+        try {
+            return graph.addEdge(edge);
+        } finally {
+            statistics.record(GraphOperation.ADD_EDGE, start);
+        }
+    }
+
+    @Override
+    public boolean addAllEdges(Set<? extends E> edges) {
+        long start = System.nanoTime();
+        try {
+            return graph.addAllEdges(edges);
+        } finally {
+            statistics.record(GraphOperation.ADD_ALL_EDGES, start);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(E edge) {
+        long start = System.nanoTime();
+        try {
+            return graph.removeEdge(edge);
+        } finally {
+            statistics.record(GraphOperation.REMOVE_EDGE, start);
+        }
+    }
+
+    @Override
+    public Set<N> getAllNodes() {
+        long start = System.nanoTime();
+        try {
+            return graph.getAllNodes();
+        } finally {
+            statistics.record(GraphOperation.GET_ALL_NODES, start);
+        }
+    }
+
+    @Override
+    public boolean removeNode(N node) {
+        long start = System.nanoTime();
+        try {
+            return graph.removeNode(node);
+        } finally {
+            statistics.record(GraphOperation.REMOVE_NODE, start);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        long start = System.nanoTime();
+        try {
+            return graph.isEmpty();
+        } finally {
+            statistics.record(GraphOperation.IS_EMPTY, start);
+        }
+    }
+
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        MemoryFootprint footprint = graph.estimateMemoryFootprint();
+        statistics.memoryFootprintEstimated(footprint.getTotalBytes());
+        return footprint;
+    }
+
+    @Override
+    public String toString() {
+        return graph.toString();
+    }
+}
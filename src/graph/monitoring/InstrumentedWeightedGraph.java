@@ -0,0 +1,108 @@
+package graph.monitoring;
+
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.util.Set;
+
+/**
+ * This class wraps a weighted graph and, like InstrumentedGraph, records the
+ * number of calls made to each of its methods along with the latency of these
+ * calls.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of node to which the graph's edges will connect.
+ *        they can be of type Node or any of its subclasses
+ * @param <E> is the type of edges contained in the graph. They can be of
+ *        type WeightedEdge or any of its subclasses that connect to nodes of type
+ *        N or any of its subclasses.
+ */
+public class InstrumentedWeightedGraph<N extends Node, E extends WeightedEdge<? extends N>> extends InstrumentedGraph<N, E> implements WeightedGraph<N, E> {
+
+    private final WeightedGraph<N, E> weightedGraph;
+
+    /**
+     * Creates an instrumented wrapper around a weighted graph.
+     *
+     * @param graph to be instrumented.
+     *
+     * @throws IllegalArgumentException if graph is null.
+     */
+    public InstrumentedWeightedGraph(WeightedGraph<N, E> graph) {
+        super(graph);
+        this.weightedGraph = graph;
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeight(long weight) {
+        long start = System.nanoTime();
+        try {
+            return weightedGraph.getEdgesWithWeight(weight);
+        } finally {
+            statistics.record(GraphOperation.GET_EDGES_WITH_WEIGHT, start);
+        }
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightAbove(long weight) {
+        long start = System.nanoTime();
+        try {
+            return weightedGraph.getEdgesWithWeightAbove(weight);
+        } finally {
+            statistics.record(GraphOperation.GET_EDGES_WITH_WEIGHT_ABOVE, start);
+        }
+    }
+
+    @Override
+    public Set<E> getEdgesWithWeightBelow(long weight) {
+        long start = System.nanoTime();
+        try {
+            return weightedGraph.getEdgesWithWeightBelow(weight);
+        } finally {
+            statistics.record(GraphOperation.GET_EDGES_WITH_WEIGHT_BELOW, start);
+        }
+    }
+
+    @Override
+    public Set<E> edgesWithWeight(long weight) {
+        long start = System.nanoTime();
+        try {
+            return weightedGraph.edgesWithWeight(weight);
+        } finally {
+            statistics.record(GraphOperation.EDGES_WITH_WEIGHT, start);
+        }
+    }
+
+    @Override
+    public Set<E> edgesWithWeightAbove(long weight) {
+        long start = System.nanoTime();
+        try {
+            return weightedGraph.edgesWithWeightAbove(weight);
+        } finally {
+            statistics.record(GraphOperation.EDGES_WITH_WEIGHT_ABOVE, start);
+        }
+    }
+
+    @Override
+    public Set<E> edgesWithWeightBelow(long weight) {
+        long start = System.nanoTime();
+        try {
+            return weightedGraph.edgesWithWeightBelow(weight);
+        } finally {
+            statistics.record(GraphOperation.EDGES_WITH_WEIGHT_BELOW, start);
+        }
+    }
+
+    @Override
+    public void resetEdgeWeights() {
+        long start = System.nanoTime();
+        try {
+            weightedGraph.resetEdgeWeights();
+        } finally {
+            statistics.record(GraphOperation.RESET_EDGE_WEIGHTS, start);
+        }
+    }
+}
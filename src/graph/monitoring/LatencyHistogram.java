@@ -0,0 +1,173 @@
+package graph.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class creates a histogram of latencies, in nanoseconds, that can be
+ * recorded concurrently by many threads.
+ *
+ * <p>
+ * Like an HDR histogram, the buckets have a constant relative width: every
+ * power of two is split into 16 buckets, so the values reported by the
+ * histogram are within about 6% of the recorded latencies. Latencies above
+ * 2^40 nanoseconds (about 18 minutes) are recorded in the last bucket. The
+ * buckets are striped by thread, like the StripedCounter, so that threads
+ * recording at the same time do not compete for the same cache lines.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2);
+    private static final long MAX_TRACKABLE_VALUE = (1L << (MAX_MAGNITUDE + 1)) - 1;
+    private static final int MAX_STRIPES = 4;
+
+    private final AtomicLongArray buckets;
+    private final int stripeMask;
+    private final StripedCounter totalLatency;
+    private final AtomicLong maxLatency;
+
+    /**
+     * Creates an empty latency histogram.
+     */
+    public LatencyHistogram() {
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+        buckets = new AtomicLongArray(stripeCount * BUCKET_COUNT);
+        stripeMask = stripeCount - 1;
+        totalLatency = new StripedCounter(stripeCount);
+        maxLatency = new AtomicLong();
+    }
+
+    /**
+     * Records a latency. This makes three separate updates: the count of its
+     * bucket in the stripe of the current thread, the striped total, and the
+     * maximum, which is only compared and set when the latency is larger than
+     * the maximum seen so far. A reader running at the same time can see the
+     * latency in some of them and not yet in the others.
+     *
+     * @param latencyNanos latency in nanoseconds. Negative values are
+     *        recorded as zero.
+     */
+    public void record(long latencyNanos) {
+        long latency = Math.max(0, latencyNanos);
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        buckets.getAndIncrement(stripe * BUCKET_COUNT + bucketIndex(latency));
+        totalLatency.add(latency);
+
+        long max = maxLatency.get();
+        while(latency > max && !maxLatency.compareAndSet(max, latency)) {
+            max = maxLatency.get();
+        }
+    }
+
+    /**
+     * @return the number of latencies recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for(int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * @return the mean of the recorded latencies in nanoseconds, or 0 if no
+     *         latencies were recorded.
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalLatency.sum() / count;
+    }
+
+    /**
+     * @return the largest recorded latency in nanoseconds.
+     */
+    public long getMax() {
+        return maxLatency.get();
+    }
+
+    /**
+     * Returns the latency below which the specified percentage of the
+     * recorded latencies fall.
+     *
+     * @param percentile percentage of the recorded latencies, between 0 and 100.
+     *
+     * @return the latency in nanoseconds at the specified percentile, or 0
+     *         if no latencies were recorded.
+     *
+     * @throws IllegalArgumentException if percentile is not between 0 and 100.
+     */
+    public long getPercentile(double percentile) {
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        for(int i = 0; i < buckets.length(); i++) {
+            long bucketCount = buckets.get(i);
+            counts[i % BUCKET_COUNT] += bucketCount;
+            count += bucketCount;
+        }
+        if(count == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Removes all the recorded latencies. Latencies recorded while the
+     * histogram is being reset may or may not be kept.
+     */
+    public void reset() {
+        for(int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        totalLatency.reset();
+        maxLatency.set(0);
+    }
+
+    /**
+     * Finds the bucket of a latency. Latencies below 16 have their own
+     * bucket. Other latencies are placed in one of the 16 buckets of their
+     * power of two, according to the 4 bits that follow their highest bit.
+     */
+    static int bucketIndex(long latency) {
+        long value = Math.min(latency, MAX_TRACKABLE_VALUE);
+        if(value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+    }
+
+    /**
+     * @return the largest latency that falls in the specified bucket.
+     */
+    static long bucketUpperBound(int bucketIndex) {
+        if(bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
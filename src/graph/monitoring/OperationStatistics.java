@@ -0,0 +1,102 @@
+package graph.monitoring;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * This class contains the call count and the latency distribution of one
+ * graph operation, as exposed through JMX by the GraphStatisticsMXBean.
+ * All the latencies are in nanoseconds.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class OperationStatistics {
+
+    private final String operation;
+    private final long callCount;
+    private final double meanLatency;
+    private final long medianLatency;
+    private final long latency99thPercentile;
+    private final long latency999thPercentile;
+    private final long maxLatency;
+
+    /**
+     * Creates the statistics of an operation.
+     *
+     * @param operation name of the graph method
+     * @param callCount number of times the method was called
+     * @param meanLatency mean latency of the calls
+     * @param medianLatency median latency of the calls
+     * @param latency99thPercentile 99th percentile latency of the calls
+     * @param latency999thPercentile 99.9th percentile latency of the calls
+     * @param maxLatency largest latency of the calls
+     */
+    @ConstructorProperties({"operation", "callCount", "meanLatency", "medianLatency",
+        "latency99thPercentile", "latency999thPercentile", "maxLatency"})
+    public OperationStatistics(String operation, long callCount, double meanLatency, long medianLatency,
+            long latency99thPercentile, long latency999thPercentile, long maxLatency) {
+        this.operation = operation;
+        this.callCount = callCount;
+        this.meanLatency = meanLatency;
+        this.medianLatency = medianLatency;
+        this.latency99thPercentile = latency99thPercentile;
+        this.latency999thPercentile = latency999thPercentile;
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * @return the name of the graph method.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the number of times the method was called.
+     */
+    public long getCallCount() {
+        return callCount;
+    }
+
+    /**
+     * @return the mean latency of the calls.
+     */
+    public double getMeanLatency() {
+        return meanLatency;
+    }
+
+    /**
+     * @return the median latency of the calls.
+     */
+    public long getMedianLatency() {
+        return medianLatency;
+    }
+
+    /**
+     * @return the 99th percentile latency of the calls.
+     */
+    public long getLatency99thPercentile() {
+        return latency99thPercentile;
+    }
+
+    /**
+     * @return the 99.9th percentile latency of the calls.
+     */
+    public long getLatency999thPercentile() {
+        return latency999thPercentile;
+    }
+
+    /**
+     * @return the largest latency of the calls.
+     */
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationStatistics[Operation: " + operation + ", Calls: " + callCount + ", Mean: " + meanLatency
+               + "ns, Median: " + medianLatency + "ns, P99: " + latency99thPercentile + "ns, P99.9: "
+               + latency999thPercentile + "ns, Max: " + maxLatency + "ns]";
+    }
+}
@@ -0,0 +1,94 @@
+package graph.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class creates a counter that can be incremented concurrently by many
+ * threads with very little contention. The count is spread over several
+ * stripes, each on its own cache line, and the stripe used by a thread is
+ * chosen from the thread's id. The stripes are only added together when the
+ * count is read.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class StripedCounter {
+
+    /**
+     * Number of longs between two stripes, so that each stripe sits on its
+     * own 64 byte cache line
+     */
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates a counter with one stripe per available processor (rounded
+     * up to the next power of two).
+     */
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a counter with the specified number of stripes (rounded up to
+     * the next power of two).
+     *
+     * @param stripeCount number of stripes
+     *
+     * @throws IllegalArgumentException if stripeCount is not positive.
+     */
+    public StripedCounter(int stripeCount) {
+        if(stripeCount <= 0) {
+            throw new IllegalArgumentException("The number of stripes must be positive");
+        }
+        int stripeTotal = Integer.highestOneBit(stripeCount);
+        if(stripeTotal < stripeCount) {
+            stripeTotal <<= 1;
+        }
+        stripes = new AtomicLongArray(stripeTotal * PADDING);
+        stripeMask = stripeTotal - 1;
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Adds the specified value to the counter.
+     *
+     * @param value to be added
+     */
+    public void add(long value) {
+        stripes.getAndAdd(stripeIndex(), value);
+    }
+
+    /**
+     * @return the sum of all the values added to the counter.
+     */
+    public long sum() {
+        long sum = 0;
+        for(int i = 0; i < stripes.length(); i += PADDING) {
+            sum += stripes.get(i);
+        }
+        return sum;
+    }
+
+    /**
+     * Sets the counter back to zero. Values added while the counter is being
+     * reset may or may not be kept.
+     */
+    public void reset() {
+        for(int i = 0; i < stripes.length(); i += PADDING) {
+            stripes.set(i, 0);
+        }
+    }
+
+    private int stripeIndex() {
+        return ((int) Thread.currentThread().getId() & stripeMask) * PADDING;
+    }
+}
@@ -0,0 +1,275 @@
+package graph.server;
+
+import graph.algorithms.DistanceSearch;
+import graph.algorithms.MinimumSpanningTree;
+import graph.algorithms.TraversalDirection;
+import graph.components.CompactGraph;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class creates an immutable snapshot of a weighted graph that answers
+ * the queries of the QueryServer. The snapshot copies the graph into a
+ * CompactGraph and the edge weights into an array, so that it can be
+ * queried by any number of threads at the same time without locking, while
+ * the original graph keeps being modified.
+ *
+ * <p>
+ * The nodes are looked up by name. Like ShortestPathsToNode and
+ * MinimumSpanningTree, the distance and tree queries treat the edges as
+ * undirected.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ *
+ * @param <N> is the type of the graph's nodes.
+ * @param <E> is the type of the graph's edges.
+ */
+public final class GraphSnapshot<N extends Node, E extends WeightedEdge<N>> {
+
+    private final CompactGraph<N, E> graph;
+    private final long[] weights;
+    private final Map<String, Integer> nodeIndexes = new HashMap<String, Integer>();
+    private final boolean negativeWeights;
+
+    /**
+     * Edge indexes sorted by weight, and their weights in the same order
+     */
+    private final int[] edgesByWeight;
+    private final long[] sortedWeights;
+
+    /**
+     * Search running the distance queries of each thread
+     */
+    private final ThreadLocal<DistanceSearch> searches = new ThreadLocal<DistanceSearch>() {
+        @Override
+        protected DistanceSearch initialValue() {
+            return new DistanceSearch(graph, weights, TraversalDirection.UNDIRECTED);
+        }
+    };
+
+    private volatile Long treeWeight;
+    private volatile String treeError;
+
+    /**
+     * Creates a snapshot of the graph's current nodes, edges and weights.
+     *
+     * @param graph to be copied
+     *
+     * @throws IllegalArgumentException if the graph is null or if two nodes have the same name.
+     */
+    public GraphSnapshot(Graph<N, E> graph) {
+        if(graph == null){
+            throw new IllegalArgumentException("The graph is null");
+        }
+
+        this.graph = new CompactGraph<N, E>(graph);
+        int edgeCount = this.graph.getEdgeCount();
+        weights = new long[edgeCount];
+        boolean negative = false;
+        for(int i = 0; i < edgeCount; i++){
+            weights[i] = this.graph.getEdge(i).getWeight();
+            negative |= weights[i] < 0;
+        }
+        negativeWeights = negative;
+
+        for(int i = 0; i < this.graph.getNodeCount(); i++){
+            if(nodeIndexes.put(this.graph.getNode(i).getName(), i) != null){
+                throw new IllegalArgumentException("Two nodes are named " + this.graph.getNode(i).getName());
+            }
+        }
+
+        // Sort the edges by weight, keeping the edges of the same weight in order
+        edgesByWeight = new int[edgeCount];
+        sortedWeights = weights.clone();
+        Integer[] order = new Integer[edgeCount];
+        for(int i = 0; i < edgeCount; i++){
+            order[i] = i;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                long firstWeight = weights[first];
+                long secondWeight = weights[second];
+                if(firstWeight != secondWeight){
+                    return firstWeight < secondWeight ? -1 : 1;
+                }
+                return first - second;
+            }
+        });
+        for(int i = 0; i < edgeCount; i++){
+            edgesByWeight[i] = order[i];
+            sortedWeights[i] = weights[order[i]];
+        }
+    }
+
+    /**
+     * @return the compact copy of the graph.
+     */
+    public CompactGraph<N, E> getGraph() {
+        return graph;
+    }
+
+    /**
+     * @param edge of the snapshot
+     *
+     * @return the weight the edge had when the snapshot was created.
+     *
+     * @throws IllegalArgumentException if the edge is not part of the snapshot.
+     */
+    public long getWeight(E edge) {
+        int index = graph.getEdgeIndex(edge);
+        if(index < 0){
+            throw new IllegalArgumentException("The edge is not part of the snapshot: " + edge);
+        }
+        return weights[index];
+    }
+
+    /**
+     * Computes the length of the shortest path between two nodes. The
+     * search stops as soon as the target node is reached.
+     *
+     * @param sourceName name of the first node
+     * @param targetName name of the second node
+     *
+     * @return the length of the shortest path between the nodes.
+     *
+     * @throws IllegalArgumentException if a node is not part of the snapshot.
+     * @throws IllegalStateException if the nodes are not connected, or if the
+     *         graph has negative weights.
+     */
+    public long getDistance(String sourceName, String targetName) {
+        int source = indexOf(sourceName);
+        int target = indexOf(targetName);
+        if(negativeWeights){
+            throw new IllegalStateException("The graph has negative weights");
+        }
+
+        DistanceSearch search = searches.get();
+        search.search(source, new int[] {target}, 0, 1);
+        long distance = search.getDistance(target);
+        if(distance == Long.MAX_VALUE){
+            throw new IllegalStateException("There is no path between " + sourceName + " and " + targetName);
+        }
+        return distance;
+    }
+
+    /**
+     * @param nodeName name of the node
+     *
+     * @return the edges of the node.
+     *
+     * @throws IllegalArgumentException if the node is not part of the snapshot.
+     */
+    public List<E> getEdgesOf(String nodeName) {
+        int node = indexOf(nodeName);
+        List<E> edges = new ArrayList<E>(graph.getOutDegree(node) + graph.getInDegree(node));
+        for(int i = 0; i < graph.getOutDegree(node); i++){
+            edges.add(graph.getEdge(graph.getOutEdge(node, i)));
+        }
+        for(int i = 0; i < graph.getInDegree(node); i++){
+            int edge = graph.getInEdge(node, i);
+            if(graph.getEdgeSource(edge) != node){
+                edges.add(graph.getEdge(edge));
+            }
+        }
+        return edges;
+    }
+
+    /**
+     * Returns the edges whose weight is within a range, in increasing order
+     * of weight. The edges are found by binary search in the edges sorted
+     * by weight.
+     *
+     * @param minWeight smallest weight of the range (inclusive)
+     * @param maxWeight largest weight of the range (inclusive)
+     * @param limit largest number of edges returned
+     *
+     * @return the edges with a weight within the range.
+     */
+    public List<E> getEdgesWithWeightBetween(long minWeight, long maxWeight, int limit) {
+        List<E> edges = new ArrayList<E>();
+        for(int i = firstEdgeWithWeight(minWeight); i < sortedWeights.length && sortedWeights[i] <= maxWeight && edges.size() < limit; i++){
+            edges.add(graph.getEdge(edgesByWeight[i]));
+        }
+        return edges;
+    }
+
+    /**
+     * Returns the weight of the graph's minimum spanning tree. The tree is
+     * computed by the first call, and its weight is kept for the next ones.
+     *
+     * @return the weight of the minimum spanning tree.
+     *
+     * @throws IllegalStateException if the graph is empty or not connected.
+     */
+    public long getMinimumSpanningTreeWeight() {
+        if(treeWeight == null && treeError == null){
+            synchronized(this){
+                if(treeWeight == null && treeError == null){
+                    computeTree();
+                }
+            }
+        }
+        if(treeError != null){
+            throw new IllegalStateException(treeError);
+        }
+        return treeWeight;
+    }
+
+    private void computeTree() {
+        try {
+            treeWeight = new MinimumSpanningTree<N, E>(graph, new WeightFunction<E>() {
+                @Override
+                public long weightOf(E edge) {
+                    return weights[graph.getEdgeIndex(edge)];
+                }
+            }).getTreeWeight();
+        } catch(IllegalStateException e) {
+            treeError = e.getMessage();
+        } catch(IllegalArgumentException e) {
+            treeError = e.getMessage();
+        }
+    }
+
+    /**
+     * @return the position in the sorted weights of the first weight that is
+     *         not smaller than the specified weight.
+     */
+    private int firstEdgeWithWeight(long weight) {
+        int low = 0;
+        int high = sortedWeights.length;
+        while(low < high){
+            int middle = (low + high) >>> 1;
+            if(sortedWeights[middle] < weight){
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int indexOf(String nodeName) {
+        Integer index = nodeName == null ? null : nodeIndexes.get(nodeName);
+        if(index == null){
+            throw new IllegalArgumentException("Unknown node: " + nodeName);
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return "GraphSnapshot[Nodes: " + graph.getNodeCount() + ", Edges: " + graph.getEdgeCount() + "]";
+    }
+}
@@ -0,0 +1,236 @@
+package graph.server;
+
+import graph.monitoring.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class sends queries to a QueryServer at a constant rate and measures
+ * their latency. The requests are scheduled in advance (open loop) and
+ * their latency is measured from the time at which they were scheduled,
+ * so that a server that falls behind is charged for the time the requests
+ * waited to be sent, instead of slowing down the test.
+ *
+ * <p>
+ * The client can be run from the command line:
+ * </p>
+ * <pre>
+ * java graph.server.LoadTestClient http://localhost:8080 50000 30 64 /mst "/distance?from=A&amp;to=B"
+ * </pre>
+ * <p>
+ * which sends 50000 requests per second for 30 seconds from 64 threads,
+ * cycling through the queries, and prints the latency percentiles.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class LoadTestClient {
+
+    private final String baseUrl;
+
+    /**
+     * Creates a client for the server at the specified URL.
+     *
+     * @param baseUrl of the server, for instance http://localhost:8080
+     *
+     * @throws IllegalArgumentException if the URL is null.
+     */
+    public LoadTestClient(String baseUrl) {
+        if(baseUrl == null){
+            throw new IllegalArgumentException("The URL is null");
+        }
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Sends queries at a constant rate and waits for all the answers.
+     *
+     * @param queries paths and parameters of the queries, which are sent in turn
+     * @param requestsPerSecond rate at which the requests are sent, at least 1
+     * @param durationMillis duration of the test, at least 1
+     * @param threadCount number of threads sending the requests, at least 1
+     *
+     * @return the report of the test.
+     *
+     * @throws IllegalArgumentException if there are no queries or if a number is smaller than 1.
+     * @throws InterruptedException if the thread is interrupted while waiting for the answers.
+     */
+    public Report run(List<String> queries, int requestsPerSecond, long durationMillis, int threadCount) throws InterruptedException {
+        if(queries == null || queries.isEmpty()){
+            throw new IllegalArgumentException("There are no queries to send");
+        }
+        if(requestsPerSecond < 1 || durationMillis < 1 || threadCount < 1){
+            throw new IllegalArgumentException("The rate, duration and thread count must be at least 1");
+        }
+
+        final String[] urls = new String[queries.size()];
+        for(int i = 0; i < urls.length; i++){
+            urls[i] = baseUrl + queries.get(i);
+        }
+        final long requestCount = Math.max(1, requestsPerSecond * durationMillis / 1000);
+        final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        final long startTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final AtomicLong nextRequest = new AtomicLong();
+        final AtomicLong errorCount = new AtomicLong();
+        final AtomicLong rejectedCount = new AtomicLong();
+        final CountDownLatch finished = new CountDownLatch(threadCount);
+
+        for(int t = 0; t < threadCount; t++){
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        byte[] buffer = new byte[8192];
+                        for(long request = nextRequest.getAndIncrement(); request < requestCount; request = nextRequest.getAndIncrement()){
+                            long scheduledTime = startTime + request * intervalNanos;
+                            long delay = scheduledTime - System.nanoTime();
+                            if(delay > 0){
+                                TimeUnit.NANOSECONDS.sleep(delay);
+                            }
+
+                            int status = send(urls[(int) (request % urls.length)], buffer);
+                            latencies.record(System.nanoTime() - scheduledTime);
+                            if(status == 503){
+                                rejectedCount.incrementAndGet();
+                            } else if(status != 200){
+                                errorCount.incrementAndGet();
+                            }
+                        }
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        finished.countDown();
+                    }
+                }
+            }, "LoadTestClient " + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        finished.await();
+        long elapsedNanos = System.nanoTime() - startTime;
+        return new Report(latencies, errorCount.get(), rejectedCount.get(), elapsedNanos);
+    }
+
+    /**
+     * Sends a request and reads its answer fully, so that the connection
+     * can be reused by the next request.
+     *
+     * @return the status of the answer, or -1 if the request failed.
+     */
+    private static int send(String url, byte[] buffer) {
+        HttpURLConnection connection = null;
+        try {
+            connection = (HttpURLConnection) new URL(url).openConnection();
+            int status = connection.getResponseCode();
+            InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            if(in != null){
+                while(in.read(buffer) >= 0){
+                    // The answer is only read so that the connection can be reused
+                }
+                in.close();
+            }
+            return status;
+        } catch(IOException e) {
+            if(connection != null){
+                connection.disconnect();
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Runs a load test from the command line.
+     *
+     * @param args URL of the server, requests per second, duration in
+     *        seconds, number of threads, then the queries
+     *
+     * @throws InterruptedException if the test is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if(args.length < 5){
+            System.err.println("Usage: LoadTestClient <url> <requests per second> <seconds> <threads> <query>...");
+            System.exit(1);
+        }
+
+        LoadTestClient client = new LoadTestClient(args[0]);
+        Report report = client.run(Arrays.asList(args).subList(4, args.length), Integer.parseInt(args[1]),
+                                   Long.parseLong(args[2]) * 1000, Integer.parseInt(args[3]));
+        System.out.println(report);
+    }
+
+    /**
+     * Result of a load test.
+     */
+    public static final class Report {
+        private final LatencyHistogram latencies;
+        private final long errorCount;
+        private final long rejectedCount;
+        private final long elapsedNanos;
+
+        private Report(LatencyHistogram latencies, long errorCount, long rejectedCount, long elapsedNanos) {
+            this.latencies = latencies;
+            this.errorCount = errorCount;
+            this.rejectedCount = rejectedCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * @return the number of requests sent.
+         */
+        public long getRequestCount() {
+            return latencies.getCount();
+        }
+
+        /**
+         * @return the number of requests that failed or were not answered
+         *         with status 200, not counting the rejected requests.
+         */
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        /**
+         * @return the number of requests rejected by the server because it was overloaded.
+         */
+        public long getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * @return the number of requests answered per second.
+         */
+        public double getRequestsPerSecond() {
+            return latencies.getCount() * 1e9 / Math.max(1, elapsedNanos);
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         *
+         * @return the latency below which the percentage of the requests
+         *         were answered, in nanoseconds.
+         */
+        public long getLatencyPercentile(double percentile) {
+            return latencies.getPercentile(percentile);
+        }
+
+        @Override
+        public String toString() {
+            return "Requests: " + getRequestCount() + " (" + Math.round(getRequestsPerSecond()) + " per second)\n"
+                   + "Errors: " + errorCount + ", Rejected: " + rejectedCount + "\n"
+                   + "Latency p50: " + TimeUnit.NANOSECONDS.toMicros(getLatencyPercentile(50)) + " us, p99: "
+                   + TimeUnit.NANOSECONDS.toMicros(getLatencyPercentile(99)) + " us, max: "
+                   + TimeUnit.NANOSECONDS.toMicros(latencies.getMax()) + " us\n";
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package graph.server;
+
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.monitoring.LatencyHistogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class creates an embedded HTTP server that answers queries on a
+ * GraphSnapshot. The queries are answered in plain text (UTF-8):
+ *
+ * <ul>
+ * <li>GET /distance?from=A&amp;to=B: the length of the shortest path between
+ * the nodes A and B.</li>
+ * <li>GET /edges?node=A: the edges of the node A, one per line, as the names
+ * of their source and target nodes and their weight, separated by tabs.</li>
+ * <li>GET /mst: the weight of the minimum spanning tree.</li>
+ * <li>GET /weights?min=1&amp;max=5&amp;limit=100: the edges whose weight is
+ * within the range, in the same format as /edges. The limit is optional
+ * and defaults to DEFAULT_EDGE_LIMIT.</li>
+ * <li>POST /batch: several queries, one per line, written as the name of the
+ * query followed by its parameters, separated by tabs (for instance
+ * "distance\tA\tB"). The answer of each query starts with a line "OK\tn",
+ * followed by the n lines of its answer, or is a single line
+ * "ERROR\tmessage". A batch contains at most MAX_BATCH_SIZE queries and
+ * MAX_BATCH_BYTES bytes.</li>
+ * </ul>
+ *
+ * <p>
+ * Unknown nodes are answered with status 400 and queries without an answer
+ * (nodes that are not connected, for instance) with status 404.
+ * </p>
+ *
+ * <p>
+ * The queries are answered by a fixed pool of threads, in front of which
+ * waits a bounded admission queue. When the queue is full, the requests are
+ * rejected at once with status 503 instead of waiting, so that an
+ * overloaded server keeps answering the requests it accepted quickly.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class QueryServer implements Closeable {
+
+    /**
+     * Default number of requests that can wait for a thread
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /**
+     * Default largest number of edges returned by a weight range query
+     */
+    public static final int DEFAULT_EDGE_LIMIT = 1000;
+
+    /**
+     * Largest number of queries in a batch
+     */
+    public static final int MAX_BATCH_SIZE = 10000;
+
+    /**
+     * Largest size of the body of a batch, in bytes
+     */
+    public static final int MAX_BATCH_BYTES = 1024 * 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final HttpServer server;
+    private final ThreadPoolExecutor executor;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong rejectedRequestCount = new AtomicLong();
+    private volatile GraphSnapshot<?, ?> snapshot;
+
+    /**
+     * Creates a server listening on a port of the loopback interface, with
+     * one thread per available processor and the default queue capacity.
+     * The server does not accept requests until it is started.
+     *
+     * @param snapshot on which the queries are answered
+     * @param port on which the server listens, or 0 for any free port
+     *
+     * @throws IllegalArgumentException if the snapshot is null.
+     * @throws IOException if the port could not be opened.
+     */
+    public QueryServer(GraphSnapshot<?, ?> snapshot, int port) throws IOException {
+        this(snapshot, new InetSocketAddress(InetAddress.getByName(null), port),
+             Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Creates a server listening at the specified address. The server does
+     * not accept requests until it is started.
+     *
+     * @param snapshot on which the queries are answered
+     * @param address at which the server listens
+     * @param threadCount number of threads answering the queries, at least 1
+     * @param queueCapacity number of requests that can wait for a thread, at least 1
+     *
+     * @throws IllegalArgumentException if the snapshot or address is null, or
+     *         if threadCount or queueCapacity is smaller than 1.
+     * @throws IOException if the address could not be opened.
+     */
+    public QueryServer(GraphSnapshot<?, ?> snapshot, InetSocketAddress address, int threadCount, int queueCapacity) throws IOException {
+        if(snapshot == null){
+            throw new IllegalArgumentException("The snapshot is null");
+        }
+        if(address == null){
+            throw new IllegalArgumentException("The address is null");
+        }
+        if(threadCount < 1){
+            throw new IllegalArgumentException("The thread count must be at least 1");
+        }
+        if(queueCapacity < 1){
+            throw new IllegalArgumentException("The queue capacity must be at least 1");
+        }
+
+        this.snapshot = snapshot;
+        this.executor = new ThreadPoolExecutor(threadCount, threadCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "QueryServer worker");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+
+        // The requests are admitted by the server's own thread and answered by the pool
+        this.server = HttpServer.create(address, 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                admit(exchange);
+            }
+        });
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests and stops the threads answering them.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the address at which the server listens.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * @return the snapshot on which the queries are answered.
+     */
+    public GraphSnapshot<?, ?> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the snapshot on which the queries are answered. The queries
+     * being answered finish on the previous snapshot.
+     *
+     * @param snapshot on which the next queries are answered
+     *
+     * @throws IllegalArgumentException if the snapshot is null.
+     */
+    public void setSnapshot(GraphSnapshot<?, ?> snapshot) {
+        if(snapshot == null){
+            throw new IllegalArgumentException("The snapshot is null");
+        }
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * @return the histogram of the time taken to answer the accepted
+     *         requests, from their admission until their answer is sent.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return the number of requests rejected because the queue was full.
+     */
+    public long getRejectedRequestCount() {
+        return rejectedRequestCount.get();
+    }
+
+    private void admit(final HttpExchange exchange) throws IOException {
+        final long admissionTime = System.nanoTime();
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        answer(exchange, admissionTime);
+                    } catch(IOException e) {
+                        // The client went away, there is nobody left to answer
+                    } finally {
+                        exchange.close();
+                    }
+                }
+            });
+        } catch(RejectedExecutionException e) {
+            rejectedRequestCount.incrementAndGet();
+            try {
+                send(exchange, 503, "The server is overloaded\n");
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * Answers a request. The latency is recorded before the answer is sent,
+     * so that it is counted by the time the client receives the answer.
+     */
+    private void answer(HttpExchange exchange, long admissionTime) throws IOException {
+        GraphSnapshot<?, ?> currentSnapshot = snapshot;
+        String path = exchange.getRequestURI().getPath();
+        int status = 200;
+        String body;
+        try {
+            body = answer(exchange, currentSnapshot, path);
+        } catch(IllegalArgumentException e) {
+            status = 400;
+            body = e.getMessage() + "\n";
+        } catch(IllegalStateException e) {
+            status = 404;
+            body = e.getMessage() + "\n";
+        } finally {
+            latencies.record(System.nanoTime() - admissionTime);
+        }
+        send(exchange, status, body);
+    }
+
+    private String answer(HttpExchange exchange, GraphSnapshot<?, ?> currentSnapshot, String path) throws IOException {
+        if(path.equals("/batch")){
+            if(!exchange.getRequestMethod().equals("POST")){
+                throw new IllegalArgumentException("The batch must be posted");
+            }
+            return answerBatch(currentSnapshot, readBody(exchange.getRequestBody()));
+        }
+
+        Map<String, String> parameters = parseParameters(exchange.getRequestURI().getRawQuery());
+        StringBuilder answer = new StringBuilder();
+        if(path.equals("/distance")){
+            answer(currentSnapshot, answer, "distance", parameters.get("from"), parameters.get("to"));
+        } else if(path.equals("/edges")){
+            answer(currentSnapshot, answer, "edges", parameters.get("node"));
+        } else if(path.equals("/mst")){
+            answer(currentSnapshot, answer, "mst");
+        } else if(path.equals("/weights")){
+            String limit = parameters.get("limit");
+            answer(currentSnapshot, answer, "weights", parameters.get("min"), parameters.get("max"),
+                   limit == null ? String.valueOf(DEFAULT_EDGE_LIMIT) : limit);
+        } else {
+            throw new IllegalStateException("Unknown query: " + path);
+        }
+        return answer.toString();
+    }
+
+    private String answerBatch(GraphSnapshot<?, ?> currentSnapshot, String body) {
+        String[] queries = body.split("\r?\n");
+        if(queries.length > MAX_BATCH_SIZE){
+            throw new IllegalArgumentException("A batch cannot contain more than " + MAX_BATCH_SIZE + " queries");
+        }
+
+        StringBuilder answers = new StringBuilder();
+        StringBuilder answer = new StringBuilder();
+        for(String query : queries){
+            if(query.isEmpty()){
+                continue;
+            }
+            answer.setLength(0);
+            try {
+                int lineCount = answer(currentSnapshot, answer, query.split("\t"));
+                answers.append("OK\t").append(lineCount).append('\n').append(answer);
+            } catch(IllegalArgumentException e) {
+                answers.append("ERROR\t").append(e.getMessage()).append('\n');
+            } catch(IllegalStateException e) {
+                answers.append("ERROR\t").append(e.getMessage()).append('\n');
+            }
+        }
+        return answers.toString();
+    }
+
+    /**
+     * Answers a query, given as its name followed by its parameters.
+     *
+     * @return the number of lines of the answer.
+     */
+    private static <N extends Node, E extends WeightedEdge<N>> int answer(GraphSnapshot<N, E> snapshot, StringBuilder answer, String... query) {
+        String name = query[0];
+        if(name.equals("distance") && query.length == 3){
+            answer.append(snapshot.getDistance(query[1], query[2])).append('\n');
+            return 1;
+        }
+        if(name.equals("edges") && query.length == 2){
+            return appendEdges(snapshot, snapshot.getEdgesOf(query[1]), answer);
+        }
+        if(name.equals("mst") && query.length == 1){
+            answer.append(snapshot.getMinimumSpanningTreeWeight()).append('\n');
+            return 1;
+        }
+        if(name.equals("weights") && (query.length == 3 || query.length == 4)){
+            long limit = query.length == 4 ? parseLong("limit", query[3]) : DEFAULT_EDGE_LIMIT;
+            if(limit < 0 || limit > Integer.MAX_VALUE){
+                throw new IllegalArgumentException("The limit must be between 0 and " + Integer.MAX_VALUE);
+            }
+            return appendEdges(snapshot, snapshot.getEdgesWithWeightBetween(parseLong("min", query[1]), parseLong("max", query[2]), (int) limit), answer);
+        }
+        throw new IllegalArgumentException("Invalid query: " + name + " with " + (query.length - 1) + " parameters");
+    }
+
+    private static <N extends Node, E extends WeightedEdge<N>> int appendEdges(GraphSnapshot<N, E> snapshot, List<E> edges, StringBuilder answer) {
+        for(E edge : edges){
+            answer.append(edge.getSourceNode().getName()).append('\t')
+                  .append(edge.getTargetNode().getName()).append('\t')
+                  .append(snapshot.getWeight(edge)).append('\n');
+        }
+        return edges.size();
+    }
+
+    private static long parseLong(String name, String value) {
+        if(value == null){
+            throw new IllegalArgumentException("The parameter " + name + " is missing");
+        }
+        try {
+            return Long.parseLong(value);
+        } catch(NumberFormatException e) {
+            throw new IllegalArgumentException("The parameter " + name + " is not a number: " + value);
+        }
+    }
+
+    private static Map<String, String> parseParameters(String rawQuery) {
+        Map<String, String> parameters = new HashMap<String, String>();
+        if(rawQuery == null){
+            return parameters;
+        }
+        for(String parameter : rawQuery.split("&")){
+            int separator = parameter.indexOf('=');
+            if(separator > 0){
+                parameters.put(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+            }
+        }
+        return parameters;
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch(UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the body of a batch, which cannot be larger than MAX_BATCH_BYTES.
+     *
+     * @throws IllegalArgumentException if the body is too large.
+     */
+    private static String readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while((length = in.read(buffer)) >= 0){
+            if(body.size() + length > MAX_BATCH_BYTES){
+                throw new IllegalArgumentException("A batch cannot be larger than " + MAX_BATCH_BYTES + " bytes");
+            }
+            body.write(buffer, 0, length);
+        }
+        return new String(body.toByteArray(), UTF_8);
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        OutputStream out = exchange.getResponseBody();
+        out.write(bytes);
+        out.flush();
+    }
+}
@@ -0,0 +1,84 @@
+package graph.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class creates a transport that hands the requests directly to shards
+ * running in the same JVM. The requests and responses are still encoded in
+ * bytes, so that a sharded graph behaves exactly as it would with remote
+ * shards.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class LoopbackTransport implements ShardTransport {
+
+    private final List<Shard> shards;
+    private final AtomicLong requestCount = new AtomicLong();
+
+    /**
+     * Creates a transport to the specified number of new, empty shards.
+     *
+     * @param shardCount number of shards, at least 1
+     *
+     * @throws IllegalArgumentException if shardCount is smaller than 1.
+     */
+    public LoopbackTransport(int shardCount) {
+        if(shardCount < 1){
+            throw new IllegalArgumentException("The shard count must be at least 1");
+        }
+
+        List<Shard> newShards = new ArrayList<Shard>(shardCount);
+        for(int i = 0; i < shardCount; i++){
+            newShards.add(new Shard(i));
+        }
+        this.shards = Collections.unmodifiableList(newShards);
+    }
+
+    /**
+     * Creates a transport to existing shards. The shards are numbered in
+     * the order of the list.
+     *
+     * @param shards to which the requests are sent
+     *
+     * @throws IllegalArgumentException if the list is null, empty or contains null.
+     */
+    public LoopbackTransport(List<Shard> shards) {
+        if(shards == null || shards.isEmpty() || shards.contains(null)){
+            throw new IllegalArgumentException("The shards cannot be null or empty");
+        }
+        this.shards = Collections.unmodifiableList(new ArrayList<Shard>(shards));
+    }
+
+    /**
+     * @return the shards to which the requests are sent.
+     */
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * @return the number of requests sent through the transport.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    @Override
+    public byte[] send(int shard, byte[] request) {
+        requestCount.incrementAndGet();
+        return shards.get(shard).handle(request);
+    }
+
+    @Override
+    public void close() {
+    }
+}
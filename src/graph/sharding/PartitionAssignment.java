@@ -0,0 +1,56 @@
+package graph.sharding;
+
+import graph.algorithms.GraphPartition;
+import graph.elements.Node;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class assigns the nodes of a ShardedGraph to the shards given by a
+ * GraphPartition, so that the edges that cross shards are as few as the
+ * partitioner could make them. The nodes that were not partitioned are
+ * assigned by ShardAssignment.HASH.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class PartitionAssignment implements ShardAssignment {
+
+    private final Map<String, Integer> shards = new HashMap<String, Integer>();
+
+    /**
+     * Creates an assignment that puts each node in the shard numbered like
+     * its part.
+     *
+     * @param partition of the graph's nodes
+     *
+     * @throws IllegalArgumentException if the partition is null.
+     */
+    public PartitionAssignment(GraphPartition<? extends Node> partition) {
+        if(partition == null){
+            throw new IllegalArgumentException("The partition is null");
+        }
+
+        int nodeCount = partition.getGraph().getNodeCount();
+        for(int i = 0; i < nodeCount; i++){
+            shards.put(partition.getGraph().getNode(i).getName(), partition.getPart(i));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Nodes whose part is not a valid shard are assigned by ShardAssignment.HASH.
+     * </p>
+     */
+    @Override
+    public int getShard(String nodeName, int shardCount) {
+        Integer shard = shards.get(nodeName);
+        if(shard == null || shard >= shardCount){
+            return HASH.getShard(nodeName, shardCount);
+        }
+        return shard;
+    }
+}
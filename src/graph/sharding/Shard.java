@@ -0,0 +1,408 @@
+package graph.sharding;
+
+import graph.components.BasicNode;
+import graph.components.BasicWeightedGraph;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * This class stores one shard of a ShardedGraph: the nodes assigned to the
+ * shard and all their edges. An edge between nodes of different shards is
+ * stored in both shards, so that the edges of a node can always be found
+ * in a single request.
+ *
+ * <p>
+ * A shard only answers the requests handed to it by a transport: in the
+ * same JVM through a LoopbackTransport, or in another process through a
+ * ShardServer. The requests are handled one at a time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class Shard {
+
+    /**
+     * Number of bits of the edge ids used by the shard's own counter. The
+     * bits above contain the number of the shard, which makes the ids
+     * unique across the shards.
+     */
+    private static final int LOCAL_ID_BITS = 40;
+
+    private final int index;
+
+    /**
+     * Edges of the shard's nodes, together with the nodes of other shards
+     * to which they connect
+     */
+    private final BasicWeightedGraph<Node, ShardedEdge> graph = new BasicWeightedGraph<Node, ShardedEdge>();
+    private final Map<String, Node> nodes = new HashMap<String, Node>();
+    private final Set<Node> ownedNodes = new LinkedHashSet<Node>();
+    private final Map<Long, ShardedEdge> edges = new HashMap<Long, ShardedEdge>();
+    private long nextLocalId;
+
+    /**
+     * Distances found so far by each shortest path query in progress, by
+     * query id, so that concurrent queries do not share their state
+     */
+    private final Map<Long, Map<Node, Long>> queries = new HashMap<Long, Map<Node, Long>>();
+    private long nextQueryId;
+
+    /**
+     * Creates an empty shard.
+     *
+     * @param index number of the shard in its graph, between 0 and 65535
+     *
+     * @throws IllegalArgumentException if the index is not valid.
+     */
+    public Shard(int index) {
+        if(index < 0 || index > 0xFFFF){
+            throw new IllegalArgumentException("The shard index must be between 0 and 65535");
+        }
+        this.index = index;
+    }
+
+    /**
+     * @return the number of the shard in its graph.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Handles a request sent by a ShardedGraph.
+     *
+     * @param request bytes of the request
+     *
+     * @return the bytes of the response. If the request failed, the response
+     *         contains the error message instead of the results.
+     */
+    public synchronized byte[] handle(byte[] request) {
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(response);
+        try {
+            out.writeByte(ShardProtocol.OK);
+            handle(new DataInputStream(new ByteArrayInputStream(request)), out);
+        } catch(IOException e) {
+            return failure(e);
+        } catch(RuntimeException e) {
+            return failure(e);
+        }
+        return response.toByteArray();
+    }
+
+    private void handle(DataInputStream in, DataOutputStream out) throws IOException {
+        int operation = in.readUnsignedByte();
+        switch(operation){
+            case ShardProtocol.ADD_EDGES:
+                addEdges(in, out);
+                break;
+            case ShardProtocol.EDGES_OF:
+                edgesOf(in, out);
+                break;
+            case ShardProtocol.EDGES_BETWEEN:
+                edgesBetween(in, out);
+                break;
+            case ShardProtocol.OUT_EDGES_IN_RANGE:
+                outEdgesInRange(in, out);
+                break;
+            case ShardProtocol.NODES:
+                out.writeInt(ownedNodes.size());
+                for(Node node : ownedNodes){
+                    out.writeUTF(node.getName());
+                }
+                break;
+            case ShardProtocol.EDGE_COUNT:
+                out.writeLong(edges.size());
+                break;
+            case ShardProtocol.REMOVE_EDGES:
+                removeEdges(in, out);
+                break;
+            case ShardProtocol.REMOVE_NODE:
+                removeNode(in, out);
+                break;
+            case ShardProtocol.SET_WEIGHTS:
+                setWeights(in);
+                break;
+            case ShardProtocol.RESET_WEIGHTS:
+                graph.resetEdgeWeights();
+                break;
+            case ShardProtocol.MEMORY_FOOTPRINT:
+                MemoryFootprint footprint = graph.estimateMemoryFootprint();
+                out.writeLong(footprint.getNodeBytes());
+                out.writeLong(footprint.getEdgeBytes());
+                out.writeLong(footprint.getIndexBytes());
+                out.writeLong(footprint.getNameBytes());
+                break;
+            case ShardProtocol.SHORTEST_PATHS_START:
+                long query = nextQueryId++;
+                queries.put(query, new HashMap<Node, Long>());
+                out.writeLong(query);
+                break;
+            case ShardProtocol.SHORTEST_PATHS_STEP:
+                shortestPathsStep(distancesOf(in.readLong()), in, out);
+                break;
+            case ShardProtocol.SHORTEST_PATHS_RESULT:
+                long finishedQuery = in.readLong();
+                Map<Node, Long> distances = distancesOf(finishedQuery);
+                queries.remove(finishedQuery);
+                out.writeInt(distances.size());
+                for(Map.Entry<Node, Long> entry : distances.entrySet()){
+                    out.writeUTF(entry.getKey().getName());
+                    out.writeLong(entry.getValue());
+                }
+                break;
+            default:
+                throw new IOException("Unknown operation: " + operation);
+        }
+    }
+
+    private void addEdges(DataInputStream in, DataOutputStream out) throws IOException {
+        int count = in.readInt();
+        for(int i = 0; i < count; i++){
+            int flags = in.readUnsignedByte();
+            long id = in.readLong();
+            String sourceName = in.readUTF();
+            String targetName = in.readUTF();
+            long weight = in.readLong();
+
+            if(id == ShardProtocol.NO_ID){
+                id = ((long) index << LOCAL_ID_BITS) | nextLocalId++;
+            } else if(edges.containsKey(id)){
+                out.writeLong(ShardProtocol.NO_ID);
+                continue;
+            }
+
+            Node sourceNode = node(sourceName);
+            Node targetNode = node(targetName);
+            ShardedEdge edge = new ShardedEdge(id, sourceNode, targetNode, weight, null);
+            graph.addEdge(edge);
+            edges.put(id, edge);
+            if((flags & ShardProtocol.SOURCE_OWNED) != 0){
+                ownedNodes.add(sourceNode);
+            }
+            if((flags & ShardProtocol.TARGET_OWNED) != 0){
+                ownedNodes.add(targetNode);
+            }
+            out.writeLong(id);
+        }
+    }
+
+    private void edgesOf(DataInputStream in, DataOutputStream out) throws IOException {
+        int count = in.readInt();
+        for(int i = 0; i < count; i++){
+            Node node = nodes.get(in.readUTF());
+            if(node == null){
+                out.writeInt(0);
+            } else {
+                writeEdges(out, graph.edgesOf(node));
+            }
+        }
+    }
+
+    private void edgesBetween(DataInputStream in, DataOutputStream out) throws IOException {
+        Node sourceNode = nodes.get(in.readUTF());
+        Node targetNode = nodes.get(in.readUTF());
+        if(sourceNode == null || targetNode == null){
+            out.writeInt(0);
+        } else {
+            writeEdges(out, graph.edges(sourceNode, targetNode));
+        }
+    }
+
+    /**
+     * Writes the edges within a weight range whose source node is owned by
+     * the shard, so that each edge is returned by a single shard.
+     */
+    private void outEdgesInRange(DataInputStream in, DataOutputStream out) throws IOException {
+        long minWeight = in.readLong();
+        long maxWeight = in.readLong();
+        List<ShardedEdge> matchedEdges = new ArrayList<ShardedEdge>();
+        for(ShardedEdge edge : edges.values()){
+            if(edge.getWeight() >= minWeight && edge.getWeight() <= maxWeight && ownedNodes.contains(edge.getSourceNode())){
+                matchedEdges.add(edge);
+            }
+        }
+        writeEdges(out, matchedEdges);
+    }
+
+    private void removeEdges(DataInputStream in, DataOutputStream out) throws IOException {
+        int count = in.readInt();
+        for(int i = 0; i < count; i++){
+            ShardedEdge edge = edges.remove(in.readLong());
+            if(edge != null){
+                removeEdge(edge);
+            }
+            out.writeBoolean(edge != null);
+        }
+    }
+
+    private void removeNode(DataInputStream in, DataOutputStream out) throws IOException {
+        Node node = nodes.get(in.readUTF());
+        if(node == null || !ownedNodes.contains(node)){
+            out.writeInt(0);
+            return;
+        }
+
+        List<ShardedEdge> removedEdges = new ArrayList<ShardedEdge>(graph.edgesOf(node));
+        for(ShardedEdge edge : removedEdges){
+            edges.remove(edge.getId());
+            removeEdge(edge);
+        }
+        writeEdges(out, removedEdges);
+    }
+
+    private void removeEdge(ShardedEdge edge) {
+        graph.removeEdge(edge);
+        forgetIfIsolated(edge.getSourceNode());
+        forgetIfIsolated(edge.getTargetNode());
+    }
+
+    /**
+     * Forgets a node once it has no edges left, like a BasicGraph does.
+     */
+    private void forgetIfIsolated(Node node) {
+        if(graph.edgesOf(node).isEmpty()){
+            nodes.remove(node.getName());
+            ownedNodes.remove(node);
+        }
+    }
+
+    private void setWeights(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        for(int i = 0; i < count; i++){
+            ShardedEdge edge = edges.get(in.readLong());
+            long weight = in.readLong();
+            if(edge != null){
+                edge.setWeight(weight);
+            }
+        }
+    }
+
+    /**
+     * Receives the candidate distances of the shard's nodes, propagates them
+     * through the shard's own nodes, and returns the candidate distances of
+     * the nodes of other shards. Propagating the distances locally, in order
+     * of distance, means a superstep is only needed each time a path crosses
+     * into another shard.
+     */
+    private void shortestPathsStep(Map<Node, Long> distances, DataInputStream in, DataOutputStream out) throws IOException {
+        PriorityQueue<Candidate> queue = new PriorityQueue<Candidate>();
+        int count = in.readInt();
+        for(int i = 0; i < count; i++){
+            Node node = nodes.get(in.readUTF());
+            long distance = in.readLong();
+            if(node != null && ownedNodes.contains(node)){
+                queue.add(new Candidate(node, distance));
+            }
+        }
+
+        Map<String, Long> remoteCandidates = new HashMap<String, Long>();
+        while(!queue.isEmpty()){
+            Candidate candidate = queue.poll();
+            Long distance = distances.get(candidate.node);
+            if(distance != null && distance <= candidate.distance){
+                continue;
+            }
+            distances.put(candidate.node, candidate.distance);
+
+            for(ShardedEdge edge : graph.edgesOf(candidate.node)){
+                if(edge.getWeight() < 0){
+                    throw new IllegalStateException("The graph contains an edge with a negative weight: " + edge);
+                }
+                Node neighbour = edge.getSourceNode() == candidate.node ? edge.getTargetNode() : edge.getSourceNode();
+                long neighbourDistance = candidate.distance + edge.getWeight();
+                if(ownedNodes.contains(neighbour)){
+                    Long known = distances.get(neighbour);
+                    if(known == null || neighbourDistance < known){
+                        queue.add(new Candidate(neighbour, neighbourDistance));
+                    }
+                } else {
+                    Long known = remoteCandidates.get(neighbour.getName());
+                    if(known == null || neighbourDistance < known){
+                        remoteCandidates.put(neighbour.getName(), neighbourDistance);
+                    }
+                }
+            }
+        }
+
+        out.writeInt(remoteCandidates.size());
+        for(Map.Entry<String, Long> entry : remoteCandidates.entrySet()){
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+    }
+
+    private Map<Node, Long> distancesOf(long query) throws IOException {
+        Map<Node, Long> distances = queries.get(query);
+        if(distances == null){
+            throw new IOException("Unknown shortest path query: " + query);
+        }
+        return distances;
+    }
+
+    private Node node(String name) {
+        Node node = nodes.get(name);
+        if(node == null){
+            node = new BasicNode(name);
+            nodes.put(name, node);
+        }
+        return node;
+    }
+
+    private static void writeEdges(DataOutputStream out, Collection<ShardedEdge> edges) throws IOException {
+        out.writeInt(edges.size());
+        for(ShardedEdge edge : edges){
+            ShardProtocol.writeEdge(out, edge);
+        }
+    }
+
+    private static byte[] failure(Exception e) {
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(response);
+        try {
+            out.writeByte(ShardProtocol.FAILURE);
+            out.writeUTF(String.valueOf(e.getMessage()));
+        } catch(IOException impossible) {
+            throw new IllegalStateException(impossible);
+        }
+        return response.toByteArray();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Shard[Index: " + index + ", Nodes: " + ownedNodes.size() + ", Edges: " + edges.size() + "]";
+    }
+
+    /**
+     * Candidate distance of a node, ordered by distance.
+     */
+    private static final class Candidate implements Comparable<Candidate> {
+        private final Node node;
+        private final long distance;
+
+        private Candidate(Node node, long distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return distance < other.distance ? -1 : (distance == other.distance ? 0 : 1);
+        }
+    }
+}
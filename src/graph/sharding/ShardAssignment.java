@@ -0,0 +1,33 @@
+package graph.sharding;
+
+/**
+ * This interface specifies how the nodes of a ShardedGraph are assigned to
+ * its shards. Each node is owned by one shard, which stores all the edges
+ * of the node. An assignment must always assign a node to the same shard,
+ * from any process.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public interface ShardAssignment {
+
+    /**
+     * Assignment based on the hash code of the node names. String.hashCode()
+     * is specified by the Java language, so every process assigns a node to
+     * the same shard.
+     */
+    ShardAssignment HASH = new ShardAssignment() {
+        @Override
+        public int getShard(String nodeName, int shardCount) {
+            return (nodeName.hashCode() & Integer.MAX_VALUE) % shardCount;
+        }
+    };
+
+    /**
+     * @param nodeName name of the node
+     * @param shardCount number of shards of the graph
+     *
+     * @return the shard that owns the node, between 0 and shardCount - 1.
+     */
+    int getShard(String nodeName, int shardCount);
+}
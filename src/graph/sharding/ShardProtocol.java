@@ -0,0 +1,91 @@
+package graph.sharding;
+
+import graph.components.BasicNode;
+import graph.elements.Node;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * This class contains the constants and encoding methods of the requests
+ * sent to the shards.
+ *
+ * <p>
+ * A request starts with the one byte code of its operation, followed by its
+ * arguments. A response starts with a status byte: OK followed by the
+ * results, or FAILURE followed by the message of the error. Strings are
+ * written with DataOutput.writeUTF() and edges as their id, the names of
+ * their source and target nodes, and their weight.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+final class ShardProtocol {
+
+    static final int OK = 0;
+    static final int FAILURE = 1;
+
+    static final int ADD_EDGES = 1;
+    static final int EDGES_OF = 2;
+    static final int EDGES_BETWEEN = 3;
+    static final int OUT_EDGES_IN_RANGE = 4;
+    static final int NODES = 5;
+    static final int EDGE_COUNT = 6;
+    static final int REMOVE_EDGES = 7;
+    static final int REMOVE_NODE = 8;
+    static final int SET_WEIGHTS = 9;
+    static final int RESET_WEIGHTS = 10;
+    static final int MEMORY_FOOTPRINT = 11;
+    static final int SHORTEST_PATHS_START = 12;
+    static final int SHORTEST_PATHS_STEP = 13;
+    static final int SHORTEST_PATHS_RESULT = 14;
+
+    /**
+     * Flags of an added edge telling which of its nodes the shard owns
+     */
+    static final int SOURCE_OWNED = 1;
+    static final int TARGET_OWNED = 2;
+
+    /**
+     * Id of an edge that has not been assigned an id yet
+     */
+    static final long NO_ID = -1;
+
+    /*
+     * This class contains only static utility methods. Therefore the constructor is private
+     * so that nobody can call it.
+     */
+    private ShardProtocol() {
+    }
+
+    static void writeEdge(DataOutput out, ShardedEdge edge) throws IOException {
+        out.writeLong(edge.getId());
+        out.writeUTF(edge.getSourceNode().getName());
+        out.writeUTF(edge.getTargetNode().getName());
+        out.writeLong(edge.getWeight());
+    }
+
+    /**
+     * Reads an edge, looking its nodes up by name in the specified map and
+     * adding the nodes that are not found.
+     */
+    static ShardedEdge readEdge(DataInput in, Map<String, Node> nodes, ShardedGraph graph) throws IOException {
+        long id = in.readLong();
+        Node sourceNode = readNode(in, nodes);
+        Node targetNode = readNode(in, nodes);
+        return new ShardedEdge(id, sourceNode, targetNode, in.readLong(), graph);
+    }
+
+    static Node readNode(DataInput in, Map<String, Node> nodes) throws IOException {
+        String name = in.readUTF();
+        Node node = nodes.get(name);
+        if(node == null){
+            node = new BasicNode(name);
+            nodes.put(name, node);
+        }
+        return node;
+    }
+}
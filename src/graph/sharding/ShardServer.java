@@ -0,0 +1,166 @@
+package graph.sharding;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This class serves the requests sent to a shard through a SocketTransport.
+ * Each connection is served by its own thread, and the shard handles the
+ * requests of all the connections one at a time.
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class ShardServer implements Closeable {
+
+    private final Shard shard;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections = Collections.synchronizedSet(new HashSet<Socket>());
+    private volatile boolean closed;
+
+    /**
+     * Creates a server for the shard listening on a port of the loopback
+     * interface. The server does not accept connections until it is started.
+     *
+     * @param shard whose requests are served
+     * @param port on which the server listens, or 0 for any free port
+     *
+     * @throws IllegalArgumentException if the shard is null.
+     * @throws IOException if the port could not be opened.
+     */
+    public ShardServer(Shard shard, int port) throws IOException {
+        this(shard, new InetSocketAddress(InetAddress.getByName(null), port));
+    }
+
+    /**
+     * Creates a server for the shard listening at the specified address.
+     * The server does not accept connections until it is started.
+     *
+     * @param shard whose requests are served
+     * @param address at which the server listens
+     *
+     * @throws IllegalArgumentException if the shard or address is null.
+     * @throws IOException if the address could not be opened.
+     */
+    public ShardServer(Shard shard, InetSocketAddress address) throws IOException {
+        if(shard == null){
+            throw new IllegalArgumentException("The shard is null");
+        }
+        if(address == null){
+            throw new IllegalArgumentException("The address is null");
+        }
+        this.shard = shard;
+        this.serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+    }
+
+    /**
+     * @return the address at which the server listens.
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * @return the shard whose requests are served.
+     */
+    public Shard getShard() {
+        return shard;
+    }
+
+    /**
+     * Starts accepting connections in a background thread.
+     */
+    public void start() {
+        startThread("ShardServer " + shard.getIndex(), new Runnable() {
+            @Override
+            public void run() {
+                acceptConnections();
+            }
+        });
+    }
+
+    /**
+     * Stops accepting connections and closes the open connections.
+     *
+     * @throws IOException if the server socket could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        synchronized(connections){
+            for(Socket socket : connections){
+                try {
+                    socket.close();
+                } catch(IOException e) {
+                    // The connection is being discarded anyway
+                }
+            }
+            connections.clear();
+        }
+    }
+
+    private void acceptConnections() {
+        while(!closed){
+            final Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch(IOException e) {
+                // The server socket was closed
+                return;
+            }
+            connections.add(socket);
+            startThread("ShardServer " + shard.getIndex() + " connection", new Runnable() {
+                @Override
+                public void run() {
+                    serve(socket);
+                }
+            });
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            while(!closed){
+                byte[] request;
+                try {
+                    request = SocketTransport.readFrame(in);
+                } catch(EOFException e) {
+                    return;
+                }
+                SocketTransport.writeFrame(out, shard.handle(request));
+            }
+        } catch(IOException e) {
+            // The connection was closed or corrupted and is dropped, the client reconnects
+        } finally {
+            connections.remove(socket);
+            try {
+                socket.close();
+            } catch(IOException e) {
+                // The connection is being discarded anyway
+            }
+        }
+    }
+
+    private static void startThread(String name, Runnable runnable) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,37 @@
+package graph.sharding;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * This interface specifies how a ShardedGraph sends its requests to its
+ * shards. A request is a batch of operations encoded in bytes, and the
+ * transport returns the bytes of the shard's response.
+ *
+ * <p>
+ * NOTE: A transport must accept requests to different shards from several
+ * threads at the same time.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public interface ShardTransport extends Closeable {
+
+    /**
+     * @return the number of shards that can be reached.
+     */
+    int getShardCount();
+
+    /**
+     * Sends a request to a shard and waits for its response.
+     *
+     * @param shard number of the shard, between 0 and getShardCount() - 1
+     * @param request bytes of the request
+     *
+     * @return the bytes of the response.
+     *
+     * @throws IOException if the shard could not be reached.
+     */
+    byte[] send(int shard, byte[] request) throws IOException;
+}
@@ -0,0 +1,127 @@
+package graph.sharding;
+
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+/**
+ * This class represents an edge stored in the shards of a ShardedGraph. The
+ * edge is a copy of the edge stored in the shards, identified by the id the
+ * shards assigned to it: two copies of the same edge are equal.
+ *
+ * <p>
+ * Setting the weight of an edge returned by a ShardedGraph also sets it in
+ * the shards. The nodes of the edge cannot be changed.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public final class ShardedEdge implements WeightedEdge<Node> {
+
+    private final long id;
+    private final Node sourceNode;
+    private final Node targetNode;
+    private long weight;
+
+    /**
+     * Graph whose shards store the edge, or null if the edge is the one
+     * stored in a shard
+     */
+    private final ShardedGraph graph;
+
+    ShardedEdge(long id, Node sourceNode, Node targetNode, long weight, ShardedGraph graph) {
+        this.id = id;
+        this.sourceNode = sourceNode;
+        this.targetNode = targetNode;
+        this.weight = weight;
+        this.graph = graph;
+    }
+
+    /**
+     * @return the id assigned to the edge by the shards.
+     */
+    public long getId() {
+        return id;
+    }
+
+    ShardedGraph getGraph() {
+        return graph;
+    }
+
+    @Override
+    public Node getSourceNode() {
+        return sourceNode;
+    }
+
+    /**
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void setSourceNode(Node sourceNode) {
+        throw new UnsupportedOperationException("The nodes of a sharded edge cannot be changed");
+    }
+
+    @Override
+    public Node getTargetNode() {
+        return targetNode;
+    }
+
+    /**
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void setTargetNode(Node targetNode) {
+        throw new UnsupportedOperationException("The nodes of a sharded edge cannot be changed");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The nodes of a sharded graph are identified by their name.
+     * </p>
+     */
+    @Override
+    public boolean connectsToNode(Node node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
+        }
+        return sourceNode.getName().equals(node.getName()) || targetNode.getName().equals(node.getName());
+    }
+
+    @Override
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the edge was returned by a ShardedGraph, its weight is also set in
+     * the shards that store it.
+     * </p>
+     */
+    @Override
+    public void setWeight(long weight) {
+        this.weight = weight;
+        if(graph != null){
+            graph.setEdgeWeight(this, weight);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ShardedEdge && ((ShardedEdge) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (id ^ (id >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "Edge[Nodes: " + sourceNode + " -> " + targetNode + ", Weight: " + weight + "]";
+    }
+}
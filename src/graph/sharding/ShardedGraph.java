@@ -0,0 +1,935 @@
+package graph.sharding;
+
+import graph.algorithms.AlgorithmUtilities;
+import graph.components.BasicNode;
+import graph.elements.MemoryFootprint;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * This class creates a weighted graph whose nodes and edges are stored in
+ * shards, which can run in other processes. Each node is assigned to a shard
+ * by a ShardAssignment, and its shard stores all its edges: an edge between
+ * nodes of different shards is stored in both shards. The graph itself only
+ * holds the transport to the shards, and the ids assigned to the edges added
+ * to it, through weak references.
+ *
+ * <p>
+ * The operations send one request to each shard involved, whatever the
+ * number of nodes or edges: addAllEdges() and getEdgesOf(Collection) group
+ * their nodes and edges by shard, and the shortest path computation sends
+ * the distances crossing between shards in one request per shard and
+ * superstep. The requests to different shards are sent in parallel.
+ * </p>
+ *
+ * <p>
+ * The nodes of a sharded graph are identified by their name. The edges
+ * returned by the graph are ShardedEdge copies of the edges stored in the
+ * shards, and their nodes are new BasicNodes, except for the nodes passed
+ * to the method, which are returned as is. The edge views returned by
+ * edges(), edgesOf() and edgesWithWeight() are unmodifiable snapshots, since
+ * a live view would send requests every time it is read.
+ * </p>
+ *
+ * <p>
+ * NOTE: getAllEdges(), getAllNodes() and the weight queries return every
+ * matching edge or node of every shard, and therefore need to fit in the
+ * memory of the calling JVM.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class ShardedGraph implements WeightedGraph<Node, WeightedEdge<Node>>, Closeable {
+
+    private final ShardTransport transport;
+    private final ShardAssignment assignment;
+    private final int shardCount;
+    private final ExecutorService executor;
+
+    /**
+     * Ids of the edges added to the graph, other than its own ShardedEdges,
+     * so that adding the same edge again is rejected like in a BasicGraph.
+     * The edges are weakly referenced, so that the graph does not keep them
+     * alive.
+     */
+    private final Map<WeightedEdge<Node>, Long> addedEdgeIds =
+            Collections.synchronizedMap(new WeakHashMap<WeightedEdge<Node>, Long>());
+
+    /**
+     * Creates a graph whose nodes are assigned to the shards of the
+     * transport by ShardAssignment.HASH.
+     *
+     * @param transport to the shards
+     *
+     * @throws IllegalArgumentException if the transport is null.
+     */
+    public ShardedGraph(ShardTransport transport) {
+        this(transport, ShardAssignment.HASH);
+    }
+
+    /**
+     * Creates a graph whose nodes are assigned to the shards of the
+     * transport by the specified assignment.
+     *
+     * @param transport to the shards
+     * @param assignment of the nodes to the shards
+     *
+     * @throws IllegalArgumentException if the transport or assignment is null.
+     */
+    public ShardedGraph(ShardTransport transport, ShardAssignment assignment) {
+        if(transport == null){
+            throw new IllegalArgumentException("The transport is null");
+        }
+        if(assignment == null){
+            throw new IllegalArgumentException("The assignment is null");
+        }
+
+        this.transport = transport;
+        this.assignment = assignment;
+        this.shardCount = transport.getShardCount();
+        if(shardCount > 1){
+            executor = Executors.newFixedThreadPool(shardCount, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "ShardedGraph request");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        } else {
+            executor = null;
+        }
+    }
+
+    /**
+     * @return the number of shards of the graph.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * @param node of the graph
+     *
+     * @return the shard that owns the node.
+     *
+     * @throws IllegalArgumentException if the node or its name is null.
+     */
+    public int getShard(Node node) {
+        return shardOf(nameOf(node));
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getAllEdges() {
+        return getEdgesWithWeightBetween(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdges(Node sourceNode, Node targetNode) {
+        Request request = new Request(ShardProtocol.EDGES_BETWEEN);
+        request.writeUTF(nameOf(sourceNode));
+        request.writeUTF(nameOf(targetNode));
+
+        DataInputStream response = send(shardOf(sourceNode.getName()), request);
+        return readEdges(response, nodeMap(sourceNode, targetNode));
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesOf(Node node) {
+        return getEdgesOf(Collections.singleton(node)).get(node);
+    }
+
+    /**
+     * Returns the edges of several nodes, sending a single request to each
+     * shard that owns some of the nodes.
+     *
+     * @param nodes whose edges are returned
+     *
+     * @return the edges of each node, in the order of the nodes.
+     *
+     * @throws IllegalArgumentException if the collection is null or contains
+     *         a null node or a node without a name.
+     */
+    public Map<Node, Set<WeightedEdge<Node>>> getEdgesOf(Collection<? extends Node> nodes) {
+        if(nodes == null){
+            throw new IllegalArgumentException("The node collection is null");
+        }
+
+        List<List<Node>> nodesByShard = emptyLists();
+        Map<String, Node> knownNodes = new HashMap<String, Node>();
+        for(Node node : nodes){
+            nodesByShard.get(shardOf(nameOf(node))).add(node);
+            knownNodes.put(node.getName(), node);
+        }
+
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            List<Node> shardNodes = nodesByShard.get(shard);
+            if(!shardNodes.isEmpty()){
+                requests[shard] = new Request(ShardProtocol.EDGES_OF);
+                requests[shard].writeInt(shardNodes.size());
+                for(Node node : shardNodes){
+                    requests[shard].writeUTF(node.getName());
+                }
+            }
+        }
+        DataInputStream[] responses = sendAll(requests);
+
+        Map<Node, Set<WeightedEdge<Node>>> edges = new LinkedHashMap<Node, Set<WeightedEdge<Node>>>();
+        for(Node node : nodes){
+            edges.put(node, null);
+        }
+        for(int shard = 0; shard < shardCount; shard++){
+            for(Node node : nodesByShard.get(shard)){
+                edges.put(node, readEdges(responses[shard], knownNodes));
+            }
+        }
+        return edges;
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edges(Node sourceNode, Node targetNode) {
+        return Collections.unmodifiableSet(getEdges(sourceNode, targetNode));
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesOf(Node node) {
+        return Collections.unmodifiableSet(getEdgesOf(node));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edge is stored by value: its nodes, identified by their name, and
+     * its weight are sent to the shards, and the graph returns ShardedEdge
+     * copies of it. The graph remembers the id assigned to the edge, so that
+     * adding the same edge again returns false.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the edge is null or if one of its
+     *         nodes is null or has no name.
+     */
+    @Override
+    public boolean addEdge(WeightedEdge<Node> edge) {
+        return addAllEdges(Collections.singleton(edge));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edges are sent in one request to each shard that owns their
+     * source nodes, then in one request to each shard that owns the target
+     * nodes of the edges that cross shards.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the set is null or contains a null
+     *         edge or an edge whose nodes are null or have no name.
+     */
+    @Override
+    public boolean addAllEdges(Set<? extends WeightedEdge<Node>> edges) {
+        if(edges == null){
+            throw new IllegalArgumentException("The edge set is null");
+        }
+
+        List<List<WeightedEdge<Node>>> edgesBySourceShard = emptyLists();
+        for(WeightedEdge<Node> edge : edges){
+            if(edge == null){
+                throw new IllegalArgumentException("The edge is null");
+            }
+            nameOf(edge.getTargetNode());
+            edgesBySourceShard.get(shardOf(nameOf(edge.getSourceNode()))).add(edge);
+        }
+
+        // Store the edges in the shards of their source nodes, which assign their ids
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            List<WeightedEdge<Node>> shardEdges = edgesBySourceShard.get(shard);
+            if(!shardEdges.isEmpty()){
+                requests[shard] = new Request(ShardProtocol.ADD_EDGES);
+                requests[shard].writeInt(shardEdges.size());
+                for(WeightedEdge<Node> edge : shardEdges){
+                    boolean local = shardOf(edge.getTargetNode().getName()) == shard;
+                    writeAddedEdge(requests[shard], edge, idOf(edge),
+                            ShardProtocol.SOURCE_OWNED | (local ? ShardProtocol.TARGET_OWNED : 0));
+                }
+            }
+        }
+        DataInputStream[] responses = sendAll(requests);
+
+        // Store the edges that cross shards in the shards of their target nodes
+        boolean allAdded = true;
+        List<List<WeightedEdge<Node>>> edgesByTargetShard = emptyLists();
+        List<List<Long>> idsByTargetShard = emptyLists();
+        for(int shard = 0; shard < shardCount; shard++){
+            for(WeightedEdge<Node> edge : edgesBySourceShard.get(shard)){
+                long id = readLong(responses[shard]);
+                int targetShard = shardOf(edge.getTargetNode().getName());
+                if(id == ShardProtocol.NO_ID){
+                    allAdded = false;
+                    continue;
+                }
+                if(!(edge instanceof ShardedEdge && ((ShardedEdge) edge).getGraph() == this)){
+                    addedEdgeIds.put(edge, id);
+                }
+                if(targetShard != shard){
+                    edgesByTargetShard.get(targetShard).add(edge);
+                    idsByTargetShard.get(targetShard).add(id);
+                }
+            }
+        }
+
+        requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            List<WeightedEdge<Node>> shardEdges = edgesByTargetShard.get(shard);
+            if(!shardEdges.isEmpty()){
+                requests[shard] = new Request(ShardProtocol.ADD_EDGES);
+                requests[shard].writeInt(shardEdges.size());
+                for(int i = 0; i < shardEdges.size(); i++){
+                    writeAddedEdge(requests[shard], shardEdges.get(i), idsByTargetShard.get(shard).get(i), ShardProtocol.TARGET_OWNED);
+                }
+            }
+        }
+        responses = sendAll(requests);
+        for(int shard = 0; shard < shardCount; shard++){
+            for(int i = 0; i < edgesByTargetShard.get(shard).size(); i++){
+                readLong(responses[shard]);
+            }
+        }
+        return allAdded;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Only the ShardedEdges returned by this graph and the edges added to it
+     * can be removed.
+     * </p>
+     *
+     * @throws IllegalArgumentException if the edge is null.
+     */
+    @Override
+    public boolean removeEdge(WeightedEdge<Node> edge) {
+        if(edge == null){
+            throw new IllegalArgumentException("The edge is null");
+        }
+        long id = idOf(edge);
+        if(id == ShardProtocol.NO_ID){
+            return false;
+        }
+
+        List<List<Long>> idsByShard = emptyLists();
+        int sourceShard = shardOf(edge.getSourceNode().getName());
+        int targetShard = shardOf(edge.getTargetNode().getName());
+        idsByShard.get(sourceShard).add(id);
+        if(targetShard != sourceShard){
+            idsByShard.get(targetShard).add(id);
+        }
+        return removeEdges(idsByShard)[sourceShard];
+    }
+
+    @Override
+    public Set<Node> getAllNodes() {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.NODES);
+        }
+        DataInputStream[] responses = sendAll(requests);
+
+        Set<Node> nodes = new LinkedHashSet<Node>();
+        for(DataInputStream response : responses){
+            int count = readInt(response);
+            for(int i = 0; i < count; i++){
+                nodes.add(new BasicNode(readUTF(response)));
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the node or its name is null.
+     */
+    @Override
+    public boolean removeNode(Node node) {
+        Request request = new Request(ShardProtocol.REMOVE_NODE);
+        request.writeUTF(nameOf(node));
+        int nodeShard = shardOf(node.getName());
+        Set<WeightedEdge<Node>> removedEdges = readEdges(send(nodeShard, request), nodeMap(node));
+
+        // Remove the copies of the edges stored in the shards of the other nodes
+        List<List<Long>> idsByShard = emptyLists();
+        for(WeightedEdge<Node> edge : removedEdges){
+            Node otherNode = edge.getSourceNode() == node ? edge.getTargetNode() : edge.getSourceNode();
+            int otherShard = shardOf(otherNode.getName());
+            if(otherShard != nodeShard){
+                idsByShard.get(otherShard).add(((ShardedEdge) edge).getId());
+            }
+        }
+        removeEdges(idsByShard);
+        return !removedEdges.isEmpty();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.EDGE_COUNT);
+        }
+        for(DataInputStream response : sendAll(requests)){
+            if(readLong(response) > 0){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The footprint is the sum of the footprints of the shards, which are
+     * estimated by the shards themselves.
+     * </p>
+     */
+    @Override
+    public MemoryFootprint estimateMemoryFootprint() {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.MEMORY_FOOTPRINT);
+        }
+
+        long nodeBytes = 0;
+        long edgeBytes = 0;
+        long indexBytes = 0;
+        long nameBytes = 0;
+        for(DataInputStream response : sendAll(requests)){
+            nodeBytes += readLong(response);
+            edgeBytes += readLong(response);
+            indexBytes += readLong(response);
+            nameBytes += readLong(response);
+        }
+        return new MemoryFootprint(nodeBytes, edgeBytes, indexBytes, nameBytes);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesWithWeight(long weight) {
+        return getEdgesWithWeightBetween(weight, weight);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesWithWeightAbove(long weight) {
+        if(weight == Long.MAX_VALUE){
+            return new LinkedHashSet<WeightedEdge<Node>>();
+        }
+        return getEdgesWithWeightBetween(weight + 1, Long.MAX_VALUE);
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> getEdgesWithWeightBelow(long weight) {
+        if(weight == Long.MIN_VALUE){
+            return new LinkedHashSet<WeightedEdge<Node>>();
+        }
+        return getEdgesWithWeightBetween(Long.MIN_VALUE, weight - 1);
+    }
+
+    /**
+     * Returns a set of edges who's weight is within the specified range.
+     *
+     * @param minWeight smallest weight of the range (inclusive)
+     * @param maxWeight largest weight of the range (inclusive)
+     *
+     * @return Set of edges with a weight within the specified range.
+     */
+    public Set<WeightedEdge<Node>> getEdgesWithWeightBetween(long minWeight, long maxWeight) {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.OUT_EDGES_IN_RANGE);
+            requests[shard].writeLong(minWeight);
+            requests[shard].writeLong(maxWeight);
+        }
+
+        Set<WeightedEdge<Node>> edges = new LinkedHashSet<WeightedEdge<Node>>();
+        Map<String, Node> nodes = new HashMap<String, Node>();
+        for(DataInputStream response : sendAll(requests)){
+            edges.addAll(readEdges(response, nodes));
+        }
+        return edges;
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesWithWeight(long weight) {
+        return Collections.unmodifiableSet(getEdgesWithWeight(weight));
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesWithWeightAbove(long weight) {
+        return Collections.unmodifiableSet(getEdgesWithWeightAbove(weight));
+    }
+
+    @Override
+    public Set<WeightedEdge<Node>> edgesWithWeightBelow(long weight) {
+        return Collections.unmodifiableSet(getEdgesWithWeightBelow(weight));
+    }
+
+    @Override
+    public void resetEdgeWeights() {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.RESET_WEIGHTS);
+        }
+        sendAll(requests);
+    }
+
+    /**
+     * Computes the length of the shortest paths between a node and every
+     * node it is connected to, treating the edges as undirected like
+     * ShortestPathsToNode. The computation runs in the shards, in
+     * supersteps: each shard propagates the distances through its own
+     * nodes, and the distances that reach nodes of other shards are sent
+     * to them in one request per shard in the next superstep.
+     *
+     * @param node from which the distances are computed
+     *
+     * @return the distance of every node connected to the node, including
+     *         the node itself, or an empty map if the node is not part of
+     *         the graph.
+     *
+     * @throws IllegalArgumentException if the node or its name is null.
+     * @throws IllegalStateException if an edge has a negative weight.
+     */
+    public Map<Node, Long> getShortestPathDistances(Node node) {
+        String nodeName = nameOf(node);
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.SHORTEST_PATHS_START);
+        }
+        DataInputStream[] responses = sendAll(requests);
+        long[] queries = new long[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            queries[shard] = readLong(responses[shard]);
+        }
+
+        boolean completed = false;
+        try {
+            Map<Node, Long> distances = getShortestPathDistances(node, nodeName, queries);
+            completed = true;
+            return distances;
+        } finally {
+            if(!completed){
+                // Release the state of the query in the shards
+                try {
+                    sendAll(resultRequests(queries));
+                } catch(RuntimeException e) {
+                    // The failure of the query is reported instead
+                }
+            }
+        }
+    }
+
+    private Map<Node, Long> getShortestPathDistances(Node node, String nodeName, long[] queries) {
+        Request[] requests;
+        List<Map<String, Long>> messages = new ArrayList<Map<String, Long>>();
+        for(int shard = 0; shard < shardCount; shard++){
+            messages.add(new HashMap<String, Long>());
+        }
+        messages.get(shardOf(nodeName)).put(nodeName, 0L);
+
+        boolean messagesSent = true;
+        while(messagesSent){
+            requests = new Request[shardCount];
+            for(int shard = 0; shard < shardCount; shard++){
+                Map<String, Long> shardMessages = messages.get(shard);
+                if(!shardMessages.isEmpty()){
+                    requests[shard] = new Request(ShardProtocol.SHORTEST_PATHS_STEP);
+                    requests[shard].writeLong(queries[shard]);
+                    requests[shard].writeInt(shardMessages.size());
+                    for(Map.Entry<String, Long> message : shardMessages.entrySet()){
+                        requests[shard].writeUTF(message.getKey());
+                        requests[shard].writeLong(message.getValue());
+                    }
+                    shardMessages.clear();
+                }
+            }
+            DataInputStream[] responses = sendAll(requests);
+
+            // Route the distances to the shards of their nodes, keeping the smallest one
+            messagesSent = false;
+            for(DataInputStream response : responses){
+                if(response == null){
+                    continue;
+                }
+                int count = readInt(response);
+                for(int i = 0; i < count; i++){
+                    String name = readUTF(response);
+                    long distance = readLong(response);
+                    Map<String, Long> shardMessages = messages.get(shardOf(name));
+                    Long known = shardMessages.get(name);
+                    if(known == null || distance < known){
+                        shardMessages.put(name, distance);
+                    }
+                    messagesSent = true;
+                }
+            }
+        }
+
+        Map<Node, Long> distances = new LinkedHashMap<Node, Long>();
+        for(DataInputStream response : sendAll(resultRequests(queries))){
+            int count = readInt(response);
+            for(int i = 0; i < count; i++){
+                String name = readUTF(response);
+                distances.put(name.equals(nodeName) ? node : new BasicNode(name), readLong(response));
+            }
+        }
+        return distances;
+    }
+
+    /**
+     * Creates the requests returning the distances of a query and releasing
+     * its state in the shards.
+     */
+    private Request[] resultRequests(long[] queries) {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            requests[shard] = new Request(ShardProtocol.SHORTEST_PATHS_RESULT);
+            requests[shard].writeLong(queries[shard]);
+        }
+        return requests;
+    }
+
+    /**
+     * Closes the transport to the shards and stops the threads sending the
+     * requests.
+     *
+     * @throws IOException if the transport could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if(executor != null){
+            executor.shutdownNow();
+        }
+        transport.close();
+    }
+
+    /**
+     * Sets the weight of an edge in the shards that store it.
+     */
+    void setEdgeWeight(ShardedEdge edge, long weight) {
+        Request[] requests = new Request[shardCount];
+        int sourceShard = shardOf(edge.getSourceNode().getName());
+        int targetShard = shardOf(edge.getTargetNode().getName());
+        for(int shard : new int[] {sourceShard, targetShard}){
+            requests[shard] = new Request(ShardProtocol.SET_WEIGHTS);
+            requests[shard].writeInt(1);
+            requests[shard].writeLong(edge.getId());
+            requests[shard].writeLong(weight);
+        }
+        sendAll(requests);
+    }
+
+    @Override
+    public String toString() {
+        return AlgorithmUtilities.printEdgeSetToString("ShardedGraph", getAllEdges(), AlgorithmUtilities.MAX_EDGES_IN_STRING);
+    }
+
+    private boolean[] removeEdges(List<List<Long>> idsByShard) {
+        Request[] requests = new Request[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            List<Long> ids = idsByShard.get(shard);
+            if(!ids.isEmpty()){
+                requests[shard] = new Request(ShardProtocol.REMOVE_EDGES);
+                requests[shard].writeInt(ids.size());
+                for(long id : ids){
+                    requests[shard].writeLong(id);
+                }
+            }
+        }
+        DataInputStream[] responses = sendAll(requests);
+
+        boolean[] removed = new boolean[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            for(int i = 0; i < idsByShard.get(shard).size(); i++){
+                removed[shard] |= readBoolean(responses[shard]);
+            }
+        }
+        return removed;
+    }
+
+    private void writeAddedEdge(Request request, WeightedEdge<Node> edge, long id, int flags) {
+        request.writeByte(flags);
+        request.writeLong(id);
+        request.writeUTF(edge.getSourceNode().getName());
+        request.writeUTF(edge.getTargetNode().getName());
+        request.writeLong(edge.getWeight());
+    }
+
+    /**
+     * @return the id of an edge returned by or added to this graph, or NO_ID
+     *         for any other edge.
+     */
+    private long idOf(WeightedEdge<Node> edge) {
+        if(edge instanceof ShardedEdge && ((ShardedEdge) edge).getGraph() == this){
+            return ((ShardedEdge) edge).getId();
+        }
+        Long id = addedEdgeIds.get(edge);
+        return id == null ? ShardProtocol.NO_ID : id;
+    }
+
+    private int shardOf(String nodeName) {
+        int shard = assignment.getShard(nodeName, shardCount);
+        if(shard < 0 || shard >= shardCount){
+            throw new IllegalStateException("The assignment returned an invalid shard for " + nodeName + ": " + shard);
+        }
+        return shard;
+    }
+
+    private static String nameOf(Node node) {
+        if(node == null){
+            throw new IllegalArgumentException("The node is null");
+        }
+        if(node.getName() == null){
+            throw new IllegalArgumentException("The node has no name");
+        }
+        return node.getName();
+    }
+
+    private static Map<String, Node> nodeMap(Node... nodes) {
+        Map<String, Node> nodeMap = new HashMap<String, Node>();
+        for(Node node : nodes){
+            nodeMap.put(node.getName(), node);
+        }
+        return nodeMap;
+    }
+
+    private <T> List<List<T>> emptyLists() {
+        List<List<T>> lists = new ArrayList<List<T>>(shardCount);
+        for(int shard = 0; shard < shardCount; shard++){
+            lists.add(new ArrayList<T>());
+        }
+        return lists;
+    }
+
+    private Set<WeightedEdge<Node>> readEdges(DataInputStream response, Map<String, Node> nodes) {
+        try {
+            int count = response.readInt();
+            Set<WeightedEdge<Node>> edges = new LinkedHashSet<WeightedEdge<Node>>();
+            for(int i = 0; i < count; i++){
+                edges.add(ShardProtocol.readEdge(response, nodes, this));
+            }
+            return edges;
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed response from a shard", e);
+        }
+    }
+
+    private static int readInt(DataInputStream response) {
+        try {
+            return response.readInt();
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed response from a shard", e);
+        }
+    }
+
+    private static long readLong(DataInputStream response) {
+        try {
+            return response.readLong();
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed response from a shard", e);
+        }
+    }
+
+    private static boolean readBoolean(DataInputStream response) {
+        try {
+            return response.readBoolean();
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed response from a shard", e);
+        }
+    }
+
+    private static String readUTF(DataInputStream response) {
+        try {
+            return response.readUTF();
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed response from a shard", e);
+        }
+    }
+
+    private DataInputStream send(int shard, Request request) {
+        Request[] requests = new Request[shardCount];
+        requests[shard] = request;
+        return sendAll(requests)[shard];
+    }
+
+    /**
+     * Sends the requests to their shards in parallel.
+     *
+     * @param requests to be sent to each shard, or null for the shards
+     *        that do not receive a request
+     *
+     * @return the response of each shard, or null for the shards that did
+     *         not receive a request.
+     *
+     * @throws IllegalStateException if a shard could not be reached or
+     *         failed to handle its request.
+     */
+    private DataInputStream[] sendAll(Request[] requests) {
+        byte[][] responses = new byte[shardCount][];
+        List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+        int requestCount = 0;
+        for(Request request : requests){
+            if(request != null){
+                requestCount++;
+            }
+        }
+
+        for(int shard = 0; shard < shardCount; shard++){
+            if(requests[shard] == null){
+                futures.add(null);
+            } else if(requestCount == 1 || executor == null){
+                responses[shard] = sendNow(shard, requests[shard].toByteArray());
+                futures.add(null);
+            } else {
+                final int target = shard;
+                final byte[] bytes = requests[shard].toByteArray();
+                futures.add(executor.submit(new Callable<byte[]>() {
+                    @Override
+                    public byte[] call() {
+                        return sendNow(target, bytes);
+                    }
+                }));
+            }
+        }
+
+        for(int shard = 0; shard < shardCount; shard++){
+            if(futures.get(shard) != null){
+                responses[shard] = waitFor(futures.get(shard));
+            }
+        }
+
+        DataInputStream[] inputs = new DataInputStream[shardCount];
+        for(int shard = 0; shard < shardCount; shard++){
+            if(responses[shard] != null){
+                inputs[shard] = open(shard, responses[shard]);
+            }
+        }
+        return inputs;
+    }
+
+    private byte[] sendNow(int shard, byte[] request) {
+        try {
+            return transport.send(shard, request);
+        } catch(IOException e) {
+            throw new IllegalStateException("Shard " + shard + " could not be reached", e);
+        }
+    }
+
+    private static byte[] waitFor(Future<byte[]> future) {
+        try {
+            return future.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The request was interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException){
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error){
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Checks the status of a response and opens its results.
+     */
+    private static DataInputStream open(int shard, byte[] response) {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(response));
+        try {
+            if(in.readUnsignedByte() != ShardProtocol.OK){
+                throw new IllegalStateException("Shard " + shard + " failed: " + in.readUTF());
+            }
+        } catch(IOException e) {
+            throw new IllegalStateException("Malformed response from shard " + shard, e);
+        }
+        return in;
+    }
+
+    /**
+     * Request being encoded. Encoding into memory cannot fail, so the
+     * IOExceptions declared by DataOutputStream are not propagated.
+     */
+    private static final class Request {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        private Request(int operation) {
+            writeByte(operation);
+        }
+
+        private void writeByte(int value) {
+            try {
+                out.writeByte(value);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void writeInt(int value) {
+            try {
+                out.writeInt(value);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void writeLong(long value) {
+            try {
+                out.writeLong(value);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void writeUTF(String value) {
+            try {
+                out.writeUTF(value);
+            } catch(IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package graph.sharding;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class creates a transport that sends the requests to ShardServers
+ * through TCP sockets. Each shard is reached through a single connection,
+ * which is opened on the first request and reopened after a failure.
+ *
+ * <p>
+ * Requests and responses are sent as frames: the length of the bytes as
+ * an int, followed by the bytes.
+ * </p>
+ *
+ * @author Mathieu Léger
+ * @since Oct 19, 2026
+ */
+public class SocketTransport implements ShardTransport {
+
+    /**
+     * Largest frame accepted, to fail fast on a corrupted stream
+     */
+    static final int MAX_FRAME_LENGTH = 1 << 30;
+
+    private final List<Connection> connections = new ArrayList<Connection>();
+
+    /**
+     * Creates a transport to the shard servers listening at the specified
+     * addresses. The shards are numbered in the order of the list.
+     *
+     * @param addresses of the shard servers
+     *
+     * @throws IllegalArgumentException if the list is null, empty or contains null.
+     */
+    public SocketTransport(List<InetSocketAddress> addresses) {
+        if(addresses == null || addresses.isEmpty() || addresses.contains(null)){
+            throw new IllegalArgumentException("The addresses cannot be null or empty");
+        }
+        for(InetSocketAddress address : addresses){
+            connections.add(new Connection(address));
+        }
+    }
+
+    @Override
+    public int getShardCount() {
+        return connections.size();
+    }
+
+    @Override
+    public byte[] send(int shard, byte[] request) throws IOException {
+        return connections.get(shard).send(request);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for(Connection connection : connections){
+            connection.close();
+        }
+    }
+
+    static void writeFrame(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.flush();
+    }
+
+    static byte[] readFrame(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if(length < 0 || length > MAX_FRAME_LENGTH){
+            throw new IOException("Invalid frame length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Connection to one shard server. The requests sent through the
+     * connection are sent one at a time.
+     */
+    private static final class Connection {
+        private final InetSocketAddress address;
+        private Socket socket;
+        private DataInputStream in;
+        private DataOutputStream out;
+
+        private Connection(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        private synchronized byte[] send(byte[] request) throws IOException {
+            if(socket == null){
+                socket = new Socket();
+                socket.setTcpNoDelay(true);
+                socket.connect(address);
+                in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            }
+
+            try {
+                writeFrame(out, request);
+                return readFrame(in);
+            } catch(IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        private synchronized void close() throws IOException {
+            if(socket != null){
+                try {
+                    socket.close();
+                } finally {
+                    socket = null;
+                    in = null;
+                    out = null;
+                }
+            }
+        }
+    }
+}
@@ -6,6 +6,8 @@ import graph.components.BasicNode;
 import graph.elements.Edge;
 import graph.elements.Node;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -33,4 +35,21 @@ public class AlgorithmUtilitiesTests {
         assertEquals("The output String is different than expected", expected, result);
     }
 
+    @Test
+    public void printEdgeSetWithMaxEdges_omittedEdgesShouldBeCounted() throws IOException {
+
+        String newLine = System.getProperty("line.separator");
+        Set<Edge<Node>> edges = new LinkedHashSet<Edge<Node>>();
+        BasicEdge<Node> edge1 = new BasicEdge<Node>(new BasicNode("N1"), new BasicNode("N2"));
+        edges.add(edge1);
+        edges.add(new BasicEdge<Node>(new BasicNode("N3"), new BasicNode("N4")));
+        edges.add(new BasicEdge<Node>(new BasicNode("N5"), new BasicNode("N6")));
+
+        StringWriter writer = new StringWriter();
+        AlgorithmUtilities.printEdgeSet(writer, "test", edges, 1);
+
+        String expected = "test[" + edge1 + newLine + "     ... 2 more edges" + newLine + "]";
+        assertEquals("The output is different than expected", expected, writer.toString());
+    }
+
 }
@@ -0,0 +1,133 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createConnectedGraph;
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BatchDistancesTest {
+
+    @Test
+    public void getDistanceMatrix_shouldMatchShortestPathsToNode() {
+        List<Node> nodes = createNodes(60);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 150, new Random(7));
+        List<Node> sources = nodes.subList(0, 5);
+        List<Node> targets = nodes.subList(20, 60);
+
+        long[] matrix = new BatchDistances<Node, WeightedEdge<Node>>(graph).getDistanceMatrix(sources, targets);
+
+        for(int i = 0; i < sources.size(); i++){
+            Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, sources.get(i)).getShortestPaths();
+            for(int j = 0; j < targets.size(); j++){
+                assertEquals("The distance from " + i + " to " + j + " is not correct",
+                        expected.get(targets.get(j)).longValue(), matrix[i * targets.size() + j]);
+            }
+        }
+    }
+
+    @Test
+    public void getDistancesWithManySourcesAndFewTargets_shouldSearchBackwardsAndMatchShortestPathsToNode() {
+        List<Node> nodes = createNodes(80);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 200, new Random(11));
+        List<Node> sources = new ArrayList<Node>();
+        List<Node> targets = new ArrayList<Node>();
+        for(int i = 0; i < nodes.size(); i++){
+            sources.add(nodes.get(i));
+            targets.add(nodes.get(i % 2 == 0 ? 3 : 42));
+        }
+
+        long[] distances = new BatchDistances<Node, WeightedEdge<Node>>(graph).getDistances(sources, targets);
+
+        Map<Node, Long> toThree = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nodes.get(3)).getShortestPaths();
+        Map<Node, Long> toFortyTwo = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nodes.get(42)).getShortestPaths();
+        for(int i = 0; i < nodes.size(); i++){
+            Map<Node, Long> expected = i % 2 == 0 ? toThree : toFortyTwo;
+            assertEquals("The distance of pair " + i + " is not correct", expected.get(nodes.get(i)).longValue(), distances[i]);
+        }
+    }
+
+    @Test
+    public void getDistancesOutgoing_shouldOnlyFollowTheEdgesForward() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 10));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(2), 1));
+
+        BatchDistances<Node, WeightedEdge<Node>> batch = new BatchDistances<Node, WeightedEdge<Node>>(
+                graph, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING);
+        long[] distances = batch.getDistances(
+                Arrays.asList(nodes.get(0), nodes.get(2), nodes.get(3), nodes.get(3)),
+                Arrays.asList(nodes.get(2), nodes.get(0), nodes.get(2), nodes.get(3)));
+
+        assertArrayEquals("The directed distances are not correct",
+                new long[] {5, BatchDistances.NO_PATH, 1, 0}, distances);
+    }
+
+    @Test
+    public void getDistancesWithSeveralThreads_shouldMatchASingleThread() {
+        List<Node> nodes = createNodes(200);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 600, new Random(3));
+        Random random = new Random(5);
+        List<Node> sources = new ArrayList<Node>();
+        List<Node> targets = new ArrayList<Node>();
+        for(int i = 0; i < 500; i++){
+            sources.add(nodes.get(random.nextInt(nodes.size())));
+            targets.add(nodes.get(random.nextInt(nodes.size())));
+        }
+
+        BatchDistances<Node, WeightedEdge<Node>> batch = new BatchDistances<Node, WeightedEdge<Node>>(graph);
+        batch.setThreadCount(1);
+        long[] expected = batch.getDistances(sources, targets);
+        batch.setThreadCount(4);
+
+        assertArrayEquals("The parallel distances are not correct", expected, batch.getDistances(sources, targets));
+    }
+
+    @Test
+    public void getDistanceMatrixBetweenDisconnectedNodes_shouldReturnNoPath() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 4));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), 6));
+
+        long[] matrix = new BatchDistances<Node, WeightedEdge<Node>>(graph).getDistanceMatrix(
+                nodes.subList(0, 2), nodes.subList(1, 4));
+
+        assertArrayEquals("The disconnected pairs should have no path",
+                new long[] {4, BatchDistances.NO_PATH, BatchDistances.NO_PATH, 0, BatchDistances.NO_PATH, BatchDistances.NO_PATH}, matrix);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getDistancesWithUnknownNode_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new BatchDistances<Node, WeightedEdge<Node>>(graph).getDistances(nodes.subList(0, 1), nodes.subList(2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getDistancesWithListsOfDifferentSizes_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new BatchDistances<Node, WeightedEdge<Node>>(graph).getDistances(nodes.subList(0, 2), nodes.subList(0, 1));
+    }
+}
@@ -0,0 +1,222 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BellmanFordTest {
+
+    @Test
+    public void findPathsWithNegativeWeights_shouldMatchDijkstraOnThePotentialFreeWeights() {
+        List<Node> nodes = createNodes(150);
+        final Map<WeightedEdge<Node>, Long> baseWeights = new HashMap<WeightedEdge<Node>, Long>();
+        Graph<Node, WeightedEdge<Node>> graph = createReweightedGraph(nodes, 600, new Random(23), baseWeights);
+        Node source = nodes.get(0);
+
+        Map<Node, Long> expected = expectedDistances(graph, source, baseWeights);
+        BellmanFord<Node, WeightedEdge<Node>> paths = new BellmanFord<Node, WeightedEdge<Node>>(graph, source);
+
+        assertFalse("There should be no negative cycle", paths.hasNegativeCycle());
+        assertEquals("The distances are not correct", expected, paths.getShortestPaths());
+        for(Node target : nodes){
+            WeightedPath<Node, WeightedEdge<Node>> path = paths.getShortestPath(target);
+            long weight = 0;
+            for(WeightedEdge<Node> edge : path.getEdges()){
+                weight += edge.getWeight();
+            }
+            assertEquals("The path weight does not match its edges", weight, path.getWeight());
+        }
+    }
+
+    @Test
+    public void findPathsWithSeveralThreads_shouldMatchTheQueueBasedAlgorithm() {
+        List<Node> nodes = createNodes(300);
+        Graph<Node, WeightedEdge<Node>> graph = createReweightedGraph(nodes, 1500, new Random(29), new HashMap<WeightedEdge<Node>, Long>());
+
+        Map<Node, Long> expected = new BellmanFord<Node, WeightedEdge<Node>>(graph, nodes.get(7)).getShortestPaths();
+        BellmanFord<Node, WeightedEdge<Node>> paths = new BellmanFord<Node, WeightedEdge<Node>>(
+                graph, nodes.get(7), WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, 4);
+
+        assertEquals("The parallel distances are not correct", expected, paths.getShortestPaths());
+        assertEquals("The parallel path weight is not correct", expected.get(nodes.get(42)).longValue(),
+                paths.getShortestPath(nodes.get(42)).getWeight());
+    }
+
+    @Test
+    public void findPathsWithNegativeCycle_shouldReportTheCycle() {
+        for(int threadCount = 1; threadCount <= 3; threadCount += 2){
+            List<Node> nodes = createNodes(6);
+            Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 2));
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), 3));
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), -4));
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(1), -1));
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(4), 1));
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(5), nodes.get(0), 1));
+
+            BellmanFord<Node, WeightedEdge<Node>> paths = new BellmanFord<Node, WeightedEdge<Node>>(
+                    graph, nodes.get(0), WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, threadCount);
+
+            assertTrue("The negative cycle should be detected", paths.hasNegativeCycle());
+            WeightedPath<Node, WeightedEdge<Node>> cycle = paths.getNegativeCycle();
+            assertEquals("The cycle weight is not correct", -2, cycle.getWeight());
+            assertEquals("The cycle should have three edges", 3, cycle.getEdges().size());
+            assertEquals("The cycle should be closed", cycle.getStartNode(), cycle.getEndNode());
+            for(int i = 0; i < cycle.getEdges().size(); i++){
+                assertEquals("The cycle edges should follow each other",
+                        cycle.getNodes().get(i), cycle.getEdges().get(i).getSourceNode());
+            }
+        }
+    }
+
+    @Test
+    public void findPathsWithUnreachableNegativeCycle_shouldIgnoreTheCycle() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), -2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), -2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(2), 1));
+
+        BellmanFord<Node, WeightedEdge<Node>> paths = new BellmanFord<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+
+        assertFalse("The unreachable cycle should be ignored", paths.hasNegativeCycle());
+        assertEquals("The distance is not correct", -2, paths.getShortestPathToTarget(nodes.get(1)));
+        assertEquals("The cycle nodes cannot be reached", Long.MAX_VALUE, paths.getShortestPathToTarget(nodes.get(2)));
+    }
+
+    @Test
+    public void findPathsUndirectedWithNegativeEdge_shouldReportANegativeCycle() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), -1));
+
+        BellmanFord<Node, WeightedEdge<Node>> paths = new BellmanFord<Node, WeightedEdge<Node>>(
+                graph, nodes.get(0), WeightFunction.EDGE_WEIGHT, TraversalDirection.UNDIRECTED, 1);
+
+        assertTrue("A negative undirected edge is a negative cycle", paths.hasNegativeCycle());
+        assertEquals("The cycle weight is not correct", -2, paths.getNegativeCycle().getWeight());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getDistanceWithNegativeCycle_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), -1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(0), -1));
+
+        new BellmanFord<Node, WeightedEdge<Node>>(graph, nodes.get(0)).getShortestPathToTarget(nodes.get(1));
+    }
+
+    @Test
+    public void johnsonReweighting_shouldGiveWeightsThatAreNotNegativeAndKeepTheDistances() {
+        List<Node> nodes = createNodes(120);
+        final Map<WeightedEdge<Node>, Long> baseWeights = new HashMap<WeightedEdge<Node>, Long>();
+        Graph<Node, WeightedEdge<Node>> graph = createReweightedGraph(nodes, 500, new Random(37), baseWeights);
+
+        JohnsonReweighting<Node, WeightedEdge<Node>> johnson = new JohnsonReweighting<Node, WeightedEdge<Node>>(graph);
+        WeightFunction<WeightedEdge<Node>> reweighted = johnson.getReweightedWeights();
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            assertTrue("The new weights cannot be negative", reweighted.weightOf(edge) >= 0);
+        }
+
+        Random random = new Random(1);
+        for(int i = 0; i < 5; i++){
+            Node source = nodes.get(random.nextInt(nodes.size()));
+            Map<Node, Long> expected = expectedDistances(graph, source, baseWeights);
+            assertEquals("The distances are not correct", expected, johnson.getShortestPaths(source));
+            for(int j = 0; j < 20; j++){
+                Node target = nodes.get(random.nextInt(nodes.size()));
+                long distance = expected.containsKey(target) ? expected.get(target) : Long.MAX_VALUE;
+                assertEquals("The distance is not correct", distance, johnson.getDistance(source, target));
+                if(distance != Long.MAX_VALUE){
+                    assertEquals("The path weight is not correct", distance, johnson.getShortestPath(source, target).getWeight());
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void johnsonReweightingWithNegativeCycle_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), -3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(0), 1));
+
+        new JohnsonReweighting<Node, WeightedEdge<Node>>(graph);
+    }
+
+    @Test
+    public void singleSourceShortestPathsWithCycleAndNegativeWeight_shouldUseBellmanFord() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 4));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), -3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(0), 1));
+
+        SingleSourceShortestPaths<Node, WeightedEdge<Node>> paths = new SingleSourceShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+
+        assertFalse("The cycle should be detected", paths.isAcyclic());
+        assertEquals("The negative edge should be taken", 1, paths.getShortestPathToTarget(nodes.get(2)));
+    }
+
+    /**
+     * Computes the distances with Dijkstra's algorithm on the base weights,
+     * and converts them back with the potentials, which are the node numbers.
+     */
+    private static Map<Node, Long> expectedDistances(Graph<Node, WeightedEdge<Node>> graph, Node source,
+            final Map<WeightedEdge<Node>, Long> baseWeights) {
+        Map<Node, Long> baseDistances = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, source, new WeightFunction<WeightedEdge<Node>>() {
+            @Override
+            public long weightOf(WeightedEdge<Node> edge) {
+                return baseWeights.get(edge);
+            }
+        }, TraversalDirection.OUTGOING).getNodesWithin(Long.MAX_VALUE);
+
+        Map<Node, Long> distances = new HashMap<Node, Long>();
+        for(Map.Entry<Node, Long> entry : baseDistances.entrySet()){
+            distances.put(entry.getKey(), entry.getValue() + potential(source) - potential(entry.getKey()));
+        }
+        return distances;
+    }
+
+    /**
+     * Creates a directed graph with cycles whose weights are a base weight that
+     * is not negative plus potential(source) - potential(target), so that many
+     * weights are negative but no cycle is.
+     */
+    private static Graph<Node, WeightedEdge<Node>> createReweightedGraph(List<Node> nodes, int edgeCount, Random random,
+            Map<WeightedEdge<Node>, Long> baseWeights) {
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int i = 0; i < edgeCount; i++){
+            Node source = nodes.get(i < nodes.size() ? i : random.nextInt(nodes.size()));
+            Node target = nodes.get(i < nodes.size() ? (i + 1) % nodes.size() : random.nextInt(nodes.size()));
+            if(source != target){
+                long baseWeight = random.nextInt(10);
+                WeightedEdge<Node> edge = new BasicWeightedEdge<Node>(source, target, baseWeight + potential(source) - potential(target));
+                graph.addEdge(edge);
+                baseWeights.put(edge, baseWeight);
+            }
+        }
+        return graph;
+    }
+
+    private static long potential(Node node) {
+        return Integer.parseInt(node.toString().replaceAll("\\D", "")) * 3 % 17;
+    }
+}
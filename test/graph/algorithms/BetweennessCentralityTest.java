@@ -0,0 +1,226 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createNodes;
+import static graph.algorithms.GraphFixtures.createRandomGraph;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class BetweennessCentralityTest {
+
+    @Test
+    public void computeBetweennessOfPath_shouldCountThePairsThroughEachNode() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < 3; i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(i + 1)));
+        }
+
+        BetweennessCentrality<Node, Edge<Node>> centrality = new BetweennessCentrality<Node, Edge<Node>>(graph);
+
+        assertEquals("The score of the first node is not correct", 0, centrality.getNodeScore(nodes.get(0)), 0);
+        assertEquals("The score of the second node is not correct", 2, centrality.getNodeScore(nodes.get(1)), 1e-9);
+        assertEquals("The score of the third node is not correct", 2, centrality.getNodeScore(nodes.get(2)), 1e-9);
+        assertEquals("The score of the middle edge is not correct", 4,
+                centrality.getEdgeScore(graph.getEdges(nodes.get(1), nodes.get(2)).iterator().next()), 1e-9);
+        assertFalse("The scores should be exact", centrality.isSampled());
+    }
+
+    @Test
+    public void computeBetweennessOfUndirectedStar_shouldCountEachPairOnce() {
+        List<Node> nodes = createNodes(6);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 1; i < nodes.size(); i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(0)));
+        }
+
+        BetweennessCentrality<Node, Edge<Node>> centrality = new BetweennessCentrality<Node, Edge<Node>>(
+                graph, WeightFunction.UNIT_WEIGHT, TraversalDirection.UNDIRECTED, 1);
+
+        assertEquals("The score of the center is not correct", 10, centrality.getNodeScore(nodes.get(0)), 1e-9);
+        assertEquals("The center should be the most central node", nodes.get(0), centrality.getMostCentralNodes(1).get(0));
+    }
+
+    @Test
+    public void computeBetweennessOfRandomWeightedGraph_shouldMatchThePathCounts() {
+        for(int round = 0; round < 6; round++){
+            Random random = new Random(47 + round);
+            List<Node> nodes = createNodes(40);
+            Graph<Node, WeightedEdge<Node>> graph = createRandomGraph(nodes, 160, random, round % 2 == 0 ? 1 : 4);
+            TraversalDirection direction = round < 4 ? TraversalDirection.OUTGOING : TraversalDirection.UNDIRECTED;
+
+            BetweennessCentrality<Node, WeightedEdge<Node>> centrality = new BetweennessCentrality<Node, WeightedEdge<Node>>(
+                    graph, WeightFunction.EDGE_WEIGHT, direction, 1);
+
+            List<Node> graphNodes = new ArrayList<Node>(graph.getAllNodes());
+            List<WeightedEdge<Node>> edges = new ArrayList<WeightedEdge<Node>>(graph.getAllEdges());
+            double[][] expected = expectedScores(graphNodes, edges, direction == TraversalDirection.UNDIRECTED);
+            for(int i = 0; i < graphNodes.size(); i++){
+                assertEquals("The node score is not correct", expected[0][i], centrality.getNodeScore(graphNodes.get(i)), 1e-6);
+            }
+            for(int i = 0; i < edges.size(); i++){
+                assertEquals("The edge score is not correct", expected[1][i], centrality.getEdgeScore(edges.get(i)), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void computeBetweennessWithSeveralThreads_shouldMatchOneThread() {
+        List<Node> nodes = createNodes(300);
+        Graph<Node, WeightedEdge<Node>> graph = createRandomGraph(nodes, 1500, new Random(53), 9);
+
+        BetweennessCentrality<Node, WeightedEdge<Node>> expected = new BetweennessCentrality<Node, WeightedEdge<Node>>(
+                graph, WeightFunction.EDGE_WEIGHT);
+        BetweennessCentrality<Node, WeightedEdge<Node>> centrality = new BetweennessCentrality<Node, WeightedEdge<Node>>(
+                graph, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, 4);
+
+        for(Node node : graph.getAllNodes()){
+            assertEquals("The parallel node score is not correct", expected.getNodeScore(node), centrality.getNodeScore(node), 1e-6);
+        }
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            assertEquals("The parallel edge score is not correct", expected.getEdgeScore(edge), centrality.getEdgeScore(edge), 1e-6);
+        }
+    }
+
+    @Test
+    public void estimateBetweennessFromPivots_shouldBeCloseToTheExactScores() {
+        List<Node> nodes = createNodes(400);
+        Graph<Node, WeightedEdge<Node>> graph = createRandomGraph(nodes, 2000, new Random(59), 5);
+
+        BetweennessCentrality<Node, WeightedEdge<Node>> exact = new BetweennessCentrality<Node, WeightedEdge<Node>>(
+                graph, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, 2);
+        BetweennessCentrality<Node, WeightedEdge<Node>> sampled = new BetweennessCentrality<Node, WeightedEdge<Node>>(
+                graph, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, 2, 100, new Random(61));
+
+        assertTrue("The scores should be sampled", sampled.isSampled());
+        assertEquals("The pivot count is not correct", 100, sampled.getPivotCount());
+        assertEquals("Exact scores should have no error", 0, exact.getErrorBound(0.05), 0);
+
+        // With a quarter of the nodes as pivots, the mean error stays around a quarter of the mean score
+        double error = 0;
+        double total = 0;
+        for(Node node : graph.getAllNodes()){
+            error += Math.abs(exact.getNodeScore(node) - sampled.getNodeScore(node));
+            total += exact.getNodeScore(node);
+        }
+        assertTrue("The mean error of the estimates is too large: " + error / total, error <= 0.35 * total);
+
+        Set<Node> mostCentral = new HashSet<Node>(exact.getMostCentralNodes(20));
+        mostCentral.retainAll(sampled.getMostCentralNodes(20));
+        assertTrue("The estimates should find most of the central nodes: " + mostCentral.size(), mostCentral.size() >= 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void computeBetweennessWithNegativeWeight_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), -1));
+
+        new BetweennessCentrality<Node, WeightedEdge<Node>>(graph, WeightFunction.EDGE_WEIGHT);
+    }
+
+    /**
+     * Computes the node and edge scores from the distances and the numbers of
+     * shortest paths between every pair of nodes.
+     */
+    private static double[][] expectedScores(List<Node> nodes, List<WeightedEdge<Node>> edges, boolean undirected) {
+        int n = nodes.size();
+        Map<Node, Integer> indexes = new HashMap<Node, Integer>();
+        for(int i = 0; i < n; i++){
+            indexes.put(nodes.get(i), i);
+        }
+        List<int[]> arcs = new ArrayList<int[]>();
+        for(int e = 0; e < edges.size(); e++){
+            int from = indexes.get(edges.get(e).getSourceNode());
+            int to = indexes.get(edges.get(e).getTargetNode());
+            arcs.add(new int[] {from, to, e});
+            if(undirected){
+                arcs.add(new int[] {to, from, e});
+            }
+        }
+
+        long[][] distances = new long[n][n];
+        double[][] counts = new double[n][n];
+        for(int s = 0; s < n; s++){
+            Arrays.fill(distances[s], Long.MAX_VALUE);
+            distances[s][s] = 0;
+            for(int round = 0; round < n; round++){
+                for(int[] arc : arcs){
+                    long weight = edges.get(arc[2]).getWeight();
+                    if(distances[s][arc[0]] != Long.MAX_VALUE && distances[s][arc[0]] + weight < distances[s][arc[1]]){
+                        distances[s][arc[1]] = distances[s][arc[0]] + weight;
+                    }
+                }
+            }
+            Integer[] order = new Integer[n];
+            for(int i = 0; i < n; i++){
+                order[i] = i;
+            }
+            final long[] sourceDistances = distances[s];
+            Arrays.sort(order, new java.util.Comparator<Integer>() {
+                @Override
+                public int compare(Integer first, Integer second) {
+                    return sourceDistances[first] < sourceDistances[second] ? -1 : sourceDistances[first] > sourceDistances[second] ? 1 : 0;
+                }
+            });
+            counts[s][s] = 1;
+            for(int node : order){
+                for(int[] arc : arcs){
+                    if(arc[1] == node && arc[0] != node && distances[s][arc[0]] != Long.MAX_VALUE
+                            && distances[s][arc[0]] + edges.get(arc[2]).getWeight() == distances[s][node]){
+                        counts[s][node] += counts[s][arc[0]];
+                    }
+                }
+            }
+        }
+
+        double[][] scores = {new double[n], new double[edges.size()]};
+        for(int s = 0; s < n; s++){
+            for(int t = 0; t < n; t++){
+                if(s == t || distances[s][t] == Long.MAX_VALUE){
+                    continue;
+                }
+                for(int v = 0; v < n; v++){
+                    if(v != s && v != t && distances[s][v] != Long.MAX_VALUE && distances[v][t] != Long.MAX_VALUE
+                            && distances[s][v] + distances[v][t] == distances[s][t]){
+                        scores[0][v] += counts[s][v] * counts[v][t] / counts[s][t];
+                    }
+                }
+                for(int[] arc : arcs){
+                    long weight = edges.get(arc[2]).getWeight();
+                    if(arc[0] != arc[1] && distances[s][arc[0]] != Long.MAX_VALUE && distances[arc[1]][t] != Long.MAX_VALUE
+                            && distances[s][arc[0]] + weight + distances[arc[1]][t] == distances[s][t]){
+                        scores[1][arc[2]] += counts[s][arc[0]] * counts[arc[1]][t] / counts[s][t];
+                    }
+                }
+            }
+        }
+        if(undirected){
+            for(double[] values : scores){
+                for(int i = 0; i < values.length; i++){
+                    values[i] /= 2;
+                }
+            }
+        }
+        return scores;
+    }
+}
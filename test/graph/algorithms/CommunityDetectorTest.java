@@ -0,0 +1,224 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createClusteredGraph;
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.monitoring.AlgorithmMonitor;
+import graph.monitoring.AlgorithmRunEvent;
+import graph.monitoring.AlgorithmRunListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CommunityDetectorTest {
+
+    @Test
+    public void detectRingOfClusters_shouldFindEachCluster() {
+        for(int run = 0; run < 2; run++){
+            List<Node> nodes = createNodes(60);
+            Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+            for(int c = 0; c < 6; c++){
+                addCluster(graph, nodes.subList(10 * c, 10 * c + 10), 5);
+                graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(10 * c), nodes.get((10 * c + 15) % 60), 1));
+            }
+
+            CommunityDetector detector = new CommunityDetector();
+            detector.setRefinement(run == 1);
+            Communities<Node> communities = detector.detect(graph);
+
+            assertEquals("The number of communities is not correct", 6, communities.getCommunityCount());
+            for(int c = 0; c < 6; c++){
+                for(int i = 1; i < 10; i++){
+                    assertEquals("The nodes of a cluster should be in the same community",
+                            communities.getCommunity(nodes.get(10 * c)), communities.getCommunity(nodes.get(10 * c + i)));
+                }
+            }
+            assertEquals("The modularity is not correct", modularity(graph, communities), communities.getModularity(), 1e-9);
+        }
+    }
+
+    @Test
+    public void detectWithAListener_runShouldReportEveryPassAndTheEdgesInsideCommunities() {
+        List<Node> nodes = createNodes(60);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int c = 0; c < 6; c++){
+            addCluster(graph, nodes.subList(10 * c, 10 * c + 10), 5);
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(10 * c), nodes.get((10 * c + 15) % 60), 1));
+        }
+        final List<AlgorithmRunEvent> runs = new ArrayList<AlgorithmRunEvent>();
+        AlgorithmRunListener listener = new AlgorithmRunListener() {
+            @Override
+            public void runStarted(AlgorithmRunEvent event) {
+                // Only the completed runs are checked
+            }
+
+            @Override
+            public void runCompleted(AlgorithmRunEvent event) {
+                runs.add(event);
+            }
+
+            @Override
+            public void runFailed(AlgorithmRunEvent event) {
+                fail("The run should not fail: " + event.getFailure());
+            }
+        };
+
+        AlgorithmMonitor.addListener(listener);
+        try {
+            new CommunityDetector().detect(graph);
+        } finally {
+            AlgorithmMonitor.removeListener(listener);
+        }
+
+        assertEquals("One run should be reported", 1, runs.size());
+        assertEquals("Every edge of a cluster is inside a community", 6 * 45, runs.get(0).getEdgesRelaxed());
+        // The first level needs a pass that moves the nodes and a pass that finds no move, each seeing every edge twice
+        assertTrue("Every pass should be counted: " + runs.get(0).getEdgesScanned(),
+                runs.get(0).getEdgesScanned() >= 2 * 2 * graph.getAllEdges().size());
+    }
+
+    @Test
+    public void detectRandomClusters_shouldIncreaseTheModularityWithEachLevel() {
+        for(int run = 0; run < 2; run++){
+            List<Node> nodes = createNodes(3000);
+            Graph<Node, Edge<Node>> graph = createClusteredGraph(nodes, 30, new Random(67));
+
+            CommunityDetector detector = new CommunityDetector();
+            detector.setRefinement(run == 1);
+            detector.setThreadCount(1);
+            Communities<Node> expected = detector.detect(graph);
+            detector.setThreadCount(4);
+            Communities<Node> communities = detector.detect(graph);
+
+            for(Node node : nodes){
+                assertEquals("The communities should not depend on the number of threads",
+                        expected.getCommunity(node), communities.getCommunity(node));
+            }
+            for(int level = 1; level < communities.getLevelCount(); level++){
+                assertTrue("The modularity should increase", communities.getModularity(level) > communities.getModularity(level - 1));
+            }
+            assertEquals("The modularity is not correct", modularity(graph, communities), communities.getModularity(), 1e-9);
+            assertTrue("The modularity is too low: " + communities.getModularity(), communities.getModularity() > 0.8);
+        }
+    }
+
+    @Test
+    public void detectWithRefinement_shouldFindConnectedCommunities() {
+        List<Node> nodes = createNodes(2000);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        Random random = new Random(71);
+        for(int i = 0; i < 6000; i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(random.nextInt(2000)), nodes.get(random.nextInt(2000))));
+        }
+
+        CommunityDetector detector = new CommunityDetector();
+        detector.setRefinement(true);
+        Communities<Node> communities = detector.detect(graph);
+
+        for(int community = 0; community < communities.getCommunityCount(); community++){
+            Set<Node> members = communities.getNodesOfCommunity(community);
+            assertEquals("The community " + community + " is not connected", members.size(), reachableWithin(graph, members));
+        }
+    }
+
+    @Test
+    public void detectWithHigherResolution_shouldFindMoreCommunities() {
+        List<Node> nodes = createNodes(600);
+        Graph<Node, Edge<Node>> graph = createClusteredGraph(nodes, 6, new Random(73));
+
+        CommunityDetector detector = new CommunityDetector();
+        int communityCount = detector.detect(graph).getCommunityCount();
+        detector.setResolution(20);
+
+        assertTrue("A higher resolution should give more communities", detector.detect(graph).getCommunityCount() > communityCount);
+    }
+
+    @Test
+    public void detectGraphWithoutEdgeWeight_shouldKeepEachNodeAlone() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 0));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), 0));
+
+        Communities<Node> communities = new CommunityDetector().detect(graph);
+
+        assertEquals("Each node should be its own community", 3, communities.getCommunityCount());
+        assertEquals("The modularity should be 0", 0, communities.getModularity(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setResolutionToZero_shouldThrowException() {
+        new CommunityDetector().setResolution(0);
+    }
+
+    /**
+     * Computes the modularity of the communities directly from the edges.
+     */
+    private static <E extends Edge<Node>> double modularity(Graph<Node, E> graph, Communities<Node> communities) {
+        double total = 0;
+        double internal = 0;
+        Map<Integer, Double> strengths = new HashMap<Integer, Double>();
+        for(E edge : graph.getAllEdges()){
+            if(edge.getSourceNode() == edge.getTargetNode()){
+                continue;
+            }
+            double weight = edge instanceof WeightedEdge ? ((WeightedEdge<?>) edge).getWeight() : 1;
+            int source = communities.getCommunity(edge.getSourceNode());
+            int target = communities.getCommunity(edge.getTargetNode());
+            total += 2 * weight;
+            if(source == target){
+                internal += 2 * weight;
+            }
+            strengths.put(source, (strengths.containsKey(source) ? strengths.get(source) : 0) + weight);
+            strengths.put(target, (strengths.containsKey(target) ? strengths.get(target) : 0) + weight);
+        }
+        double expected = 0;
+        for(double strength : strengths.values()){
+            expected += strength * strength;
+        }
+        return internal / total - expected / (total * total);
+    }
+
+    private static int reachableWithin(Graph<Node, Edge<Node>> graph, Set<Node> members) {
+        Node start = members.iterator().next();
+        Set<Node> reached = new HashSet<Node>();
+        reached.add(start);
+        LinkedList<Node> queue = new LinkedList<Node>();
+        queue.add(start);
+        while(!queue.isEmpty()){
+            Node node = queue.poll();
+            for(Edge<Node> edge : graph.getEdgesOf(node)){
+                Node next = edge.getSourceNode() == node ? edge.getTargetNode() : edge.getSourceNode();
+                if(members.contains(next) && reached.add(next)){
+                    queue.add(next);
+                }
+            }
+        }
+        return reached.size();
+    }
+
+    private static void addCluster(Graph<Node, WeightedEdge<Node>> graph, List<Node> nodes, long weight) {
+        for(int i = 0; i < nodes.size(); i++){
+            for(int j = i + 1; j < nodes.size(); j++){
+                graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i), nodes.get(j), weight));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class DagShortestPathsTest {
+
+    @Test
+    public void findPathsWithNegativeWeights_shouldFindTheShortestPaths() {
+        List<Node> nodes = createNodes(5);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 4));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(3), -6));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(4), nodes.get(0), 1));
+
+        DagShortestPaths<Node, WeightedEdge<Node>> paths = new DagShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+
+        assertEquals("The negative edge should be taken", -2, paths.getPathWeight(nodes.get(3)));
+        assertEquals("The path is not correct", Arrays.asList(nodes.get(0), nodes.get(1), nodes.get(3)), paths.getPath(nodes.get(3)).getNodes());
+        assertEquals("A node before the source cannot be reached", Long.MAX_VALUE, paths.getPathWeight(nodes.get(4)));
+        assertNull("A node before the source has no path", paths.getPath(nodes.get(4)));
+        assertEquals("Only the reachable nodes should have a weight", 4, paths.getPathWeights().size());
+    }
+
+    @Test
+    public void findLongestPaths_shouldFindTheCriticalPath() {
+        List<Node> nodes = createNodes(6);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(3), 4));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), 6));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(4), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(4), 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(5), nodes.get(4), 1));
+
+        DagShortestPaths<Node, WeightedEdge<Node>> paths = new DagShortestPaths<Node, WeightedEdge<Node>>(
+                graph, nodes.get(0), WeightFunction.EDGE_WEIGHT, true);
+
+        assertTrue("The paths should be the longest ones", paths.isLongestPaths());
+        assertEquals("The critical path weight is not correct", 9, paths.getPathWeight(nodes.get(4)));
+        assertEquals("The critical path is not correct", Arrays.asList(nodes.get(0), nodes.get(2), nodes.get(3), nodes.get(4)),
+                paths.getPath(nodes.get(4)).getNodes());
+        assertEquals("An unreachable node should have the smallest weight", Long.MIN_VALUE, paths.getPathWeight(nodes.get(5)));
+    }
+
+    @Test
+    public void findPathsInRandomDag_shouldMatchDijkstra() {
+        List<Node> nodes = createNodes(300);
+        Random random = new Random(19);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int i = 0; i < 1200; i++){
+            int first = random.nextInt(nodes.size());
+            int second = random.nextInt(nodes.size());
+            if(first != second){
+                graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(Math.min(first, second)), nodes.get(Math.max(first, second)), random.nextInt(50)));
+            }
+        }
+        Node source = graph.getAllNodes().iterator().next();
+
+        Map<Node, Long> expected = new LazyShortestPaths<Node, WeightedEdge<Node>>(
+                graph, source, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING).getNodesWithin(Long.MAX_VALUE);
+        Map<Node, Long> actual = new DagShortestPaths<Node, WeightedEdge<Node>>(graph, source).getPathWeights();
+
+        assertEquals("The path weights are not correct", expected, actual);
+    }
+
+    @Test
+    public void singleSourceShortestPathsOfDag_shouldUseTheTopologicalOrder() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), -3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 4));
+
+        SingleSourceShortestPaths<Node, WeightedEdge<Node>> paths = new SingleSourceShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+
+        assertTrue("The acyclic graph should be detected", paths.isAcyclic());
+        assertEquals("The negative edge should be taken", 2, paths.getShortestPathToTarget(nodes.get(2)));
+        assertEquals("The path is not correct", Arrays.asList(nodes.get(0), nodes.get(1), nodes.get(2)), paths.getShortestPath(nodes.get(2)).getNodes());
+    }
+
+    @Test
+    public void singleSourceShortestPathsOfGraphWithCycle_shouldUseDijkstra() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(0), 4));
+
+        SingleSourceShortestPaths<Node, WeightedEdge<Node>> paths = new SingleSourceShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(1));
+
+        assertFalse("The cycle should be detected", paths.isAcyclic());
+        assertEquals("The directed distance is not correct", 7, paths.getShortestPathToTarget(nodes.get(0)));
+        assertEquals("Every node should be reachable", 3, paths.getShortestPaths().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findPathsInGraphWithCycle_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(0), 1));
+
+        new DagShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+    }
+}
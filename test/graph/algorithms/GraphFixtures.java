@@ -0,0 +1,99 @@
+package graph.algorithms;
+
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Nodes and random graphs shared by the algorithm tests.
+ */
+final class GraphFixtures {
+
+    private GraphFixtures() {
+    }
+
+    /**
+     * Creates nodes named "Node 0" to "Node count-1".
+     */
+    static List<Node> createNodes(int count) {
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < count; i++){
+            nodes.add(new BasicNode("Node " + i));
+        }
+        return nodes;
+    }
+
+    /**
+     * Creates a graph chaining the nodes in order, plus extraEdges edges between random distinct nodes,
+     * with weights between 1 and 20.
+     */
+    static Graph<Node, WeightedEdge<Node>> createConnectedGraph(List<Node> nodes, int extraEdges, Random random) {
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int i = 1; i < nodes.size(); i++){
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i - 1), nodes.get(i), 1 + random.nextInt(20)));
+        }
+        for(int i = 0; i < extraEdges; i++){
+            Node source = nodes.get(random.nextInt(nodes.size()));
+            Node target = nodes.get(random.nextInt(nodes.size()));
+            if(source != target){
+                graph.addEdge(new BasicWeightedEdge<Node>(source, target, 1 + random.nextInt(20)));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Creates a graph whose edges go between random nodes, with weights between 1 and maxWeight.
+     */
+    static Graph<Node, WeightedEdge<Node>> createRandomGraph(List<Node> nodes, int edgeCount, Random random, int maxWeight) {
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int i = 0; i < edgeCount; i++){
+            Node from = nodes.get(random.nextInt(nodes.size()));
+            Node to = nodes.get(random.nextInt(nodes.size()));
+            graph.addEdge(new BasicWeightedEdge<Node>(from, to, 1 + random.nextInt(maxWeight)));
+        }
+        return graph;
+    }
+
+    /**
+     * Creates a graph in which a few nodes have a much higher degree than the others.
+     */
+    static Graph<Node, Edge<Node>> createGraphWithHubs(List<Node> nodes, int edgeCount, Random random) {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < edgeCount; i++){
+            Node from = nodes.get(random.nextInt(10) == 0 ? random.nextInt(5) : random.nextInt(nodes.size()));
+            Node to = nodes.get(random.nextInt(nodes.size()));
+            graph.addEdge(new BasicEdge<Node>(from, to));
+        }
+        return graph;
+    }
+
+    /**
+     * Creates an unweighted graph of clusterCount clusters of consecutive nodes, with 8 edges per node.
+     * An edge stays inside the cluster of its source node, except one edge in 20 that goes to a random node.
+     */
+    static Graph<Node, Edge<Node>> createClusteredGraph(List<Node> nodes, int clusterCount, Random random) {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        int clusterSize = nodes.size() / clusterCount;
+        for(int i = 0; i < nodes.size() * 8; i++){
+            int from = random.nextInt(nodes.size());
+            int to;
+            if(random.nextInt(20) == 0){
+                to = random.nextInt(nodes.size());
+            } else {
+                to = from / clusterSize * clusterSize + random.nextInt(clusterSize);
+            }
+            graph.addEdge(new BasicEdge<Node>(nodes.get(from), nodes.get(to)));
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,151 @@
+package graph.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class GraphPartitionerTest {
+
+    @Test
+    public void partitionTwoClustersInTwo_shouldOnlyCutTheLightEdgeBetweenThem() {
+        List<Node> nodes = createNodes(20);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        addCluster(graph, nodes.subList(0, 10), 10);
+        addCluster(graph, nodes.subList(10, 20), 10);
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(9), nodes.get(10), 1));
+
+        GraphPartition<Node> partition = new GraphPartitioner(2).partition(graph);
+
+        assertEquals("The cut size is not correct", 1, partition.getCutSize());
+        assertEquals("The parts should have the same size", 10, partition.getPartSize(0));
+        assertEquals("The imbalance is not correct", 0.0, partition.getImbalance(), 0.0);
+        for(int i = 1; i < 10; i++){
+            assertEquals("The nodes of a cluster should be in the same part", partition.getPart(nodes.get(0)), partition.getPart(nodes.get(i)));
+            assertEquals("The nodes of a cluster should be in the same part", partition.getPart(nodes.get(10)), partition.getPart(nodes.get(10 + i)));
+        }
+    }
+
+    @Test
+    public void partitionGridInFourParts_shouldStayWithinTheImbalanceTolerance() {
+        int width = 60;
+        List<Node> nodes = createNodes(width * width);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int y = 0; y < width; y++){
+            for(int x = 0; x < width; x++){
+                Node node = nodes.get(y * width + x);
+                if(x + 1 < width){
+                    graph.addEdge(new BasicEdge<Node>(node, nodes.get(y * width + x + 1)));
+                }
+                if(y + 1 < width){
+                    graph.addEdge(new BasicEdge<Node>(node, nodes.get((y + 1) * width + x)));
+                }
+            }
+        }
+
+        GraphPartitioner partitioner = new GraphPartitioner(4);
+        partitioner.setImbalanceTolerance(0.05);
+        partitioner.setThreadCount(3);
+        GraphPartition<Node> partition = partitioner.partition(graph);
+
+        long total = 0;
+        for(int part = 0; part < 4; part++){
+            assertEquals("The part size does not match its nodes", partition.getNodesOfPart(part).size(), partition.getPartSize(part));
+            total += partition.getPartSize(part);
+        }
+        assertEquals("Every node should be assigned to a part", width * width, total);
+        assertTrue("The partition is too unbalanced: " + partition, partition.getImbalance() <= 0.05 + 1e-9);
+        assertTrue("The cut is far from the 120 edges of an optimal cut: " + partition, partition.getCutSize() <= 360);
+        assertEquals("The cut size does not match the parts", countCutEdges(graph, partition), partition.getCutSize());
+    }
+
+    @Test
+    public void partitionWithSameSeed_shouldNotDependOnTheThreadCount() {
+        List<Node> nodes = createNodes(3000);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < nodes.size(); i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get((i + 1) % nodes.size())));
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get((i * 7 + 3) % nodes.size())));
+        }
+
+        GraphPartitioner singleThreaded = new GraphPartitioner(3);
+        singleThreaded.setThreadCount(1);
+        GraphPartitioner multiThreaded = new GraphPartitioner(3);
+        multiThreaded.setThreadCount(4);
+        GraphPartition<Node> expected = singleThreaded.partition(graph);
+        GraphPartition<Node> actual = multiThreaded.partition(graph);
+
+        assertEquals("The cut size should be the same", expected.getCutSize(), actual.getCutSize());
+        for(Node node : nodes){
+            assertEquals("The node should be in the same part", expected.getPart(node), actual.getPart(node));
+        }
+    }
+
+    @Test
+    public void partitionInOnePart_shouldNotCutAnyEdge() {
+        List<Node> nodes = createNodes(5);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        addCluster(graph, nodes, 3);
+
+        GraphPartition<Node> partition = new GraphPartitioner(1).partition(graph);
+
+        assertEquals("The cut size should be 0", 0, partition.getCutSize());
+        assertEquals("All the nodes should be in the only part", 5, partition.getPartSize(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createPartitionerWithNoParts_throwsIllegalArgumentException() {
+        new GraphPartitioner(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitionEmptyGraph_throwsIllegalArgumentException() {
+        new GraphPartitioner(2).partition(new BasicGraph<Node, Edge<Node>>());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPartOfUnknownNode_throwsIllegalArgumentException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        addCluster(graph, nodes, 1);
+
+        new GraphPartitioner(2).partition(graph).getPart(new BasicNode("Unknown"));
+    }
+
+    private List<Node> createNodes(int count) {
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < count; i++){
+            nodes.add(new BasicNode("Node " + i));
+        }
+        return nodes;
+    }
+
+    private void addCluster(Graph<Node, WeightedEdge<Node>> graph, List<Node> nodes, long weight) {
+        for(int i = 0; i < nodes.size(); i++){
+            for(int j = i + 1; j < nodes.size(); j++){
+                graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i), nodes.get(j), weight));
+            }
+        }
+    }
+
+    private long countCutEdges(Graph<Node, Edge<Node>> graph, GraphPartition<Node> partition) {
+        long cut = 0;
+        for(Edge<Node> edge : graph.getAllEdges()){
+            if(partition.getPart(edge.getSourceNode()) != partition.getPart(edge.getTargetNode())){
+                cut++;
+            }
+        }
+        return cut;
+    }
+}
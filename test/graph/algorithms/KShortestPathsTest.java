@@ -0,0 +1,159 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class KShortestPathsTest {
+
+    @Test
+    public void getPathsInDirectedGraph_shouldReturnThePathsInOrderOfWeight() {
+        List<Node> nodes = createNodes(6);
+        Node c = nodes.get(0), d = nodes.get(1), e = nodes.get(2), f = nodes.get(3), g = nodes.get(4), h = nodes.get(5);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(c, d, 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(c, e, 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(d, f, 4));
+        graph.addEdge(new BasicWeightedEdge<Node>(e, d, 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(e, f, 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(e, g, 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(f, g, 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(f, h, 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(g, h, 2));
+
+        KShortestPaths<Node, WeightedEdge<Node>> paths = new KShortestPaths<Node, WeightedEdge<Node>>(
+                graph, c, h, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING);
+        List<WeightedPath<Node, WeightedEdge<Node>>> found = paths.getPaths(3);
+
+        assertEquals("There should be three paths", 3, found.size());
+        assertEquals("The shortest path is not correct", Arrays.asList(c, e, f, h), found.get(0).getNodes());
+        assertEquals("The shortest path weight is not correct", 5, found.get(0).getWeight());
+        assertEquals("The second path is not correct", Arrays.asList(c, e, g, h), found.get(1).getNodes());
+        assertEquals("The second path weight is not correct", 7, found.get(1).getWeight());
+        assertEquals("The third path weight is not correct", 8, found.get(2).getWeight());
+        assertEquals("The shortest path weight is not correct", 5, paths.getShortestPathWeight());
+    }
+
+    @Test
+    public void iterateAllPaths_shouldMatchTheSimplePathsFoundByBruteForce() {
+        Random random = new Random(17);
+        for(int round = 0; round < 10; round++){
+            List<Node> nodes = createNodes(8);
+            Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+            for(int i = 0; i < 14; i++){
+                Node source = nodes.get(random.nextInt(nodes.size()));
+                Node target = nodes.get(random.nextInt(nodes.size()));
+                if(source != target){
+                    graph.addEdge(new BasicWeightedEdge<Node>(source, target, 1 + random.nextInt(9)));
+                }
+            }
+            Node source = nodes.get(0);
+            Node target = nodes.get(7);
+            if(!graph.getAllNodes().contains(source) || !graph.getAllNodes().contains(target)){
+                continue;
+            }
+
+            List<Long> expected = new ArrayList<Long>();
+            enumerateSimplePaths(graph, source, target, new HashSet<Node>(), 0, expected);
+            Collections.sort(expected);
+
+            List<Long> actual = new ArrayList<Long>();
+            Set<List<WeightedEdge<Node>>> distinctPaths = new HashSet<List<WeightedEdge<Node>>>();
+            for(WeightedPath<Node, WeightedEdge<Node>> path : new KShortestPaths<Node, WeightedEdge<Node>>(graph, source, target)){
+                actual.add(path.getWeight());
+                distinctPaths.add(path.getEdges());
+                assertEquals("The path should not visit a node twice: " + path,
+                        path.getNodes().size(), new HashSet<Node>(path.getNodes()).size());
+                assertEquals("The path should start at the source node", source, path.getStartNode());
+                assertEquals("The path should end at the target node", target, path.getEndNode());
+            }
+
+            assertEquals("The path weights are not correct", expected, actual);
+            assertEquals("The paths should all be different", actual.size(), distinctPaths.size());
+        }
+    }
+
+    @Test
+    public void iteratorHasNextCalledTwice_shouldNotSkipAPath() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 5));
+
+        Iterator<WeightedPath<Node, WeightedEdge<Node>>> iterator =
+                new KShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(2)).iterator();
+
+        assertTrue("There should be a first path", iterator.hasNext());
+        assertTrue("There should still be a first path", iterator.hasNext());
+        assertEquals("The first path weight is not correct", 2, iterator.next().getWeight());
+        assertEquals("The second path weight is not correct", 5, iterator.next().getWeight());
+        assertFalse("There should be no third path", iterator.hasNext());
+    }
+
+    @Test
+    public void iterateDisconnectedNodes_shouldReturnNoPath() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), 1));
+
+        KShortestPaths<Node, WeightedEdge<Node>> paths = new KShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(3));
+
+        assertFalse("There should be no path", paths.iterator().hasNext());
+        assertEquals("The shortest path weight should be infinite", Long.MAX_VALUE, paths.getShortestPathWeight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createWithUnknownNode_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new KShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createWithNegativeWeight_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), -1));
+
+        new KShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(2));
+    }
+
+    private static void enumerateSimplePaths(Graph<Node, WeightedEdge<Node>> graph, Node node, Node target,
+            Set<Node> visited, long weight, List<Long> weights) {
+        if(node == target){
+            weights.add(weight);
+            return;
+        }
+        visited.add(node);
+        for(WeightedEdge<Node> edge : graph.getEdgesOf(node)){
+            Node next = edge.getSourceNode() == node ? edge.getTargetNode() : edge.getSourceNode();
+            if(!visited.contains(next)){
+                enumerateSimplePaths(graph, next, target, visited, weight + edge.getWeight(), weights);
+            }
+        }
+        visited.remove(node);
+    }
+}
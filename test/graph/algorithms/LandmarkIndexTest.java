@@ -0,0 +1,153 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createConnectedGraph;
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LandmarkIndexTest {
+
+    @Test
+    public void getDistance_shouldMatchShortestPathsToNodeAndStayWithinTheBounds() {
+        List<Node> nodes = createNodes(150);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 300, new Random(9));
+        LandmarkIndex<Node, WeightedEdge<Node>> index = new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 4);
+
+        Random random = new Random(2);
+        for(int i = 0; i < 10; i++){
+            Node source = nodes.get(random.nextInt(nodes.size()));
+            Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, source).getShortestPaths();
+            for(int j = 0; j < 20; j++){
+                Node target = nodes.get(random.nextInt(nodes.size()));
+                long distance = expected.get(target);
+                assertEquals("The distance is not correct", distance, index.getDistance(source, target));
+                assertTrue("The lower bound is too large", index.getLowerBound(source, target) <= distance);
+                assertTrue("The upper bound is too small", index.getUpperBound(source, target) >= distance);
+            }
+        }
+    }
+
+    @Test
+    public void getDistanceOutgoing_shouldMatchTheDirectedDistances() {
+        List<Node> nodes = createNodes(80);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 200, new Random(31));
+        LandmarkIndex<Node, WeightedEdge<Node>> index = new LandmarkIndex<Node, WeightedEdge<Node>>(
+                graph, 3, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING);
+
+        for(int i = 0; i < nodes.size(); i += 7){
+            LazyShortestPaths<Node, WeightedEdge<Node>> expected = new LazyShortestPaths<Node, WeightedEdge<Node>>(
+                    graph, nodes.get(i), WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING);
+            for(Node target : nodes){
+                long distance = expected.getShortestPathToTarget(target);
+                assertEquals("The directed distance is not correct", distance, index.getDistance(nodes.get(i), target));
+                assertTrue("The lower bound is too large", index.getLowerBound(nodes.get(i), target) <= distance);
+                assertTrue("The upper bound is too small", index.getUpperBound(nodes.get(i), target) >= distance);
+            }
+        }
+    }
+
+    @Test
+    public void getShortestPathAcrossAGrid_shouldSettleFewerNodesThanDijkstra() {
+        int width = 40;
+        List<Node> nodes = createNodes(width * width);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int y = 0; y < width; y++){
+            for(int x = 0; x < width; x++){
+                if(x + 1 < width){
+                    graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(y * width + x), nodes.get(y * width + x + 1), 1));
+                }
+                if(y + 1 < width){
+                    graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(y * width + x), nodes.get((y + 1) * width + x), 1));
+                }
+            }
+        }
+        Node source = nodes.get(width * width / 2);
+        Node target = nodes.get(width * width / 2 + width / 2 - 1);
+
+        LandmarkIndex<Node, WeightedEdge<Node>> index = new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 4);
+        WeightedPath<Node, WeightedEdge<Node>> path = index.getShortestPath(source, target);
+        LazyShortestPaths<Node, WeightedEdge<Node>> dijkstra = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, source);
+        dijkstra.getShortestPathToTarget(target);
+
+        assertEquals("The path weight is not correct", width / 2 - 1, path.getWeight());
+        assertEquals("The path should have one edge per unit of weight", width / 2 - 1, path.getEdges().size());
+        assertEquals("The path should end at the target", target, path.getEndNode());
+        assertTrue("The landmarks should guide the search: " + index.getLastSearchNodesSettled() + " nodes settled",
+                index.getLastSearchNodesSettled() < dijkstra.getSettledNodeCount() / 2);
+    }
+
+    @Test
+    public void getBoundsBetweenComponents_shouldShowThereIsNoPath() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(3), 5));
+
+        LandmarkIndex<Node, WeightedEdge<Node>> index = new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 2);
+
+        assertEquals("Each component should get a landmark", 2, new HashSet<Node>(index.getLandmarks()).size());
+        assertEquals("The lower bound should show there is no path", Long.MAX_VALUE, index.getLowerBound(nodes.get(0), nodes.get(3)));
+        assertEquals("The upper bound should show there is no path", Long.MAX_VALUE, index.getUpperBound(nodes.get(0), nodes.get(3)));
+        assertEquals("There should be no path", Long.MAX_VALUE, index.getDistance(nodes.get(0), nodes.get(3)));
+        assertNull("There should be no path", index.getShortestPath(nodes.get(0), nodes.get(3)));
+        assertEquals("The bounds of a landmark's neighbour should be exact", 3, index.getUpperBound(nodes.get(0), nodes.get(1)));
+    }
+
+    @Test
+    public void createWithMoreLandmarksThanNodes_shouldUseEveryNode() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), 1));
+
+        LandmarkIndex<Node, WeightedEdge<Node>> index = new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 10);
+
+        assertEquals("Every node should be a landmark", new HashSet<Node>(nodes), new HashSet<Node>(index.getLandmarks()));
+        assertEquals("The bounds should be exact", 2, index.getLowerBound(nodes.get(0), nodes.get(2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createWithoutLandmarks_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createWithTablesLargerThanAnArray_shouldThrowException() {
+        List<Node> nodes = createNodes(50000);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int i = 1; i < nodes.size(); i++){
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i - 1), nodes.get(i), 1));
+        }
+
+        // 50000 * 50000 entries overflow an int
+        new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 50000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createWithNegativeWeight_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(2), -1));
+
+        new LandmarkIndex<Node, WeightedEdge<Node>>(graph, 2);
+    }
+}
@@ -0,0 +1,143 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createConnectedGraph;
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LazyShortestPathsTest {
+
+    @Test
+    public void getShortestPathToTarget_shouldMatchShortestPathsToNode() {
+        List<Node> nodes = createNodes(100);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 250, new Random(21));
+        Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nodes.get(0)).getShortestPaths();
+
+        LazyShortestPaths<Node, WeightedEdge<Node>> paths = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+        Random random = new Random(4);
+        for(int i = 0; i < 200; i++){
+            Node target = nodes.get(random.nextInt(nodes.size()));
+            assertEquals("The distance of " + target + " is not correct",
+                    expected.get(target).longValue(), paths.getShortestPathToTarget(target));
+        }
+    }
+
+    @Test
+    public void getShortestPathToNearbyNode_shouldOnlySettleTheNeighbourhood() {
+        List<Node> nodes = createNodes(1000);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        for(int i = 1; i < nodes.size(); i++){
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i - 1), nodes.get(i), 1));
+        }
+
+        LazyShortestPaths<Node, WeightedEdge<Node>> paths = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+
+        assertEquals("The distance is not correct", 3, paths.getShortestPathToTarget(nodes.get(3)));
+        assertEquals("Only the nodes up to the target should be settled", 4, paths.getSettledNodeCount());
+        assertEquals("The distance is not correct", 10, paths.getShortestPathToTarget(nodes.get(10)));
+        assertEquals("The search should resume where it stopped", 11, paths.getSettledNodeCount());
+        assertEquals("A settled node should not settle more nodes", 2, paths.getShortestPathToTarget(nodes.get(2)));
+        assertEquals("A settled node should not settle more nodes", 11, paths.getSettledNodeCount());
+    }
+
+    @Test
+    public void getShortestPath_shouldReturnTheEdgesOfThePath() {
+        List<Node> nodes = createNodes(5);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        WeightedEdge<Node> first = new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 2);
+        WeightedEdge<Node> second = new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(1), 3);
+        graph.addEdge(first);
+        graph.addEdge(second);
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 9));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(4), 1));
+
+        LazyShortestPaths<Node, WeightedEdge<Node>> paths = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+        WeightedPath<Node, WeightedEdge<Node>> path = paths.getShortestPath(nodes.get(2));
+
+        assertEquals("The nodes of the path are not correct", Arrays.asList(nodes.get(0), nodes.get(1), nodes.get(2)), path.getNodes());
+        assertEquals("The edges of the path are not correct", Arrays.asList(first, second), path.getEdges());
+        assertEquals("The weight of the path is not correct", 5, path.getWeight());
+        assertNull("An unreachable node should have no path", paths.getShortestPath(nodes.get(3)));
+        assertEquals("An unreachable node should have an infinite distance", Long.MAX_VALUE, paths.getShortestPathToTarget(nodes.get(3)));
+    }
+
+    @Test
+    public void getNodesWithin_shouldReturnTheNodesInsideTheRadiusInOrder() {
+        List<Node> nodes = createNodes(100);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 250, new Random(8));
+        Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nodes.get(5)).getShortestPaths();
+
+        LazyShortestPaths<Node, WeightedEdge<Node>> paths = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(5));
+        Map<Node, Long> within = paths.getNodesWithin(15);
+
+        long previous = 0;
+        for(Map.Entry<Node, Long> entry : within.entrySet()){
+            assertEquals("The distance is not correct", expected.get(entry.getKey()), entry.getValue());
+            assertTrue("The nodes should be in order of distance", entry.getValue() >= previous);
+            previous = entry.getValue();
+        }
+        for(Map.Entry<Node, Long> entry : expected.entrySet()){
+            assertEquals("The node should be within the radius only if its distance is", entry.getValue() <= 15, within.containsKey(entry.getKey()));
+        }
+        assertTrue("The search should not settle the whole graph", paths.getSettledNodeCount() < nodes.size());
+    }
+
+    @Test(timeout = 5000)
+    public void getNodesWithinInfiniteRadius_shouldReturnEveryReachableNode() {
+        List<Node> nodes = createNodes(100);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 250, new Random(8));
+        Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nodes.get(5)).getShortestPaths();
+
+        Map<Node, Long> within = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(5)).getNodesWithin(Long.MAX_VALUE);
+
+        int reachable = 0;
+        for(Map.Entry<Node, Long> entry : expected.entrySet()){
+            if(entry.getValue() != Long.MAX_VALUE){
+                assertEquals("The distance is not correct", entry.getValue(), within.get(entry.getKey()));
+                reachable++;
+            }
+        }
+        assertEquals("Every reachable node should be returned", reachable, within.size());
+    }
+
+    @Test
+    public void getNearestNodes_shouldReturnTheClosestNodes() {
+        List<Node> nodes = createNodes(100);
+        Graph<Node, WeightedEdge<Node>> graph = createConnectedGraph(nodes, 250, new Random(12));
+        Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nodes.get(0)).getShortestPaths();
+        List<Long> sortedDistances = new ArrayList<Long>(expected.values());
+        Collections.sort(sortedDistances);
+
+        LazyShortestPaths<Node, WeightedEdge<Node>> paths = new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0));
+        Map<Node, Long> nearest = paths.getNearestNodes(10);
+
+        assertEquals("There should be ten nodes", 10, nearest.size());
+        assertEquals("The source node should be the closest", nodes.get(0), nearest.keySet().iterator().next());
+        assertEquals("The distances are not the ten smallest", sortedDistances.subList(0, 10), new ArrayList<Long>(nearest.values()));
+        assertEquals("Only the ten nodes should be settled", 10, paths.getSettledNodeCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getShortestPathToUnknownNode_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new LazyShortestPaths<Node, WeightedEdge<Node>>(graph, nodes.get(0)).getShortestPathToTarget(nodes.get(2));
+    }
+}
@@ -0,0 +1,219 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createNodes;
+import static graph.algorithms.GraphFixtures.createRandomGraph;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class MaximumFlowTest {
+
+    @Test
+    public void findFlowInSmallNetwork_shouldFindTheMaximumFlowAndCut() {
+        List<Node> nodes = createNodes(6);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 16));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 13));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(1), 4));
+        WeightedEdge<Node> edge13 = new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(3), 12);
+        graph.addEdge(edge13);
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(2), 9));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(4), 14));
+        WeightedEdge<Node> edge43 = new BasicWeightedEdge<Node>(nodes.get(4), nodes.get(3), 7);
+        graph.addEdge(edge43);
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(5), 20));
+        WeightedEdge<Node> edge45 = new BasicWeightedEdge<Node>(nodes.get(4), nodes.get(5), 4);
+        graph.addEdge(edge45);
+
+        MaximumFlow<Node, WeightedEdge<Node>> flow = new MaximumFlow<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(5));
+
+        assertEquals("The maximum flow is not correct", 23, flow.getMaximumFlow());
+        assertEquals("The cut edges are not correct", 3, flow.getMinimumCutEdges().size());
+        assertTrue("The cut should contain the edge 1 -> 3", flow.getMinimumCutEdges().contains(edge13));
+        assertTrue("The cut should contain the edge 4 -> 3", flow.getMinimumCutEdges().contains(edge43));
+        assertTrue("The cut should contain the edge 4 -> 5", flow.getMinimumCutEdges().contains(edge45));
+        assertEquals("The edge 1 -> 3 should be saturated", 12, flow.getFlow(edge13));
+        assertTrue("The source side should contain the source", flow.getSourceSide().contains(nodes.get(0)));
+        assertFalse("The source side should not contain the sink", flow.getSourceSide().contains(nodes.get(5)));
+        checkFlow(graph, flow, nodes.get(0), nodes.get(5), false);
+    }
+
+    @Test
+    public void findFlowInRandomNetworks_shouldMatchEdmondsKarp() {
+        Random random = new Random(31);
+        for(int round = 0; round < 40; round++){
+            int nodeCount = 2 + random.nextInt(40);
+            List<Node> nodes = createNodes(nodeCount);
+            Graph<Node, WeightedEdge<Node>> graph = createRandomGraph(nodes, nodeCount * (1 + random.nextInt(5)), random, 20);
+            Node source = nodes.get(0);
+            Node sink = nodes.get(nodeCount - 1);
+            if(!graph.getAllNodes().contains(source) || !graph.getAllNodes().contains(sink)){
+                continue;
+            }
+
+            boolean undirected = round % 4 == 3;
+            MaximumFlow<Node, WeightedEdge<Node>> flow = new MaximumFlow<Node, WeightedEdge<Node>>(graph, source, sink,
+                    WeightFunction.EDGE_WEIGHT, undirected ? TraversalDirection.UNDIRECTED : TraversalDirection.OUTGOING);
+
+            assertEquals("The maximum flow does not match Edmonds-Karp",
+                    edmondsKarp(graph, source, sink, undirected), flow.getMaximumFlow());
+            checkFlow(graph, flow, source, sink, undirected);
+        }
+    }
+
+    @Test
+    public void findFlowAgainstEdges_shouldReverseTheNetwork() {
+        List<Node> nodes = createNodes(60);
+        Graph<Node, WeightedEdge<Node>> graph = createRandomGraph(nodes, 300, new Random(37), 20);
+        Node source = nodes.get(0);
+        Node sink = nodes.get(59);
+
+        long forward = new MaximumFlow<Node, WeightedEdge<Node>>(graph, sink, source).getMaximumFlow();
+        long backward = new MaximumFlow<Node, WeightedEdge<Node>>(graph, source, sink,
+                WeightFunction.EDGE_WEIGHT, TraversalDirection.INCOMING).getMaximumFlow();
+
+        assertEquals("Following the incoming edges should reverse the network", forward, backward);
+    }
+
+    @Test
+    public void findFlowToUnreachableSink_shouldBeZero() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(2), 5));
+
+        MaximumFlow<Node, WeightedEdge<Node>> flow = new MaximumFlow<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(3));
+
+        assertEquals("No flow should reach the sink", 0, flow.getMaximumFlow());
+        assertTrue("No edge should carry flow", flow.getFlows().isEmpty());
+        assertTrue("The cut should be empty", flow.getMinimumCutEdges().isEmpty());
+        assertEquals("The source side is not correct", 2, flow.getSourceSide().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findFlowWithNegativeCapacity_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), -1));
+
+        new MaximumFlow<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findFlowFromSinkToItself_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new MaximumFlow<Node, WeightedEdge<Node>>(graph, nodes.get(1), nodes.get(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findFlowToUnknownNode_shouldThrowException() {
+        List<Node> nodes = createNodes(3);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 1));
+
+        new MaximumFlow<Node, WeightedEdge<Node>>(graph, nodes.get(0), nodes.get(2));
+    }
+
+    /**
+     * Checks the capacities, the conservation of the flow and that the cut
+     * edges add up to the maximum flow.
+     */
+    private static void checkFlow(Graph<Node, WeightedEdge<Node>> graph, MaximumFlow<Node, WeightedEdge<Node>> flow,
+                                  Node source, Node sink, boolean undirected) {
+        Map<Node, Long> balances = new HashMap<Node, Long>();
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            long edgeFlow = flow.getFlow(edge);
+            assertTrue("The flow exceeds the capacity", Math.abs(edgeFlow) <= edge.getWeight());
+            assertTrue("The flow is negative", undirected || edgeFlow >= 0);
+            addBalance(balances, edge.getSourceNode(), -edgeFlow);
+            addBalance(balances, edge.getTargetNode(), edgeFlow);
+        }
+        for(Map.Entry<Node, Long> balance : balances.entrySet()){
+            long expected = balance.getKey() == source ? -flow.getMaximumFlow() : balance.getKey() == sink ? flow.getMaximumFlow() : 0;
+            assertEquals("The flow is not conserved at " + balance.getKey(), expected, balance.getValue().longValue());
+        }
+
+        Set<Node> sourceSide = flow.getSourceSide();
+        assertTrue("The source side should contain the source", sourceSide.contains(source));
+        assertFalse("The source side should not contain the sink", sourceSide.contains(sink));
+        long cut = 0;
+        for(WeightedEdge<Node> edge : flow.getMinimumCutEdges()){
+            cut += edge.getWeight();
+        }
+        assertEquals("The cut capacity should equal the maximum flow", flow.getMaximumFlow(), cut);
+    }
+
+    private static void addBalance(Map<Node, Long> balances, Node node, long flow) {
+        Long balance = balances.get(node);
+        balances.put(node, (balance == null ? 0 : balance) + flow);
+    }
+
+    private static long edmondsKarp(Graph<Node, WeightedEdge<Node>> graph, Node source, Node sink, boolean undirected) {
+        List<Node> nodes = new ArrayList<Node>(graph.getAllNodes());
+        Map<Node, Integer> indexes = new HashMap<Node, Integer>();
+        for(int i = 0; i < nodes.size(); i++){
+            indexes.put(nodes.get(i), i);
+        }
+        int n = nodes.size();
+        long[][] capacities = new long[n][n];
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            int from = indexes.get(edge.getSourceNode());
+            int to = indexes.get(edge.getTargetNode());
+            capacities[from][to] += edge.getWeight();
+            if(undirected){
+                capacities[to][from] += edge.getWeight();
+            }
+        }
+
+        int s = indexes.get(source);
+        int t = indexes.get(sink);
+        long total = 0;
+        while(true){
+            int[] parents = new int[n];
+            java.util.Arrays.fill(parents, -1);
+            parents[s] = s;
+            LinkedList<Integer> queue = new LinkedList<Integer>();
+            queue.add(s);
+            while(!queue.isEmpty() && parents[t] < 0){
+                int node = queue.poll();
+                for(int next = 0; next < n; next++){
+                    if(parents[next] < 0 && capacities[node][next] > 0){
+                        parents[next] = node;
+                        queue.add(next);
+                    }
+                }
+            }
+            if(parents[t] < 0){
+                return total;
+            }
+            long delta = Long.MAX_VALUE;
+            for(int node = t; node != s; node = parents[node]){
+                delta = Math.min(delta, capacities[parents[node]][node]);
+            }
+            for(int node = t; node != s; node = parents[node]){
+                capacities[parents[node]][node] -= delta;
+                capacities[node][parents[node]] += delta;
+            }
+            total += delta;
+        }
+    }
+}
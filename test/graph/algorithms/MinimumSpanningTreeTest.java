@@ -7,6 +7,7 @@ import graph.components.BasicNode;
 import graph.components.BasicWeightedEdge;
 import graph.elements.Graph;
 import graph.elements.Node;
+import graph.elements.WeightFunction;
 import graph.elements.WeightedEdge;
 
 import java.util.ArrayList;
@@ -43,6 +44,25 @@ public class MinimumSpanningTreeTest {
         assertEquals("The tree weight is not correct", 57, treeWeight);
     }
 
+    @Test
+    public void sendGraphWithWeightFunction_treeShouldUseTheFunctionWeights() {
+        List<Node> graphNodes = createGraphNodes();
+        Set<WeightedEdge<Node>> expectedTreeEdges = createExpectedTreeEdges(graphNodes);
+        Set<WeightedEdge<Node>> expectedCotreeEdges = createExpectedCotreeEdges(graphNodes);
+
+        Graph<Node, WeightedEdge<Node>> graph = createGraphWithWeightedEdges(graphNodes, expectedTreeEdges, expectedCotreeEdges);
+        WeightFunction<WeightedEdge<Node>> doubledWeights = new WeightFunction<WeightedEdge<Node>>() {
+            @Override
+            public long weightOf(WeightedEdge<Node> edge) {
+                return edge.getWeight() * 2;
+            }
+        };
+        MinimumSpanningTree<Node, WeightedEdge<Node>> tree = new MinimumSpanningTree<Node, WeightedEdge<Node>>(graph, doubledWeights);
+
+        assertEquals("The tree did not contain the right edges", expectedTreeEdges, tree.getTreeEdges());
+        assertEquals("The tree weight did not use the weight function", 114, tree.getTreeWeight());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void sendEmptyGraph_throwsIllegalArgumentException() {
         Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
@@ -9,6 +9,7 @@ import java.util.Set;
 import graph.components.BasicGraph;
 import graph.components.BasicNode;
 import graph.components.BasicWeightedEdge;
+import graph.components.EdgeWeightArray;
 import graph.elements.Graph;
 import graph.elements.Node;
 import graph.elements.WeightedEdge;
@@ -63,4 +64,32 @@ public class ShortestPathToNodeTest {
         assertEquals("The shortest path weight for Node O is wrong", 7, findShortestPaths.getShortestPathToTarget(nE));
     }
 
+    @Test
+    public void runTheAlgorithmWithAWeightFunction_edgeWeightsShouldNotBeUsedOrModified() {
+
+        Node nA = new BasicNode("A");
+        Node nB = new BasicNode("B");
+        Node nC = new BasicNode("C");
+        WeightedEdge<Node> edgeAB = new BasicWeightedEdge<Node>(nA, nB, 1);
+        WeightedEdge<Node> edgeBC = new BasicWeightedEdge<Node>(nB, nC, 1);
+        WeightedEdge<Node> edgeAC = new BasicWeightedEdge<Node>(nA, nC, 3);
+
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(edgeAB);
+        graph.addEdge(edgeBC);
+        graph.addEdge(edgeAC);
+
+        EdgeWeightArray<WeightedEdge<Node>> congestedWeights = new EdgeWeightArray<WeightedEdge<Node>>(graph);
+        congestedWeights.setWeight(edgeBC, 10);
+
+        ShortestPathsToNode<Node, WeightedEdge<Node>> findShortestPaths =
+                new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nA, congestedWeights);
+
+        assertEquals("The shortest path did not use the weight function", 3, findShortestPaths.getShortestPathToTarget(nC));
+        assertTrue("The shortest path did not use the weight function", findShortestPaths.getShortestPathsTreeEdges().contains(edgeAC));
+        assertEquals("The weight of the edge was modified", 1, edgeBC.getWeight());
+        assertEquals("The edge weights were not used by default", 2,
+                new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, nA).getShortestPathToTarget(nC));
+    }
+
 }
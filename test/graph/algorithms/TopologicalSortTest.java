@@ -0,0 +1,123 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TopologicalSortTest {
+
+    @Test
+    public void sortAcyclicGraph_shouldPutEverySourceBeforeItsTarget() {
+        List<Node> nodes = createNodes(200);
+        Graph<Node, Edge<Node>> graph = createRandomDag(nodes, 800, new Random(6));
+
+        TopologicalSort<Node, Edge<Node>> sort = new TopologicalSort<Node, Edge<Node>>(graph);
+
+        assertTrue("The graph should be acyclic", sort.isAcyclic());
+        assertEquals("Every node should be sorted", new HashSet<Node>(graph.getAllNodes()), new HashSet<Node>(sort.getSortedNodes()));
+        assertSorted(graph, sort.getSortedNodes());
+    }
+
+    @Test
+    public void getLevels_shouldPutEveryNodeRightAfterItsLastPredecessor() {
+        List<Node> nodes = createNodes(5);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(1)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(2)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(1), nodes.get(3)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(3), nodes.get(4)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(2), nodes.get(4)));
+
+        List<List<Node>> levels = new TopologicalSort<Node, Edge<Node>>(graph).getLevels();
+
+        assertEquals("There should be four levels", 4, levels.size());
+        assertEquals("The first level is not correct", Arrays.asList(nodes.get(0)), levels.get(0));
+        assertEquals("The second level is not correct", new HashSet<Node>(nodes.subList(1, 3)), new HashSet<Node>(levels.get(1)));
+        assertEquals("The third level is not correct", Arrays.asList(nodes.get(3)), levels.get(2));
+        assertEquals("The fourth level is not correct", Arrays.asList(nodes.get(4)), levels.get(3));
+    }
+
+    @Test
+    public void sortWithSeveralThreads_shouldFindTheSameLevels() {
+        List<Node> nodes = createNodes(20000);
+        Graph<Node, Edge<Node>> graph = createRandomDag(nodes, 60000, new Random(13));
+
+        List<List<Node>> expected = new TopologicalSort<Node, Edge<Node>>(graph).getLevels();
+        TopologicalSort<Node, Edge<Node>> sort = new TopologicalSort<Node, Edge<Node>>(graph, 4);
+        List<List<Node>> levels = sort.getLevels();
+
+        assertEquals("The number of levels is not correct", expected.size(), levels.size());
+        for(int i = 0; i < levels.size(); i++){
+            assertEquals("The level " + i + " is not correct", new HashSet<Node>(expected.get(i)), new HashSet<Node>(levels.get(i)));
+        }
+        assertSorted(graph, sort.getSortedNodes());
+    }
+
+    @Test
+    public void sortGraphWithCycle_shouldReportTheUnsortedNodes() {
+        List<Node> nodes = createNodes(5);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(1)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(1), nodes.get(2)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(2), nodes.get(3)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(3), nodes.get(1)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(3), nodes.get(4)));
+
+        TopologicalSort<Node, Edge<Node>> sort = new TopologicalSort<Node, Edge<Node>>(graph);
+
+        assertFalse("The graph should not be acyclic", sort.isAcyclic());
+        assertEquals("The nodes on and after the cycle should not be sorted",
+                new HashSet<Node>(nodes.subList(1, 5)), new HashSet<Node>(sort.getUnsortedNodes()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getSortedNodesOfGraphWithCycle_shouldThrowException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(1)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(1), nodes.get(0)));
+
+        new TopologicalSort<Node, Edge<Node>>(graph).getSortedNodes();
+    }
+
+    private static void assertSorted(Graph<Node, Edge<Node>> graph, List<Node> sortedNodes) {
+        Map<Node, Integer> positions = new HashMap<Node, Integer>();
+        for(int i = 0; i < sortedNodes.size(); i++){
+            positions.put(sortedNodes.get(i), i);
+        }
+        for(Edge<Node> edge : graph.getAllEdges()){
+            assertTrue("The edge " + edge + " goes backwards",
+                    positions.get(edge.getSourceNode()) < positions.get(edge.getTargetNode()));
+        }
+    }
+
+    /**
+     * Creates a graph whose edges all go from a node to a node with a larger index.
+     */
+    private static Graph<Node, Edge<Node>> createRandomDag(List<Node> nodes, int edgeCount, Random random) {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < edgeCount; i++){
+            int first = random.nextInt(nodes.size());
+            int second = random.nextInt(nodes.size());
+            if(first != second){
+                graph.addEdge(new BasicEdge<Node>(nodes.get(Math.min(first, second)), nodes.get(Math.max(first, second))));
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,112 @@
+package graph.algorithms;
+
+import static graph.algorithms.GraphFixtures.createGraphWithHubs;
+import static graph.algorithms.GraphFixtures.createNodes;
+import static org.junit.Assert.assertEquals;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TriangleCountTest {
+
+    @Test
+    public void countTrianglesInClique_shouldFindEveryTriple() {
+        List<Node> nodes = createNodes(6);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < nodes.size(); i++){
+            for(int j = i + 1; j < nodes.size(); j++){
+                graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(j)));
+            }
+        }
+
+        TriangleCount<Node, Edge<Node>> count = new TriangleCount<Node, Edge<Node>>(graph);
+
+        assertEquals("The number of triangles is not correct", 20, count.getTriangleCount());
+        assertEquals("The triangles of a node are not correct", 10, count.getTriangleCount(nodes.get(3)));
+        assertEquals("The clustering coefficient is not correct", 1.0, count.getClusteringCoefficient(nodes.get(0)), 1e-12);
+        assertEquals("The global clustering coefficient is not correct", 1.0, count.getGlobalClusteringCoefficient(), 1e-12);
+    }
+
+    @Test
+    public void countTrianglesWithParallelEdgesAndLoops_shouldIgnoreThem() {
+        List<Node> nodes = createNodes(4);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(1)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(1), nodes.get(0)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(1), nodes.get(2)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(2), nodes.get(0)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(2), nodes.get(2)));
+        graph.addEdge(new BasicEdge<Node>(nodes.get(2), nodes.get(3)));
+
+        TriangleCount<Node, Edge<Node>> count = new TriangleCount<Node, Edge<Node>>(graph);
+
+        assertEquals("The number of triangles is not correct", 1, count.getTriangleCount());
+        assertEquals("The clustering coefficient is not correct", 1.0 / 3, count.getClusteringCoefficient(nodes.get(2)), 1e-12);
+        assertEquals("A node with one neighbour should have a coefficient of 0", 0.0, count.getClusteringCoefficient(nodes.get(3)), 0);
+        assertEquals("The average clustering coefficient is not correct", (1 + 1 + 1.0 / 3) / 4,
+                count.getAverageClusteringCoefficient(), 1e-12);
+        assertEquals("The global clustering coefficient is not correct", 3.0 / 5, count.getGlobalClusteringCoefficient(), 1e-12);
+    }
+
+    @Test
+    public void countTrianglesInRandomGraph_shouldMatchTheNeighbourIntersections() {
+        List<Node> nodes = createNodes(400);
+        Graph<Node, Edge<Node>> graph = createGraphWithHubs(nodes, 4000, new Random(41));
+
+        Map<Node, Set<Node>> neighbours = new HashMap<Node, Set<Node>>();
+        for(Node node : graph.getAllNodes()){
+            neighbours.put(node, new HashSet<Node>());
+        }
+        for(Edge<Node> edge : graph.getAllEdges()){
+            if(edge.getSourceNode() != edge.getTargetNode()){
+                neighbours.get(edge.getSourceNode()).add(edge.getTargetNode());
+                neighbours.get(edge.getTargetNode()).add(edge.getSourceNode());
+            }
+        }
+
+        TriangleCount<Node, Edge<Node>> count = new TriangleCount<Node, Edge<Node>>(graph);
+        long total = 0;
+        for(Node node : graph.getAllNodes()){
+            long expected = 0;
+            for(Node first : neighbours.get(node)){
+                for(Node second : neighbours.get(node)){
+                    if(neighbours.get(first).contains(second)){
+                        expected++;
+                    }
+                }
+            }
+            expected /= 2;
+            total += expected;
+            assertEquals("The triangles of " + node + " are not correct", expected, count.getTriangleCount(node));
+        }
+        assertEquals("The number of triangles is not correct", total / 3, count.getTriangleCount());
+    }
+
+    @Test
+    public void countTrianglesWithSeveralThreads_shouldMatchOneThread() {
+        List<Node> nodes = createNodes(3000);
+        Graph<Node, Edge<Node>> graph = createGraphWithHubs(nodes, 30000, new Random(43));
+
+        TriangleCount<Node, Edge<Node>> expected = new TriangleCount<Node, Edge<Node>>(graph);
+        TriangleCount<Node, Edge<Node>> count = new TriangleCount<Node, Edge<Node>>(graph, 4);
+
+        assertEquals("The number of triangles is not correct", expected.getTriangleCount(), count.getTriangleCount());
+        assertEquals("The triangles per node are not correct", expected.getTriangleCounts(), count.getTriangleCounts());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countTrianglesWithNoThreads_shouldThrowException() {
+        new TriangleCount<Node, Edge<Node>>(new BasicGraph<Node, Edge<Node>>(), 0);
+    }
+}
@@ -0,0 +1,282 @@
+package graph.bsp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BspEngineTest {
+
+    @Test
+    public void runShortestPathsProgram_findsTheDistancesFromTheSource() {
+        List<Node> nodes = createNodes(5);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(1), 4));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(2), 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(2), nodes.get(1), 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(1), nodes.get(3), 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(3), nodes.get(4), 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(4), nodes.get(0), 1));
+
+        BspEngine<Node, WeightedEdge<Node>> engine = new BspEngine<Node, WeightedEdge<Node>>(graph);
+        BspResult<Node> result = engine.run(new ShortestPaths(engine.getGraph().getNodeIndex(nodes.get(0))));
+
+        long[] expectedDistances = {0, 3, 1, 8, 11};
+        for(int i = 0; i < nodes.size(); i++){
+            assertEquals("The distance of " + nodes.get(i) + " is not correct", expectedDistances[i], result.getValue(nodes.get(i)));
+        }
+    }
+
+    @Test
+    public void runComponentsProgram_labelsEachComponentWithItsSmallestVertex() {
+        List<Node> nodes = createNodes(2000);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i + 1 < nodes.size(); i++){
+            if(i % 500 != 499){
+                graph.addEdge(new BasicEdge<Node>(nodes.get(i + 1), nodes.get(i)));
+            }
+        }
+
+        BspEngine<Node, Edge<Node>> engine = new BspEngine<Node, Edge<Node>>(graph);
+        engine.setThreadCount(4);
+        BspResult<Node> result = engine.run(new Components());
+
+        for(int i = 0; i < nodes.size(); i++){
+            int expectedLabel = Integer.MAX_VALUE;
+            for(int j = i / 500 * 500; j < i / 500 * 500 + 500; j++){
+                expectedLabel = Math.min(expectedLabel, engine.getGraph().getNodeIndex(nodes.get(j)));
+            }
+            assertEquals("The component of " + nodes.get(i) + " is not correct", expectedLabel, result.getValue(nodes.get(i)));
+        }
+    }
+
+    @Test
+    public void runPageRankProgram_ranksShouldSumToOne() {
+        List<Node> nodes = createNodes(300);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < nodes.size(); i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get((i + 1) % nodes.size())));
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(i * 17 % nodes.size())));
+        }
+
+        BspEngine<Node, Edge<Node>> engine = new BspEngine<Node, Edge<Node>>(graph);
+        engine.registerAggregator("total", Combiner.DOUBLE_SUM, Double.doubleToLongBits(0));
+        BspResult<Node> result = engine.run(new PageRank(20));
+
+        assertEquals("The program should stop after its last iteration", 21, result.getSuperstepCount());
+        double total = 0;
+        for(Node node : nodes){
+            total += Double.longBitsToDouble(result.getValue(node));
+        }
+        assertEquals("The ranks should sum to one", 1.0, total, 1e-9);
+        assertEquals("The aggregator should contain the sum of the ranks", 1.0, Double.longBitsToDouble(result.getAggregatedValue("total")), 1e-9);
+    }
+
+    @Test
+    public void runWithoutCombiner_shouldDeliverEveryMessage() {
+        List<Node> nodes = createNodes(50);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 1; i < nodes.size(); i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(0)));
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(0)));
+        }
+
+        BspEngine<Node, Edge<Node>> engine = new BspEngine<Node, Edge<Node>>(graph);
+        engine.setThreadCount(3);
+        BspResult<Node> result = engine.run(new VertexProgram<Node>() {
+            @Override
+            public void compute(Vertex<Node> vertex, Messages messages) {
+                if(vertex.getSuperstep() == 0){
+                    vertex.sendMessageToOutNeighbours(vertex.getIndex());
+                } else {
+                    long sum = 0;
+                    while(messages.hasNext()){
+                        sum += messages.next();
+                    }
+                    vertex.setValue(messages.size() * 1000000L + sum);
+                }
+                vertex.voteToHalt();
+            }
+        });
+
+        int hub = engine.getGraph().getNodeIndex(nodes.get(0));
+        long expectedSum = 2 * ((long) nodes.size() * (nodes.size() - 1) / 2 - hub);
+        assertEquals("The hub did not receive every message", 98 * 1000000L + expectedSum, result.getValue(hub));
+        assertEquals("The program should stop once the messages were delivered", 2, result.getSuperstepCount());
+    }
+
+    @Test
+    public void runWithDifferentThreadCounts_shouldGiveTheSameValues() {
+        List<Node> nodes = createNodes(1000);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        for(int i = 0; i < nodes.size(); i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get(i * 7 % nodes.size())));
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get((i + 3) % nodes.size())));
+        }
+
+        BspEngine<Node, Edge<Node>> engine = new BspEngine<Node, Edge<Node>>(graph);
+        engine.registerAggregator("total", Combiner.DOUBLE_SUM, Double.doubleToLongBits(0));
+        engine.setThreadCount(1);
+        BspResult<Node> expected = engine.run(new PageRank(10));
+        engine.setThreadCount(5);
+        BspResult<Node> actual = engine.run(new PageRank(10));
+
+        for(int i = 0; i < nodes.size(); i++){
+            assertEquals("The value of vertex " + i + " should not depend on the threads", expected.getValue(i), actual.getValue(i));
+        }
+    }
+
+    @Test
+    public void runWithMaxSupersteps_shouldStopAfterTheLastSuperstep() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(1)));
+
+        BspEngine<Node, Edge<Node>> engine = new BspEngine<Node, Edge<Node>>(graph);
+        engine.setMaxSupersteps(7);
+        BspResult<Node> result = engine.run(new VertexProgram<Node>() {
+            @Override
+            public void compute(Vertex<Node> vertex, Messages messages) {
+                vertex.setValue(vertex.getValue() + 1);
+            }
+        });
+
+        assertEquals("The run should stop at the maximum", 7, result.getSuperstepCount());
+        assertEquals("The vertex should have been computed in every superstep", 7, result.getValue(nodes.get(0)));
+        assertTrue("The result should describe the run", result.toString().contains("Supersteps: 7"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aggregateUnknownAggregator_throwsIllegalArgumentException() {
+        List<Node> nodes = createNodes(2);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(nodes.get(0), nodes.get(1)));
+
+        new BspEngine<Node, Edge<Node>>(graph).run(new VertexProgram<Node>() {
+            @Override
+            public void compute(Vertex<Node> vertex, Messages messages) {
+                vertex.aggregate("unknown", 1);
+            }
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void registerAggregatorTwice_throwsIllegalArgumentException() {
+        BspEngine<Node, Edge<Node>> engine = new BspEngine<Node, Edge<Node>>(new BasicGraph<Node, Edge<Node>>());
+        engine.registerAggregator("sum", Combiner.SUM, 0);
+        engine.registerAggregator("sum", Combiner.SUM, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createEngineWithNullGraph_throwsIllegalArgumentException() {
+        new BspEngine<Node, Edge<Node>>(null);
+    }
+
+    private List<Node> createNodes(int count) {
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < count; i++){
+            nodes.add(new BasicNode("Node " + i));
+        }
+        return nodes;
+    }
+
+    private static final class ShortestPaths extends VertexProgram<Node> {
+        private final int source;
+
+        private ShortestPaths(int source) {
+            this.source = source;
+        }
+
+        @Override
+        public void compute(Vertex<Node> vertex, Messages messages) {
+            long distance = vertex.getSuperstep() == 0 ? Long.MAX_VALUE : vertex.getValue();
+            long candidate = vertex.getIndex() == source ? 0 : Long.MAX_VALUE;
+            while(messages.hasNext()){
+                candidate = Math.min(candidate, messages.next());
+            }
+            if(candidate < distance){
+                vertex.setValue(candidate);
+                for(int i = 0; i < vertex.getOutDegree(); i++){
+                    vertex.sendMessage(vertex.getOutNeighbour(i), candidate + vertex.getOutEdgeWeight(i));
+                }
+            } else if(vertex.getSuperstep() == 0){
+                vertex.setValue(Long.MAX_VALUE);
+            }
+            vertex.voteToHalt();
+        }
+
+        @Override
+        public Combiner getCombiner() {
+            return Combiner.MIN;
+        }
+    }
+
+    private static final class Components extends VertexProgram<Node> {
+        @Override
+        public void compute(Vertex<Node> vertex, Messages messages) {
+            long label = vertex.getSuperstep() == 0 ? vertex.getIndex() : vertex.getValue();
+            boolean changed = vertex.getSuperstep() == 0;
+            while(messages.hasNext()){
+                long message = messages.next();
+                if(message < label){
+                    label = message;
+                    changed = true;
+                }
+            }
+            if(changed){
+                vertex.setValue(label);
+                vertex.sendMessageToOutNeighbours(label);
+                for(int i = 0; i < vertex.getInDegree(); i++){
+                    vertex.sendMessage(vertex.getInNeighbour(i), label);
+                }
+            }
+            vertex.voteToHalt();
+        }
+
+        @Override
+        public Combiner getCombiner() {
+            return Combiner.MIN;
+        }
+    }
+
+    private static final class PageRank extends VertexProgram<Node> {
+        private final int iterations;
+
+        private PageRank(int iterations) {
+            this.iterations = iterations;
+        }
+
+        @Override
+        public void compute(Vertex<Node> vertex, Messages messages) {
+            double rank = 1.0 / vertex.getVertexCount();
+            if(vertex.getSuperstep() > 0){
+                double sum = messages.isEmpty() ? 0 : Double.longBitsToDouble(messages.get(0));
+                rank = 0.15 / vertex.getVertexCount() + 0.85 * sum;
+            }
+            vertex.setValue(Double.doubleToLongBits(rank));
+            vertex.aggregate("total", Double.doubleToLongBits(rank));
+
+            if(vertex.getSuperstep() < iterations){
+                vertex.sendMessageToOutNeighbours(Double.doubleToLongBits(rank / vertex.getOutDegree()));
+            } else {
+                vertex.voteToHalt();
+            }
+        }
+
+        @Override
+        public Combiner getCombiner() {
+            return Combiner.DOUBLE_SUM;
+        }
+    }
+}
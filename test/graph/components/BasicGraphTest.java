@@ -193,6 +193,50 @@ public class BasicGraphTest {
         assertTrue("The graph did not return edge5 when getting all edges connecting to node4", edgesOfNode.contains(edge5));
     }
 
+    @Test
+    public void getEdgeViewsFromGraph_viewsShouldReflectChangesMadeToTheGraph() {
+
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+
+        Edge<Node> edge1 = new BasicEdge<Node>(node1, node2);
+        Edge<Node> edge2 = new BasicEdge<Node>(node2, node3);
+        Edge<Node> edge3 = new BasicEdge<Node>(node1, node2);
+
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(edge1);
+
+        Set<Edge<Node>> edgesOfNode = graph.edgesOf(node2);
+        Set<Edge<Node>> edgesWithNodes = graph.edges(node1, node2);
+        assertEquals("The view did not contain the right amount of edges", 1, edgesOfNode.size());
+        assertEquals("The view did not contain the right amount of edges", 1, edgesWithNodes.size());
+
+        // Testing: the views are backed by the graph
+        graph.addEdge(edge2);
+        graph.addEdge(edge3);
+        assertEquals("The view did not reflect the edges added to the graph", 3, edgesOfNode.size());
+        assertTrue("The view did not reflect the edges added to the graph", edgesOfNode.contains(edge2));
+        assertEquals("The view did not reflect the edges added to the graph", 2, edgesWithNodes.size());
+        assertTrue("The view should not contain edges with other nodes", !edgesWithNodes.contains(edge2));
+
+        graph.removeNode(node1);
+        assertEquals("The view did not reflect the node removed from the graph", 1, edgesOfNode.size());
+        assertTrue("The view did not reflect the node removed from the graph", edgesWithNodes.isEmpty());
+        assertTrue("The view of a node that is not in the graph should be empty", graph.edgesOf(node1).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addEdgeToAnEdgeView_throwsUnsupportedOperationException() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+
+        graph.edgesOf(node1).add(new BasicEdge<Node>(node2, node1));
+    }
+
     @Test
     public void addTwoIdenticalEdgesToAGraph_theGraphShouldNotContainDuplicateEdges() {
 
@@ -344,6 +388,58 @@ public class BasicGraphTest {
         assertTrue("The graph did not properly insert a set of edges", graphEdges.contains(edge3));
     }
 
+    @Test
+    public void compactGraphAfterRemovingMostEdges_footprintShouldShrinkAndContentShouldBeUnchanged() {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        Node hub = new BasicNode("hub");
+        Set<Edge<Node>> removedEdges = new LinkedHashSet<Edge<Node>>();
+        Edge<Node> keptEdge = null;
+        for(int i = 0; i < 1000; i++){
+            Edge<Node> edge = new BasicEdge<Node>(hub, new BasicNode("node" + i));
+            graph.addEdge(edge);
+            if(i == 500){
+                keptEdge = edge;
+            } else {
+                removedEdges.add(edge);
+            }
+        }
+        Set<Edge<Node>> hubEdges = graph.edgesOf(hub);
+        Set<Node> graphNodes = graph.getAllNodes();
+
+        for(Edge<Node> edge : removedEdges){
+            graph.removeEdge(edge);
+        }
+        long footprintBeforeCompaction = graph.estimateMemoryFootprint().getIndexBytes();
+        ((BasicGraph<Node, Edge<Node>>) graph).compact();
+        long footprintAfterCompaction = graph.estimateMemoryFootprint().getIndexBytes();
+
+        assertTrue("Compacting the graph did not reduce the size of its indexes",
+                footprintAfterCompaction * 10 < footprintBeforeCompaction);
+        assertEquals("The graph did not contain the right amount of edges", 1, graph.getAllEdges().size());
+        assertTrue("The graph lost an edge when it was compacted", graph.getAllEdges().contains(keptEdge));
+        assertEquals("The views of the graph were not updated when it was compacted", 1, hubEdges.size());
+        assertEquals("The views of the graph were not updated when it was compacted", 2, graphNodes.size());
+    }
+
+    @Test
+    public void compactGraphWithEqualNames_namesShouldBeShared() {
+        Node node1 = new BasicNode(new String("node"));
+        Node node2 = new BasicNode(new String("node"));
+        Node node3 = new BasicNode("other");
+
+        BasicGraph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+        graph.addEdge(new BasicEdge<Node>(node2, node3));
+
+        long nameBytesBeforeCompaction = graph.estimateMemoryFootprint().getNameBytes();
+        graph.compact();
+
+        assertTrue("The equal node names were not deduplicated", node1.getName() == node2.getName());
+        assertEquals("The name of the node was changed", "node", node1.getName());
+        assertTrue("The footprint of the names was not reduced",
+                graph.estimateMemoryFootprint().getNameBytes() < nameBytesBeforeCompaction);
+    }
+
     private class ExtendedNode extends BasicNode {
         public ExtendedNode(String name) {
             super(name);
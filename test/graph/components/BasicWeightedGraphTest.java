@@ -123,4 +123,38 @@ public class BasicWeightedGraphTest {
         assertTrue("The weighted graph did not reset the weight of all the edges", matchedEdges.contains(edge4));
     }
 
+    @Test
+    public void getEdgesWithWeightViews_viewsShouldReflectTheCurrentEdgeWeights() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+
+        WeightedEdge<Node> edge1 = new BasicWeightedEdge<Node>(node1, node2, 1);
+        WeightedEdge<Node> edge2 = new BasicWeightedEdge<Node>(node2, node3, 5);
+        WeightedEdge<Node> edge3 = new BasicWeightedEdge<Node>(node3, node1, 10);
+
+        WeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(edge1);
+        graph.addEdge(edge2);
+        graph.addEdge(edge3);
+
+        Set<WeightedEdge<Node>> edgesAbove = graph.edgesWithWeightAbove(4);
+        Set<WeightedEdge<Node>> edgesBelow = graph.edgesWithWeightBelow(4);
+        Set<WeightedEdge<Node>> edgesEqual = graph.edgesWithWeight(5);
+        assertEquals("The view did not contain the right amount of edges", 2, edgesAbove.size());
+        assertEquals("The view did not contain the right amount of edges", 1, edgesBelow.size());
+        assertEquals("The view did not contain the right amount of edges", 1, edgesEqual.size());
+        assertTrue("The view did not match the edge with the right weight", edgesEqual.contains(edge2));
+        assertTrue("The view should not match an edge with another weight", !edgesEqual.contains(edge3));
+
+        // Testing: the views are evaluated against the current edge weights
+        edge3.setWeight(2);
+        assertEquals("The view did not reflect the new edge weight", 1, edgesAbove.size());
+        assertTrue("The view did not reflect the new edge weight", edgesBelow.contains(edge3));
+
+        graph.resetEdgeWeights();
+        assertTrue("The view did not reflect the new edge weights", edgesAbove.isEmpty());
+        assertEquals("The view did not reflect the new edge weights", 3, edgesBelow.size());
+    }
+
 }
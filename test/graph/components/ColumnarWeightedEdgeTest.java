@@ -0,0 +1,57 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import org.junit.Test;
+
+public class ColumnarWeightedEdgeTest {
+
+    private static final long EDGE_WEIGHT = 1;
+    private static final long NEW_EDGE_WEIGHT = 2;
+
+    @Test
+    public void createColumnarWeightedEdge_allItsSettersAndGettersShouldWork() {
+
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        WeightedEdge<Node> edge = new ColumnarWeightedEdge<Node>(node1, node2, EDGE_WEIGHT);
+
+        assertEquals("The edge does not contain the right weight", EDGE_WEIGHT, edge.getWeight());
+
+        edge.setWeight(NEW_EDGE_WEIGHT);
+        assertEquals("The edge does not contain the right weight", NEW_EDGE_WEIGHT, edge.getWeight());
+    }
+
+    @Test
+    public void createColumnarWeightedEdgeWithDefaultWeight_weightShouldBeProperlySet() {
+
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        WeightedEdge<Node> edge = new ColumnarWeightedEdge<Node>(node1, node2);
+
+        assertEquals("The edge does not contain the right weight", WeightedEdge.DEFAULT_EDGE_WEIGHT, edge.getWeight());
+    }
+
+    @Test
+    public void addAndRemoveEdgeFromColumnarGraph_weightShouldBeKeptByTheEdge() {
+
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        ColumnarWeightedEdge<Node> edge = new ColumnarWeightedEdge<Node>(node1, node2, EDGE_WEIGHT);
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = new ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>>();
+
+        graph.addEdge(edge);
+        assertEquals("The edge does not contain the right weight once in the graph", EDGE_WEIGHT, edge.getWeight());
+
+        edge.setWeight(NEW_EDGE_WEIGHT);
+        assertEquals("The graph does not see the new edge weight", NEW_EDGE_WEIGHT, graph.getTotalEdgeWeight());
+
+        graph.removeEdge(edge);
+        assertEquals("The edge did not keep its weight once removed from the graph", NEW_EDGE_WEIGHT, edge.getWeight());
+    }
+}
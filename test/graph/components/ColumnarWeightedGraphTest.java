@@ -0,0 +1,140 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class ColumnarWeightedGraphTest {
+
+    @Test
+    public void getEdgesWithWeightFilters_shouldReturnTheRightEdges() {
+        List<ColumnarWeightedEdge<Node>> edges = createEdges();
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = createGraph(edges);
+
+        Set<ColumnarWeightedEdge<Node>> matchedEdges = graph.getEdgesWithWeight(1);
+        assertEquals("The graph did not found the right number of edges for the weight provided", 2, matchedEdges.size());
+        assertTrue("The graph did not match the edge with the right weight", matchedEdges.contains(edges.get(0)));
+        assertTrue("The graph did not match the edge with the right weight", matchedEdges.contains(edges.get(1)));
+
+        matchedEdges = graph.getEdgesWithWeightAbove(0);
+        assertEquals("The graph did not found the right number of edges for the weight interval provided", 3, matchedEdges.size());
+        assertTrue("The graph should not match an edge below the weight provided", !matchedEdges.contains(edges.get(2)));
+
+        matchedEdges = graph.getEdgesWithWeightBelow(1);
+        assertEquals("The graph did not found the right number of edges for the weight interval provided", 1, matchedEdges.size());
+        assertTrue("The graph did not match the edge with the right weight", matchedEdges.contains(edges.get(2)));
+
+        matchedEdges = graph.getEdgesWithWeightBetween(1, 800);
+        assertEquals("The graph did not found the right number of edges for the weight interval provided", 3, matchedEdges.size());
+
+        assertTrue("The graph should not have found any edges above the largest weight", graph.getEdgesWithWeightAbove(Long.MAX_VALUE).isEmpty());
+        assertTrue("The graph should not have found any edges below the smallest weight", graph.edgesWithWeightBelow(Long.MIN_VALUE).isEmpty());
+    }
+
+    @Test
+    public void getEdgesWithWeightViews_shouldFollowTheGraphInsertionOrder() {
+        List<ColumnarWeightedEdge<Node>> edges = createEdges();
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = createGraph(edges);
+
+        graph.removeEdge(edges.get(0));
+        graph.addEdge(edges.get(0));
+
+        Iterator<ColumnarWeightedEdge<Node>> iterator = graph.edgesWithWeightAbove(0).iterator();
+        assertEquals("The view did not follow the insertion order", edges.get(1), iterator.next());
+        assertEquals("The view did not follow the insertion order", edges.get(3), iterator.next());
+        assertEquals("The view did not follow the insertion order", edges.get(0), iterator.next());
+        assertTrue("The view contained too many edges", !iterator.hasNext());
+
+        edges.get(3).setWeight(-1);
+        assertEquals("The view did not reflect the new edge weight", 2, graph.edgesWithWeightAbove(0).size());
+        assertTrue("The view did not reflect the new edge weight", graph.edgesWithWeight(-1).contains(edges.get(3)));
+    }
+
+    @Test
+    public void bulkWeightOperations_shouldUpdateAllTheEdgeWeights() {
+        List<ColumnarWeightedEdge<Node>> edges = createEdges();
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = createGraph(edges);
+
+        assertEquals("The smallest weight is wrong", -3, graph.getMinimumEdgeWeight());
+        assertEquals("The largest weight is wrong", 800, graph.getMaximumEdgeWeight());
+        assertEquals("The total weight is wrong", 799, graph.getTotalEdgeWeight());
+
+        graph.scaleEdgeWeights(2);
+        graph.offsetEdgeWeights(1);
+        assertEquals("The edge weight was not scaled and offset", 3, edges.get(0).getWeight());
+        assertEquals("The edge weight was not scaled and offset", -5, edges.get(2).getWeight());
+        assertEquals("The total weight is wrong", 1602, graph.getTotalEdgeWeight());
+
+        graph.removeNode(edges.get(3).getTargetNode());
+        assertEquals("The removed edges should not be part of the total weight", -2, graph.getTotalEdgeWeight());
+
+        graph.resetEdgeWeights();
+        assertEquals("The weighted graph did not reset the weight of all the edges", 2, graph.getEdgesWithWeight(WeightedEdge.DEFAULT_EDGE_WEIGHT).size());
+        assertEquals("The removed edges should not be reset", 1601, edges.get(3).getWeight());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getMinimumEdgeWeightOfEmptyGraph_throwsIllegalStateException() {
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = new ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>>();
+        graph.getMinimumEdgeWeight();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addEdgeOfAnotherColumnarGraph_throwsIllegalArgumentException() {
+        List<ColumnarWeightedEdge<Node>> edges = createEdges();
+        createGraph(edges);
+
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> otherGraph = new ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>>();
+        otherGraph.addEdge(edges.get(0));
+    }
+
+    @Test
+    public void addManyEdgesAndRemoveMostOfThem_weightsShouldBeKept() {
+        List<ColumnarWeightedEdge<Node>> edges = new ArrayList<ColumnarWeightedEdge<Node>>();
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = new ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>>();
+        Node node = new BasicNode("node");
+        for(int i = 0; i < 100; i++) {
+            ColumnarWeightedEdge<Node> edge = new ColumnarWeightedEdge<Node>(node, new BasicNode("node" + i), i);
+            edges.add(edge);
+            graph.addEdge(edge);
+        }
+        for(int i = 0; i < 90; i++) {
+            graph.removeEdge(edges.get(i));
+        }
+        for(int i = 0; i < 100; i++) {
+            assertEquals("The edge did not keep its weight", i, edges.get(i).getWeight());
+        }
+        assertEquals("The total weight is wrong", 945, graph.getTotalEdgeWeight());
+        assertEquals("The graph did not found the right number of edges", 10, graph.getEdgesWithWeightAbove(0).size());
+    }
+
+    private static List<ColumnarWeightedEdge<Node>> createEdges() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+        Node node4 = new BasicNode("node4");
+
+        List<ColumnarWeightedEdge<Node>> edges = new ArrayList<ColumnarWeightedEdge<Node>>();
+        edges.add(new ColumnarWeightedEdge<Node>(node1, node2, 1));
+        edges.add(new ColumnarWeightedEdge<Node>(node2, node3, 1));
+        edges.add(new ColumnarWeightedEdge<Node>(node3, node4, -3));
+        edges.add(new ColumnarWeightedEdge<Node>(node4, node1, 800));
+        return edges;
+    }
+
+    private static ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> createGraph(List<ColumnarWeightedEdge<Node>> edges) {
+        ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>> graph = new ColumnarWeightedGraph<Node, ColumnarWeightedEdge<Node>>();
+        for(ColumnarWeightedEdge<Node> edge : edges) {
+            graph.addEdge(edge);
+        }
+        return graph;
+    }
+}
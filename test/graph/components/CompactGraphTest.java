@@ -0,0 +1,130 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class CompactGraphTest {
+
+    @Test
+    public void createCompactGraph_shouldReturnTheSameEdgesAndNodesInTheSameOrder() {
+        Graph<Node, Edge<Node>> graph = createGraph();
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(graph);
+
+        assertEquals("The compact graph did not contain the same edges",
+                new ArrayList<Edge<Node>>(graph.getAllEdges()), new ArrayList<Edge<Node>>(compactGraph.getAllEdges()));
+        assertEquals("The compact graph did not contain the same nodes",
+                new ArrayList<Node>(graph.getAllNodes()), new ArrayList<Node>(compactGraph.getAllNodes()));
+
+        for(Node node : graph.getAllNodes()){
+            assertEquals("The compact graph did not return the same edges for " + node,
+                    new ArrayList<Edge<Node>>(graph.getEdgesOf(node)), new ArrayList<Edge<Node>>(compactGraph.getEdgesOf(node)));
+            for(Node otherNode : graph.getAllNodes()){
+                assertEquals("The compact graph did not return the same edges between " + node + " and " + otherNode,
+                        graph.getEdges(node, otherNode), compactGraph.getEdges(node, otherNode));
+            }
+        }
+    }
+
+    @Test
+    public void accessCompactGraphByIndex_shouldReturnTheAdjacencyOfEachNode() {
+        Graph<Node, Edge<Node>> graph = createGraph();
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(graph);
+
+        assertEquals("The compact graph did not contain the right amount of nodes", 4, compactGraph.getNodeCount());
+        assertEquals("The compact graph did not contain the right amount of edges", 6, compactGraph.getEdgeCount());
+
+        int edgesLeavingNodes = 0;
+        for(int n = 0; n < compactGraph.getNodeCount(); n++){
+            assertEquals("The node was not found at its index", n, compactGraph.getNodeIndex(compactGraph.getNode(n)));
+            for(int i = 0; i < compactGraph.getOutDegree(n); i++){
+                assertEquals("The edge did not leave the node", n, compactGraph.getEdgeSource(compactGraph.getOutEdge(n, i)));
+                edgesLeavingNodes++;
+            }
+            for(int i = 0; i < compactGraph.getInDegree(n); i++){
+                assertEquals("The edge did not enter the node", n, compactGraph.getEdgeTarget(compactGraph.getInEdge(n, i)));
+            }
+        }
+        assertEquals("Some edges did not leave any node", 6, edgesLeavingNodes);
+        assertEquals("A node that is not part of the graph was found", -1, compactGraph.getNodeIndex(new BasicNode("other")));
+    }
+
+    @Test
+    public void getEdgesOfNodeWithLoop_loopShouldOnlyBeReturnedOnce() {
+        Graph<Node, Edge<Node>> graph = createGraph();
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(graph);
+        Node node1 = compactGraph.getNode(0);
+
+        Set<Edge<Node>> edges = compactGraph.edgesOf(node1);
+        assertEquals("The edges of the node were not all found", 4, edges.size());
+        assertTrue("The loop was not found", edges.contains(compactGraph.getEdge(5)));
+        assertFalse("An edge that does not connect to the node was found", edges.contains(compactGraph.getEdge(1)));
+    }
+
+    @Test
+    public void getEdgesOfUnknownNode_shouldReturnAnEmptySet() {
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(createGraph());
+
+        assertTrue("Edges were found for a node that is not part of the graph",
+                compactGraph.getEdgesOf(new BasicNode("other")).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addEdgeToCompactGraph_shouldThrowUnsupportedOperationException() {
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(createGraph());
+        Node node = compactGraph.getNode(0);
+
+        compactGraph.addEdge(new BasicEdge<Node>(node, node));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void removeNodeFromCompactGraph_shouldThrowUnsupportedOperationException() {
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(createGraph());
+
+        compactGraph.removeNode(compactGraph.getNode(0));
+    }
+
+    @Test
+    public void estimateMemoryFootprint_compactGraphShouldUseLessMemoryThanBasicGraph() {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < 100; i++){
+            nodes.add(new BasicNode("node" + i));
+        }
+        for(int i = 0; i < 100; i++){
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get((i + 1) % 100)));
+            graph.addEdge(new BasicEdge<Node>(nodes.get(i), nodes.get((i * 7) % 100)));
+        }
+        CompactGraph<Node, Edge<Node>> compactGraph = new CompactGraph<Node, Edge<Node>>(graph);
+
+        assertEquals("The size of the nodes should not change",
+                graph.estimateMemoryFootprint().getNodeBytes(), compactGraph.estimateMemoryFootprint().getNodeBytes());
+        assertTrue("The compact graph did not use less memory for its indexes",
+                compactGraph.estimateMemoryFootprint().getIndexBytes() * 3 < graph.estimateMemoryFootprint().getIndexBytes());
+    }
+
+    private Graph<Node, Edge<Node>> createGraph() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+        Node node4 = new BasicNode("node4");
+
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+        graph.addEdge(new BasicEdge<Node>(node2, node3));
+        graph.addEdge(new BasicEdge<Node>(node3, node1));
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+        graph.addEdge(new BasicEdge<Node>(node3, node4));
+        graph.addEdge(new BasicEdge<Node>(node1, node1));
+        return graph;
+    }
+}
@@ -0,0 +1,42 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import org.junit.Test;
+
+public class CompactWeightedGraphTest {
+
+    @Test
+    public void getEdgesWithWeight_shouldReturnTheSameEdgesAsTheCopiedGraph() {
+        WeightedGraph<Node, WeightedEdge<Node>> graph = createGraph();
+        CompactWeightedGraph<Node, WeightedEdge<Node>> compactGraph = new CompactWeightedGraph<Node, WeightedEdge<Node>>(graph);
+
+        assertEquals("The edges with a weight of 5 were not the same", graph.getEdgesWithWeight(5), compactGraph.getEdgesWithWeight(5));
+        assertEquals("The edges with a weight above 3 were not the same", graph.getEdgesWithWeightAbove(3), compactGraph.getEdgesWithWeightAbove(3));
+        assertEquals("The edges with a weight below 5 were not the same", graph.getEdgesWithWeightBelow(5), compactGraph.getEdgesWithWeightBelow(5));
+    }
+
+    @Test
+    public void resetEdgeWeights_allEdgesShouldHaveTheDefaultWeight() {
+        CompactWeightedGraph<Node, WeightedEdge<Node>> compactGraph = new CompactWeightedGraph<Node, WeightedEdge<Node>>(createGraph());
+
+        compactGraph.resetEdgeWeights();
+
+        assertEquals("The weights of the edges were not reset", 3, compactGraph.edgesWithWeight(WeightedEdge.DEFAULT_EDGE_WEIGHT).size());
+    }
+
+    private WeightedGraph<Node, WeightedEdge<Node>> createGraph() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+
+        WeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(node1, node2, 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(node2, node3, 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(node3, node1, 7));
+        return graph;
+    }
+}
@@ -0,0 +1,66 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import org.junit.Test;
+
+public class EdgeWeightArrayTest {
+
+    private final Node node1 = new BasicNode("node1");
+    private final Node node2 = new BasicNode("node2");
+    private final Node node3 = new BasicNode("node3");
+
+    @Test
+    public void createFromGraph_weightsShouldBeCopiedInEdgeOrder() {
+        WeightedEdge<Node> edge1 = new BasicWeightedEdge<Node>(node1, node2, 4);
+        WeightedEdge<Node> edge2 = new BasicWeightedEdge<Node>(node2, node3, 7);
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(edge1);
+        graph.addEdge(edge2);
+
+        EdgeWeightArray<WeightedEdge<Node>> weights = new EdgeWeightArray<WeightedEdge<Node>>(graph);
+        weights.setWeight(edge2, 9);
+
+        assertEquals("The array did not contain the right amount of edges", 2, weights.size());
+        assertEquals("The weight was not copied from the edge", 4, weights.weightOf(edge1));
+        assertEquals("The weight was not set in the array", 9, weights.getWeight(1));
+        assertEquals("The edge was modified", 7, edge2.getWeight());
+        assertEquals("The edge was not found at its position", edge2, weights.getEdge(weights.indexOf(edge2)));
+    }
+
+    @Test
+    public void createFromArray_arrayShouldBeShared() {
+        Edge<Node> edge1 = new BasicEdge<Node>(node1, node2);
+        Edge<Node> edge2 = new BasicEdge<Node>(node2, node3);
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(edge1);
+        graph.addEdge(edge2);
+
+        long[] array = {3, 5};
+        EdgeWeightArray<Edge<Node>> weights = new EdgeWeightArray<Edge<Node>>(graph, array);
+        array[0] = 8;
+
+        assertEquals("The array was not shared", 8, weights.weightOf(edge1));
+        assertEquals("The array was not shared", 5, weights.weightOf(edge2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createFromArrayOfWrongLength_shouldThrowIllegalArgumentException() {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+
+        new EdgeWeightArray<Edge<Node>>(graph, new long[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getWeightOfUnknownEdge_shouldThrowIllegalArgumentException() {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+
+        new EdgeWeightArray<Edge<Node>>(graph).weightOf(new BasicEdge<Node>(node2, node3));
+    }
+}
@@ -0,0 +1,95 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.elements.Edge;
+import graph.elements.Filter;
+import graph.elements.Graph;
+import graph.elements.Node;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+public class FilteredGraphTest {
+
+    private final Node node1 = new BasicNode("node1");
+    private final Node node2 = new BasicNode("node2");
+    private final Node node3 = new BasicNode("node3");
+    private final Node node4 = new BasicNode("node4");
+
+    private final Edge<Node> edge1 = new BasicEdge<Node>(node1, node2);
+    private final Edge<Node> edge2 = new BasicEdge<Node>(node2, node3);
+    private final Edge<Node> edge3 = new BasicEdge<Node>(node3, node4);
+    private final Edge<Node> edge4 = new BasicEdge<Node>(node4, node1);
+
+    @Test
+    public void filterNodes_onlyEdgesBetweenAcceptedNodesShouldBePartOfTheView() {
+        Graph<Node, Edge<Node>> graph = createGraph();
+        Graph<Node, Edge<Node>> view = new FilteredGraph<Node, Edge<Node>>(graph, new Filter<Node>() {
+            @Override
+            public boolean accept(Node node) {
+                return node != node4;
+            }
+        }, null);
+
+        assertEquals("The view did not contain the right amount of edges", 2, view.getAllEdges().size());
+        assertTrue("The view did not contain an accepted edge", view.getAllEdges().contains(edge1));
+        assertFalse("The view contained an edge to a rejected node", view.getAllEdges().contains(edge3));
+        assertEquals("The view did not contain the right amount of nodes", 3, view.getAllNodes().size());
+        assertFalse("The view contained a rejected node", view.getAllNodes().contains(node4));
+        assertEquals("The view did not return the right edges of a node", 1, view.getEdgesOf(node1).size());
+    }
+
+    @Test
+    public void filterEdges_nodesWithoutAcceptedEdgesShouldNotBePartOfTheView() {
+        Graph<Node, Edge<Node>> graph = createGraph();
+        Graph<Node, Edge<Node>> view = new FilteredGraph<Node, Edge<Node>>(graph, null, new Filter<Edge<Node>>() {
+            @Override
+            public boolean accept(Edge<Node> edge) {
+                return edge == edge1;
+            }
+        });
+
+        Set<Node> nodes = view.getAllNodes();
+        assertEquals("The view did not contain the right amount of nodes", 2, nodes.size());
+        assertTrue("The view did not contain a node of an accepted edge", nodes.contains(node2));
+        assertFalse("The view contained a node without accepted edges", nodes.contains(node3));
+        assertTrue("The view did not return the edges between two nodes", view.getEdges(node1, node2).contains(edge1));
+        assertTrue("The view returned a rejected edge", view.getEdges(node2, node3).isEmpty());
+    }
+
+    @Test
+    public void modifyUnderlyingGraph_viewShouldReflectTheChanges() {
+        Graph<Node, Edge<Node>> graph = createGraph();
+        Graph<Node, Edge<Node>> view = new FilteredGraph<Node, Edge<Node>>(graph, null, null);
+        Set<Edge<Node>> viewEdges = view.getAllEdges();
+
+        graph.removeEdge(edge2);
+
+        assertEquals("The view did not reflect the removed edge", 3, viewEdges.size());
+        assertFalse("The view did not reflect the removed edge", viewEdges.contains(edge2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void addEdgeToView_shouldThrowUnsupportedOperationException() {
+        Graph<Node, Edge<Node>> view = new FilteredGraph<Node, Edge<Node>>(createGraph(), null, null);
+
+        view.addEdge(new BasicEdge<Node>(node1, node3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createViewOfNullGraph_shouldThrowIllegalArgumentException() {
+        new FilteredGraph<Node, Edge<Node>>(null, null, null);
+    }
+
+    private Graph<Node, Edge<Node>> createGraph() {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(edge1);
+        graph.addEdge(edge2);
+        graph.addEdge(edge3);
+        graph.addEdge(edge4);
+        return graph;
+    }
+}
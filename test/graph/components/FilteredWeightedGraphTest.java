@@ -0,0 +1,70 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.algorithms.MinimumSpanningTree;
+import graph.algorithms.ShortestPathsToNode;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class FilteredWeightedGraphTest {
+
+    private final Node nodeA = new BasicNode("A");
+    private final Node nodeB = new BasicNode("B");
+    private final Node nodeC = new BasicNode("C");
+
+    private final WeightedEdge<Node> edgeAB = new BasicWeightedEdge<Node>(nodeA, nodeB, 1);
+    private final WeightedEdge<Node> edgeBC = new BasicWeightedEdge<Node>(nodeB, nodeC, 2);
+    private final WeightedEdge<Node> edgeAC = new BasicWeightedEdge<Node>(nodeA, nodeC, 10);
+
+    @Test
+    public void filterByWeightRange_onlyEdgesWithinTheRangeShouldBePartOfTheView() {
+        WeightedGraph<Node, WeightedEdge<Node>> view =
+                new FilteredWeightedGraph<Node, WeightedEdge<Node>>(createGraph(), 2, 10);
+
+        assertEquals("The view did not contain the right amount of edges", 2, view.getAllEdges().size());
+        assertFalse("The view contained an edge outside the range", view.getAllEdges().contains(edgeAB));
+        assertTrue("The view did not return the edges with a weight", view.getEdgesWithWeight(10).contains(edgeAC));
+        assertEquals("The view did not return the edges below a weight", 1, view.getEdgesWithWeightBelow(10).size());
+    }
+
+    @Test
+    public void runShortestPathsOnView_rejectedEdgesShouldNotBeUsed() {
+        WeightedGraph<Node, WeightedEdge<Node>> view =
+                new FilteredWeightedGraph<Node, WeightedEdge<Node>>(createGraph(), 5, Long.MAX_VALUE);
+
+        Map<Node, Long> shortestPaths = new ShortestPathsToNode<Node, WeightedEdge<Node>>(view, nodeA).getShortestPaths();
+
+        assertEquals("The shortest path to C did not use the only accepted edge", 10, (long) shortestPaths.get(nodeC));
+        assertFalse("A node without accepted edges was reached", shortestPaths.containsKey(nodeB));
+    }
+
+    @Test
+    public void runMinimumSpanningTreeOnView_treeShouldOnlyContainAcceptedEdges() {
+        WeightedGraph<Node, WeightedEdge<Node>> view =
+                new FilteredWeightedGraph<Node, WeightedEdge<Node>>(createGraph(), 2, 10);
+
+        MinimumSpanningTree<Node, WeightedEdge<Node>> tree = new MinimumSpanningTree<Node, WeightedEdge<Node>>(view);
+
+        assertEquals("The tree did not have the right weight", 12, tree.getTreeWeight());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void resetEdgeWeightsOfView_shouldThrowUnsupportedOperationException() {
+        new FilteredWeightedGraph<Node, WeightedEdge<Node>>(createGraph(), 0, 1).resetEdgeWeights();
+    }
+
+    private WeightedGraph<Node, WeightedEdge<Node>> createGraph() {
+        WeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(edgeAB);
+        graph.addEdge(edgeBC);
+        graph.addEdge(edgeAC);
+        return graph;
+    }
+}
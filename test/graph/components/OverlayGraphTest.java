@@ -0,0 +1,145 @@
+package graph.components;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.algorithms.ShortestPathsToNode;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import org.junit.Test;
+
+public class OverlayGraphTest {
+
+    private final Node nodeA = new BasicNode("A");
+    private final Node nodeB = new BasicNode("B");
+    private final Node nodeC = new BasicNode("C");
+    private final Node nodeD = new BasicNode("D");
+
+    private final WeightedEdge<Node> edgeAB = new BasicWeightedEdge<Node>(nodeA, nodeB, 1);
+    private final WeightedEdge<Node> edgeBC = new BasicWeightedEdge<Node>(nodeB, nodeC, 1);
+    private final WeightedEdge<Node> edgeAC = new BasicWeightedEdge<Node>(nodeA, nodeC, 5);
+
+    @Test
+    public void addAndRemoveEdgesInOverlay_baseShouldNotBeModified() {
+        WeightedGraph<Node, WeightedEdge<Node>> base = createBase();
+        OverlayGraph<Node, WeightedEdge<Node>> overlay = new OverlayGraph<Node, WeightedEdge<Node>>(base);
+        WeightedEdge<Node> edgeCD = new BasicWeightedEdge<Node>(nodeC, nodeD, 2);
+
+        assertTrue("The edge was not added to the overlay", overlay.addEdge(edgeCD));
+        assertTrue("The edge was not removed from the overlay", overlay.removeEdge(edgeAB));
+
+        assertEquals("The overlay did not contain the right amount of edges", 3, overlay.getAllEdges().size());
+        assertTrue("The overlay did not contain the added edge", overlay.getAllEdges().contains(edgeCD));
+        assertFalse("The overlay contained the removed edge", overlay.getAllEdges().contains(edgeAB));
+        assertEquals("The overlay did not return the edges of a node", 3, overlay.getEdgesOf(nodeC).size());
+        assertTrue("The overlay did not contain the added node", overlay.getAllNodes().contains(nodeD));
+        assertEquals("The overlay did not contain the right amount of nodes", 4, overlay.getAllNodes().size());
+
+        assertEquals("The base was modified", 3, base.getAllEdges().size());
+        assertFalse("The base was modified", base.getAllNodes().contains(nodeD));
+    }
+
+    @Test
+    public void changeWeightInOverlay_algorithmsShouldUseTheOverlayWeights() {
+        WeightedGraph<Node, WeightedEdge<Node>> base = createBase();
+        OverlayGraph<Node, WeightedEdge<Node>> overlay = new OverlayGraph<Node, WeightedEdge<Node>>(base);
+
+        overlay.setEdgeWeight(edgeBC, 10);
+
+        assertEquals("The edge was modified", 1, edgeBC.getWeight());
+        assertEquals("The overlay did not return the new weight", 10, overlay.weightOf(edgeBC));
+        assertTrue("The weight queries did not use the new weight", overlay.getEdgesWithWeight(10).contains(edgeBC));
+        ShortestPathsToNode<Node, WeightedEdge<Node>> shortestPaths =
+                new ShortestPathsToNode<Node, WeightedEdge<Node>>(overlay, nodeA, overlay);
+        assertEquals("The algorithm did not use the weights of the overlay", 5, shortestPaths.getShortestPathToTarget(nodeC));
+    }
+
+    @Test
+    public void commitNestedOverlay_changesShouldBeRecordedInTheOuterOverlay() {
+        WeightedGraph<Node, WeightedEdge<Node>> base = createBase();
+        OverlayGraph<Node, WeightedEdge<Node>> outer = new OverlayGraph<Node, WeightedEdge<Node>>(base);
+        OverlayGraph<Node, WeightedEdge<Node>> inner = new OverlayGraph<Node, WeightedEdge<Node>>(outer);
+        WeightedEdge<Node> edgeCD = new BasicWeightedEdge<Node>(nodeC, nodeD, 2);
+
+        outer.setEdgeWeight(edgeAC, 3);
+        inner.addEdge(edgeCD);
+        inner.removeEdge(edgeAB);
+        inner.setEdgeWeight(edgeBC, 7);
+        assertEquals("The inner overlay did not return the weight of the outer overlay", 3, inner.weightOf(edgeAC));
+
+        inner.commit();
+
+        assertFalse("The inner overlay still had changes", inner.hasChanges());
+        assertTrue("The added edge was not committed", outer.getAllEdges().contains(edgeCD));
+        assertFalse("The removed edge was not committed", outer.getAllEdges().contains(edgeAB));
+        assertEquals("The new weight was not committed", 7, outer.weightOf(edgeBC));
+        assertEquals("The edge was modified", 1, edgeBC.getWeight());
+        assertEquals("The base was modified", 3, base.getAllEdges().size());
+
+        outer.commit();
+
+        assertEquals("The changes were not committed to the base", 3, base.getAllEdges().size());
+        assertTrue("The added edge was not committed to the base", base.getAllEdges().contains(edgeCD));
+        assertEquals("The new weight was not set in the edge", 7, edgeBC.getWeight());
+        assertEquals("The new weight was not set in the edge", 3, edgeAC.getWeight());
+    }
+
+    @Test
+    public void removeAndAddBackBaseEdge_removalShouldBeCancelled() {
+        OverlayGraph<Node, WeightedEdge<Node>> overlay = new OverlayGraph<Node, WeightedEdge<Node>>(createBase());
+
+        overlay.removeEdge(edgeAB);
+        overlay.addEdge(edgeAB);
+
+        assertFalse("The overlay still had changes", overlay.hasChanges());
+        assertFalse("An edge of the base was added twice", overlay.addEdge(edgeBC));
+    }
+
+    @Test
+    public void rollbackOverlay_overlayShouldMatchTheBase() {
+        OverlayGraph<Node, WeightedEdge<Node>> overlay = new OverlayGraph<Node, WeightedEdge<Node>>(createBase());
+
+        overlay.removeNode(nodeB);
+        assertEquals("The edges of the removed node were still in the overlay", 1, overlay.getAllEdges().size());
+        overlay.resetEdgeWeights();
+        assertEquals("The weights were not reset", WeightedEdge.DEFAULT_EDGE_WEIGHT, overlay.weightOf(edgeAC));
+
+        overlay.rollback();
+
+        assertEquals("The overlay did not match the base", 3, overlay.getAllEdges().size());
+        assertEquals("The overlay did not match the base", 5, overlay.weightOf(edgeAC));
+    }
+
+    @Test
+    public void resetWeightsThenAddEdgeAndCommit_addedEdgeShouldKeepItsWeight() {
+        WeightedGraph<Node, WeightedEdge<Node>> base = createBase();
+        OverlayGraph<Node, WeightedEdge<Node>> overlay = new OverlayGraph<Node, WeightedEdge<Node>>(base);
+        WeightedEdge<Node> edgeAD = new BasicWeightedEdge<Node>(nodeA, nodeD, 4);
+        WeightedEdge<Node> edgeCD = new BasicWeightedEdge<Node>(nodeC, nodeD, 7);
+
+        overlay.addEdge(edgeAD);
+        overlay.resetEdgeWeights();
+        overlay.addEdge(edgeCD);
+
+        assertEquals("The weight of a base edge was not reset", WeightedEdge.DEFAULT_EDGE_WEIGHT, overlay.weightOf(edgeAC));
+        assertEquals("The weight of an edge added before the reset was not reset", WeightedEdge.DEFAULT_EDGE_WEIGHT, overlay.weightOf(edgeAD));
+        assertEquals("The weight of an edge added after the reset was reset", 7, overlay.weightOf(edgeCD));
+
+        overlay.commit();
+
+        assertEquals("The committed base did not contain the added edges", 5, base.getAllEdges().size());
+        assertEquals("The weight of a base edge was not reset", WeightedEdge.DEFAULT_EDGE_WEIGHT, edgeAC.getWeight());
+        assertEquals("The weight of an edge added before the reset was not reset", WeightedEdge.DEFAULT_EDGE_WEIGHT, edgeAD.getWeight());
+        assertEquals("The weight of an edge added after the reset was reset", 7, edgeCD.getWeight());
+    }
+
+    private WeightedGraph<Node, WeightedEdge<Node>> createBase() {
+        WeightedGraph<Node, WeightedEdge<Node>> base = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        base.addEdge(edgeAB);
+        base.addEdge(edgeBC);
+        base.addEdge(edgeAC);
+        return base;
+    }
+}
@@ -0,0 +1,318 @@
+package graph.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.components.NamedWeightedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DurableGraphTest {
+
+    private File directory;
+
+    @Before
+    public void createDirectory() throws IOException {
+        directory = File.createTempFile("graph", "");
+        directory.delete();
+        directory.mkdir();
+    }
+
+    @After
+    public void deleteDirectory() {
+        for(File file : directory.listFiles()){
+            file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void reopenAfterChanges_graphShouldBeRestored() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        Node a = new BasicNode("a");
+        Node b = new BasicNode("b");
+        Node c = new BasicNode("c");
+        Node d = new BasicNode("d");
+        WeightedEdge<Node> ab = new BasicWeightedEdge<Node>(a, b, 5);
+        WeightedEdge<Node> bc = new NamedWeightedEdge<Node>("road", b, c, 3);
+        WeightedEdge<Node> cd = new BasicWeightedEdge<Node>(c, d, 7);
+        WeightedEdge<Node> da = new BasicWeightedEdge<Node>(d, a, 2);
+        graph.addEdge(ab);
+        graph.addEdge(bc);
+        graph.addEdge(cd);
+        graph.addEdge(da);
+        graph.setEdgeWeight(ab, 9);
+        graph.removeEdge(cd);
+        graph.removeNode(d);
+        graph.addEdge(new BasicWeightedEdge<Node>(c, a, 4));
+        String expected = describe(graph);
+        graph.close();
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The graph was not restored", expected, describe(restored));
+            assertEquals("The nodes were not restored", 3, restored.getAllNodes().size());
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void reopenAfterSnapshot_graphShouldBeRestoredFromSnapshotAndLog() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        List<Node> nodes = createNodes(20);
+        for(int i = 0; i < nodes.size(); i++){
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i), nodes.get((i + 1) % nodes.size()), i));
+        }
+        graph.snapshot();
+        WeightedEdge<Node> edge = graph.getEdgesOf(nodes.get(3)).iterator().next();
+        graph.removeEdge(edge);
+        graph.resetEdgeWeights();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(0), nodes.get(10), 42));
+        String expected = describe(graph);
+        graph.close();
+
+        assertTrue("The snapshot was not written", new File(directory, "graph-1.snapshot").exists());
+        assertTrue("The log covered by the snapshot was not deleted", !new File(directory, "graph-0.log").exists());
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The graph was not restored", expected, describe(restored));
+            restored.addEdge(new BasicWeightedEdge<Node>(new BasicNode("x"), new BasicNode("y"), 1));
+            expected = describe(restored);
+        } finally {
+            restored.close();
+        }
+
+        restored = new DurableGraph(directory);
+        try {
+            assertEquals("The changes made after a restore were not restored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void reopenWithSnapshotInterval_snapshotShouldBeTakenInBackground() throws IOException, InterruptedException {
+        DurableGraph graph = new DurableGraph(directory);
+        graph.setSnapshotInterval(10);
+        List<Node> nodes = createNodes(50);
+        for(int i = 1; i < nodes.size(); i++){
+            graph.addEdge(new BasicWeightedEdge<Node>(nodes.get(i - 1), nodes.get(i), i));
+        }
+        String expected = describe(graph);
+        long deadline = System.currentTimeMillis() + 5000;
+        while(generationsOf("snapshot").isEmpty() && System.currentTimeMillis() < deadline){
+            Thread.sleep(10);
+        }
+        graph.close();
+
+        List<Long> snapshots = generationsOf("snapshot");
+        assertEquals("A snapshot should have been taken", 1, snapshots.size());
+        for(long log : generationsOf("log")){
+            assertTrue("The logs covered by the snapshot should be deleted", log >= snapshots.get(0));
+        }
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The graph was not restored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void reopenWithLogShorterThanItsHeader_logShouldBeIgnored() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("a"), new BasicNode("b"), 1));
+        String expected = describe(graph);
+        graph.close();
+
+        // The process stopped while the next log was being created
+        FileOutputStream out = new FileOutputStream(new File(directory, "graph-1.log"));
+        try {
+            out.write(new byte[3]);
+        } finally {
+            out.close();
+        }
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The graph was not restored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void reopenWithCorruptFrameLength_frameShouldBeIgnored() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("a"), new BasicNode("b"), 1));
+        String expected = describe(graph);
+        graph.close();
+
+        // A frame header whose length is far larger than the rest of the file
+        FileOutputStream out = new FileOutputStream(new File(directory, "graph-0.log"), true);
+        try {
+            out.write(new byte[] {0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xf0, 1, 2, 3, 4, 5, 6, 7, 8});
+        } finally {
+            out.close();
+        }
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The corrupt frame was not ignored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void addAllEdgesWithANullEdge_noEdgeShouldBeAdded() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        Set<WeightedEdge<Node>> edges = new LinkedHashSet<WeightedEdge<Node>>();
+        edges.add(new BasicWeightedEdge<Node>(new BasicNode("a"), new BasicNode("b"), 1));
+        edges.add(null);
+        try {
+            graph.addAllEdges(edges);
+            fail("A null edge should be rejected");
+        } catch(IllegalArgumentException e) {
+            // Expected
+        }
+        assertTrue("No edge should be added", graph.isEmpty());
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("c"), new BasicNode("d"), 2));
+        String expected = describe(graph);
+        graph.close();
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The graph was not restored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void reopenWithTornLog_incompleteChangeShouldBeIgnored() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("a"), new BasicNode("b"), 1));
+        graph.sync();
+        String expected = describe(graph);
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("c"), new BasicNode("d"), 2));
+        graph.close();
+
+        File log = new File(directory, "graph-0.log");
+        RandomAccessFile file = new RandomAccessFile(log, "rw");
+        try {
+            file.setLength(file.length() - 3);
+        } finally {
+            file.close();
+        }
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The torn change was not ignored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    public void concurrentWritersWithSyncOnWrite_allChangesShouldBeRestored() throws Exception {
+        final DurableGraph graph = new DurableGraph(directory);
+        graph.setSyncOnWrite(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for(int t = 0; t < 4; t++){
+                final int thread = t;
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        Node previous = new BasicNode("t" + thread + "-0");
+                        for(int i = 1; i <= 100; i++){
+                            Node next = new BasicNode("t" + thread + "-" + i);
+                            graph.addEdge(new BasicWeightedEdge<Node>(previous, next, i));
+                            previous = next;
+                        }
+                    }
+                }));
+            }
+            for(Future<?> future : futures){
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        String expected = describe(graph);
+        graph.close();
+
+        DurableGraph restored = new DurableGraph(directory);
+        try {
+            assertEquals("The number of edges restored was wrong", 400, restored.getAllEdges().size());
+            assertEquals("The graph was not restored", expected, describe(restored));
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setWeightOfEdgeNotInGraph_shouldThrowException() throws IOException {
+        DurableGraph graph = new DurableGraph(directory);
+        try {
+            graph.setEdgeWeight(new BasicWeightedEdge<Node>(new BasicNode("a"), new BasicNode("b")), 3);
+        } finally {
+            graph.close();
+        }
+    }
+
+    private static List<Node> createNodes(int count) {
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < count; i++){
+            nodes.add(new BasicNode("Node " + i));
+        }
+        return nodes;
+    }
+
+    private List<Long> generationsOf(String extension) {
+        List<Long> generations = new ArrayList<Long>();
+        for(File file : directory.listFiles()){
+            String name = file.getName();
+            if(name.startsWith("graph-") && name.endsWith("." + extension)){
+                generations.add(Long.parseLong(name.substring("graph-".length(), name.length() - extension.length() - 1)));
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    private static String describe(WeightedGraph<Node, WeightedEdge<Node>> graph) {
+        List<String> edges = new ArrayList<String>();
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            edges.add(edge.getSourceNode().getName() + " -> " + edge.getTargetNode().getName() + " : " + edge.getWeight()
+                      + (edge instanceof NamedWeightedEdge ? " " + ((NamedWeightedEdge<?>) edge).getName() : ""));
+        }
+        Collections.sort(edges);
+        return edges.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package graph.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicWeightedGraph;
+import graph.components.CompactWeightedGraph;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EdgeListImporterTest {
+
+    private File file;
+
+    @Before
+    public void createFile() throws IOException {
+        file = File.createTempFile("edges", ".csv");
+    }
+
+    @After
+    public void deleteFile() {
+        file.delete();
+    }
+
+    @Test
+    public void importEdgeList_edgesShouldBeAddedInFileOrderWithSharedNodes() throws IOException {
+        write("a,b,5\nb,c,-3,road\r\n# comment\n\n c , a \n");
+
+        BasicWeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        ImportReport<BasicWeightedGraph<Node, WeightedEdge<Node>>> report = new EdgeListImporter(file).importInto(graph);
+
+        assertSame("The report did not contain the graph", graph, report.getGraph());
+        assertEquals("The wrong amount of lines was read", 5, report.getLineCount());
+        assertEquals("The wrong amount of edges was read", 3, report.getEdgeCount());
+        assertEquals("Lines were reported as malformed", 0, report.getMalformedLineCount());
+        assertEquals("The edges were not added to the graph", 3, graph.getAllEdges().size());
+        assertEquals("The node names were not interned", 3, graph.getAllNodes().size());
+
+        List<WeightedEdge<Node>> edges = new ArrayList<WeightedEdge<Node>>(graph.getAllEdges());
+        assertEquals("The first edge did not have the right weight", 5, edges.get(0).getWeight());
+        assertEquals("The second edge did not have the right weight", -3, edges.get(1).getWeight());
+        assertEquals("The second edge did not have the right name", "road", ((NamedEdge<?>) edges.get(1)).getName());
+        assertEquals("The edge without weight did not have the default weight",
+                WeightedEdge.DEFAULT_EDGE_WEIGHT, edges.get(2).getWeight());
+        assertEquals("The blanks around the names were not ignored", "c", edges.get(2).getSourceNode().getName());
+        assertSame("The same name was not mapped to the same node", edges.get(0).getTargetNode(), edges.get(1).getSourceNode());
+    }
+
+    @Test
+    public void importFileWithMalformedLines_malformedLinesShouldBeSkippedAndReported() throws IOException {
+        write("a,b,1\na\na,b,x\na,b,99999999999999999999\n,b,1\na,b,1,n,extra\nb,c,2");
+
+        EdgeListImporter importer = new EdgeListImporter(file);
+        ImportReport<BasicWeightedGraph<Node, WeightedEdge<Node>>> report =
+                importer.importInto(new BasicWeightedGraph<Node, WeightedEdge<Node>>());
+
+        assertEquals("The wrong amount of lines was read", 7, report.getLineCount());
+        assertEquals("The wrong amount of edges was read", 2, report.getEdgeCount());
+        assertEquals("The wrong amount of malformed lines was found", 5, report.getMalformedLineCount());
+        assertEquals("The line number of the malformed line was wrong", 2, report.getMalformedLines().get(0).getLineNumber());
+        assertEquals("The content of the malformed line was wrong", "a,b,x", report.getMalformedLines().get(1).getContent());
+        assertEquals("The reason of the malformed line was wrong", "Invalid weight", report.getMalformedLines().get(2).getReason());
+    }
+
+    @Test
+    public void importWithSmallChunksAndSeveralThreads_resultShouldMatchSingleChunkImport() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for(int i = 0; i < 1000; i++){
+            content.append("node").append(i % 37).append(',').append("node").append(i % 91).append(',').append(i).append('\n');
+            if(i % 100 == 0){
+                content.append("malformed\n");
+            }
+        }
+        write(content.toString());
+
+        EdgeListImporter importer = new EdgeListImporter(file);
+        importer.setChunkSize(64);
+        importer.setThreadCount(4);
+        ImportReport<CompactWeightedGraph<Node, WeightedEdge<Node>>> report = importer.importCompact();
+        CompactWeightedGraph<Node, WeightedEdge<Node>> graph = report.getGraph();
+
+        assertEquals("The wrong amount of lines was read", 1010, report.getLineCount());
+        assertEquals("The wrong amount of malformed lines was found", 10, report.getMalformedLineCount());
+        assertEquals("The line number of the malformed line was wrong", 103, report.getMalformedLines().get(1).getLineNumber());
+        assertEquals("The wrong amount of edges was imported", 1000, graph.getEdgeCount());
+        assertEquals("The node names were not interned", 91, graph.getNodeCount());
+        for(int i = 0; i < 1000; i++){
+            assertEquals("The edges were not imported in file order", i, graph.getEdge(i).getWeight());
+        }
+        assertTrue("The import speed was not reported", report.getLinesPerSecond() > 0);
+    }
+
+    @Test
+    public void importEmptyFile_graphShouldBeEmpty() throws IOException {
+        ImportReport<CompactWeightedGraph<Node, WeightedEdge<Node>>> report = new EdgeListImporter(file).importCompact();
+
+        assertEquals("Lines were read from an empty file", 0, report.getLineCount());
+        assertTrue("The graph was not empty", report.getGraph().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setInvalidDelimiter_shouldThrowIllegalArgumentException() {
+        new EdgeListImporter(file).setDelimiter(' ');
+    }
+
+    private void write(String content) throws IOException {
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(content.getBytes("UTF-8"));
+        } finally {
+            output.close();
+        }
+    }
+}
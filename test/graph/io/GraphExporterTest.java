@@ -0,0 +1,147 @@
+package graph.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.components.BasicWeightedGraph;
+import graph.components.NamedWeightedEdge;
+import graph.elements.Edge;
+import graph.elements.Graph;
+import graph.elements.NamedEdge;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class GraphExporterTest {
+
+    @Test
+    public void exportEdgeList_shouldWriteOneLinePerEdge() throws IOException {
+        StringBuilder out = new StringBuilder();
+        new EdgeListExporter().append(createGraph(), out);
+
+        assertEquals("The edge list was not properly formatted", "a,b,5\nb,c,-3,road\nc,a,1\n", out.toString());
+    }
+
+    @Test
+    public void exportEdgeListToFileAndImportIt_graphShouldBeUnchanged() throws IOException {
+        File file = File.createTempFile("edges", ".csv");
+        try {
+            new EdgeListExporter().export(createGraph(), file);
+            WeightedGraph<Node, WeightedEdge<Node>> graph = new EdgeListImporter(file).importInto(
+                    new BasicWeightedGraph<Node, WeightedEdge<Node>>()).getGraph();
+
+            assertEquals("The imported graph was different", createGraph().toString(), graph.toString());
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setEdgeListDelimiterToBlank_shouldThrowException() {
+        new EdgeListExporter().setDelimiter('\t');
+    }
+
+    @Test
+    public void exportEdgeListWithUnreadableNames_shouldThrowException() throws IOException {
+        String[][] names = {{"a,b", "c", null}, {"a", "c\nd", null}, {" a", "c", null}, {"a", "c ", null},
+                            {"#a", "c", null}, {"a", "c", "road,1"}, {"a", "c", "road "}};
+        for(String[] edgeNames : names){
+            WeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+            Node source = new BasicNode(edgeNames[0]);
+            Node target = new BasicNode(edgeNames[1]);
+            graph.addEdge(edgeNames[2] == null ? new BasicWeightedEdge<Node>(source, target, 1)
+                                               : new NamedWeightedEdge<Node>(edgeNames[2], source, target, 1));
+            try {
+                new EdgeListExporter().append(graph, new StringBuilder());
+                fail("The names " + Arrays.toString(edgeNames) + " cannot be read back and should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void exportWithMaxEdges_omittedEdgesShouldBeCounted() throws IOException {
+        StringBuilder out = new StringBuilder();
+        DotExporter exporter = new DotExporter();
+        exporter.setMaxEdges(1);
+        exporter.append(createGraph(), out);
+
+        String expected = "digraph G {\n"
+                          + "  n0 [label=\"a\"];\n"
+                          + "  n1 [label=\"b\"];\n"
+                          + "  n0 -> n1 [weight=5, label=\"5\"];\n"
+                          + "  // 2 more edges omitted\n"
+                          + "}\n";
+        assertEquals("The DOT output was not properly formatted", expected, out.toString());
+    }
+
+    @Test
+    public void exportGraphML_namesShouldBeEscaped() throws IOException {
+        Graph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        graph.addEdge(new BasicEdge<Node>(new BasicNode("a<b"), new BasicNode("\"c\"")));
+
+        StringBuilder out = new StringBuilder();
+        new GraphMLExporter().append(graph, out);
+
+        assertTrue("The node name was not escaped", out.indexOf("<node id=\"n0\"><data key=\"name\">a&lt;b</data></node>") >= 0);
+        assertTrue("The node name was not escaped", out.indexOf("<data key=\"name\">&quot;c&quot;</data>") >= 0);
+        assertTrue("The edge was not written", out.indexOf("<edge source=\"n0\" target=\"n1\"/>") >= 0);
+        assertTrue("The document was not closed", out.toString().endsWith("</graphml>\n"));
+    }
+
+    @Test
+    public void exportBinaryWithGzipAndImportIt_graphShouldBeUnchanged() throws IOException {
+        BinaryGraphExporter exporter = new BinaryGraphExporter();
+        exporter.setCompression(GraphExporter.Compression.GZIP);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.export(createGraph(), out);
+
+        WeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        long edgeCount = new BinaryGraphImporter().importInto(new ByteArrayInputStream(out.toByteArray()), graph);
+
+        assertEquals("The wrong amount of edges was read", 3, edgeCount);
+        assertEquals("The wrong amount of nodes was read", 3, graph.getAllNodes().size());
+        List<WeightedEdge<Node>> edges = new ArrayList<WeightedEdge<Node>>(graph.getAllEdges());
+        assertEquals("The weight was not read back", -3, edges.get(1).getWeight());
+        assertEquals("The name was not read back", "road", ((NamedEdge<?>) edges.get(1)).getName());
+        assertEquals("The nodes were not shared", edges.get(0).getTargetNode(), edges.get(1).getSourceNode());
+    }
+
+    @Test(expected = IOException.class)
+    public void importTruncatedBinaryGraph_shouldThrowIOException() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryGraphExporter().export(createGraph(), out);
+        byte[] truncated = new byte[out.size() - 3];
+        System.arraycopy(out.toByteArray(), 0, truncated, 0, truncated.length);
+
+        new BinaryGraphImporter().importInto(new ByteArrayInputStream(truncated),
+                new BasicWeightedGraph<Node, WeightedEdge<Node>>());
+    }
+
+    private WeightedGraph<Node, WeightedEdge<Node>> createGraph() {
+        Node a = new BasicNode("a");
+        Node b = new BasicNode("b");
+        Node c = new BasicNode("c");
+
+        WeightedGraph<Node, WeightedEdge<Node>> graph = new BasicWeightedGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(a, b, 5));
+        graph.addEdge(new NamedWeightedEdge<Node>("road", b, c, -3));
+        graph.addEdge(new BasicWeightedEdge<Node>(c, a, 1));
+        return graph;
+    }
+}
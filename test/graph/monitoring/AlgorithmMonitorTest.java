@@ -0,0 +1,215 @@
+package graph.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import graph.algorithms.BetweennessCentrality;
+import graph.algorithms.KShortestPaths;
+import graph.algorithms.LandmarkIndex;
+import graph.algorithms.MaximumFlow;
+import graph.algorithms.MinimumSpanningTree;
+import graph.algorithms.ShortestPathsToNode;
+import graph.algorithms.TraversalDirection;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightFunction;
+import graph.elements.WeightedEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class AlgorithmMonitorTest {
+
+    @Test
+    public void runAlgorithmsWithAListener_listenerShouldBeNotifiedOfEachRun() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(node1, node2, 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(node2, node3, 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(node3, node1, 5));
+
+        RecordingListener listener = new RecordingListener();
+        AlgorithmMonitor.addListener(listener);
+        try {
+            assertTrue("The monitor should be enabled while a listener is registered", AlgorithmMonitor.isEnabled());
+            new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, node1);
+            new MinimumSpanningTree<Node, WeightedEdge<Node>>(graph);
+        } finally {
+            AlgorithmMonitor.removeListener(listener);
+        }
+
+        assertEquals("The listener was not notified of the start of each run", 2, listener.startedRuns.size());
+        assertEquals("The listener was not notified of the end of each run", 2, listener.completedRuns.size());
+
+        AlgorithmRunEvent shortestPathRun = listener.completedRuns.get(0);
+        assertEquals("The algorithm name is wrong", "ShortestPathsToNode", shortestPathRun.getAlgorithm());
+        assertEquals("The node count is wrong", 3, shortestPathRun.getNodeCount());
+        assertEquals("The edge count is wrong", 3, shortestPathRun.getEdgeCount());
+        assertEquals("All the nodes should have been settled", 3, shortestPathRun.getNodesSettled());
+        assertTrue("The selection loop should have scanned the edges", shortestPathRun.getEdgesScanned() >= 3);
+        assertTrue("The selection loop should have relaxed edges", shortestPathRun.getEdgesRelaxed() >= 2);
+        assertEquals("The durations do not add up", shortestPathRun.getDuration(),
+                shortestPathRun.getCopyDuration() + shortestPathRun.getComputeDuration());
+
+        assertEquals("The algorithm name is wrong", "MinimumSpanningTree", listener.completedRuns.get(1).getAlgorithm());
+        assertNull("A completed run should have no failure", shortestPathRun.getFailure());
+    }
+
+    @Test
+    public void runAlgorithmWithAnInvalidArgument_noRunShouldBeStarted() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(node1, node2, 1));
+        Graph<Node, WeightedEdge<Node>> negativeGraph = new BasicGraph<Node, WeightedEdge<Node>>();
+        negativeGraph.addEdge(new BasicWeightedEdge<Node>(node1, node2, -1));
+
+        RecordingListener listener = new RecordingListener();
+        AlgorithmMonitor.addListener(listener);
+        try {
+            try {
+                new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, new BasicNode("node3"));
+                fail("A source node that is not in the graph should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new BetweennessCentrality<Node, WeightedEdge<Node>>(graph, WeightFunction.EDGE_WEIGHT, TraversalDirection.OUTGOING, 1, 1, null);
+                fail("Sampling pivots without a random generator should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new BetweennessCentrality<Node, WeightedEdge<Node>>(negativeGraph, WeightFunction.EDGE_WEIGHT);
+                fail("A negative weight should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new KShortestPaths<Node, WeightedEdge<Node>>(graph, node1, new BasicNode("node3"));
+                fail("A target node that is not in the graph should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new KShortestPaths<Node, WeightedEdge<Node>>(negativeGraph, node1, node2);
+                fail("A negative weight should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new LandmarkIndex<Node, WeightedEdge<Node>>(negativeGraph, 1);
+                fail("A negative weight should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new MaximumFlow<Node, WeightedEdge<Node>>(graph, node1, new BasicNode("node3"));
+                fail("A sink node that is not in the graph should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new MaximumFlow<Node, WeightedEdge<Node>>(graph, node1, node1);
+                fail("A flow from a node to itself should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+            try {
+                new MaximumFlow<Node, WeightedEdge<Node>>(negativeGraph, node1, node2);
+                fail("A negative capacity should be rejected");
+            } catch(IllegalArgumentException e) {
+                // Expected
+            }
+        } finally {
+            AlgorithmMonitor.removeListener(listener);
+        }
+
+        assertTrue("No run should be started for invalid arguments", listener.startedRuns.isEmpty());
+        assertTrue("No run should fail for invalid arguments", listener.failedRuns.isEmpty());
+    }
+
+    @Test
+    public void runAlgorithmsThatFail_listenerShouldBeNotifiedOfEachFailure() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+        Node node4 = new BasicNode("node4");
+
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(node1, node2, 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(node3, node4, 2));
+
+        RecordingListener listener = new RecordingListener();
+        AlgorithmMonitor.addListener(listener);
+        try {
+            try {
+                new ShortestPathsToNode<Node, WeightedEdge<Node>>(graph, node1);
+                fail("The shortest paths of a disconnected graph should not be found");
+            } catch(IllegalStateException e) {
+                // Expected
+            }
+            try {
+                new MinimumSpanningTree<Node, WeightedEdge<Node>>(graph);
+                fail("The spanning tree of a disconnected graph should not be found");
+            } catch(IllegalStateException e) {
+                // Expected
+            }
+        } finally {
+            AlgorithmMonitor.removeListener(listener);
+        }
+
+        assertEquals("The listener was not notified of the start of each run", 2, listener.startedRuns.size());
+        assertTrue("No run should be completed", listener.completedRuns.isEmpty());
+        assertEquals("The listener was not notified of the end of each run", 2, listener.failedRuns.size());
+
+        AlgorithmRunEvent spanningTreeRun = listener.failedRuns.get(1);
+        assertEquals("The algorithm name is wrong", "MinimumSpanningTree", spanningTreeRun.getAlgorithm());
+        assertTrue("The failure should be the exception thrown", spanningTreeRun.getFailure() instanceof IllegalStateException);
+        assertEquals("The durations do not add up", spanningTreeRun.getDuration(),
+                spanningTreeRun.getCopyDuration() + spanningTreeRun.getComputeDuration());
+    }
+
+    @Test
+    public void runAlgorithmWithoutListeners_noRunShouldBeStarted() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(node1, node2, 1));
+
+        assertTrue("The monitor should be disabled by default", !AlgorithmMonitor.isEnabled());
+        assertNull("No event should be created while the monitor is disabled", AlgorithmMonitor.startRun("test", graph));
+    }
+
+    private static class RecordingListener implements AlgorithmRunListener {
+        private final List<AlgorithmRunEvent> startedRuns = new ArrayList<AlgorithmRunEvent>();
+        private final List<AlgorithmRunEvent> completedRuns = new ArrayList<AlgorithmRunEvent>();
+        private final List<AlgorithmRunEvent> failedRuns = new ArrayList<AlgorithmRunEvent>();
+
+        @Override
+        public void runStarted(AlgorithmRunEvent event) {
+            startedRuns.add(event);
+        }
+
+        @Override
+        public void runCompleted(AlgorithmRunEvent event) {
+            completedRuns.add(event);
+        }
+
+        @Override
+        public void runFailed(AlgorithmRunEvent event) {
+            failedRuns.add(event);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package graph.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicEdge;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.elements.Edge;
+import graph.elements.Node;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class InstrumentedGraphTest {
+
+    @Test
+    public void callGraphMethods_callsShouldBeCountedAndForwarded() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+
+        Edge<Node> edge1 = new BasicEdge<Node>(node1, node2);
+        Edge<Node> edge2 = new BasicEdge<Node>(node2, node3);
+
+        BasicGraph<Node, Edge<Node>> graph = new BasicGraph<Node, Edge<Node>>();
+        InstrumentedGraph<Node, Edge<Node>> instrumentedGraph = new InstrumentedGraph<Node, Edge<Node>>(graph);
+        instrumentedGraph.addEdge(edge1);
+        instrumentedGraph.addEdge(edge2);
+        assertEquals("The call was not forwarded to the graph", 2, instrumentedGraph.getEdgesOf(node2).size());
+        instrumentedGraph.getEdgesOf(node1);
+        instrumentedGraph.removeNode(node3);
+
+        assertEquals("The edges were not added to the wrapped graph", 1, graph.getAllEdges().size());
+
+        GraphStatistics statistics = instrumentedGraph.getStatistics();
+        Map<String, Long> callCounts = statistics.getCallCounts();
+        assertEquals("The addEdge calls were not counted", 2, (long) callCounts.get("addEdge"));
+        assertEquals("The getEdgesOf calls were not counted", 2, (long) callCounts.get("getEdgesOf"));
+        assertEquals("The removeNode calls were not counted", 1, (long) callCounts.get("removeNode"));
+        assertEquals("The isEmpty calls should not have been counted", 0, (long) callCounts.get("isEmpty"));
+
+        List<OperationStatistics> operationStatistics = statistics.getOperationStatistics();
+        assertEquals("Only the called operations should have statistics", 3, operationStatistics.size());
+        assertEquals("The node count is wrong", 2, statistics.getNodeCount());
+        assertEquals("The edge count is wrong", 1, statistics.getEdgeCount());
+        assertEquals("The memory footprint should not be estimated until it is sampled", -1, statistics.getEstimatedMemoryFootprint());
+        long footprint = instrumentedGraph.estimateMemoryFootprint().getTotalBytes();
+        assertTrue("The memory footprint should be estimated", footprint > 0);
+        assertEquals("The last estimate should be kept", footprint, statistics.getEstimatedMemoryFootprint());
+        assertEquals("The footprint should be sampled again", footprint, statistics.sampleMemoryFootprint());
+
+        statistics.resetStatistics();
+        assertEquals("The statistics were not reset", 0, (long) statistics.getCallCounts().get("addEdge"));
+    }
+
+    @Test
+    public void registerStatistics_statisticsShouldBeReadableThroughJmx() throws Exception {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+
+        InstrumentedGraph<Node, Edge<Node>> graph = new InstrumentedGraph<Node, Edge<Node>>(new BasicGraph<Node, Edge<Node>>());
+        graph.addEdge(new BasicEdge<Node>(node1, node2));
+
+        ObjectName objectName = graph.getStatistics().register("InstrumentedGraphTest");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals("The node count read through JMX is wrong", 2, server.getAttribute(objectName, "NodeCount"));
+            assertEquals("The edge count read through JMX is wrong", 1, server.getAttribute(objectName, "EdgeCount"));
+        } finally {
+            graph.getStatistics().unregister();
+        }
+        assertTrue("The statistics were not unregistered", !ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void instrumentNullGraph_throwsIllegalArgumentException() {
+        new InstrumentedGraph<Node, Edge<Node>>(null);
+    }
+}
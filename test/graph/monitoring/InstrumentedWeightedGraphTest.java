@@ -0,0 +1,38 @@
+package graph.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.components.BasicWeightedGraph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+import graph.elements.WeightedGraph;
+
+import org.junit.Test;
+
+public class InstrumentedWeightedGraphTest {
+
+    @Test
+    public void callWeightedGraphMethods_callsShouldBeCountedAndForwarded() {
+        Node node1 = new BasicNode("node1");
+        Node node2 = new BasicNode("node2");
+        Node node3 = new BasicNode("node3");
+
+        InstrumentedWeightedGraph<Node, WeightedEdge<Node>> graph =
+                new InstrumentedWeightedGraph<Node, WeightedEdge<Node>>(new BasicWeightedGraph<Node, WeightedEdge<Node>>());
+        graph.addEdge(new BasicWeightedEdge<Node>(node1, node2, 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(node2, node3, 10));
+
+        WeightedGraph<Node, WeightedEdge<Node>> weightedGraph = graph;
+        assertEquals("The call was not forwarded to the graph", 1, weightedGraph.getEdgesWithWeightAbove(5).size());
+        assertEquals("The call was not forwarded to the graph", 1, weightedGraph.edgesWithWeightBelow(10).size());
+        weightedGraph.resetEdgeWeights();
+        assertEquals("The call was not forwarded to the graph", 2, weightedGraph.getEdgesWithWeight(0).size());
+
+        GraphStatistics statistics = graph.getStatistics();
+        assertEquals("The getEdgesWithWeightAbove calls were not counted", 1, (long) statistics.getCallCounts().get("getEdgesWithWeightAbove"));
+        assertEquals("The edgesWithWeightBelow calls were not counted", 1, (long) statistics.getCallCounts().get("edgesWithWeightBelow"));
+        assertEquals("The resetEdgeWeights calls were not counted", 1, (long) statistics.getCallCounts().get("resetEdgeWeights"));
+        assertEquals("The addEdge calls were not counted", 2, (long) statistics.getCallCounts().get("addEdge"));
+    }
+}
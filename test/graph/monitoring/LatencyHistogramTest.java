@@ -0,0 +1,52 @@
+package graph.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void recordLatencies_percentilesShouldBeWithinTheHistogramPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for(long latency = 1; latency <= 1000; latency++) {
+            histogram.record(latency * 1000);
+        }
+
+        assertEquals("The histogram did not count all the latencies", 1000, histogram.getCount());
+        assertEquals("The mean latency is wrong", 500500, histogram.getMean(), 0.001);
+        assertEquals("The largest latency is wrong", 1000000, histogram.getMax());
+
+        long median = histogram.getPercentile(50);
+        assertTrue("The median latency is not within the histogram precision: " + median, median >= 500000 && median <= 500000 * 1.07);
+        long p99 = histogram.getPercentile(99);
+        assertTrue("The 99th percentile latency is not within the histogram precision: " + p99, p99 >= 990000 && p99 <= 1000000);
+        assertEquals("The 100th percentile should be the largest latency", 1000000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void bucketIndex_everyValueShouldFallWithinItsBucketBounds() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 33, 1000, 123456789L, (1L << 40) - 1};
+        for(long value : values) {
+            int bucket = LatencyHistogram.bucketIndex(value);
+            assertTrue("The value is above its bucket: " + value, value <= LatencyHistogram.bucketUpperBound(bucket));
+            if(bucket > 0) {
+                assertTrue("The value is below its bucket: " + value, value > LatencyHistogram.bucketUpperBound(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    public void resetHistogram_histogramShouldBeEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+        histogram.reset();
+
+        assertEquals("The histogram was not reset", 0, histogram.getCount());
+        assertEquals("The histogram was not reset", 0, histogram.getMax());
+        assertEquals("An empty histogram should report a latency of zero", 0, histogram.getPercentile(99));
+    }
+}
@@ -0,0 +1,52 @@
+package graph.monitoring;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class StripedCounterTest {
+
+    @Test
+    public void incrementCounterFromManyThreads_sumShouldContainAllIncrements() throws InterruptedException {
+        final StripedCounter counter = new StripedCounter(4);
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for(int i = 0; i < 8; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int j = 0; j < 10000; j++) {
+                        counter.increment();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals("The counter did not contain all the increments", 80000, counter.sum());
+
+        counter.add(-80000);
+        assertEquals("The counter did not subtract the value", 0, counter.sum());
+    }
+
+    @Test
+    public void resetCounter_sumShouldBeZero() {
+        StripedCounter counter = new StripedCounter(3);
+        counter.add(42);
+        counter.reset();
+
+        assertEquals("The counter was not reset", 0, counter.sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void createCounterWithoutStripes_throwsIllegalArgumentException() {
+        new StripedCounter(0);
+    }
+}
@@ -0,0 +1,84 @@
+package graph.server;
+
+import static org.junit.Assert.assertEquals;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class GraphSnapshotTest {
+
+    @Test
+    public void getDistance_findsTheShortestUndirectedPath() {
+        GraphSnapshot<Node, WeightedEdge<Node>> snapshot = new GraphSnapshot<Node, WeightedEdge<Node>>(createGraph());
+
+        assertEquals("The distance between A and D is not correct", 6, snapshot.getDistance("A", "D"));
+        assertEquals("The distance should not depend on the direction", 6, snapshot.getDistance("D", "A"));
+        assertEquals("The distance of a node to itself should be 0", 0, snapshot.getDistance("B", "B"));
+    }
+
+    @Test
+    public void modifyGraphAfterSnapshot_shouldNotChangeTheSnapshot() {
+        Graph<Node, WeightedEdge<Node>> graph = createGraph();
+        GraphSnapshot<Node, WeightedEdge<Node>> snapshot = new GraphSnapshot<Node, WeightedEdge<Node>>(graph);
+
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            edge.setWeight(1000);
+        }
+
+        assertEquals("The snapshot should keep the old weights", 6, snapshot.getDistance("A", "D"));
+        assertEquals("The tree weight should use the old weights", 6, snapshot.getMinimumSpanningTreeWeight());
+    }
+
+    @Test
+    public void getEdgesWithWeightBetween_returnsTheEdgesInOrderOfWeight() {
+        GraphSnapshot<Node, WeightedEdge<Node>> snapshot = new GraphSnapshot<Node, WeightedEdge<Node>>(createGraph());
+
+        List<WeightedEdge<Node>> edges = snapshot.getEdgesWithWeightBetween(2, 5, 10);
+
+        assertEquals("3 edges have a weight between 2 and 5", 3, edges.size());
+        assertEquals("The lightest edge should come first", 2, snapshot.getWeight(edges.get(0)));
+        assertEquals("The heaviest edge should come last", 5, snapshot.getWeight(edges.get(2)));
+        assertEquals("The limit should be respected", 1, snapshot.getEdgesWithWeightBetween(2, 5, 1).size());
+    }
+
+    @Test
+    public void getEdgesOf_returnsEveryEdgeOfTheNode() {
+        GraphSnapshot<Node, WeightedEdge<Node>> snapshot = new GraphSnapshot<Node, WeightedEdge<Node>>(createGraph());
+
+        assertEquals("B should have 3 edges", 3, snapshot.getEdgesOf("B").size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getDistanceBetweenDisconnectedNodes_throwsIllegalStateException() {
+        Graph<Node, WeightedEdge<Node>> graph = createGraph();
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("E"), new BasicNode("F"), 1));
+
+        new GraphSnapshot<Node, WeightedEdge<Node>>(graph).getDistance("A", "F");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getDistanceOfUnknownNode_throwsIllegalArgumentException() {
+        new GraphSnapshot<Node, WeightedEdge<Node>>(createGraph()).getDistance("A", "Z");
+    }
+
+    private Graph<Node, WeightedEdge<Node>> createGraph() {
+        Node nodeA = new BasicNode("A");
+        Node nodeB = new BasicNode("B");
+        Node nodeC = new BasicNode("C");
+        Node nodeD = new BasicNode("D");
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeA, nodeB, 1));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeB, nodeC, 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeD, nodeC, 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeB, nodeD, 5));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeA, nodeD, 9));
+        return graph;
+    }
+}
@@ -0,0 +1,153 @@
+package graph.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryServerTest {
+
+    private QueryServer server;
+    private String baseUrl;
+
+    @Before
+    public void startServer() throws IOException {
+        Graph<Node, WeightedEdge<Node>> graph = new BasicGraph<Node, WeightedEdge<Node>>();
+        Node nodeA = new BasicNode("A");
+        Node nodeB = new BasicNode("B");
+        Node nodeC = new BasicNode("Node C");
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeA, nodeB, 2));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeB, nodeC, 3));
+        graph.addEdge(new BasicWeightedEdge<Node>(nodeA, nodeC, 7));
+
+        server = new QueryServer(new GraphSnapshot<Node, WeightedEdge<Node>>(graph), 0);
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void queryDistance_answersTheLengthOfTheShortestPath() throws IOException {
+        assertEquals("The distance is not correct", "5\n", get("/distance?from=A&to=Node+C"));
+    }
+
+    @Test
+    public void queryEdges_answersOneEdgePerLine() throws IOException {
+        String answer = get("/edges?node=B");
+
+        assertEquals("B should have 2 edges", 2, answer.split("\n").length);
+        assertTrue("The edge from A to B should be listed", answer.contains("A\tB\t2\n"));
+    }
+
+    @Test
+    public void queryTreeAndWeights_answersFromTheSnapshot() throws IOException {
+        assertEquals("The tree weight is not correct", "5\n", get("/mst"));
+        assertEquals("Only the edge of weight 7 is above 5", "A\tNode C\t7\n", get("/weights?min=6&max=100"));
+    }
+
+    @Test
+    public void queryUnknownNode_answersBadRequest() throws IOException {
+        assertEquals("The status should be 400", 400, status("/distance?from=A&to=Z"));
+        assertEquals("The status should be 404", 404, status("/unknown"));
+    }
+
+    @Test
+    public void queryWithLimitOutOfRange_answersBadRequest() throws IOException {
+        assertEquals("A limit wrapping around an int should be rejected", 400, status("/weights?min=1&max=100&limit=4294967297"));
+        assertEquals("A negative limit should be rejected", 400, status("/weights?min=1&max=100&limit=-1"));
+    }
+
+    @Test
+    public void postBatchLargerThanTheLimit_answersBadRequest() throws IOException {
+        // Long queries, so that the batch is too large while having fewer than MAX_BATCH_SIZE queries
+        char[] name = new char[500];
+        Arrays.fill(name, 'x');
+        String query = "edges\t" + new String(name) + "\n";
+        StringBuilder body = new StringBuilder();
+        while(body.length() <= QueryServer.MAX_BATCH_BYTES){
+            body.append(query);
+        }
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + "/batch").openConnection();
+        connection.setDoOutput(true);
+        connection.setRequestMethod("POST");
+        OutputStream out = connection.getOutputStream();
+        out.write(body.toString().getBytes("UTF-8"));
+        out.close();
+
+        assertEquals("The status should be 400", 400, connection.getResponseCode());
+        read(connection.getErrorStream());
+    }
+
+    @Test
+    public void postBatch_answersEveryQueryInOrder() throws IOException {
+        String answer = post("/batch", "distance\tA\tB\nmst\ndistance\tA\tZ\nedges\tNode C\n");
+
+        assertEquals("The batch answer is not correct",
+                     "OK\t1\n2\nOK\t1\n5\nERROR\tUnknown node: Z\nOK\t2\nB\tNode C\t3\nA\tNode C\t7\n", answer);
+        assertTrue("The latencies should be recorded", server.getLatencies().getCount() > 0);
+    }
+
+    @Test
+    public void runLoadTest_reportsTheLatencies() throws Exception {
+        LoadTestClient.Report report = new LoadTestClient(baseUrl).run(Arrays.asList("/mst", "/distance?from=A&to=B"), 400, 250, 4);
+
+        assertEquals("Every request should have been sent", 100, report.getRequestCount());
+        assertEquals("No request should have failed", 0, report.getErrorCount() + report.getRejectedCount());
+        assertTrue("The p99 latency should not be below the p50 latency", report.getLatencyPercentile(99) >= report.getLatencyPercentile(50));
+    }
+
+    private String get(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        assertEquals("The query should succeed", 200, connection.getResponseCode());
+        return read(connection.getInputStream());
+    }
+
+    private int status(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        int status = connection.getResponseCode();
+        read(connection.getErrorStream());
+        return status;
+    }
+
+    private String post(String path, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setDoOutput(true);
+        connection.setRequestMethod("POST");
+        OutputStream out = connection.getOutputStream();
+        out.write(body.getBytes("UTF-8"));
+        out.close();
+        assertEquals("The batch should succeed", 200, connection.getResponseCode());
+        return read(connection.getInputStream());
+    }
+
+    private String read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int length;
+        while((length = in.read(buffer)) >= 0){
+            bytes.write(buffer, 0, length);
+        }
+        in.close();
+        return new String(bytes.toByteArray(), "UTF-8");
+    }
+}
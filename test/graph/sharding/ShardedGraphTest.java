@@ -0,0 +1,259 @@
+package graph.sharding;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import graph.algorithms.ShortestPathsToNode;
+import graph.components.BasicGraph;
+import graph.components.BasicNode;
+import graph.components.BasicWeightedEdge;
+import graph.elements.Graph;
+import graph.elements.Node;
+import graph.elements.WeightedEdge;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class ShardedGraphTest {
+
+    @Test
+    public void addEdges_shouldBeFoundFromBothNodes() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(3));
+        Node nodeA = new BasicNode("A");
+        Node nodeB = new BasicNode("B");
+        Node nodeC = new BasicNode("C");
+        assertTrue("The edge should be added", graph.addEdge(new BasicWeightedEdge<Node>(nodeA, nodeB, 4)));
+        assertTrue("The edge should be added", graph.addEdge(new BasicWeightedEdge<Node>(nodeB, nodeC, 7)));
+
+        Set<WeightedEdge<Node>> edgesOfB = graph.getEdgesOf(nodeB);
+        assertEquals("B should have 2 edges", 2, edgesOfB.size());
+        for(WeightedEdge<Node> edge : edgesOfB){
+            assertTrue("The edges should connect to B", edge.connectsToNode(nodeB));
+        }
+        assertEquals("The graph should contain each edge once", 2, graph.getAllEdges().size());
+        assertEquals("The graph should contain 3 nodes", 3, graph.getAllNodes().size());
+        assertEquals("The edge between A and B should be found", 4, graph.getEdges(nodeA, nodeB).iterator().next().getWeight());
+        assertTrue("There is no edge from B to A", graph.getEdges(nodeB, nodeA).isEmpty());
+        assertFalse("The graph should not be empty", graph.isEmpty());
+    }
+
+    @Test
+    public void addReturnedEdge_shouldNotAddItAgain() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(2));
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("A"), new BasicNode("B"), 1));
+
+        WeightedEdge<Node> edge = graph.getAllEdges().iterator().next();
+
+        assertFalse("The edge is already part of the graph", graph.addEdge(edge));
+        assertEquals("The graph should still contain one edge", 1, graph.getAllEdges().size());
+    }
+
+    @Test
+    public void addSameEdgeTwice_shouldNotAddItAgain() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(2));
+        WeightedEdge<Node> edge = new BasicWeightedEdge<Node>(new BasicNode("A"), new BasicNode("B"), 1);
+
+        assertTrue("The edge should be added", graph.addEdge(edge));
+        assertFalse("The edge is already part of the graph", graph.addEdge(edge));
+        assertEquals("The graph should still contain one edge", 1, graph.getAllEdges().size());
+
+        assertTrue("The added edge should be removable", graph.removeEdge(edge));
+        assertTrue("The graph should be empty", graph.isEmpty());
+        assertTrue("The edge should be added again once removed", graph.addEdge(edge));
+    }
+
+    @Test
+    public void getShortestPathDistancesConcurrently_queriesShouldNotShareTheirState() throws Exception {
+        final List<Node> nodes = createNodes(100);
+        final ShardedGraph graph = new ShardedGraph(new LoopbackTransport(4));
+        addChain(graph, nodes);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> totals = new ArrayList<Future<Long>>();
+            for(int i = 0; i < 40; i++){
+                totals.add(executor.submit(new Callable<Long>() {
+                    @Override
+                    public Long call() {
+                        long total = 0;
+                        for(Long distance : graph.getShortestPathDistances(nodes.get(0)).values()){
+                            total += distance;
+                        }
+                        return total;
+                    }
+                }));
+            }
+            for(Future<Long> total : totals){
+                assertEquals("The sum of the distances is not correct", Long.valueOf(99 * 100 / 2), total.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void removeEdge_shouldRemoveItFromBothShards() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(4));
+        List<Node> nodes = createNodes(20);
+        addChain(graph, nodes);
+
+        for(WeightedEdge<Node> edge : graph.getAllEdges()){
+            assertTrue("The edge should be removed", graph.removeEdge(edge));
+            assertFalse("The edge should already be removed", graph.removeEdge(edge));
+        }
+
+        assertTrue("The graph should be empty", graph.isEmpty());
+        assertTrue("The graph should not contain nodes", graph.getAllNodes().isEmpty());
+        assertTrue("The node should not have edges left", graph.getEdgesOf(nodes.get(5)).isEmpty());
+    }
+
+    @Test
+    public void removeNode_shouldRemoveItsEdgesFromEveryShard() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(4));
+        List<Node> nodes = createNodes(20);
+        addChain(graph, nodes);
+
+        assertTrue("The node should be removed", graph.removeNode(nodes.get(10)));
+
+        assertEquals("The graph should have lost 2 edges", 17, graph.getAllEdges().size());
+        assertEquals("The neighbour should have lost an edge", 1, graph.getEdgesOf(nodes.get(9)).size());
+        assertEquals("The neighbour should have lost an edge", 1, graph.getEdgesOf(nodes.get(11)).size());
+        assertFalse("The node is no longer part of the graph", graph.removeNode(nodes.get(10)));
+    }
+
+    @Test
+    public void setWeightOfReturnedEdge_shouldUpdateTheShards() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(4));
+        List<Node> nodes = createNodes(10);
+        addChain(graph, nodes);
+
+        for(WeightedEdge<Node> edge : graph.getEdgesOf(nodes.get(3))){
+            edge.setWeight(100);
+        }
+
+        assertEquals("The updated edges should be found by weight", 2, graph.getEdgesWithWeight(100).size());
+        assertEquals("The other edges should keep their weight", 7, graph.getEdgesWithWeightBelow(100).size());
+        for(WeightedEdge<Node> edge : graph.getEdgesOf(nodes.get(4))){
+            if(edge.connectsToNode(nodes.get(3))){
+                assertEquals("The copy of the edge in the other shard should be updated", 100, edge.getWeight());
+            }
+        }
+
+        graph.resetEdgeWeights();
+        assertEquals("All the weights should be reset", 9, graph.getEdgesWithWeight(WeightedEdge.DEFAULT_EDGE_WEIGHT).size());
+    }
+
+    @Test
+    public void getEdgesOfManyNodes_shouldSendOneRequestPerShard() {
+        LoopbackTransport transport = new LoopbackTransport(4);
+        ShardedGraph graph = new ShardedGraph(transport);
+        List<Node> nodes = createNodes(500);
+
+        long requestsBefore = transport.getRequestCount();
+        addChain(graph, nodes);
+        assertTrue("Adding the edges should take at most 2 requests per shard", transport.getRequestCount() - requestsBefore <= 8);
+
+        requestsBefore = transport.getRequestCount();
+        Map<Node, Set<WeightedEdge<Node>>> edges = graph.getEdgesOf(nodes);
+        assertEquals("Reading the edges should take one request per shard", 4, transport.getRequestCount() - requestsBefore);
+        assertEquals("The edges of every node should be returned", 500, edges.size());
+        assertEquals("The first node should have one edge", 1, edges.get(nodes.get(0)).size());
+        assertEquals("The inner nodes should have two edges", 2, edges.get(nodes.get(250)).size());
+    }
+
+    @Test
+    public void getShortestPathDistances_matchesShortestPathsToNode() {
+        List<Node> nodes = createNodes(200);
+        Set<WeightedEdge<Node>> edges = new LinkedHashSet<WeightedEdge<Node>>();
+        for(int i = 0; i < nodes.size(); i++){
+            edges.add(new BasicWeightedEdge<Node>(nodes.get(i), nodes.get((i + 1) % nodes.size()), i % 7 + 1));
+            edges.add(new BasicWeightedEdge<Node>(nodes.get(i), nodes.get(i * 13 % nodes.size()), i % 5 + 3));
+        }
+        Graph<Node, WeightedEdge<Node>> localGraph = new BasicGraph<Node, WeightedEdge<Node>>();
+        localGraph.addAllEdges(edges);
+        LoopbackTransport transport = new LoopbackTransport(4);
+        ShardedGraph graph = new ShardedGraph(transport);
+        graph.addAllEdges(edges);
+
+        Map<Node, Long> expected = new ShortestPathsToNode<Node, WeightedEdge<Node>>(localGraph, nodes.get(0)).getShortestPaths();
+        Map<Node, Long> actual = graph.getShortestPathDistances(nodes.get(0));
+
+        assertEquals("Every node should have a distance", nodes.size(), actual.size());
+        for(Map.Entry<Node, Long> entry : actual.entrySet()){
+            Node node = nodes.get(Integer.parseInt(entry.getKey().getName().substring(5)));
+            assertEquals("The distance of " + node + " is not correct", expected.get(node), entry.getValue());
+        }
+        assertEquals("The source node should be returned as is", Long.valueOf(0), actual.get(nodes.get(0)));
+    }
+
+    @Test
+    public void useSocketTransport_shouldBehaveLikeLoopback() throws Exception {
+        List<ShardServer> servers = new ArrayList<ShardServer>();
+        List<InetSocketAddress> addresses = new ArrayList<InetSocketAddress>();
+        for(int i = 0; i < 3; i++){
+            ShardServer server = new ShardServer(new Shard(i), 0);
+            server.start();
+            servers.add(server);
+            addresses.add(server.getAddress());
+        }
+
+        ShardedGraph graph = new ShardedGraph(new SocketTransport(addresses));
+        try {
+            List<Node> nodes = createNodes(30);
+            addChain(graph, nodes);
+
+            assertEquals("The graph should contain every edge", 29, graph.getAllEdges().size());
+            assertEquals("The inner node should have 2 edges", 2, graph.getEdgesOf(nodes.get(15)).size());
+            long total = 0;
+            for(Long distance : graph.getShortestPathDistances(nodes.get(0)).values()){
+                total += distance;
+            }
+            assertEquals("The sum of the distances is not correct", 29 * 30 / 2, total);
+            assertTrue("The shards should report their memory", graph.estimateMemoryFootprint().getTotalBytes() > 0);
+        } finally {
+            graph.close();
+            for(ShardServer server : servers){
+                server.close();
+            }
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getShortestPathDistancesWithNegativeWeight_throwsIllegalStateException() {
+        ShardedGraph graph = new ShardedGraph(new LoopbackTransport(2));
+        graph.addEdge(new BasicWeightedEdge<Node>(new BasicNode("A"), new BasicNode("B"), -1));
+
+        graph.getShortestPathDistances(new BasicNode("A"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addNullEdge_throwsIllegalArgumentException() {
+        new ShardedGraph(new LoopbackTransport(2)).addEdge(null);
+    }
+
+    private List<Node> createNodes(int count) {
+        List<Node> nodes = new ArrayList<Node>();
+        for(int i = 0; i < count; i++){
+            nodes.add(new BasicNode("Node " + i));
+        }
+        return nodes;
+    }
+
+    private void addChain(ShardedGraph graph, List<Node> nodes) {
+        Set<WeightedEdge<Node>> edges = new LinkedHashSet<WeightedEdge<Node>>();
+        for(int i = 0; i + 1 < nodes.size(); i++){
+            edges.add(new BasicWeightedEdge<Node>(nodes.get(i), nodes.get(i + 1), 1));
+        }
+        graph.addAllEdges(edges);
+    }
+}